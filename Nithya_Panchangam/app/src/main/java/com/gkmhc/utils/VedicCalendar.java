@@ -2,12 +2,18 @@ package com.gkmhc.utils;
 
 import org.swisseph.SwephNative;
 
+import java.io.File;
 import java.security.spec.InvalidParameterSpecException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 
 import swisseph.*;
@@ -65,6 +71,9 @@ public class VedicCalendar extends Calendar {
     private double sunRiseTotalMins = 0;
     private double sunSetTotalMins = 0;
     private final HashMap<Integer, String[]> vedicCalendarLocaleList;
+    // Reverse lookup (name to index) of each table in vedicCalendarLocaleList (see
+    // getLocaleIndex()). Built once per instance & never modified. Hence, read without any lock.
+    private final HashMap<Integer, Map<String, Integer>> localeIndexList;
     private double refRaviAyanamAtDayStart;
     private double refChandraAyanamAtDayStart;
     private double refTithiSpan;
@@ -75,15 +84,142 @@ public class VedicCalendar extends Calendar {
     private int refMonth;
     private int refYear;
     private int refVaasaram;
+    private boolean isTimezoneFixedForDay = true;
     private double kaliOffsetSinceYearStart;    // Vakyam
     private double suryaSpudam;                 // Vakyam
     private double chandraSpudam;               // Vakyam
     private double suryaGathi;                  // Vakyam
     private double chandraGathi;                // Vakyam
     private int timeFormatSettings = PANCHANGAM_TIME_FORMAT_HHMM;
+    private int dailyMotionMode = DAILY_MOTION_TWO_SAMPLES;
     private final String timeZoneID;
+    private final double vcLongitude;
+    private final double vcLatitude;
+    private final int siderealMode;
+    private double defTimezone = INDIAN_STANDARD_TIME; // IST
+    private VedicCalendarTransitIndex transitIndex = null;
+    private VedicCalendarLongitudeModel longitudeModel = null;
+    private DayMemo dayMemo = new DayMemo();
     private static HashMap<Integer, String[]> vcDefaultLocaleList = null;
 
+
+    // Key to lookup riseSetCache.
+    // Latitude & Longitude are kept as-is (not rounded off) so that the timings served from the
+    // cache are always the ones calculated for the very same place.
+    private static final class RiseSetKey {
+        private final int date;
+        private final int month;
+        private final int year;
+        private final double latitude;
+        private final double longitude;
+        private final String timeZoneID;
+        private final int planet;
+        private final int flags;
+
+        private RiseSetKey(int date, int month, int year, double latitude, double longitude,
+                           String timeZoneID, int planet, int flags) {
+            this.date = date;
+            this.month = month;
+            this.year = year;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.timeZoneID = timeZoneID;
+            this.planet = planet;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof RiseSetKey)) {
+                return false;
+            }
+            RiseSetKey key = (RiseSetKey) obj;
+            return (date == key.date) && (month == key.month) && (year == key.year) &&
+                    (Double.compare(latitude, key.latitude) == 0) &&
+                    (Double.compare(longitude, key.longitude) == 0) &&
+                    (planet == key.planet) && (flags == key.flags) &&
+                    timeZoneID.equals(key.timeZoneID);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = (((year * 13) + month) * 32) + date;
+            hash = (hash * 31) + Double.hashCode(latitude);
+            hash = (hash * 31) + Double.hashCode(longitude);
+            hash = (hash * 31) + timeZoneID.hashCode();
+            hash = (hash * 31) + planet;
+            return (hash * 31) + flags;
+        }
+    }
+
+    // Key to lookup longitudeCache.
+    private static final class LongitudeKey {
+        private final double jd;
+        private final int planet;
+        private final int siderealMode;
+        private final int flags;
+
+        private LongitudeKey(double jd, int planet, int siderealMode, int flags) {
+            this.jd = jd;
+            this.planet = planet;
+            this.siderealMode = siderealMode;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LongitudeKey)) {
+                return false;
+            }
+            LongitudeKey key = (LongitudeKey) obj;
+            return (Double.compare(jd, key.jd) == 0) && (planet == key.planet) &&
+                    (siderealMode == key.siderealMode) && (flags == key.flags);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Double.hashCode(jd);
+            hash = (hash * 31) + planet;
+            hash = (hash * 31) + siderealMode;
+            return (hash * 31) + flags;
+        }
+    }
+
+    // Entry in transitIndexCache. A null transitIndex means no index was found in the local
+    // path as of lookupTimeMillis.
+    private static final class TransitIndexEntry {
+        private final VedicCalendarTransitIndex transitIndex;
+        private final long lookupTimeMillis;
+
+        private TransitIndexEntry(VedicCalendarTransitIndex transitIndex, long lookupTimeMillis) {
+            this.transitIndex = transitIndex;
+            this.lookupTimeMillis = lookupTimeMillis;
+        }
+    }
+
+    // Fields of a calendar day that are derived by multiple APIs. These are calculated only
+    // once (when first needed) till the calendar day changes. On every change (see
+    // resetDayMemo()), a new memo replaces the old one in one go. Hence, a stale field can
+    // never be mixed up with a fresh one.
+    private static final class DayMemo {
+        private FieldSpan sauramaanamMaasam;
+        private FieldSpan chaandramaanamMaasam;
+        private int chaandramaanamMaasamTithi;
+        private final FieldSpan[] tithi = new FieldSpan[MAX_DAY_MEMO_CALC_TYPES];
+        private final FieldSpan[] nakshatram = new FieldSpan[MAX_DAY_MEMO_CALC_TYPES];
+        private FieldSpan raasi;
+        private FieldSpan yogam;
+        private FieldSpan karanam;
+        private int dinaAnkam;
+        private boolean isDinaAnkamValid = false;
+    }
+
     private static class FieldSpan {
         private final int fieldIndex;
         private final double fieldSpan;
@@ -103,20 +239,174 @@ public class VedicCalendar extends Calendar {
         public final String name;
         public final String startTime;
         public final String endTime;
+        // Start & End times in minutes since the start(00:00 hours) of the given day (same as
+        // startTime & endTime in HH:MM format, irrespective of the time format in use)
+        public final int startMins;
+        public final int endMins;
         public boolean isCurrent;
 
         KaalamInfo(int index, String name, String startTime, String endTime, boolean isCurrent) {
+            this(index, name, startTime, endTime, 0, 0, isCurrent);
+        }
+
+        KaalamInfo(int index, String name, String startTime, String endTime, int startMins,
+                   int endMins, boolean isCurrent) {
             this.index = index;
             this.name = name;
             this.startTime = startTime;
             this.endTime = endTime;
+            this.startMins = startMins;
+            this.endMins = endMins;
             this.isCurrent = isCurrent;
         }
+
+        /**
+         * Use this API to check if the given time falls within this Kaalam.
+         * Kaalams that span across midnight (i.e, endMins < startMins) are taken to end on the
+         * next day.
+         *
+         * @param mins  Time in minutes since the start(00:00 hours) of the given day
+         *
+         * @return true if startMins <= mins < endMins, false otherwise.
+         */
+        public boolean contains(double mins) {
+            int kaalamEndMins = endMins;
+            if (kaalamEndMins < startMins) {
+                kaalamEndMins += MAX_MINS_IN_DAY;
+            }
+            return (mins >= startMins) && (mins < kaalamEndMins);
+        }
+
+        /**
+         * Use this API to check if a field (Tithi, Nakshatram, etc) that ends at the given time
+         * falls within this Kaalam for "Dina Vishesham" calculations.
+         *
+         * @param fieldSpan         Field's end time in minutes since the start(00:00 hours) of
+         *                          the given day
+         * @param matchMajority     true - field needs to prevail in at least half of this Kaalam
+         *                          false - field needs to end within this Kaalam
+         *
+         * @return true if the field falls within this Kaalam, false otherwise.
+         */
+        public boolean isTimeSpanWithinKaalam(double fieldSpan, boolean matchMajority) {
+            double kaalamStartMins = startMins;
+            double kaalamEndMins = endMins;
+
+            /*
+             * Brahma Muhurtam is calculated as follows:
+             * StartTime: Sunrise - 2 Muhurtams (96 mins)
+             * Duration: 1 muhurtam (48 mins)
+             *
+             * Hence, there is a gap of 1 muhurtam between Brahma Muhurtam end time &
+             * Pratah kaalam start time. To fill this gap, we are accomodating 1 muhurtam
+             * into pratah kaalam for "Dina Vishesham" calculations purposes ONLY.
+             */
+            if (index == 1) {
+                kaalamStartMins -= BRAHMA_MUHURTHAM_DURATION;
+            }
+
+            if (kaalamEndMins < kaalamStartMins) {
+                kaalamEndMins += MAX_MINS_IN_DAY;
+            }
+
+            if (!matchMajority) {
+                return (fieldSpan >= kaalamStartMins) && (fieldSpan < kaalamEndMins);
+            }
+
+            if (fieldSpan >= kaalamEndMins) {
+                return true;
+            } else if (fieldSpan >= kaalamStartMins) {
+                double kaalamSpan = kaalamEndMins - kaalamStartMins;
+                double fieldSpanWithinKaalam = (fieldSpan - kaalamStartMins);
+                return fieldSpanWithinKaalam >= (kaalamSpan / 2);
+            }
+            return false;
+        }
+    }
+
+    /*
+     * Panchangam details of a single calendar day as returned by computeDay() & computeRange().
+     * All indices are 0-based (same as the respective get*Index() APIs) and all spans are the
+     * end times in minutes since the start(00:00 hours) of the given day. Next value of any
+     * field is simply the next index (wrapped around to 0).
+     * Samvatsaram, Ayanam & Rithu change along with Sauramaanam maasam and Paksham changes
+     * along with Tithi. Hence, their respective spans apply.
+     * Note: Spans beyond MAX_MINS_IN_DAY imply that the given field ends on the next day.
+     *
+     * This is a plain holder without any Strings so that it can be reused across calendar days
+     * via computeDay(PanchangamDay).
+     */
+    public static class PanchangamDay {
+        public int date;
+        public int month;     // 0-based, as per Calendar.MONTH
+        public int year;
+        public int vaasaramIndex;
+        public int samvatsaramIndex;
+        public int ayanamIndex;
+        public int rithuIndex;
+        public int sauramaanamMaasamIndex;
+        public double sauramaanamMaasamSpan;
+        public int chaandramaanamMaasamIndex;
+        public double chaandramaanamMaasamSpan;
+        public boolean isAdhikaMaasam;
+        public int pakshamIndex;
+        public int tithiIndex;
+        public double tithiSpan;
+        public int nakshatramIndex;
+        public double nakshatramSpan;
+        public int raasiIndex;
+        public double raasiSpan;
+        public int yogamIndex;
+        public double yogamSpan;
+        public int karanamIndex;
+        public double karanamSpan;
+        public double sunRiseTotalMins;
+        public double sunSetTotalMins;
+        public int dinaAnkam;
     }
 
     // Static Variables & Constants
     private static SwephNative swissEphInst = null;
-    private static VedicCalendarDinaVisheshamRuleEngine vCDinaVisheshamRuleEngine = null;
+    private static String swissEphLocalPath = null;
+
+    // Sidereal mode & topocentric position last applied to swissEphInst.
+    // SwissEph keeps these as global state, hence these are guarded by swissEphInst lock.
+    private static int swissEphSiderealMode = -1;
+    private static double swissEphTopoLongitude = 0;
+    private static double swissEphTopoLatitude = 0;
+
+    // Registry of the dina vishesham rules file configured last (see configureDinaVisheshamRules())
+    private static volatile VedicCalendarDinaVisheshamRuleBookRegistry
+            vCDinaVisheshamRuleBookRegistry = null;
+
+    // Transition indices built (or) read from local path so far (see buildTransitIndex()),
+    // keyed by year & sidereal mode. An index that is not found in the local path is looked up
+    // again once TRANSIT_INDEX_MISS_EXPIRY_MILLIS have passed (to pick up one copied in later).
+    private static final int TRANSIT_INDEX_CACHE_SIZE = 16;
+    private static final long TRANSIT_INDEX_MISS_EXPIRY_MILLIS = 60000;
+    private static final VedicCalendarLRUCache<Integer, TransitIndexEntry> transitIndexCache =
+            new VedicCalendarLRUCache<>(TRANSIT_INDEX_CACHE_SIZE);
+
+    // Longitude models (see getLongitudeModel()), keyed by year & sidereal mode.
+    private static final int LONGITUDE_MODEL_CACHE_SIZE = 16;
+    private static final VedicCalendarLRUCache<Integer, VedicCalendarLongitudeModel>
+            longitudeModelCache = new VedicCalendarLRUCache<>(LONGITUDE_MODEL_CACHE_SIZE);
+
+    // Rise/Set timings (in minutes since local midnight) calculated so far (see
+    // calcPlanetRiseSet()), shared by all VedicCalendar instances.
+    private static final int RISE_SET_CACHE_SIZE = 1024;
+    private static final VedicCalendarLRUCache<RiseSetKey, Double> riseSetCache =
+            new VedicCalendarLRUCache<>(RISE_SET_CACHE_SIZE);
+
+    // Longitudes & speeds (as given by swe_calc_ut()) calculated so far (see
+    // calcPlanetLongitude()), shared by all VedicCalendar instances.
+    // Approximate memory taken by each entry is: ConcurrentHashMap node (32 bytes) +
+    // cache entry (16 bytes) + eviction queue slot (8 bytes) + LongitudeKey (32 bytes) +
+    // double[6] (64 bytes).
+    private static final int LONGITUDE_CACHE_SIZE = 4096;
+    private static final int LONGITUDE_CACHE_ENTRY_BYTES = 152;
+    private static final VedicCalendarLRUCache<LongitudeKey, double[]> longitudeCache =
+            new VedicCalendarLRUCache<>(LONGITUDE_CACHE_SIZE);
     private static final double INDIAN_STANDARD_TIME = 5.5;
     private static final int MAX_SAMVATSARAMS = 60;
     private static final int MAX_AYANAM_MINUTES = 21600; // 30deg * 60 mins per degree
@@ -146,8 +436,19 @@ public class VedicCalendar extends Calendar {
     public static final int MAX_MINS_IN_HOUR = 60;
     private static final int MAX_NAZHIGAIS_IN_DAY = 60;
     public static final int MAX_MINS_IN_DAY = 1440;
+    private static final int MAX_SECS_IN_MIN = 60;
+    private static final int MAX_SECS_IN_DAY = 86400;
+    private static final int DAY_MEMO_CALC_SWISSEPH = 0;
+    private static final int DAY_MEMO_CALC_LOCAL = 1;
+    private static final int MAX_DAY_MEMO_CALC_TYPES = 2;
+
+    // Time strings (see formatTimeInTimeFormat()) in HH:MM & Na.Vi formats, indexed by minutes.
+    // Spans can go well into the next day. Hence, these cover 2 whole days.
+    private static final String[] hhmmTimeStrings = new String[2 * MAX_MINS_IN_DAY];
+    private static final String[] nazhigaiTimeStrings = new String[2 * MAX_MINS_IN_DAY];
+
     private static final int SIX_NAZHIGAI = 144;
-    private static final int MAX_MINS_IN_DAY_PLUS_MINS_TILL_SUNRISE = 1800;
+    public static final int MAX_MINS_IN_DAY_PLUS_MINS_TILL_SUNRISE = 1800;
     private static final int SUNRISE_TOTAL_MINS = 360;
     private static final int SUNSET_TOTAL_MINS = 1080;
     private static final int CHANDRASHTAMA_NAKSHATHRAM_OFFSET = 16;
@@ -155,16 +456,29 @@ public class VedicCalendar extends Calendar {
     private static final double MAX_KAALAM_FACTOR = 0.125;
     private static final double LAGNAM_DAILY_OFFSET = 4.05; // TODO - This needs to be fine-tuned
     private static final double ONE_HOUR_IN_MSEC = 3600000;
-    private static double vcLongitude = (82 + 58.34 / 60.0); // Default to Varanasi
-    private static double vcLatitude = (25 + 19 / 60.0); // Default to Varanasi
-    private static double defTimezone = INDIAN_STANDARD_TIME; // IST
+    private static final double ONE_DAY_IN_MSEC = 86400000;
+    private static final double DEFAULT_LONGITUDE = (82 + 58.34 / 60.0); // Default to Varanasi
+    private static final double DEFAULT_LATITUDE = (25 + 19 / 60.0); // Default to Varanasi
     private static final int JUL_TO_KALI_VARUDAM_OFFSET = 3101;
     private static final int VAKHYAM_KANDA_THOGAI_MAX_VAL = 248;
     private static final double JUL_TO_KALI_DINAM_OFFSET = 588466.1858;
     private static final double MAX_KALI_NAAL = 365.2586806;
     private static final double KALI_NAAL_OFFSET = 2.147569444;
-    private static final String HHMM_DELIMITER = ":";
-    private static final int FIELD_VALUE_MAX_TOKENS = 2;
+    private static final int TRANSIT_INDEX_MARGIN_DAYS = 3;
+    private static final int MAX_TRANSITS_PER_YEAR = 800; // ~740 karanams per year
+    private static final String TRANSIT_INDEX_FILE_PREFIX = "vc_transit_index_";
+    private static final String TRANSIT_INDEX_FILE_SUFFIX = ".bin";
+
+    // Range of daily motion (in celestial minutes) possible for Ravi & Chandra
+    private static final double MIN_DAILY_RAVI_MOTION = 54; // 0.9deg * 60 mins per degree
+    private static final double MAX_DAILY_RAVI_MOTION = 66; // 1.1deg * 60 mins per degree
+    private static final double MIN_DAILY_CHANDRA_MOTION = 660; // 11deg * 60 mins per degree
+    private static final double MAX_DAILY_CHANDRA_MOTION = 960; // 16deg * 60 mins per degree
+
+    // Chandra's entry into a Raasi (only used for transit calculations & hence not indexed)
+    private static final int TRANSIT_FIELD_RAASI = VedicCalendarTransitIndex.MAX_FIELDS;
+    private static final int TRANSIT_SOLVER_MAX_ITERATIONS = 6;
+    private static final double TRANSIT_SOLVER_PRECISION = (0.1 / (24 * 60 * 60)); // 0.1 second
 
     private static final int HORAI_ASUBHAM = 0;
     private static final int HORAI_NORMAL = 1;
@@ -192,6 +506,10 @@ public class VedicCalendar extends Calendar {
     public static final int PANCHANGAM_TIME_FORMAT_HHMM = 0;        // HH:MM time format
     public static final int PANCHANGAM_TIME_FORMAT_NAZHIGAI = 1;    // Nazhigai.Vinaadi time format
 
+    // Daily Motion (DRM & DCM) Calculation Modes
+    public static final int DAILY_MOTION_TWO_SAMPLES = 0;   // Longitudes at the start of given day & next day (4 SwissEph calls)
+    public static final int DAILY_MOTION_SPEED = 1;         // Speed at the start of given day (2 SwissEph calls)
+
     // Planet Types
     public static final int SURYA = 0;
     public static final int CHANDRA = 1;
@@ -875,6 +1193,8 @@ public class VedicCalendar extends Calendar {
 
     // ADD PANCHANGAM DINA VISHESHAM CODES ABOVE THIS LINE & UPDATE
     // PANCHANGAM_DINA_VISHESHAM_RANGE_END
+    // Note: Codes are also used as bit positions in Dina Vishesham bitmasks
+    //       (see getDinaVisheshamsMask()) and hence cannot go beyond 63.
     public static final int PANCHANGAM_DINA_VISHESHAM_RANGE_END =
             (PANCHANGAM_DINA_VISHESHAM_BODHAYANA_AMAVAASAI + 1);
 
@@ -883,12 +1203,13 @@ public class VedicCalendar extends Calendar {
      *
      * @param localPath  Full path to location where SwissEph library can store local information.
      */
-    private static void initSwissEph(String localPath) {
+    private static synchronized void initSwissEph(String localPath) {
         //long startTime = System.nanoTime();
         // Create SwissEph instance only once in the lifetime of this App as this is a
         // CPU-intensive operation!
         if (swissEphInst == null) {
             swissEphInst = new SwephNative(localPath);
+            swissEphLocalPath = localPath;
         }
         //long endTime = System.nanoTime();
     }
@@ -1004,7 +1325,56 @@ public class VedicCalendar extends Calendar {
             double dstOffset = calendar.get(Calendar.DST_OFFSET);
             dstOffset /= ONE_HOUR_IN_MSEC; // Convert to hours
             defTimezone = zoneOffset + dstOffset;
+
+            // Check if the offset stays the same through the day (i.e, no DST switch-over).
+            // Only then, time of the day can be changed without recalculating the whole day.
+            int dayStartOffset = timeZone.getOffset(GregorianCalendar.AD, refYear,
+                    (refMonth - 1), refDate, refVaasaram, 0);
+            int dayEndOffset = timeZone.getOffset(GregorianCalendar.AD, refYear,
+                    (refMonth - 1), refDate, refVaasaram, (int) (ONE_DAY_IN_MSEC - 1));
+            isTimezoneFixedForDay = (dayStartOffset == dayEndOffset);
+        } else {
+            isTimezoneFixedForDay = true;
+        }
+    }
+
+    /**
+     * Utility function to check if the given calendar date & time can be applied by just
+     * updating the time of the day.
+     *
+     * @param refCalendar   A Calendar date as per Gregorian Calendar
+     *
+     * @return true if the given date is the same as the current calendar day (with the same
+     *         timezone offset throughout), false otherwise.
+     */
+    private boolean isSameDay(Calendar refCalendar) {
+        return isTimezoneFixedForDay && (refCalendar.get(Calendar.DATE) == refDate) &&
+                ((refCalendar.get(Calendar.MONTH) + 1) == refMonth) &&
+                (refCalendar.get(Calendar.YEAR) == refYear);
+    }
+
+    /**
+     * Utility function to discard all fields memoized for the current calendar day.
+     */
+    private void resetDayMemo() {
+        dayMemo = new DayMemo();
+    }
+
+    /**
+     * Utility function to get the slot in DayMemo for the given query type.
+     *
+     * @param queryType MATCH_SANKALPAM_EXACT / MATCH_PANCHANGAM_FULLDAY /
+     *                  MATCH_PANCHANGAM_FULLDAY_CALC_LOCAL
+     *
+     * @return DAY_MEMO_CALC_LOCAL if calculated using longitude model,
+     *         DAY_MEMO_CALC_SWISSEPH otherwise.
+     */
+    private static int getDayMemoCalcType(int queryType) {
+        if ((queryType & MATCH_PANCHANGAM_FULLDAY_CALC_LOCAL) ==
+                MATCH_PANCHANGAM_FULLDAY_CALC_LOCAL) {
+            return DAY_MEMO_CALC_LOCAL;
         }
+        return DAY_MEMO_CALC_SWISSEPH;
     }
 
     /**
@@ -1024,6 +1394,7 @@ public class VedicCalendar extends Calendar {
         initRefDates(calendar);
         refTithiSpan = 0;
         refNakshatramSpan = 0;
+        resetDayMemo();
 
         // Get Sunrise & Sunset timings
         sunRiseTotalMins = 0;
@@ -1035,6 +1406,305 @@ public class VedicCalendar extends Calendar {
         initVakyamKaliDinam();
     }
 
+    /**
+     * Use this API to set a new time of the day (for the current calendar day) in VedicCalendar.
+     * Unlike setDate(), nothing is recalculated as the calendar day remains the same. Hence, this
+     * is well suited for frequent refreshes of time-specific details (Sankalpam, Horai, etc).
+     *
+     * @param hourOfDay The value used to set the HOUR_OF_DAY calendar field (0 - 23).
+     * @param minute    The value used to set the MINUTE calendar field (0 - 59).
+     */
+    public void setTimeOfDay(int hourOfDay, int minute) {
+        if (isTimezoneFixedForDay && (hourOfDay >= 0) && (hourOfDay < MAX_24HOURS) &&
+            (minute >= 0) && (minute < MAX_MINS_IN_HOUR)) {
+            refHour = hourOfDay;
+            refMin = minute;
+        } else {
+            setDate(refDate, (refMonth - 1), refYear, hourOfDay, minute);
+        }
+    }
+
+    /**
+     * Use this API to get the full day's Panchangam for the given calendar day in one go.
+     * Unlike the respective get APIs, this does not create any Strings (locale-specific or
+     * otherwise) and hence is well suited for bulk/repeated queries.
+     *
+     * @return  Panchangam details as per MATCH_PANCHANGAM_FULLDAY.
+     */
+    public PanchangamDay computeDay() {
+        PanchangamDay panchangamDay = new PanchangamDay();
+        computeDay(panchangamDay);
+        return panchangamDay;
+    }
+
+    /**
+     * Use this API to get the full day's Panchangam for the given calendar day in one go into
+     * the given holder (to avoid allocations across repeated queries).
+     *
+     * @param panchangamDay Holder to be filled with Panchangam details as per
+     *                      MATCH_PANCHANGAM_FULLDAY.
+     */
+    public void computeDay(PanchangamDay panchangamDay) {
+        panchangamDay.date = refDate;
+        panchangamDay.month = refMonth - 1;
+        panchangamDay.year = refYear;
+        panchangamDay.vaasaramIndex = refVaasaram - 1;
+
+        FieldSpan maasam = getSauramaanamMaasamIndex();
+        panchangamDay.sauramaanamMaasamIndex = maasam.fieldIndex;
+        panchangamDay.sauramaanamMaasamSpan = maasam.fieldSpan;
+        panchangamDay.samvatsaramIndex = getSamvatsaramIndex(maasam.fieldIndex);
+        panchangamDay.ayanamIndex = getAyanamIndexForMaasam(maasam.fieldIndex);
+        panchangamDay.rithuIndex = getRithuIndexForMaasam(maasam.fieldIndex);
+
+        FieldSpan tithi = getTithiIndex(MATCH_PANCHANGAM_FULLDAY);
+        panchangamDay.tithiIndex = tithi.fieldIndex;
+        panchangamDay.tithiSpan = tithi.fieldSpan;
+        panchangamDay.pakshamIndex = getPakshamIndexForTithi(tithi.fieldIndex);
+
+        FieldSpan chaandramaanamMaasam = getChaandramaanamMaasamIndex(tithi.fieldIndex);
+        panchangamDay.chaandramaanamMaasamIndex = chaandramaanamMaasam.fieldIndex;
+        panchangamDay.chaandramaanamMaasamSpan = chaandramaanamMaasam.fieldSpan;
+        panchangamDay.isAdhikaMaasam = isAdhikaMaasam(tithi.fieldIndex);
+
+        FieldSpan nakshatram = getNakshatramIndex(MATCH_PANCHANGAM_FULLDAY);
+        panchangamDay.nakshatramIndex = nakshatram.fieldIndex;
+        panchangamDay.nakshatramSpan = nakshatram.fieldSpan;
+
+        FieldSpan raasi = getRaasiIndex();
+        panchangamDay.raasiIndex = raasi.fieldIndex;
+        panchangamDay.raasiSpan = raasi.fieldSpan;
+
+        FieldSpan yogam = getYogamIndex();
+        panchangamDay.yogamIndex = yogam.fieldIndex;
+        panchangamDay.yogamSpan = yogam.fieldSpan;
+
+        FieldSpan karanam = getKaranamIndex();
+        panchangamDay.karanamIndex = karanam.fieldIndex;
+        panchangamDay.karanamSpan = karanam.fieldSpan;
+
+        panchangamDay.sunRiseTotalMins = sunRiseTotalMins;
+        panchangamDay.sunSetTotalMins = sunSetTotalMins;
+        panchangamDay.dinaAnkam = getDinaAnkam();
+    }
+
+    /**
+     * Use this API to get the Panchangam (as per computeDay()) for every calendar day in the
+     * given range.
+     * This is much cheaper than calling setDate() & the respective get APIs for each day as the
+     * next day's longitudes(needed for DRM & DCM) calculated for a given day are reused as the
+     * day start longitudes for the next day.
+     * Note: Once done, VedicCalendar is restored back to the date it was set to before the call.
+     *
+     * @param startCalendar First calendar day in the range (Only Date, Month & Year are used
+     *                      along with hour & minute for timezone/DST alignment).
+     * @param endCalendar   Last calendar day in the range (inclusive).
+     *
+     * @return  List of Panchangam details, one per calendar day in the given range.
+     *
+     * @throws InvalidParameterSpecException if the given range is invalid.
+     */
+    public List<PanchangamDay> computeRange(Calendar startCalendar, Calendar endCalendar)
+            throws InvalidParameterSpecException {
+        return computeRange(startCalendar, endCalendar, null);
+    }
+
+    /**
+     * Utility function to get the Panchangam (as per computeDay()) & optionally the Kaala
+     * Vibhaagam (as per MATCH_PANCHANGAM_FULLDAY) for every calendar day in the given range.
+     *
+     * @param startCalendar     First calendar day in the range.
+     * @param endCalendar       Last calendar day in the range (inclusive).
+     * @param kaalamInfoLists   List to be filled with Kaala Vibhaagam of each calendar day
+     *                          (or) null if not needed.
+     *
+     * @return  List of Panchangam details, one per calendar day in the given range.
+     *
+     * @throws InvalidParameterSpecException if the given range is invalid.
+     */
+    private List<PanchangamDay> computeRange(Calendar startCalendar, Calendar endCalendar,
+                                             List<ArrayList<KaalamInfo>> kaalamInfoLists)
+            throws InvalidParameterSpecException {
+        if ((startCalendar == null) || (endCalendar == null) ||
+            (getDateKey(startCalendar) > getDateKey(endCalendar))) {
+            throw new InvalidParameterSpecException("Invalid date range!");
+        }
+
+        int origDate = refDate;
+        int origMonth = refMonth - 1;
+        int origYear = refYear;
+        int origHour = refHour;
+        int origMin = refMin;
+        boolean isDrikPanchangam = ((panchangamType == PANCHANGAM_TYPE_DRIK_GANITHAM_LUNI_SOLAR) ||
+                                    (panchangamType == PANCHANGAM_TYPE_DRIK_GANITHAM_LUNAR));
+
+        Calendar dayCalendar = Calendar.getInstance();
+        dayCalendar.set(startCalendar.get(Calendar.YEAR), startCalendar.get(Calendar.MONTH),
+                startCalendar.get(Calendar.DATE), startCalendar.get(Calendar.HOUR_OF_DAY),
+                startCalendar.get(Calendar.MINUTE));
+        int endDateKey = getDateKey(endCalendar);
+
+        double raviAyanamAtDayStart = 0;
+        double chandraAyanamAtDayStart = 0;
+        if (isDrikPanchangam) {
+            raviAyanamAtDayStart = calcPlanetLongitude(dayCalendar, SweConst.SE_SUN, false);
+            chandraAyanamAtDayStart = calcPlanetLongitude(dayCalendar, SweConst.SE_MOON, false);
+        }
+
+        List<PanchangamDay> panchangamDays = new ArrayList<>();
+        while (getDateKey(dayCalendar) <= endDateKey) {
+            initRefDates(dayCalendar);
+            refTithiSpan = 0;
+            refNakshatramSpan = 0;
+            resetDayMemo();
+
+            // Get Sunrise & Sunset timings
+            sunRiseTotalMins = 0;
+            sunSetTotalMins = 0;
+            calcSunrise(MATCH_PANCHANGAM_FULLDAY);
+            calcSunset(MATCH_PANCHANGAM_FULLDAY);
+
+            // Only next day's longitudes need to be calculated, the given day's longitudes
+            // are carried over from the previous iteration.
+            Calendar nextDayCalendar = (Calendar) dayCalendar.clone();
+            nextDayCalendar.add(Calendar.DATE, 1);
+            if (isDrikPanchangam) {
+                double nextDayRaviAyanamAtDayStart =
+                        calcPlanetLongitude(nextDayCalendar, SweConst.SE_SUN, false);
+                double nextDayChandraAyanamAtDayStart =
+                        calcPlanetLongitude(nextDayCalendar, SweConst.SE_MOON, false);
+                refRaviAyanamAtDayStart = raviAyanamAtDayStart;
+                refChandraAyanamAtDayStart = chandraAyanamAtDayStart;
+                initDailyMotions(nextDayRaviAyanamAtDayStart, nextDayChandraAyanamAtDayStart);
+                raviAyanamAtDayStart = nextDayRaviAyanamAtDayStart;
+                chandraAyanamAtDayStart = nextDayChandraAyanamAtDayStart;
+            }
+            initVakyamKaliDinam();
+
+            PanchangamDay panchangamDay = new PanchangamDay();
+            computeDay(panchangamDay);
+            panchangamDays.add(panchangamDay);
+            if (kaalamInfoLists != null) {
+                kaalamInfoLists.add(getKaalaVibhaagam(MATCH_PANCHANGAM_FULLDAY));
+            }
+            dayCalendar = nextDayCalendar;
+        }
+
+        setDate(origDate, origMonth, origYear, origHour, origMin);
+        return panchangamDays;
+    }
+
+    /**
+     * Utility function to get a sortable key (YYYYMMDD) for the given calendar day.
+     *
+     * @param refCalendar   A Calendar date as per Gregorian Calendar
+     *
+     * @return Calendar day as a number in YYYYMMDD format.
+     */
+    private static int getDateKey(Calendar refCalendar) {
+        return (refCalendar.get(Calendar.YEAR) * 10000) +
+                ((refCalendar.get(Calendar.MONTH) + 1) * 100) + refCalendar.get(Calendar.DATE);
+    }
+
+    /**
+     * Use this API to pre-compute the exact transitions of Tithi, Nakshatram, Yogam, Karanam &
+     * Sankranti for the given year (as per this VedicCalendar's ayanamsa).
+     * This is time consuming, but is done only once per year & ayanamsa. Once built, spans of all
+     * these fields for any calendar day in the given year are worked out using a simple binary
+     * search instead of SwissEph transit calculations.
+     * Built index is also persisted in the local path (see getInstance()) & read back from there
+     * (if available) the next time around instead of being rebuilt.
+     *
+     * @param year  Gregorian calendar year
+     *
+     * @return  Transition index for the given year.
+     */
+    public VedicCalendarTransitIndex buildTransitIndex(int year) {
+        VedicCalendarTransitIndex yearIndex = getCachedTransitIndex(year, siderealMode);
+        if (yearIndex != null) {
+            return yearIndex;
+        }
+
+        //long startTime = System.nanoTime();
+        Calendar startCalendar = Calendar.getInstance();
+        startCalendar.set(year, Calendar.JANUARY, 1, 0, 0, 0);
+        startCalendar.add(Calendar.DATE, -TRANSIT_INDEX_MARGIN_DAYS);
+        double jdStart = new SweDate(startCalendar.get(Calendar.YEAR),
+                (startCalendar.get(Calendar.MONTH) + 1), startCalendar.get(Calendar.DATE), 0).getJulDay();
+        double jdEnd = new SweDate((year + 1), 1, 1, 0).getJulDay() + TRANSIT_INDEX_MARGIN_DAYS;
+
+        // 1) Find the index of each field at the start of the index.
+        double raviAyanam = calcPlanetLongitude(startCalendar, SweConst.SE_SUN, false);
+        double chandraAyanam = calcPlanetLongitude(startCalendar, SweConst.SE_MOON, false);
+        double chandraRaviDistance = chandraAyanam - raviAyanam;
+        if (chandraRaviDistance < 0) {
+            chandraRaviDistance += MAX_AYANAM_MINUTES;
+        }
+        double sumAyanam = (int) (chandraAyanam + raviAyanam);
+        sumAyanam %= MAX_AYANAM_MINUTES;
+
+        int[] firstIndex = new int[VedicCalendarTransitIndex.MAX_FIELDS];
+        firstIndex[VedicCalendarTransitIndex.FIELD_KARANAM] =
+                ((int) (chandraRaviDistance / MAX_KARANAM_MINUTES)) % MAX_KARANAMS;
+        firstIndex[VedicCalendarTransitIndex.FIELD_TITHI] =
+                firstIndex[VedicCalendarTransitIndex.FIELD_KARANAM] / 2;
+        firstIndex[VedicCalendarTransitIndex.FIELD_NAKSHATRAM] =
+                ((int) (chandraAyanam / MAX_NAKSHATHRAM_MINUTES)) % MAX_NAKSHATHRAMS;
+        firstIndex[VedicCalendarTransitIndex.FIELD_YOGAM] =
+                ((int) (sumAyanam / MAX_NAKSHATHRAM_MINUTES)) % MAX_NAKSHATHRAMS;
+        firstIndex[VedicCalendarTransitIndex.FIELD_SANKRANTI] =
+                ((int) (raviAyanam / MAX_RAASI_MINUTES)) % MAX_RAASIS;
+
+        // 2) Find all transitions of each field till the end of the index.
+        //    Tithi changes along with every alternate Karanam. Hence, derive Tithi transitions
+        //    from that of Karanam instead of calculating them separately.
+        double[][] transitions = new double[VedicCalendarTransitIndex.MAX_FIELDS][];
+        transitions[VedicCalendarTransitIndex.FIELD_KARANAM] =
+                calcTransits(VedicCalendarTransitIndex.FIELD_KARANAM,
+                        firstIndex[VedicCalendarTransitIndex.FIELD_KARANAM], jdStart, jdEnd);
+        transitions[VedicCalendarTransitIndex.FIELD_NAKSHATRAM] =
+                calcTransits(VedicCalendarTransitIndex.FIELD_NAKSHATRAM,
+                        firstIndex[VedicCalendarTransitIndex.FIELD_NAKSHATRAM], jdStart, jdEnd);
+        transitions[VedicCalendarTransitIndex.FIELD_YOGAM] =
+                calcTransits(VedicCalendarTransitIndex.FIELD_YOGAM,
+                        firstIndex[VedicCalendarTransitIndex.FIELD_YOGAM], jdStart, jdEnd);
+        transitions[VedicCalendarTransitIndex.FIELD_SANKRANTI] =
+                calcTransits(VedicCalendarTransitIndex.FIELD_SANKRANTI,
+                        firstIndex[VedicCalendarTransitIndex.FIELD_SANKRANTI], jdStart, jdEnd);
+
+        double[] karanamTransits = transitions[VedicCalendarTransitIndex.FIELD_KARANAM];
+        double[] tithiTransits = new double[(karanamTransits.length / 2) + 1];
+        int numTithiTransits = 0;
+        int karanamIndex = firstIndex[VedicCalendarTransitIndex.FIELD_KARANAM];
+        for (double karanamTransit : karanamTransits) {
+            karanamIndex = (karanamIndex + 1) % MAX_KARANAMS;
+            if ((karanamIndex % 2) == 0) {
+                tithiTransits[numTithiTransits++] = karanamTransit;
+            }
+        }
+        transitions[VedicCalendarTransitIndex.FIELD_TITHI] =
+                Arrays.copyOf(tithiTransits, numTithiTransits);
+
+        yearIndex = new VedicCalendarTransitIndex(year, siderealMode, jdStart, jdEnd,
+                transitions, firstIndex);
+        VedicCalendarTransitIndex cachedIndex = putTransitIndex(year, siderealMode, yearIndex);
+        boolean isNewIndex = (cachedIndex == yearIndex);
+        yearIndex = cachedIndex;
+
+        // 3) Persist the index so that it need not be rebuilt the next time around.
+        File transitIndexFile = getTransitIndexFile(year, siderealMode);
+        if (isNewIndex && (transitIndexFile != null)) {
+            if (!yearIndex.writeTo(transitIndexFile)) {
+                System.out.println("VedicCalendar, Warning: Unable to save transition index to " +
+                        transitIndexFile.getPath());
+            }
+        }
+        //long endTime = System.nanoTime();
+        //System.out.println("VedicCalendar buildTransitIndex()... Time Taken: " +
+        //        getTimeTaken(startTime, endTime));
+        return yearIndex;
+    }
+
     /**
      * Use this API to set the time format
      *
@@ -1050,6 +1720,31 @@ public class VedicCalendar extends Calendar {
         }
     }
 
+    /**
+     * Use this API to set the way daily motion of Ravi (DRM) & Chandra (DCM) are calculated.
+     * Note: computeRange() always uses DAILY_MOTION_TWO_SAMPLES as next day's longitudes are
+     *       calculated anyway for the next day in the range.
+     *
+     * @param dailyMotionMode   DAILY_MOTION_TWO_SAMPLES - difference between longitudes at the
+     *                          start of the given day & the next day (default) (or)
+     *                          DAILY_MOTION_SPEED - speed at the start of the given day as given
+     *                          by SwissEph (saves 2 SwissEph calls per calendar day).
+     */
+    public void setDailyMotionMode(int dailyMotionMode) {
+        switch (dailyMotionMode) {
+            case DAILY_MOTION_TWO_SAMPLES:
+            case DAILY_MOTION_SPEED:
+                if (this.dailyMotionMode != dailyMotionMode) {
+                    this.dailyMotionMode = dailyMotionMode;
+                    Calendar calendar = Calendar.getInstance();
+                    calendar.set(refYear, (refMonth - 1), refDate, refHour, refMin);
+                    initRaviChandraLongitudes(calendar);
+                    resetDayMemo();
+                }
+                break;
+        }
+    }
+
     /**
      * Use this API to get the value of the given calendar field in VedicCalendar.
      *
@@ -1109,9 +1804,17 @@ public class VedicCalendar extends Calendar {
             case Calendar.HOUR_OF_DAY:
             case Calendar.MINUTE:
                 curCalendar.set(field, value);
+
+                // Only the time of the day has changed, nothing else needs to be recalculated.
+                if (isSameDay(curCalendar)) {
+                    refHour = curCalendar.get(Calendar.HOUR_OF_DAY);
+                    refMin = curCalendar.get(Calendar.MINUTE);
+                    break;
+                }
                 initRefDates(curCalendar);
                 refTithiSpan = 0;
                 refNakshatramSpan = 0;
+                resetDayMemo();
 
                 // Get Sunrise & Sunset timings
                 sunRiseTotalMins = 0;
@@ -1143,9 +1846,17 @@ public class VedicCalendar extends Calendar {
             case Calendar.HOUR_OF_DAY:
             case Calendar.MINUTE:
                 curCalendar.add(field, amount);
+
+                // Only the time of the day has changed, nothing else needs to be recalculated.
+                if (isSameDay(curCalendar)) {
+                    refHour = curCalendar.get(Calendar.HOUR_OF_DAY);
+                    refMin = curCalendar.get(Calendar.MINUTE);
+                    break;
+                }
                 initRefDates(curCalendar);
                 refTithiSpan = 0;
                 refNakshatramSpan = 0;
+                resetDayMemo();
 
                 // Get Sunrise & Sunset timings
                 sunRiseTotalMins = 0;
@@ -1243,6 +1954,7 @@ public class VedicCalendar extends Calendar {
         this.chaandramanaType = chaandramanaType;
         this.panchangamType = panchangamType;
         vedicCalendarLocaleList = vcLocaleList;
+        localeIndexList = createLocaleIndexList(vcLocaleList);
         createDinaVisheshamsList();
 
         this.timeZoneID = timeZoneID;
@@ -1252,6 +1964,10 @@ public class VedicCalendar extends Calendar {
         // Vakhyam - SwissEph is used only for Sunrise & Sunset but for the rest uses local
         //           calculations and is aligned to IST
         //           For now, no need to take care of timezone for local calculations.
+        //
+        // Sidereal mode & location are kept per instance and applied to the shared SwissEph
+        // instance only while holding its lock (see applySwissEphContext()). This way,
+        // instances for different locations (or) ayanamsas can be used in parallel.
         int siderealMode = SweConst.SE_SIDM_TRUE_CITRA; // Default mode
         if (prefAyanamsa == AYANAMSA_KRISHNAMURTI) {
             // Set sidereal mode: SE_SIDM_KRISHNAMURTI for "Krishnamurti" Ayanamsa
@@ -1260,21 +1976,22 @@ public class VedicCalendar extends Calendar {
             // Set sidereal mode: SE_SIDM_LAHIRI for "Lahiri" Ayanamsa
             siderealMode = SweConst.SE_SIDM_LAHIRI;
         }
-        swissEphInst.swe_set_sid_mode(siderealMode, 0, 0);
+        this.siderealMode = siderealMode;
 
         // If no longitude or latitude is given, then assume Varanasi's longitude & latitude
-        if (locLongitude != 0) {
-            vcLongitude = locLongitude;
+        if (locLongitude == 0) {
+            locLongitude = DEFAULT_LONGITUDE;
         }
-        if (locLatitude != 0) {
-            vcLatitude = locLatitude;
+        if (locLatitude == 0) {
+            locLatitude = DEFAULT_LATITUDE;
         }
-        double[] geoPos = new double[] {vcLongitude, vcLatitude, 0};
-        swissEphInst.swe_set_topo(geoPos[0], geoPos[1], geoPos[2]);
+        this.vcLongitude = locLongitude;
+        this.vcLatitude = locLatitude;
 
         initRefDates(refCalendar);
         refTithiSpan = 0;
         refNakshatramSpan = 0;
+        resetDayMemo();
 
         // Get Sunrise & Sunset timings
         sunRiseTotalMins = 0;
@@ -1300,39 +2017,87 @@ public class VedicCalendar extends Calendar {
         if ((panchangamType == PANCHANGAM_TYPE_DRIK_GANITHAM_LUNI_SOLAR) ||
             (panchangamType == PANCHANGAM_TYPE_DRIK_GANITHAM_LUNAR)) {
             // Get Chandra's & Ravi's longitudes as per Sunrise for the given day
+            // Speeds are used (if opted for) instead of next day's longitudes.
+            double[] raviMotion = null;
+            double[] chandraMotion = null;
+            if (dailyMotionMode == DAILY_MOTION_SPEED) {
+                raviMotion = new double[1];
+                chandraMotion = new double[1];
+            }
             //long startTime = System.nanoTime();
-            refRaviAyanamAtDayStart = calcPlanetLongitude(refCalendar, SweConst.SE_SUN, false);
+            refRaviAyanamAtDayStart =
+                    calcPlanetLongitude(refCalendar, SweConst.SE_SUN, false, raviMotion);
             //long endTime = System.nanoTime();
             //System.out.println("VedicCalendarProf","calcPlanetLongitude() for Sun... Time Taken: " +
             //        getTimeTaken(startTime, endTime));
             //startTime = System.nanoTime();
-            refChandraAyanamAtDayStart = calcPlanetLongitude(refCalendar, SweConst.SE_MOON, false);
+            refChandraAyanamAtDayStart =
+                    calcPlanetLongitude(refCalendar, SweConst.SE_MOON, false, chandraMotion);
             //endTime = System.nanoTime();
             //System.out.println("VedicCalendarProf","calcPlanetLongitude() for Moon... Time Taken: " +
             //        getTimeTaken(startTime, endTime));
 
-            Calendar nextDayCalendar = (Calendar) refCalendar.clone();
-            nextDayCalendar.add(Calendar.DATE, 1);
-            //startTime = System.nanoTime();
-            double nextDayRaviAyanamAtDayStart = calcPlanetLongitude(nextDayCalendar, SweConst.SE_SUN, false);
-            //endTime = System.nanoTime();
-            //System.out.println("VedicCalendarProf","calcPlanetLongitude() Prev Day for Sun... Time Taken: " +
-            //        getTimeTaken(startTime, endTime));
+            double nextDayRaviAyanamAtDayStart;
+            double nextDayChandraAyanamAtDayStart;
+            if (dailyMotionMode == DAILY_MOTION_SPEED) {
+                nextDayRaviAyanamAtDayStart = refRaviAyanamAtDayStart + raviMotion[0];
+                nextDayChandraAyanamAtDayStart = refChandraAyanamAtDayStart + chandraMotion[0];
+            } else {
+                Calendar nextDayCalendar = (Calendar) refCalendar.clone();
+                nextDayCalendar.add(Calendar.DATE, 1);
+                //startTime = System.nanoTime();
+                nextDayRaviAyanamAtDayStart =
+                        calcPlanetLongitude(nextDayCalendar, SweConst.SE_SUN, false);
+                //endTime = System.nanoTime();
+                //System.out.println("VedicCalendarProf","calcPlanetLongitude() Prev Day for Sun... Time Taken: " +
+                //        getTimeTaken(startTime, endTime));
+                //startTime = System.nanoTime();
+                nextDayChandraAyanamAtDayStart =
+                        calcPlanetLongitude(nextDayCalendar, SweConst.SE_MOON, false);
+                //endTime = System.nanoTime();
+                //System.out.println("VedicCalendarProf","calcPlanetLongitude() Prev Day for Sun... Time Taken: " +
+                //        getTimeTaken(startTime, endTime));
+            }
 
-            //startTime = System.nanoTime();
-            double nextDayChandraAyanamAtDayStart = calcPlanetLongitude(nextDayCalendar, SweConst.SE_MOON, false);
-            //endTime = System.nanoTime();
-            //System.out.println("VedicCalendarProf","calcPlanetLongitude() Prev Day for Sun... Time Taken: " +
-            //        getTimeTaken(startTime, endTime));
+            initDailyMotions((nextDayRaviAyanamAtDayStart % MAX_AYANAM_MINUTES),
+                    (nextDayChandraAyanamAtDayStart % MAX_AYANAM_MINUTES));
+        }
+    }
 
-            dailyRaviMotion = (nextDayRaviAyanamAtDayStart - refRaviAyanamAtDayStart);
-            if (dailyRaviMotion < 0) {
-                dailyRaviMotion += MAX_AYANAM_MINUTES;
-            }
-            dailyChandraMotion = (nextDayChandraAyanamAtDayStart - refChandraAyanamAtDayStart);
-            if (dailyChandraMotion < 0) {
-                dailyChandraMotion += MAX_AYANAM_MINUTES;
-            }
+    /**
+     * Use this API to get the daily motion of Ravi (DRM) for the given calendar day.
+     *
+     * @return DRM in celestial minutes.
+     */
+    double getDailyRaviMotion() {
+        return dailyRaviMotion;
+    }
+
+    /**
+     * Use this API to get the daily motion of Chandra (DCM) for the given calendar day.
+     *
+     * @return DCM in celestial minutes.
+     */
+    double getDailyChandraMotion() {
+        return dailyChandraMotion;
+    }
+
+    /**
+     * Utility function to calculate DRM & DCM based on the given day's Ravi & Chandra
+     * longitudes and that of the next day.
+     *
+     * @param nextDayRaviAyanamAtDayStart       Ravi's longitude at the start of the next day
+     * @param nextDayChandraAyanamAtDayStart    Chandra's longitude at the start of the next day
+     */
+    private void initDailyMotions(double nextDayRaviAyanamAtDayStart,
+                                  double nextDayChandraAyanamAtDayStart) {
+        dailyRaviMotion = (nextDayRaviAyanamAtDayStart - refRaviAyanamAtDayStart);
+        if (dailyRaviMotion < 0) {
+            dailyRaviMotion += MAX_AYANAM_MINUTES;
+        }
+        dailyChandraMotion = (nextDayChandraAyanamAtDayStart - refChandraAyanamAtDayStart);
+        if (dailyChandraMotion < 0) {
+            dailyChandraMotion += MAX_AYANAM_MINUTES;
         }
     }
 
@@ -1358,25 +2123,11 @@ public class VedicCalendar extends Calendar {
         //         previous Samvatsaram. Hence, subtract samvatsaram_index by 1 only for these months.
         // Step 5: Given the key {samvatsaram_index}, find the exact matching
         //         samvatsaram string in the samvatsaram mapping table.
-        int samvatsaramIndex = (refYear % MAX_SAMVATSARAMS) - 7;
         FieldSpan maasam = getSauramaanamMaasamIndex();
         int maasamIndex = maasam.fieldIndex;
         double maasamSpan = maasam.fieldSpan;
         int maasamSpanHour = maasam.fieldSpanHour;
-
-        /*
-         * On any given calendar year, 3 months of the year fall in the previous samvatsaram.
-         */
-        if (maasamIndex > REF_DHAKSHINAYINAM_START_MONTH) {
-            samvatsaramIndex -= 1;
-        } else if ((maasamIndex == REF_DHAKSHINAYINAM_START_MONTH) && (refMonth == 1)) {
-            samvatsaramIndex -= 1;
-        }
-
-        if (samvatsaramIndex < 0) {
-            samvatsaramIndex += MAX_SAMVATSARAMS;
-        }
-        samvatsaramIndex %= MAX_SAMVATSARAMS;
+        int samvatsaramIndex = getSamvatsaramIndex(maasamIndex);
 
         int nextSamvatsaramIndex = ((samvatsaramIndex + 1) % MAX_SAMVATSARAMS);
         String[] samvatsaramList =
@@ -1401,6 +2152,32 @@ public class VedicCalendar extends Calendar {
         return samvatsaramStr;
     }
 
+    /**
+     * Utility function to get the Samvatsaram Index for the given calendar day.
+     *
+     * @param maasamIndex   Sauramaanam maasam Index of the given calendar day
+     *
+     * @return Exact Samvatsaram as a number, ranging from 0 to 59.
+     */
+    private int getSamvatsaramIndex(int maasamIndex) {
+        int samvatsaramIndex = (refYear % MAX_SAMVATSARAMS) - 7;
+
+        /*
+         * On any given calendar year, 3 months of the year fall in the previous samvatsaram.
+         */
+        if (maasamIndex > REF_DHAKSHINAYINAM_START_MONTH) {
+            samvatsaramIndex -= 1;
+        } else if ((maasamIndex == REF_DHAKSHINAYINAM_START_MONTH) && (refMonth == 1)) {
+            samvatsaramIndex -= 1;
+        }
+
+        if (samvatsaramIndex < 0) {
+            samvatsaramIndex += MAX_SAMVATSARAMS;
+        }
+        samvatsaramIndex %= MAX_SAMVATSARAMS;
+        return samvatsaramIndex;
+    }
+
     /**
      * Use this API to get the Ayanam (half-year).
      *
@@ -1410,7 +2187,6 @@ public class VedicCalendar extends Calendar {
      * @return Exact Ayanam as a string (as per Drik calendar)
      */
     public String getAyanam(int queryType) {
-        int ayanamIndex = 0;
         FieldSpan maasam = getSauramaanamMaasamIndex();
         double maasamSpan = maasam.fieldSpan;
         int maasamIndex = maasam.fieldIndex;
@@ -1425,17 +2201,8 @@ public class VedicCalendar extends Calendar {
         //               positions in a given year.
         // Step 3: Given the keys {ayanamIndex, locale}, find the exact matching
         //         ayanam string (as per the locale) in the ayanam mapping table.
-        if ((maasamIndex >= REF_UTHARAYINAM_START_MONTH) &&
-            (maasamIndex <= REF_DHAKSHINAYINAM_START_MONTH)) {
-            ayanamIndex = 1;
-        }
-
-        int nextMaasamIndex = (maasamIndex + 1) % MAX_RAASIS;
-        int nextAyanamIndex = 0;
-        if ((nextMaasamIndex >= REF_UTHARAYINAM_START_MONTH) &&
-            (nextMaasamIndex <= REF_DHAKSHINAYINAM_START_MONTH)) {
-            nextAyanamIndex = 1;
-        }
+        int ayanamIndex = getAyanamIndexForMaasam(maasamIndex);
+        int nextAyanamIndex = getAyanamIndexForMaasam((maasamIndex + 1) % MAX_RAASIS);
 
         String[] ayanamList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_AYANAM);
         String ayanamStr = ayanamList[(ayanamIndex % MAX_AYANAMS)];
@@ -1461,6 +2228,22 @@ public class VedicCalendar extends Calendar {
         return ayanamStr;
     }
 
+    /**
+     * Utility function to get the Ayanam Index for the given Sauramaanam maasam.
+     *
+     * @param maasamIndex   Sauramaanam maasam Index
+     *
+     * @return Exact Ayanam as a number, ranging from 0 to 1.
+     */
+    private static int getAyanamIndexForMaasam(int maasamIndex) {
+        int ayanamIndex = 0;
+        if ((maasamIndex >= REF_UTHARAYINAM_START_MONTH) &&
+            (maasamIndex <= REF_DHAKSHINAYINAM_START_MONTH)) {
+            ayanamIndex = 1;
+        }
+        return ayanamIndex;
+    }
+
     /**
      * Use this API to get the Rithu (season).
      *
@@ -1479,10 +2262,8 @@ public class VedicCalendar extends Calendar {
         double maasamSpan = maasam.fieldSpan;
         int maasamIndex = maasam.fieldIndex;
         int maasamSpanHour = maasam.fieldSpanHour;
-        int rithuIndex = ((maasamIndex / 2) % MAX_RITHUS);
-
-        int nextMaasamIndex = (maasamIndex + 1) % MAX_RAASIS;
-        int nextRithuIndex = ((nextMaasamIndex / 2) % MAX_RITHUS);
+        int rithuIndex = getRithuIndexForMaasam(maasamIndex);
+        int nextRithuIndex = getRithuIndexForMaasam((maasamIndex + 1) % MAX_RAASIS);
 
         String[] rithuList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_RITHU);
         String rithuStr = rithuList[rithuIndex];
@@ -1507,6 +2288,17 @@ public class VedicCalendar extends Calendar {
         return rithuStr;
     }
 
+    /**
+     * Utility function to get the Rithu Index for the given Sauramaanam maasam.
+     *
+     * @param maasamIndex   Sauramaanam maasam Index
+     *
+     * @return Exact Rithu as a number, ranging from 0 to 5.
+     */
+    private static int getRithuIndexForMaasam(int maasamIndex) {
+        return ((maasamIndex / 2) % MAX_RITHUS);
+    }
+
     /**
      * Use this API to get the Maasam (solar or lunar month) depending on selected preference.
      *
@@ -1581,11 +2373,24 @@ public class VedicCalendar extends Calendar {
     }
 
     /**
-     * Utility function to get the Sauramaanam maasam Index.
+     * Utility function to get the Sauramaanam maasam Index (calculated once per calendar day).
      *
-     * @return  maasam Index along with maasam span upon success (or) empty string otherwise.
+     * @return  maasam Index along with maasam span.
      */
     private FieldSpan getSauramaanamMaasamIndex() {
+        DayMemo memo = dayMemo;
+        if (memo.sauramaanamMaasam == null) {
+            memo.sauramaanamMaasam = calcSauramaanamMaasamIndex();
+        }
+        return memo.sauramaanamMaasam;
+    }
+
+    /**
+     * Utility function to get the Sauramaanam maasam Index.
+     *
+     * @return  maasam Index along with maasam span upon success (or) empty string otherwise.
+     */
+    private FieldSpan calcSauramaanamMaasamIndex() {
         int maasamIndex = 0;
         int maasamSpanHour = 0;
         int maasamSpanMin = 0;
@@ -1640,9 +2445,7 @@ public class VedicCalendar extends Calendar {
      * @return Exact Maasam as a number, ranging from 0 to 11 (or) -1 in case of error(s).
      */
     public int getSauramanaMaasamIndex(String maasam) {
-        String[] smList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_SAURAMANA_MAASAM);
-        ArrayList<String> smArrList = new ArrayList<String>(Arrays.asList(smList));
-        return smArrList.indexOf(maasam);
+        return getLocaleIndex(VEDIC_CALENDAR_TABLE_TYPE_SAURAMANA_MAASAM, maasam);
     }
 
     /**
@@ -1670,16 +2473,67 @@ public class VedicCalendar extends Calendar {
         //         chaandramanam maasam mapping table.
         // Step 4:
 
-        int maasamIndex;
-        int maasamSpanHour;
-        double maasamSpan;
-        boolean isAdhikaMaasam = false;
-        int maasamIndexAtChaandramanaMaasamStart;
-        int maasamIndexAtChaandramanaMaasamEnd;
-
-        // Step 1: Get selected day's tithi number
         FieldSpan tithi = getTithiIndex(queryType);
-        int tithiNum = tithi.fieldIndex;
+        FieldSpan maasam = getChaandramaanamMaasamIndex(tithi.fieldIndex);
+        int maasamIndex = maasam.fieldIndex;
+        double maasamSpan = maasam.fieldSpan;
+        int maasamSpanHour = maasam.fieldSpanHour;
+        boolean isAdhikaMaasam = isAdhikaMaasam(tithi.fieldIndex);
+
+        String[] chaandramanaMaasamList =
+                vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_CHAANDRAMANA_MAASAM);
+        String maasamStr = chaandramanaMaasamList[(maasamIndex % MAX_RAASIS)];
+        if (isAdhikaMaasam) {
+            maasamStr += " (Adhik)";
+        }
+
+        String nextMaasamStr = chaandramanaMaasamList[((maasamIndex + 1) % MAX_RAASIS)];
+        if (queryType == MATCH_PANCHANGAM_FULLDAY) {
+            if (maasamSpan < MAX_MINS_IN_DAY_PLUS_MINS_TILL_SUNRISE) {
+                maasamStr += " (" + formatTimeInTimeFormat(maasamSpan) + ")";
+                maasamStr += ARROW_SYMBOL + nextMaasamStr;
+            }
+        } else if (queryType == MATCH_SANKALPAM_EXACT) {
+            maasamStr = chaandramanaMaasamList[(maasamIndex % MAX_RAASIS)];
+
+            // MATCH_SANKALPAM_EXACT - Identify Tithi based on exact time of query
+            if ((refHour >= maasamSpanHour)) {
+                nextMaasamStr = chaandramanaMaasamList[(maasamIndex + 1) % MAX_RAASIS];
+                maasamStr = nextMaasamStr;
+            }
+        }
+
+        return maasamStr;
+    }
+
+    /**
+     * Utility function to get the Chaandramaanam maasam Index (calculated once per calendar day
+     * & Tithi).
+     *
+     * @param tithiNum  Tithi Index of the given calendar day
+     *
+     * @return  maasam Index along with maasam span.
+     */
+    private FieldSpan getChaandramaanamMaasamIndex(int tithiNum) {
+        DayMemo memo = dayMemo;
+        if ((memo.chaandramaanamMaasam == null) || (memo.chaandramaanamMaasamTithi != tithiNum)) {
+            memo.chaandramaanamMaasam = calcChaandramaanamMaasamIndex(tithiNum);
+            memo.chaandramaanamMaasamTithi = tithiNum;
+        }
+        return memo.chaandramaanamMaasam;
+    }
+
+    /**
+     * Utility function to get the Chaandramaanam maasam Index.
+     *
+     * @param tithiNum  Tithi Index of the given calendar day
+     *
+     * @return  maasam Index along with maasam span.
+     */
+    private FieldSpan calcChaandramaanamMaasamIndex(int tithiNum) {
+        int maasamIndex = 0;
+        double maasamSpan = 0;
+        int maasamSpanHour;
 
         // For Vakyam
         if ((panchangamType == PANCHANGAM_TYPE_VAKHYAM_LUNI_SOLAR) ||
@@ -1687,17 +2541,14 @@ public class VedicCalendar extends Calendar {
             // Vakyam Calculations!
         } else {
             double raviAyanamAtChaandramanaMaasamStart =
-                    refRaviAyanamAtDayStart - (tithiNum * dailyRaviMotion);
-            if (raviAyanamAtChaandramanaMaasamStart < 0) {
-                raviAyanamAtChaandramanaMaasamStart += MAX_AYANAM_MINUTES;
-            }
-            maasamIndexAtChaandramanaMaasamStart =
+                    getRaviAyanamAtChaandramaanamMaasamStart(tithiNum);
+            int maasamIndexAtChaandramanaMaasamStart =
                     (int) (raviAyanamAtChaandramanaMaasamStart / MAX_RAASI_MINUTES);
 
             double raviAyanamAtChaandramanaMaasamEnd =
                     raviAyanamAtChaandramanaMaasamStart + (MAX_TITHIS * dailyRaviMotion);
             raviAyanamAtChaandramanaMaasamEnd %= MAX_AYANAM_MINUTES;
-            maasamIndexAtChaandramanaMaasamEnd =
+            int maasamIndexAtChaandramanaMaasamEnd =
                     (int) (raviAyanamAtChaandramanaMaasamEnd / MAX_RAASI_MINUTES);
 
             maasamIndex = (int) (refRaviAyanamAtDayStart / MAX_RAASI_MINUTES);
@@ -1714,46 +2565,62 @@ public class VedicCalendar extends Calendar {
             if (maasamSpan < 0) {
                 maasamSpan += MAX_MINS_IN_DAY;
             }
-        }
-        maasamSpanHour = (int) (maasamSpan / MAX_MINS_IN_HOUR);
 
-        if (maasamIndexAtChaandramanaMaasamStart != maasamIndexAtChaandramanaMaasamEnd) {
-            maasamIndex = maasamIndexAtChaandramanaMaasamEnd;
-        } else {
-            // If maasam is the same across 30 days of Chaandramanam then this indicates
-            // that there has been no sankaramanam during this period.
-            // Hence, this can be declared as "Adhika" maasam.
-            // Note: Do this only for Drik lunar calculations only.
-            // TODO - Finetune this!
-            if (panchangamType == PANCHANGAM_TYPE_DRIK_GANITHAM_LUNAR) {
-                isAdhikaMaasam = true;
+            if (maasamIndexAtChaandramanaMaasamStart != maasamIndexAtChaandramanaMaasamEnd) {
+                maasamIndex = maasamIndexAtChaandramanaMaasamEnd;
             }
         }
+        maasamSpanHour = (int) (maasamSpan / MAX_MINS_IN_HOUR);
 
-        String[] chaandramanaMaasamList =
-                vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_CHAANDRAMANA_MAASAM);
-        String maasamStr = chaandramanaMaasamList[(maasamIndex % MAX_RAASIS)];
-        if (isAdhikaMaasam) {
-            maasamStr += " (Adhik)";
-        }
+        return new FieldSpan(maasamIndex, maasamSpan, maasamSpanHour,
+                (int) maasamSpan % MAX_MINS_IN_HOUR);
+    }
 
-        String nextMaasamStr = chaandramanaMaasamList[((maasamIndex + 1) % MAX_RAASIS)];
-        if (queryType == MATCH_PANCHANGAM_FULLDAY) {
-            if (maasamSpan < MAX_MINS_IN_DAY_PLUS_MINS_TILL_SUNRISE) {
-                maasamStr += " (" + formatTimeInTimeFormat(maasamSpan) + ")";
-                maasamStr += ARROW_SYMBOL + nextMaasamStr;
-            }
-        } else if (queryType == MATCH_SANKALPAM_EXACT) {
-            maasamStr = chaandramanaMaasamList[(maasamIndex % MAX_RAASIS)];
+    /**
+     * Utility function to check if the given day's Chaandramaanam maasam is an "Adhika" maasam.
+     *
+     * @param tithiNum  Tithi Index of the given calendar day
+     *
+     * @return  true if there is no sankaramanam during the Chaandramaanam maasam,
+     *          false otherwise.
+     */
+    private boolean isAdhikaMaasam(int tithiNum) {
+        boolean isAdhikaMaasam = false;
 
-            // MATCH_SANKALPAM_EXACT - Identify Tithi based on exact time of query
-            if ((refHour >= maasamSpanHour)) {
-                nextMaasamStr = chaandramanaMaasamList[(maasamIndex + 1) % MAX_RAASIS];
-                maasamStr = nextMaasamStr;
+        // If maasam is the same across 30 days of Chaandramanam then this indicates
+        // that there has been no sankaramanam during this period.
+        // Hence, this can be declared as "Adhika" maasam.
+        // Note: Do this only for Drik lunar calculations only.
+        // TODO - Finetune this!
+        if (panchangamType == PANCHANGAM_TYPE_DRIK_GANITHAM_LUNAR) {
+            double raviAyanamAtChaandramanaMaasamStart =
+                    getRaviAyanamAtChaandramaanamMaasamStart(tithiNum);
+            double raviAyanamAtChaandramanaMaasamEnd =
+                    raviAyanamAtChaandramanaMaasamStart + (MAX_TITHIS * dailyRaviMotion);
+            raviAyanamAtChaandramanaMaasamEnd %= MAX_AYANAM_MINUTES;
+            if ((int) (raviAyanamAtChaandramanaMaasamStart / MAX_RAASI_MINUTES) ==
+                (int) (raviAyanamAtChaandramanaMaasamEnd / MAX_RAASI_MINUTES)) {
+                isAdhikaMaasam = true;
             }
         }
 
-        return maasamStr;
+        return isAdhikaMaasam;
+    }
+
+    /**
+     * Utility function to get Ravi's longitude at the start of the Chaandramaanam maasam.
+     *
+     * @param tithiNum  Tithi Index of the given calendar day
+     *
+     * @return Ravi's longitude (in celestial minutes) at the start of the Chaandramaanam maasam.
+     */
+    private double getRaviAyanamAtChaandramaanamMaasamStart(int tithiNum) {
+        double raviAyanamAtChaandramanaMaasamStart =
+                refRaviAyanamAtDayStart - (tithiNum * dailyRaviMotion);
+        if (raviAyanamAtChaandramanaMaasamStart < 0) {
+            raviAyanamAtChaandramanaMaasamStart += MAX_AYANAM_MINUTES;
+        }
+        return raviAyanamAtChaandramanaMaasamStart;
     }
 
     /**
@@ -1764,9 +2631,7 @@ public class VedicCalendar extends Calendar {
      * @return Exact Maasam as a number, ranging from 0 to 11 (or) -1 in case of error(s).
      */
     public int getChaandramaanamMaasamIndex(String maasam) {
-        String[] cmList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_CHAANDRAMANA_MAASAM);
-        ArrayList<String> cmArrList = new ArrayList<>(Arrays.asList(cmList));
-        return cmArrList.indexOf(maasam);
+        return getLocaleIndex(VEDIC_CALENDAR_TABLE_TYPE_CHAANDRAMANA_MAASAM, maasam);
     }
 
     /**
@@ -1782,23 +2647,12 @@ public class VedicCalendar extends Calendar {
         // Step 2: Calculate Paksham index
         // Step 3: Given the keys {pakshamIndex, locale}, find the exact matching
         //         paksham string (as per the locale) in the paksham mapping table.
-        int pakshamIndex = 0;
         FieldSpan tithi = getTithiIndex(queryType);
         int tithiAtDayStart = tithi.fieldIndex;
         double tithiSpan = tithi.fieldSpan;
         int tithiSpanHour = tithi.fieldSpanHour;
-
-        // From Prathama(next day) after Pournami to Amavaasai is Krishnapaksham
-        // From From Prathama(next day) after Amavaasai to Pournami is Shuklapaksham
-        if (tithiAtDayStart > 14) {
-            pakshamIndex = 1;
-        }
-
-        int secondTithi = (tithiAtDayStart + 1) % MAX_TITHIS;
-        int secondPakshamIndex = 0;
-        if (secondTithi > 14) {
-            secondPakshamIndex = 1;
-        }
+        int pakshamIndex = getPakshamIndexForTithi(tithiAtDayStart);
+        int secondPakshamIndex = getPakshamIndexForTithi((tithiAtDayStart + 1) % MAX_TITHIS);
 
         String[] pakshamList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_PAKSHAM);
         String pakshamStr = pakshamList[pakshamIndex];
@@ -1836,6 +2690,23 @@ public class VedicCalendar extends Calendar {
         return pakshamStr;
     }
 
+    /**
+     * Utility function to get the Paksham Index for the given Tithi.
+     *
+     * @param tithiIndex    Tithi Index
+     *
+     * @return 0 for Shukla Paksham, 1 for Krishna Paksham.
+     */
+    private static int getPakshamIndexForTithi(int tithiIndex) {
+        // From Prathama(next day) after Pournami to Amavaasai is Krishnapaksham
+        // From From Prathama(next day) after Amavaasai to Pournami is Shuklapaksham
+        int pakshamIndex = 0;
+        if (tithiIndex > 14) {
+            pakshamIndex = 1;
+        }
+        return pakshamIndex;
+    }
+
     /**
      * Use this API to get the Paksham Index.
      *
@@ -1845,9 +2716,7 @@ public class VedicCalendar extends Calendar {
      *         -1 in case of failure.
      */
     public int getPakshamIndex(String paksham) {
-        String[] pakshamList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_PAKSHAM);
-        ArrayList<String> pakshamArrList = new ArrayList<>(Arrays.asList(pakshamList));
-        return pakshamArrList.indexOf(paksham);
+        return getLocaleIndex(VEDIC_CALENDAR_TABLE_TYPE_PAKSHAM, paksham);
     }
 
     /**
@@ -1936,12 +2805,27 @@ public class VedicCalendar extends Calendar {
         return tithiStr;
     }
 
+    /**
+     * Utility function to retrieve given day's tithi Index & span (calculated once per calendar
+     * day for each of SwissEph & longitude model).
+     *
+     * @return Exact Tithi as a number, ranging from 0 to 30 along with its span.
+     */
+    private FieldSpan getTithiIndex(int queryType) {
+        DayMemo memo = dayMemo;
+        int calcType = getDayMemoCalcType(queryType);
+        if (memo.tithi[calcType] == null) {
+            memo.tithi[calcType] = calcTithiIndex(queryType);
+        }
+        return memo.tithi[calcType];
+    }
+
     /**
      * Utility function to retrieve given day's tithi Index & span.
      *
      * @return Exact Tithi as a number, ranging from 0 to 30 (or) -1 in case of error(s).
      */
-    private FieldSpan getTithiIndex(int queryType) {
+    private FieldSpan calcTithiIndex(int queryType) {
         double tithiSpan;
         int tithiAtDayStart;
         int tithiSpanHour;
@@ -2004,9 +2888,7 @@ public class VedicCalendar extends Calendar {
             pakshamIndex = 1;
         }
 
-        String[] tithiList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_TITHI);
-        ArrayList<String> tithiArrList = new ArrayList<>(Arrays.asList(tithiList));
-        int tithiIndex = tithiArrList.indexOf(tithiStr);
+        int tithiIndex = getLocaleIndex(VEDIC_CALENDAR_TABLE_TYPE_TITHI, tithiStr);
         if ((tithiIndex != -1) && (tithiIndex != 14) && (tithiIndex != 29)) {
             tithiIndex += (pakshamIndex * (MAX_TITHIS / 2));
             if (tithiIndex != tithiAtDayStart) {
@@ -2087,7 +2969,7 @@ public class VedicCalendar extends Calendar {
         ArrayList<KaalamInfo> kaalamInfoList = getKaalaVibhaagam(MATCH_PANCHANGAM_FULLDAY);
         if (kaalamInfoList != null) {
             KaalamInfo kaalamInfo = kaalamInfoList.get(4);
-            if (isTimeSpanWithinKaalam(tithi.fieldSpan, kaalamInfo)) {
+            if (kaalamInfo.isTimeSpanWithinKaalam(tithi.fieldSpan, true)) {
                 if (queryType == MATCH_PANCHANGAM_FULLDAY) {
                     tithiStr = tithiList[tithiAtDayStart];
                 } else if (queryType == MATCH_SANKALPAM_EXACT) {
@@ -2112,61 +2994,25 @@ public class VedicCalendar extends Calendar {
     }
 
     /**
-     * Utility function to check if tithi span falls within the given Kaalam Range.
-     *
-     * @param fieldSpan     tithi Span (in minutes)
-     * @param kaalamInfo    Kaalam Info for the given Kaalam
+     * Use this API to get the Date (lunar day).
      *
-     * @return  true if tithi span matches kaalam range (or) false otherwise.
+     * @return Exact Date as a number (as per Drik calendar)
      */
-    private boolean isTimeSpanWithinKaalam(double fieldSpan, KaalamInfo kaalamInfo) {
-        double startTime = 0;
-        double endTime = 0;
-        String[] tokens = kaalamInfo.startTime.split(HHMM_DELIMITER);
-        if (tokens.length == FIELD_VALUE_MAX_TOKENS) {
-            startTime = Integer.parseInt(tokens[0]) * MAX_MINS_IN_HOUR;
-            startTime += Integer.parseInt(tokens[1]);
-
-            /*
-             * Brahma Muhurtam is calculated as follows:
-             * StartTime: Sunrise - 2 Muhurtams (96 mins)
-             * Duration: 1 muhurtam (48 mins)
-             *
-             * Hence, there is a gap of 1 muhurtam between Brahma Muhurtam end time &
-             * Pratah kaalam start time. To fill this gap, we are accomodating 1 muhurtam
-             * into pratah kaalam for "Dina Vishesham" calculations purposes ONLY.
-             */
-            if (kaalamInfo.index == 1) {
-                startTime -= BRAHMA_MUHURTHAM_DURATION;
-            }
-        }
-
-        tokens = kaalamInfo.endTime.split(HHMM_DELIMITER);
-        if (tokens.length == FIELD_VALUE_MAX_TOKENS) {
-            endTime = Integer.parseInt(tokens[0]) * MAX_MINS_IN_HOUR;
-            endTime += Integer.parseInt(tokens[1]);
-        }
-
-        if (endTime < startTime) {
-            endTime += MAX_MINS_IN_DAY;
-        }
-
-        if (fieldSpan >= endTime) {
-            return true;
-        } else if ((fieldSpan >= startTime) && (fieldSpan <= endTime)) {
-            double kaalamSpan = endTime - startTime;
-            double fieldSpanWithinKaalam = (fieldSpan - startTime);
-            return fieldSpanWithinKaalam >= (kaalamSpan / 2);
+    public int getDinaAnkam() {
+        DayMemo memo = dayMemo;
+        if (!memo.isDinaAnkamValid) {
+            memo.dinaAnkam = calcDinaAnkam();
+            memo.isDinaAnkamValid = true;
         }
-        return false;
+        return memo.dinaAnkam;
     }
 
     /**
-     * Use this API to get the Date (lunar day).
+     * Utility function to calculate the Date (lunar day).
      *
      * @return Exact Date as a number (as per Drik calendar)
      */
-    public int getDinaAnkam() {
+    private int calcDinaAnkam() {
         // Logic:
         // Step 1: Find the longitude of Ravi(Sun) on the given day at Sunset.
         //         A sample representation of longitude - 343deg 22min 44sec.
@@ -2326,33 +3172,10 @@ public class VedicCalendar extends Calendar {
         // Step 7: Given the keys {nakshatramIndex, locale}, find the exact matching
         //         nakshatram string (as per the locale) in the nakshatram mapping table.
         // Step 8: Align remaining minutes as per the given Calendar day's Sun Rise Time
-        double nakshatramSpan = 0;
-        int nakshatramSpanHour = 0;
-        int nakshatramIndex = 0;
-
-        // For Vakyam
-        if ((panchangamType == PANCHANGAM_TYPE_VAKHYAM_LUNI_SOLAR) ||
-            (panchangamType == PANCHANGAM_TYPE_VAKHYAM_LUNAR)) {
-            // Vakyam Calculations!
-        } else {
-            // 1) Calculate the Nakshatram index(current & next) & mapping string for the given
-            //    calendar day
-            nakshatramIndex = (int) (refChandraAyanamAtDayStart / MAX_NAKSHATHRAM_MINUTES);
-            nakshatramIndex %= MAX_NAKSHATHRAMS;
-
-            boolean calcLocal = ((queryType & MATCH_PANCHANGAM_FULLDAY_CALC_LOCAL) == MATCH_PANCHANGAM_FULLDAY_CALC_LOCAL);
-            // 2) Get 1st Nakshatram Span for the given calendar day
-            nakshatramSpan = getDrikNakshatramSpan(nakshatramIndex, calcLocal);
-
-            // If span is -ve, then choose the next one.
-            if (nakshatramSpan < 0) {
-                refNakshatramSpan = 0;
-                nakshatramIndex += 1;
-                nakshatramIndex %= MAX_NAKSHATHRAMS;
-                nakshatramSpan = getDrikNakshatramSpan(nakshatramIndex, calcLocal);
-            }
-            nakshatramSpanHour = (int) (nakshatramSpan / MAX_MINS_IN_HOUR);
-        }
+        FieldSpan nakshatram = getNakshatramIndex(queryType);
+        int nakshatramIndex = nakshatram.fieldIndex;
+        double nakshatramSpan = nakshatram.fieldSpan;
+        int nakshatramSpanHour = nakshatram.fieldSpanHour;
 
         String[] nakshatramList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_NAKSHATHRAM);
         String[] sankalpanakshatramList =
@@ -2397,15 +3220,66 @@ public class VedicCalendar extends Calendar {
         return nakshatramStr;
     }
 
+    /**
+     * Utility function to retrieve given day's nakshatram Index & span (calculated once per
+     * calendar day for each of SwissEph & longitude model).
+     *
+     * @return Exact Nakshatram as a number, ranging from 0 to 26 along with its span.
+     */
+    private FieldSpan getNakshatramIndex(int queryType) {
+        DayMemo memo = dayMemo;
+        int calcType = getDayMemoCalcType(queryType);
+        if (memo.nakshatram[calcType] == null) {
+            memo.nakshatram[calcType] = calcNakshatramIndex(queryType);
+        }
+        return memo.nakshatram[calcType];
+    }
+
+    /**
+     * Utility function to retrieve given day's nakshatram Index & span.
+     *
+     * @return Exact Nakshatram as a number, ranging from 0 to 26 along with its span.
+     */
+    private FieldSpan calcNakshatramIndex(int queryType) {
+        double nakshatramSpan = 0;
+        int nakshatramSpanHour = 0;
+        int nakshatramIndex = 0;
+
+        // For Vakyam
+        if ((panchangamType == PANCHANGAM_TYPE_VAKHYAM_LUNI_SOLAR) ||
+            (panchangamType == PANCHANGAM_TYPE_VAKHYAM_LUNAR)) {
+            // Vakyam Calculations!
+        } else {
+            // 1) Calculate the Nakshatram index(current & next) & mapping string for the given
+            //    calendar day
+            nakshatramIndex = (int) (refChandraAyanamAtDayStart / MAX_NAKSHATHRAM_MINUTES);
+            nakshatramIndex %= MAX_NAKSHATHRAMS;
+
+            boolean calcLocal = ((queryType & MATCH_PANCHANGAM_FULLDAY_CALC_LOCAL) == MATCH_PANCHANGAM_FULLDAY_CALC_LOCAL);
+            // 2) Get 1st Nakshatram Span for the given calendar day
+            nakshatramSpan = getDrikNakshatramSpan(nakshatramIndex, calcLocal);
+
+            // If span is -ve, then choose the next one.
+            if (nakshatramSpan < 0) {
+                refNakshatramSpan = 0;
+                nakshatramIndex += 1;
+                nakshatramIndex %= MAX_NAKSHATHRAMS;
+                nakshatramSpan = getDrikNakshatramSpan(nakshatramIndex, calcLocal);
+            }
+            nakshatramSpanHour = (int) (nakshatramSpan / MAX_MINS_IN_HOUR);
+        }
+
+        return new FieldSpan(nakshatramIndex, nakshatramSpan, nakshatramSpanHour,
+                (int) nakshatramSpan % MAX_MINS_IN_HOUR);
+    }
+
     /**
      * Use this API to get the Nakshatram Index.
      *
      * @return Exact Nakshatram as a number, ranging from 0 to 27 (or) -1 in case of error(s).
      */
     public int getNakshatramIndex(String nakshatram) {
-        String[] nakshatramList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_NAKSHATHRAM);
-        ArrayList<String> nakshatramArrList = new ArrayList<>(Arrays.asList(nakshatramList));
-        return nakshatramArrList.indexOf(nakshatram);
+        return getLocaleIndex(VEDIC_CALENDAR_TABLE_TYPE_NAKSHATHRAM, nakshatram);
     }
 
     /**
@@ -2558,31 +3432,10 @@ public class VedicCalendar extends Calendar {
         //         raasi string (as per the locale) in the raasi mapping table.
         // Step 8: Align remaining minutes as per the given Calendar day's Sun Rise Time
 
-        int raasiIndex = 0;
-        int raasiSpanHour = 0;
-        double raasiSpan = 0;
-
-        // For Vakyam
-        if ((panchangamType == PANCHANGAM_TYPE_VAKHYAM_LUNI_SOLAR) ||
-            (panchangamType == PANCHANGAM_TYPE_VAKHYAM_LUNAR)) {
-            // Vakyam Calculations!
-        } else {
-            // 1) Calculate the Raasi index(current & next) & mapping string
-            //    for the given calendar day
-            raasiIndex = (int) (refChandraAyanamAtDayStart / MAX_RAASI_MINUTES);
-            raasiIndex %= MAX_RAASIS;
-
-            // 2) Get 1st Raasi span for the given calendar day
-            raasiSpan = getDrikRaasiSpan(raasiIndex, false);
-
-            // If span is -ve, then choose the next one.
-            if (raasiSpan < 0) {
-                raasiIndex += 1;
-                raasiIndex %= MAX_RAASIS;
-                raasiSpan = getDrikNakshatramSpan(raasiIndex, false);
-            }
-            raasiSpanHour = (int) (raasiSpan / MAX_MINS_IN_HOUR);
-        }
+        FieldSpan raasi = getRaasiIndex();
+        int raasiIndex = raasi.fieldIndex;
+        double raasiSpan = raasi.fieldSpan;
+        int raasiSpanHour = raasi.fieldSpanHour;
 
         String[] raasiList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_RAASI);
         String raasiStr = raasiList[(raasiIndex % MAX_RAASIS)];
@@ -2613,17 +3466,67 @@ public class VedicCalendar extends Calendar {
     }
 
     /**
-     * Use this API to get the Yogam (time).
+     * Utility function to retrieve given day's raasi Index & span (calculated once per calendar
+     * day).
      *
-     * @param queryType MATCH_SANKALPAM_EXACT
-     *                      - to get exact Yogam based on actual Sunrise on a given day.
-     *                  MATCH_PANCHANGAM_FULLDAY
-     *                      - to get Yogam(s) for full day based on actual Sunrise.
-     *
-     * @return Exact Yogam as a string (as per Drik calendar)
+     * @return Exact Raasi as a number, ranging from 0 to 11 along with its span.
      */
-    public String getYogam(int queryType) {
-        // Logic:
+    private FieldSpan getRaasiIndex() {
+        DayMemo memo = dayMemo;
+        if (memo.raasi == null) {
+            memo.raasi = calcRaasiIndex();
+        }
+        return memo.raasi;
+    }
+
+    /**
+     * Utility function to retrieve given day's raasi Index & span.
+     *
+     * @return Exact Raasi as a number, ranging from 0 to 11 along with its span.
+     */
+    private FieldSpan calcRaasiIndex() {
+        int raasiIndex = 0;
+        int raasiSpanHour = 0;
+        double raasiSpan = 0;
+
+        // For Vakyam
+        if ((panchangamType == PANCHANGAM_TYPE_VAKHYAM_LUNI_SOLAR) ||
+            (panchangamType == PANCHANGAM_TYPE_VAKHYAM_LUNAR)) {
+            // Vakyam Calculations!
+        } else {
+            // 1) Calculate the Raasi index(current & next) & mapping string
+            //    for the given calendar day
+            raasiIndex = (int) (refChandraAyanamAtDayStart / MAX_RAASI_MINUTES);
+            raasiIndex %= MAX_RAASIS;
+
+            // 2) Get 1st Raasi span for the given calendar day
+            raasiSpan = getDrikRaasiSpan(raasiIndex, false);
+
+            // If span is -ve, then choose the next one.
+            if (raasiSpan < 0) {
+                raasiIndex += 1;
+                raasiIndex %= MAX_RAASIS;
+                raasiSpan = getDrikNakshatramSpan(raasiIndex, false);
+            }
+            raasiSpanHour = (int) (raasiSpan / MAX_MINS_IN_HOUR);
+        }
+
+        return new FieldSpan(raasiIndex, raasiSpan, raasiSpanHour,
+                (int) raasiSpan % MAX_MINS_IN_HOUR);
+    }
+
+    /**
+     * Use this API to get the Yogam (time).
+     *
+     * @param queryType MATCH_SANKALPAM_EXACT
+     *                      - to get exact Yogam based on actual Sunrise on a given day.
+     *                  MATCH_PANCHANGAM_FULLDAY
+     *                      - to get Yogam(s) for full day based on actual Sunrise.
+     *
+     * @return Exact Yogam as a string (as per Drik calendar)
+     */
+    public String getYogam(int queryType) {
+        // Logic:
         // Step 1: Find the longitude of Ravi(Sun) and Chandra(Moon) on the given day
         //        A sample representation of longitude - 343deg 22min 44sec.
         //        Each degree has 60 mins, 1 min has 60 secs
@@ -2649,32 +3552,10 @@ public class VedicCalendar extends Calendar {
         // Step 7: Given the keys {yogamIndex, locale}, find the exact matching
         //         yogam string (as per the locale) in the yogam mapping table.
         // Step 8: Align remaining minutes as per the given Calendar day's Sun Rise Time
-        int yogamIndex = 0;
-        double yogamSpan = 0;
-        int yogamSpanHour = 0;
-        if ((panchangamType == PANCHANGAM_TYPE_VAKHYAM_LUNI_SOLAR) ||
-            (panchangamType == PANCHANGAM_TYPE_VAKHYAM_LUNAR)) {
-            // Vakyam Calculations!
-        } else {
-            double sumAyanam = (int) (refChandraAyanamAtDayStart + refRaviAyanamAtDayStart);
-            sumAyanam %= MAX_AYANAM_MINUTES;
-
-            // 1) Calculate the Yogam index(current & next) & mapping string
-            //    for the given calendar day
-            yogamIndex = (int)(sumAyanam / MAX_NAKSHATHRAM_MINUTES);
-            yogamIndex %= MAX_NAKSHATHRAMS;
-
-            // 2) Get 1st Yogam Span for the given calendar day
-            yogamSpan = getDrikYogamSpan(yogamIndex, false);
-
-            // If span is -ve, then choose the next one.
-            if (yogamSpan < 0) {
-                yogamIndex += 1;
-                yogamIndex %= MAX_NAKSHATHRAMS;
-                yogamSpan = getDrikNakshatramSpan(yogamIndex, false);
-            }
-            yogamSpanHour = (int) (yogamSpan / MAX_MINS_IN_HOUR);
-        }
+        FieldSpan yogam = getYogamIndex();
+        int yogamIndex = yogam.fieldIndex;
+        double yogamSpan = yogam.fieldSpan;
+        int yogamSpanHour = yogam.fieldSpanHour;
 
         String[] yogamList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_YOGAM);
         String yogamStr = yogamList[(yogamIndex % MAX_NAKSHATHRAMS)];
@@ -2705,6 +3586,57 @@ public class VedicCalendar extends Calendar {
 
     }
 
+    /**
+     * Utility function to retrieve given day's yogam Index & span (calculated once per calendar
+     * day).
+     *
+     * @return Exact Yogam as a number, ranging from 0 to 26 along with its span.
+     */
+    private FieldSpan getYogamIndex() {
+        DayMemo memo = dayMemo;
+        if (memo.yogam == null) {
+            memo.yogam = calcYogamIndex();
+        }
+        return memo.yogam;
+    }
+
+    /**
+     * Utility function to retrieve given day's yogam Index & span.
+     *
+     * @return Exact Yogam as a number, ranging from 0 to 26 along with its span.
+     */
+    private FieldSpan calcYogamIndex() {
+        int yogamIndex = 0;
+        double yogamSpan = 0;
+        int yogamSpanHour = 0;
+        if ((panchangamType == PANCHANGAM_TYPE_VAKHYAM_LUNI_SOLAR) ||
+            (panchangamType == PANCHANGAM_TYPE_VAKHYAM_LUNAR)) {
+            // Vakyam Calculations!
+        } else {
+            double sumAyanam = (int) (refChandraAyanamAtDayStart + refRaviAyanamAtDayStart);
+            sumAyanam %= MAX_AYANAM_MINUTES;
+
+            // 1) Calculate the Yogam index(current & next) & mapping string
+            //    for the given calendar day
+            yogamIndex = (int)(sumAyanam / MAX_NAKSHATHRAM_MINUTES);
+            yogamIndex %= MAX_NAKSHATHRAMS;
+
+            // 2) Get 1st Yogam Span for the given calendar day
+            yogamSpan = getDrikYogamSpan(yogamIndex, false);
+
+            // If span is -ve, then choose the next one.
+            if (yogamSpan < 0) {
+                yogamIndex += 1;
+                yogamIndex %= MAX_NAKSHATHRAMS;
+                yogamSpan = getDrikNakshatramSpan(yogamIndex, false);
+            }
+            yogamSpanHour = (int) (yogamSpan / MAX_MINS_IN_HOUR);
+        }
+
+        return new FieldSpan(yogamIndex, yogamSpan, yogamSpanHour,
+                (int) yogamSpan % MAX_MINS_IN_HOUR);
+    }
+
     /**
      * Use this API to get the Karanam (half-tithi).
      *
@@ -2745,6 +3677,59 @@ public class VedicCalendar extends Calendar {
         // Step 10: Given the keys {karanam_index, locale}, find the exact matching
         //          karanam string (as per the locale) in the karanam mapping table for given
         //          karanam and for next karanam as well.
+        FieldSpan karanam = getKaranamIndex();
+        int firstHalfKaranam = karanam.fieldIndex;
+        double karanamSpan = karanam.fieldSpan;
+        int karanamSpanHour = karanam.fieldSpanHour;
+
+        String[] karanamList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_KARANAM);
+        String karanamStr = karanamList[(firstHalfKaranam % MAX_KARANAMS)];
+        String karanamSecHalfStr = karanamList[((firstHalfKaranam + 1) % MAX_KARANAMS)];
+
+        // 3) Formulate karanam string based on the factors below:
+        //    - Panchangam needs full day's karanam details {karanam (HH:MM) > next_karanam}
+        //    - Sankalpam needs the exact karanam at the time of the current query
+        if (queryType == MATCH_PANCHANGAM_FULLDAY) {
+            if (karanamSpan < MAX_MINS_IN_DAY_PLUS_MINS_TILL_SUNRISE) {
+                karanamStr += " (" + formatTimeInTimeFormat(karanamSpan) + ")";
+                karanamStr += ARROW_SYMBOL + karanamSecHalfStr;
+            }
+        } else if (queryType == MATCH_SANKALPAM_EXACT) {
+            // MATCH_SANKALPAM_EXACT - Identify karanam based on exact time of query
+            if ((refHour >= karanamSpanHour)) {
+                karanamStr = karanamSecHalfStr;
+            }
+        } else {
+            // Only options supported are MATCH_PANCHANGAM_FULLDAY (or) MATCH_SANKALPAM_EXACT
+            karanamStr = "";
+        }
+
+        //System.out.println("VedicCalendar", "get_karanam: Karanam => " + karanamStr +
+        //        " Karanam Span = " + karanamSpanHour + " Second Karanam: " + karanamSecHalfStr);
+
+        return karanamStr;
+    }
+
+    /**
+     * Utility function to retrieve given day's karanam Index & span (calculated once per calendar
+     * day).
+     *
+     * @return Exact Karanam as a number, ranging from 0 to 59 along with its span.
+     */
+    private FieldSpan getKaranamIndex() {
+        DayMemo memo = dayMemo;
+        if (memo.karanam == null) {
+            memo.karanam = calcKaranamIndex();
+        }
+        return memo.karanam;
+    }
+
+    /**
+     * Utility function to retrieve given day's karanam Index & span.
+     *
+     * @return Exact Karanam as a number, ranging from 0 to 59 along with its span.
+     */
+    private FieldSpan calcKaranamIndex() {
         int firstHalfKaranam = 0;
         double karanamSpan = 0;
         int karanamSpanHour = 0;
@@ -2775,32 +3760,8 @@ public class VedicCalendar extends Calendar {
             karanamSpanHour = (int) (karanamSpan / MAX_MINS_IN_HOUR);
         }
 
-        String[] karanamList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_KARANAM);
-        String karanamStr = karanamList[(firstHalfKaranam % MAX_KARANAMS)];
-        String karanamSecHalfStr = karanamList[((firstHalfKaranam + 1) % MAX_KARANAMS)];
-
-        // 3) Formulate karanam string based on the factors below:
-        //    - Panchangam needs full day's karanam details {karanam (HH:MM) > next_karanam}
-        //    - Sankalpam needs the exact karanam at the time of the current query
-        if (queryType == MATCH_PANCHANGAM_FULLDAY) {
-            if (karanamSpan < MAX_MINS_IN_DAY_PLUS_MINS_TILL_SUNRISE) {
-                karanamStr += " (" + formatTimeInTimeFormat(karanamSpan) + ")";
-                karanamStr += ARROW_SYMBOL + karanamSecHalfStr;
-            }
-        } else if (queryType == MATCH_SANKALPAM_EXACT) {
-            // MATCH_SANKALPAM_EXACT - Identify karanam based on exact time of query
-            if ((refHour >= karanamSpanHour)) {
-                karanamStr = karanamSecHalfStr;
-            }
-        } else {
-            // Only options supported are MATCH_PANCHANGAM_FULLDAY (or) MATCH_SANKALPAM_EXACT
-            karanamStr = "";
-        }
-
-        //System.out.println("VedicCalendar", "get_karanam: Karanam => " + karanamStr +
-        //        " Karanam Span = " + karanamSpanHour + " Second Karanam: " + karanamSecHalfStr);
-
-        return karanamStr;
+        return new FieldSpan(firstHalfKaranam, karanamSpan, karanamSpanHour,
+                (int) karanamSpan % MAX_MINS_IN_HOUR);
     }
 
     /**
@@ -3142,6 +4103,7 @@ public class VedicCalendar extends Calendar {
             }
 
             String startTimeStr = formatTimeInTimeFormat(horaiStartTime);
+            int startMins = getWholeMins(horaiStartTime);
             boolean isCurHorai = false;
 
             // Check if the current time falls between a horai's span and
@@ -3157,6 +4119,7 @@ public class VedicCalendar extends Calendar {
             }
             horaiStartTime += perHoraiSpan;
             String endTimeStr = formatTimeInTimeFormat(horaiStartTime);
+            int endMins = getWholeMins(horaiStartTime);
 
             int currWeekday = curCalendar.get(Calendar.DAY_OF_WEEK);
             String horaiVal = horaiList[currWeekday - 1];
@@ -3180,7 +4143,8 @@ public class VedicCalendar extends Calendar {
             nextIterHorai += horaiList[currWeekday - 1];
             nextIterHorai += "</font>" + "<br>";
 
-            KaalamInfo horaiInfo = new KaalamInfo(horaiIndex, iterHorai, startTimeStr, endTimeStr, false);
+            KaalamInfo horaiInfo = new KaalamInfo(horaiIndex, iterHorai, startTimeStr, endTimeStr,
+                    startMins, endMins, false);
             horaiIndex += 1;
             // If caller has requested for Exact / Approximate horai then respond with only that
             // Otherwise, provide details in the format: current_horai (span) > next_horai
@@ -3281,18 +4245,23 @@ public class VedicCalendar extends Calendar {
         while (numLagnams < MAX_RAASIS) {
             double lagnamDuration = lagnamDurationTable[udhayaLagnam];
             String startTimeStr = formatTimeInTimeFormat(lagnamStartOfDay);
+            int startMins = getWholeMins(lagnamStartOfDay);
             if (lagnamStartOfDay > MAX_MINS_IN_DAY) {
                 startTimeStr = formatTimeInTimeFormat((lagnamStartOfDay - MAX_MINS_IN_DAY));
+                startMins = getWholeMins(lagnamStartOfDay - MAX_MINS_IN_DAY);
             }
             lagnamStartOfDay += lagnamDuration;
             String endTimeStr = formatTimeInTimeFormat(lagnamStartOfDay);
+            int endMins = getWholeMins(lagnamStartOfDay);
             if (lagnamStartOfDay > MAX_MINS_IN_DAY) {
                 endTimeStr = formatTimeInTimeFormat((lagnamStartOfDay - MAX_MINS_IN_DAY));
+                endMins = getWholeMins(lagnamStartOfDay - MAX_MINS_IN_DAY);
             }
             String lagnamStr = raasiList[(udhayaLagnam) % MAX_RAASIS];
             String nextLagnamStr = raasiList[(udhayaLagnam + 1) % MAX_RAASIS];
             KaalamInfo lagnamInfo =
-                    new KaalamInfo(numLagnams, lagnamStr, startTimeStr, endTimeStr, false);
+                    new KaalamInfo(numLagnams, lagnamStr, startTimeStr, endTimeStr, startMins,
+                            endMins, false);
 
             // Retrieve lagnam that corresponds to current local time
             if ((curTotalMins >= prevLagnamEnd) && (curTotalMins <= lagnamStartOfDay)) {
@@ -3377,7 +4346,9 @@ public class VedicCalendar extends Calendar {
         String[] kaalamList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_KAALA_VIBHAAGAH);
         while (numKaalam < MAX_KAALAMS) {
             String startTimeStr = formatTimeInTimeFormat(kaalamStartOfDay);
+            int startMins = getWholeMins(kaalamStartOfDay);
             String endTimeStr;
+            int endMins;
             if (numKaalam == 0) {
                 kaalamStartOfDay += BRAHMA_MUHURTHAM_DURATION;
             } else if (numKaalam == 6) {
@@ -3392,13 +4363,16 @@ public class VedicCalendar extends Calendar {
 
             if (kaalamStartOfDay > MAX_MINS_IN_DAY) {
                 endTimeStr = formatTimeInTimeFormat((kaalamStartOfDay - MAX_MINS_IN_DAY));
+                endMins = getWholeMins(kaalamStartOfDay - MAX_MINS_IN_DAY);
             } else {
                 endTimeStr = formatTimeInTimeFormat(kaalamStartOfDay);
+                endMins = getWholeMins(kaalamStartOfDay);
             }
             String kaalamStr = kaalamList[(numKaalam) % MAX_KAALAMS];
             String nextKaalamStr = kaalamList[(numKaalam + 1) % MAX_KAALAMS];
             KaalamInfo kaalamInfo =
-                    new KaalamInfo(numKaalam, kaalamStr, startTimeStr, endTimeStr, false);
+                    new KaalamInfo(numKaalam, kaalamStr, startTimeStr, endTimeStr, startMins,
+                            endMins, false);
 
             // Retrieve kaalam that corresponds to current local time
             if ((curTotalMins >= prevKaalamEnd) && (curTotalMins <= kaalamStartOfDay)) {
@@ -3505,16 +4479,73 @@ public class VedicCalendar extends Calendar {
 
     /**
      * Use this API to configure a dina vishesham rules file.
+     * Rules are loaded right away the first time around. Thereafter, rules are reloaded in the
+     * background if the rules file has changed since (see watchDinaVisheshamRules()).
      *
      * @param filePath Full Path that contains the rules & details for all "dina vishesham(s)".
      */
     public void configureDinaVisheshamRules(String filePath) {
-        if (vCDinaVisheshamRuleEngine == null) {
-            try {
-                vCDinaVisheshamRuleEngine =
-                        VedicCalendarDinaVisheshamRuleEngine.getInstance(filePath);
-            } catch (Exception e) {
-                e.printStackTrace();
+        Map<String, String> filePaths = new LinkedHashMap<>();
+        filePaths.put(VedicCalendarDinaVisheshamRuleEngine.DEFAULT_RULE_BOOK_NAME, filePath);
+        configureDinaVisheshamRules(filePaths);
+    }
+
+    /**
+     * Use this API to configure multiple dina vishesham rules files (one per sampradayam, region,
+     * etc) so that "dina vishesham(s)" as per any of them can be got in one go (see
+     * getDinaVisheshams(Collection)).
+     * Rules are loaded & reloaded the same way as for a single rules file.
+     *
+     * @param filePaths Map of names to Full Path of rules files (in the order in which
+     *                  "dina vishesham(s)" are to be given).
+     */
+    public void configureDinaVisheshamRules(Map<String, String> filePaths) {
+        VedicCalendarDinaVisheshamRuleBookRegistry registry =
+                VedicCalendarDinaVisheshamRuleBookRegistry.getInstance(filePaths,
+                        dinaVisheshamList);
+        if (registry == vCDinaVisheshamRuleBookRegistry) {
+            registry.reloadIfChangedInBackground();
+        } else {
+            setDinaVisheshamRuleBookRegistry(registry);
+        }
+    }
+
+    /*
+     * Switch over to the given registry. Rules files of the registry configured last are no
+     * longer polled & the new ones are polled instead (if polling was on).
+     */
+    private static synchronized void setDinaVisheshamRuleBookRegistry(
+            VedicCalendarDinaVisheshamRuleBookRegistry registry) {
+        VedicCalendarDinaVisheshamRuleBookRegistry prevRegistry = vCDinaVisheshamRuleBookRegistry;
+        if (registry == prevRegistry) {
+            return;
+        }
+        if (prevRegistry != null) {
+            long pollIntervalMillis = prevRegistry.getWatchPollIntervalMillis();
+            prevRegistry.stopWatching();
+            if (pollIntervalMillis > 0) {
+                registry.startWatching(pollIntervalMillis);
+            }
+        }
+        vCDinaVisheshamRuleBookRegistry = registry;
+    }
+
+    /**
+     * Use this API to keep polling the configured dina vishesham rules file for changes (in the
+     * background) so that changes to rules are picked up without having to restart the app.
+     * Note: Queries that are in progress continue to use the rules as they were when they
+     *       started.
+     *
+     * @param pollIntervalMillis Interval (in milliseconds) at which rules file is to be polled
+     *                           (0 to stop polling).
+     */
+    public static synchronized void watchDinaVisheshamRules(long pollIntervalMillis) {
+        VedicCalendarDinaVisheshamRuleBookRegistry registry = vCDinaVisheshamRuleBookRegistry;
+        if (registry != null) {
+            if (pollIntervalMillis > 0) {
+                registry.startWatching(pollIntervalMillis);
+            } else {
+                registry.stopWatching();
             }
         }
     }
@@ -3528,17 +4559,9 @@ public class VedicCalendar extends Calendar {
         List<Integer> dinaSpecialCode = new ArrayList<>();
 
         //long startTime = System.nanoTime();
-        if (vCDinaVisheshamRuleEngine != null) {
-            List<String> dvList = vCDinaVisheshamRuleEngine.getDinaVisheshams(this);
-            if (dvList.size() > 0) {
-                for (int index = 0;index < dvList.size();index++) {
-                    String dinaVishesham = dvList.get(index);
-                    Integer dinaVisheshamCode = dinaVisheshamList.get(dinaVishesham);
-                    if (dinaVisheshamCode != null) {
-                        dinaSpecialCode.add(dinaVisheshamCode);
-                    }
-                }
-            }
+        VedicCalendarDinaVisheshamRuleEngine ruleEngine = getDinaVisheshamRuleEngine();
+        if (ruleEngine != null) {
+            addDinaVisheshamCodes(ruleEngine.getDinaVisheshams(this), dinaSpecialCode);
         }
         //long endTime = System.nanoTime();
         //System.out.println("VedicCalendar" + " getDinaVisheshams() Time Taken: " +
@@ -3548,59 +4571,288 @@ public class VedicCalendar extends Calendar {
     }
 
     /**
-     * Use this API to get Dina Drishti for the given calendar day.
+     * Use this API to get a list of Dina Visheshams for the given calendar day as per the given
+     * dina vishesham rules files only (see configureDinaVisheshamRules(Map)).
+     * Panchangam of the calendar day is worked out only once irrespective of # of rules files.
      *
-     * @return A string that represents Dina Drishti for the given calendar day.
+     * @param ruleBookNames Names of rules files (as given to configureDinaVisheshamRules()).
+     *
+     * @return An array of codes that represent a list of "vishesham"(s) for the given calendar day.
      */
-    public String getDinaDrishti() {
-        //long startTime = System.nanoTime();
-        int dinaDrishtiIndex = DINA_DRISHTI_NORMAL_DAY;
-        // Step 1: Get selected day's tithi number
-        //FieldSpan tithiFields = getTithiIndex(MATCH_PANCHANGAM_FULLDAY);
-        //int tithiNum = tithiFields.fieldIndex;
-        int dinaAnkam = getDinaAnkam();
-        FieldSpan maasamFields = getSauramaanamMaasamIndex();
-        int maasamIndex = maasamFields.fieldIndex;
-        if (maasamFields.fieldSpan < sunSetTotalMins) {
-            maasamIndex += 1;
-            maasamIndex %= MAX_RAASIS;
+    public List<Integer> getDinaVisheshams(Collection<String> ruleBookNames) {
+        List<Integer> dinaSpecialCode = new ArrayList<>();
+
+        VedicCalendarDinaVisheshamRuleEngine ruleEngine = getDinaVisheshamRuleEngine();
+        if (ruleEngine != null) {
+            addDinaVisheshamCodes(ruleEngine.getDinaVisheshams(this, ruleBookNames),
+                    dinaSpecialCode);
         }
-        int numDays = kariNaalMap[maasamIndex].length;
-        for (int dayIter = 0;dayIter < numDays;dayIter++) {
-            if (dinaAnkam == kariNaalMap[maasamIndex][dayIter]) {
-                dinaDrishtiIndex = DINA_DRISHTI_KARI_NAAL;
-                break;
+        return dinaSpecialCode;
+    }
+
+    /**
+     * Use this API to get Dina Visheshams for every calendar day in the given year in one go.
+     * This is much cheaper than calling setDate() & getDinaVisheshams() for each day as:
+     * 1) Spans of all fields are worked out from the transition index for the year (see
+     *    buildTransitIndex()) & day start longitudes are reused across days (see computeRange()).
+     * 2) Rules are evaluated straight from the numeric Panchangam of each day without
+     *    formatting (or) parsing any of the fields as Strings.
+     * Note: Once done, VedicCalendar is restored back to the date it was set to before the call.
+     *
+     * @param year  Gregorian calendar year
+     *
+     * @return An array (indexed by day of the year, starting from 0 for January 1st) of arrays
+     *         of codes that represent "vishesham"(s) for each calendar day.
+     *         All arrays are empty if no dina vishesham rules are configured.
+     *
+     * @throws InvalidParameterSpecException if the given year is invalid.
+     */
+    public int[][] getDinaVisheshamsForYear(int year) throws InvalidParameterSpecException {
+        int numDays = getNumDaysInYear(year);
+        int[][] dinaVisheshamCodes = new int[numDays][];
+
+        // Use same rules for the whole year even if rules are reloaded in the meantime
+        VedicCalendarDinaVisheshamRuleEngine ruleEngine = getDinaVisheshamRuleEngine();
+        if (ruleEngine == null) {
+            for (int dayIndex = 0;dayIndex < numDays;dayIndex++) {
+                dinaVisheshamCodes[dayIndex] = new int[0];
             }
+            return dinaVisheshamCodes;
         }
 
-        if (dinaDrishtiIndex != DINA_DRISHTI_KARI_NAAL) {
-            String tithi = getTithi(VedicCalendar.MATCH_PANCHANGAM_FULLDAY);
-            String nakshatram = getNakshatram(VedicCalendar.MATCH_PANCHANGAM_FULLDAY);
-            String ayogam = getAmruthathiYogam(VedicCalendar.MATCH_PANCHANGAM_FULLDAY);
-
-            String[] tithiList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_TITHI);
-            if (tithi.contains(tithiList[0]) || tithi.contains(tithiList[7]) ||
-                tithi.contains(tithiList[8]) || tithi.contains(tithiList[15]) ||
-                tithi.contains(tithiList[22]) || tithi.contains(tithiList[23])) {
-                dinaDrishtiIndex = DINA_DRISHTI_TITHI_ISSUE;
+        //long startTime = System.nanoTime();
+        List<ArrayList<KaalamInfo>> kaalamInfoLists = new ArrayList<>();
+        List<PanchangamDay> panchangamDays = computeYear(year, kaalamInfoLists);
+        List<Integer> dayCodes = new ArrayList<>();
+        for (int dayIndex = 0;dayIndex < numDays;dayIndex++) {
+            dayCodes.clear();
+            addDinaVisheshamCodes(ruleEngine.getDinaVisheshams(panchangamDays.get(dayIndex),
+                    kaalamInfoLists.get(dayIndex)), dayCodes);
+            dinaVisheshamCodes[dayIndex] = new int[dayCodes.size()];
+            for (int index = 0;index < dayCodes.size();index++) {
+                dinaVisheshamCodes[dayIndex][index] = dayCodes.get(index);
             }
+        }
+        //long endTime = System.nanoTime();
+        //System.out.println("VedicCalendar" + " getDinaVisheshamsForYear() Time Taken: " +
+        //        getTimeTaken(startTime, endTime));
 
-            String[] nakshathramList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_NAKSHATHRAM);
-            if (nakshatram.contains(nakshathramList[1]) || nakshatram.contains(nakshathramList[2])) {
-                dinaDrishtiIndex |= DINA_DRISHTI_NAKSHATRAM_ISSUE;
-            }
+        return dinaVisheshamCodes;
+    }
 
-            String[] amruthathiYogamList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_AMRUTATHI_YOGAM);
-            if (ayogam.contains(amruthathiYogamList[2])) {
-                dinaDrishtiIndex |= DINA_DRISHTI_AMRUTHATHIYOGAM_ISSUE;
-            }
+    /**
+     * Use this API to get Dina Visheshams for the given calendar day as a bitmask.
+     * Unlike getDinaVisheshams(), this does not need any list (or) boxing of codes and hence
+     * is well suited for filtering (or) storing Dina Visheshams of many calendar days.
+     *
+     * @return A bitmask with bit N set for each "vishesham" with code N (see
+     *         PANCHANGAM_DINA_VISHESHAM_*) for the given calendar day.
+     *         0 if there are no "vishesham"(s) (or) no dina vishesham rules are configured.
+     */
+    public long getDinaVisheshamsMask() {
+        long dinaVisheshamsMask = 0;
 
-            if ((dinaDrishtiIndex >= DINA_DRISHTI_TITHI_ISSUE) &&
-                (dinaDrishtiIndex < DINA_DRISHTI_TITHI_NAKSHATRAM_AMRUTHATHIYOGAM_ISSUES)) {
-                dinaDrishtiIndex = DINA_DRISHTI_GAVANAMANA_NAAL;
-            } else if (dinaDrishtiIndex == DINA_DRISHTI_TITHI_NAKSHATRAM_AMRUTHATHIYOGAM_ISSUES) {
-                dinaDrishtiIndex = DINA_DRISHTI_GAVANAMANA_NAAL;//DINA_DRISHTI_KARI_NAAL;
-            } else {
+        //long startTime = System.nanoTime();
+        VedicCalendarDinaVisheshamRuleEngine ruleEngine = getDinaVisheshamRuleEngine();
+        if (ruleEngine != null) {
+            dinaVisheshamsMask = ruleEngine.getDinaVisheshamsMask(this);
+        }
+        //long endTime = System.nanoTime();
+        //System.out.println("VedicCalendar" + " getDinaVisheshamsMask() Time Taken: " +
+        //        getTimeTaken(startTime, endTime));
+
+        return dinaVisheshamsMask;
+    }
+
+    /**
+     * Use this API to get Dina Visheshams for the given calendar day as per the given
+     * dina vishesham rules files only as a bitmask (see getDinaVisheshams(Collection)).
+     *
+     * @param ruleBookNames Names of rules files (as given to configureDinaVisheshamRules()).
+     *
+     * @return A bitmask with bit N set for each "vishesham" with code N (see
+     *         PANCHANGAM_DINA_VISHESHAM_*) for the given calendar day.
+     */
+    public long getDinaVisheshamsMask(Collection<String> ruleBookNames) {
+        long dinaVisheshamsMask = 0;
+
+        VedicCalendarDinaVisheshamRuleEngine ruleEngine = getDinaVisheshamRuleEngine();
+        if (ruleEngine != null) {
+            dinaVisheshamsMask = ruleEngine.getDinaVisheshamsMask(this, ruleBookNames);
+        }
+        return dinaVisheshamsMask;
+    }
+
+    /**
+     * Use this API to get Dina Visheshams as a bitmask for every calendar day in the given year
+     * in one go (see getDinaVisheshamsForYear() & getDinaVisheshamsMask()).
+     * Note: Once done, VedicCalendar is restored back to the date it was set to before the call.
+     *
+     * @param year  Gregorian calendar year
+     *
+     * @return An array (indexed by day of the year, starting from 0 for January 1st) of
+     *         bitmasks with bit N set for each "vishesham" with code N for each calendar day.
+     *
+     * @throws InvalidParameterSpecException if the given year is invalid.
+     */
+    public long[] getDinaVisheshamsMaskForYear(int year) throws InvalidParameterSpecException {
+        int numDays = getNumDaysInYear(year);
+        long[] dinaVisheshamsMasks = new long[numDays];
+
+        // Use same rules for the whole year even if rules are reloaded in the meantime
+        VedicCalendarDinaVisheshamRuleEngine ruleEngine = getDinaVisheshamRuleEngine();
+        if (ruleEngine == null) {
+            return dinaVisheshamsMasks;
+        }
+
+        //long startTime = System.nanoTime();
+        List<ArrayList<KaalamInfo>> kaalamInfoLists = new ArrayList<>();
+        List<PanchangamDay> panchangamDays = computeYear(year, kaalamInfoLists);
+        for (int dayIndex = 0;dayIndex < numDays;dayIndex++) {
+            dinaVisheshamsMasks[dayIndex] = ruleEngine.getDinaVisheshamsMask(
+                    panchangamDays.get(dayIndex), kaalamInfoLists.get(dayIndex));
+        }
+        //long endTime = System.nanoTime();
+        //System.out.println("VedicCalendar" + " getDinaVisheshamsMaskForYear() Time Taken: " +
+        //        getTimeTaken(startTime, endTime));
+
+        return dinaVisheshamsMasks;
+    }
+
+    /**
+     * Use this API to check if the given Dina Vishesham is part of the given bitmask.
+     *
+     * @param dinaVisheshamsMask    Bitmask as given by getDinaVisheshamsMask()
+     * @param dinaVisheshamCode     Dina Vishesham code (see PANCHANGAM_DINA_VISHESHAM_*)
+     *
+     * @return true if the given Dina Vishesham is part of the bitmask, false otherwise.
+     */
+    public static boolean isDinaVisheshamSet(long dinaVisheshamsMask, int dinaVisheshamCode) {
+        if ((dinaVisheshamCode < PANCHANGAM_DINA_VISHESHAM_RANGE_START) ||
+            (dinaVisheshamCode >= PANCHANGAM_DINA_VISHESHAM_RANGE_END)) {
+            return false;
+        }
+        return ((dinaVisheshamsMask & (1L << dinaVisheshamCode)) != 0);
+    }
+
+    /**
+     * Use this API to get the list of Dina Vishesham codes that are part of the given bitmask.
+     *
+     * @param dinaVisheshamsMask    Bitmask as given by getDinaVisheshamsMask()
+     *
+     * @return An array of codes (in ascending order) that are part of the bitmask.
+     */
+    public static int[] getDinaVisheshamCodes(long dinaVisheshamsMask) {
+        int[] dinaVisheshamCodes = new int[Long.bitCount(dinaVisheshamsMask)];
+        int numCodes = 0;
+        while (dinaVisheshamsMask != 0) {
+            dinaVisheshamCodes[numCodes++] = Long.numberOfTrailingZeros(dinaVisheshamsMask);
+            dinaVisheshamsMask &= (dinaVisheshamsMask - 1);
+        }
+        return dinaVisheshamCodes;
+    }
+
+    /*
+     * Add codes of the given Dina Vishesham titles (titles without a code are left out).
+     */
+    private void addDinaVisheshamCodes(List<String> dvList, List<Integer> dinaSpecialCode) {
+        for (int index = 0;index < dvList.size();index++) {
+            Integer dinaVisheshamCode = dinaVisheshamList.get(dvList.get(index));
+            if (dinaVisheshamCode != null) {
+                dinaSpecialCode.add(dinaVisheshamCode);
+            }
+        }
+    }
+
+    /*
+     * Get the rule engine (of the configured dina vishesham rules files) published last.
+     */
+    private static VedicCalendarDinaVisheshamRuleEngine getDinaVisheshamRuleEngine() {
+        VedicCalendarDinaVisheshamRuleBookRegistry registry = vCDinaVisheshamRuleBookRegistry;
+        if (registry == null) {
+            return null;
+        }
+        return registry.getRuleEngine();
+    }
+
+    /*
+     * Compute Panchangam & Kaala Vibhaagam for every calendar day of the given year.
+     */
+    private List<PanchangamDay> computeYear(int year, List<ArrayList<KaalamInfo>> kaalamInfoLists)
+            throws InvalidParameterSpecException {
+        Calendar startCalendar = Calendar.getInstance();
+        startCalendar.set(year, Calendar.JANUARY, 1, refHour, refMin, 0);
+        Calendar endCalendar = Calendar.getInstance();
+        endCalendar.set(year, Calendar.DECEMBER, 31, refHour, refMin, 0);
+        if ((panchangamType == PANCHANGAM_TYPE_DRIK_GANITHAM_LUNI_SOLAR) ||
+            (panchangamType == PANCHANGAM_TYPE_DRIK_GANITHAM_LUNAR)) {
+            buildTransitIndex(year);
+        }
+        return computeRange(startCalendar, endCalendar, kaalamInfoLists);
+    }
+
+    private static int getNumDaysInYear(int year) {
+        Calendar endCalendar = Calendar.getInstance();
+        endCalendar.set(year, Calendar.DECEMBER, 31);
+        return endCalendar.get(Calendar.DAY_OF_YEAR);
+    }
+
+    /**
+     * Use this API to get Dina Drishti for the given calendar day.
+     *
+     * @return A string that represents Dina Drishti for the given calendar day.
+     */
+    public String getDinaDrishti() {
+        //long startTime = System.nanoTime();
+        int dinaDrishtiIndex = DINA_DRISHTI_NORMAL_DAY;
+        // Step 1: Get selected day's tithi number
+        //FieldSpan tithiFields = getTithiIndex(MATCH_PANCHANGAM_FULLDAY);
+        //int tithiNum = tithiFields.fieldIndex;
+        int dinaAnkam = getDinaAnkam();
+        FieldSpan maasamFields = getSauramaanamMaasamIndex();
+        int maasamIndex = maasamFields.fieldIndex;
+        if (maasamFields.fieldSpan < sunSetTotalMins) {
+            maasamIndex += 1;
+            maasamIndex %= MAX_RAASIS;
+        }
+        int numDays = kariNaalMap[maasamIndex].length;
+        for (int dayIter = 0;dayIter < numDays;dayIter++) {
+            if (dinaAnkam == kariNaalMap[maasamIndex][dayIter]) {
+                dinaDrishtiIndex = DINA_DRISHTI_KARI_NAAL;
+                break;
+            }
+        }
+
+        if (dinaDrishtiIndex != DINA_DRISHTI_KARI_NAAL) {
+            FieldSpan tithi = getTithiIndex(MATCH_PANCHANGAM_FULLDAY);
+            FieldSpan nakshatram = getNakshatramIndex(MATCH_PANCHANGAM_FULLDAY);
+            String ayogam = getAmruthathiYogam(VedicCalendar.MATCH_PANCHANGAM_FULLDAY);
+
+            // Check both the tithi/nakshatram at sunrise & the next one (if it starts on the
+            // given day) as per MATCH_PANCHANGAM_FULLDAY.
+            if (isDinaDrishtiTithi(tithi.fieldIndex) ||
+                ((tithi.fieldSpan < MAX_MINS_IN_DAY_PLUS_MINS_TILL_SUNRISE) &&
+                 isDinaDrishtiTithi((tithi.fieldIndex + 1) % MAX_TITHIS))) {
+                dinaDrishtiIndex = DINA_DRISHTI_TITHI_ISSUE;
+            }
+
+            if (isDinaDrishtiNakshatram(nakshatram.fieldIndex) ||
+                ((nakshatram.fieldSpan < MAX_MINS_IN_DAY_PLUS_MINS_TILL_SUNRISE) &&
+                 isDinaDrishtiNakshatram((nakshatram.fieldIndex + 1) % MAX_NAKSHATHRAMS))) {
+                dinaDrishtiIndex |= DINA_DRISHTI_NAKSHATRAM_ISSUE;
+            }
+
+            String[] amruthathiYogamList = vedicCalendarLocaleList.get(VEDIC_CALENDAR_TABLE_TYPE_AMRUTATHI_YOGAM);
+            if (ayogam.contains(amruthathiYogamList[2])) {
+                dinaDrishtiIndex |= DINA_DRISHTI_AMRUTHATHIYOGAM_ISSUE;
+            }
+
+            if ((dinaDrishtiIndex >= DINA_DRISHTI_TITHI_ISSUE) &&
+                (dinaDrishtiIndex < DINA_DRISHTI_TITHI_NAKSHATRAM_AMRUTHATHIYOGAM_ISSUES)) {
+                dinaDrishtiIndex = DINA_DRISHTI_GAVANAMANA_NAAL;
+            } else if (dinaDrishtiIndex == DINA_DRISHTI_TITHI_NAKSHATRAM_AMRUTHATHIYOGAM_ISSUES) {
+                dinaDrishtiIndex = DINA_DRISHTI_GAVANAMANA_NAAL;//DINA_DRISHTI_KARI_NAAL;
+            } else {
                 // TODO: How to determine this?
                 //dinaDrishtiIndex = DINA_DRISHTI_SHUBHA_MUHURTA_NAAL;
             }
@@ -3618,6 +4870,29 @@ public class VedicCalendar extends Calendar {
         return dinaDrishtiList[dinaDrishtiIndex];
     }
 
+    /**
+     * Utility function to check if the given tithi is to be avoided as per Dina Drishti.
+     *
+     * @param tithiIndex    Tithi Index
+     *
+     * @return true if tithi is Prathama, Ashtami (or) Navami, false otherwise.
+     */
+    private static boolean isDinaDrishtiTithi(int tithiIndex) {
+        return (tithiIndex == 0) || (tithiIndex == 7) || (tithiIndex == 8) ||
+               (tithiIndex == 15) || (tithiIndex == 22) || (tithiIndex == 23);
+    }
+
+    /**
+     * Utility function to check if the given nakshatram is to be avoided as per Dina Drishti.
+     *
+     * @param nakshatramIndex   Nakshatram Index
+     *
+     * @return true if nakshatram is Bharani (or) Karthikai, false otherwise.
+     */
+    private static boolean isDinaDrishtiNakshatram(int nakshatramIndex) {
+        return (nakshatramIndex == 1) || (nakshatramIndex == 2);
+    }
+
     /**
      * Use this API to get a Dina Shoolam & Parihaaram for the given calendar day.
      *
@@ -3699,7 +4974,7 @@ public class VedicCalendar extends Calendar {
      *
      * @return  Returns a VC List based on default locale lists
      */
-    private static boolean createVCList() {
+    private static synchronized boolean createVCList() {
         if (vcDefaultLocaleList == null) {
             vcDefaultLocaleList = new HashMap<>();
 
@@ -4127,60 +5402,72 @@ public class VedicCalendar extends Calendar {
     }
 
     /**
-     * Utility function to get the sunrise time for the given time in a given Calendar day.
+     * Utility function to get the rise time of the given planet in a given Calendar day.
      *
      * @param planet    Number that represents a planet
      *
      * @return Planet's rise timings in Earth minutes.
      */
     private double calcPlanetRise(int planet) {
+        return calcPlanetRiseSet(planet, SweConst.SE_CALC_RISE);
+    }
+
+    /**
+     * Utility function to get the rise (or) set time of the given planet in a given Calendar
+     * day.
+     *
+     * @param planet        Number that represents a planet
+     * @param riseSetFlag   SE_CALC_RISE / SE_CALC_SET
+     *
+     * @return Planet's rise (or) set timings in Earth minutes (including seconds as a fraction)
+     *         since local midnight.
+     */
+    private double calcPlanetRiseSet(int planet, int riseSetFlag) {
         // Logic:
-        // Using SWEDate Library, get sunrise of the given day with the following inputs:
+        // Using SWEDate Library, get rise (or) set timings of the given day with the following
+        // inputs:
         // { Longitude, Latitude, calendar Date}
-        double planetRiseTotalMins = 0;
+        int flags = riseSetFlag | SweConst.SE_BIT_NO_REFRACTION | SweConst.SE_BIT_DISC_CENTER;
+
+        // Same days are looked up repeatedly (Month view, Widget, Panchangam, etc) for the
+        // same place. Hence, look up the cache before taking the trouble of calculating.
+        RiseSetKey riseSetKey = new RiseSetKey(refDate, refMonth, refYear, vcLatitude,
+                vcLongitude, timeZoneID, planet, flags);
+        Double riseSetTotalMins = riseSetCache.get(riseSetKey);
+        if (riseSetTotalMins != null) {
+            return riseSetTotalMins;
+        }
 
-        // Retrieve Sunrise timings only once as it is performance-intensive to do this repeatedly.
         StringBuilder serr = new StringBuilder();
         double[] geoPos = new double[]{vcLongitude, vcLatitude, 0};
         DblObj ddlObj = new DblObj();
 
-        int flags = SweConst.SE_CALC_RISE | SweConst.SE_BIT_NO_REFRACTION |
-                SweConst.SE_BIT_DISC_CENTER;
-
         double tjd = SweDate.getJulDay(refYear, refMonth, refDate, 0, SweDate.SE_GREG_CAL);
         double dt = geoPos[0] / 360.0;
         tjd = tjd - dt;
 
         //long startTime = System.nanoTime();
-        int retVal = swissEphInst.swe_rise_trans(tjd, planet, null,
-                SweConst.SEFLG_SWIEPH, flags, geoPos, 0, 0, ddlObj, serr);
+        int retVal;
+        synchronized (swissEphInst) {
+            applySwissEphContext();
+            retVal = swissEphInst.swe_rise_trans(tjd, planet, null,
+                    SweConst.SEFLG_SWIEPH, flags, geoPos, 0, 0, ddlObj, serr);
+        }
         //long endTime = System.nanoTime();
-        //System.out.println("VedicCalendar Sunrise: swe_rise_trans()... Time Taken: " + getTimeTaken(startTime, endTime));
+        //System.out.println("VedicCalendar RiseSet: swe_rise_trans()... Time Taken: " + getTimeTaken(startTime, endTime));
         if (retVal == 0) {
-            SweDate sd = new SweDate();
-            sd.setJulDay(ddlObj.val);
-
-            // Calculate given day's sunrise timings (Hour & Mins)
-            String sunRiseTimeStr = getSDTime(sd.getJulDay() + defTimezone / 24.);
-            if (!sunRiseTimeStr.equals("")) {
-                String[] sunRiseTimeArr = sunRiseTimeStr.split(":");
-                if (sunRiseTimeArr.length >= 2) {
-                    int hours = Integer.parseInt(sunRiseTimeArr[0]);
-                    int mins = Integer.parseInt(sunRiseTimeArr[1]);
-                    planetRiseTotalMins = (hours * MAX_MINS_IN_HOUR) + mins;
-                }
-            }
-        } else {
-            if (serr.length() > 0) {
-                System.out.println("VedicCalendar, Warning: " + serr);
-            } else {
-                System.out.println("VedicCalendar" +
-                        String.format("Warning, different flags used (0x%x)", retVal));
-            }
-            planetRiseTotalMins = SUNRISE_TOTAL_MINS;
+            riseSetTotalMins = getSDTimeMins(ddlObj.val);
+            riseSetCache.put(riseSetKey, riseSetTotalMins);
+            return riseSetTotalMins;
         }
 
-        return planetRiseTotalMins;
+        if (serr.length() > 0) {
+            System.out.println("VedicCalendar, Warning: " + serr);
+        } else {
+            System.out.println("VedicCalendar" +
+                    String.format("Warning, different flags used (0x%x)", retVal));
+        }
+        return (riseSetFlag == SweConst.SE_CALC_SET) ? SUNSET_TOTAL_MINS : SUNRISE_TOTAL_MINS;
     }
 
     /**
@@ -4190,13 +5477,9 @@ public class VedicCalendar extends Calendar {
      *                      - to get given day's Sunrise timings.
      */
     private void calcSunrise(int queryType) {
-        // Logic:
-        // Using SWEDate Library, get sunrise of the given day with the following inputs:
-        // { Longitude, Latitude, calendar Date}
-
         // Retrieve Sunrise timings only once as it is performance-intensive to do this repeatedly.
         if (sunRiseTotalMins == 0) {
-            sunRiseTotalMins = calcPlanetRise(SweConst.SE_SUN);
+            sunRiseTotalMins = calcPlanetRiseSet(SweConst.SE_SUN, SweConst.SE_CALC_RISE);
         }
     }
 
@@ -4207,51 +5490,9 @@ public class VedicCalendar extends Calendar {
      *                      - to get given day's Sunset timings.
      */
     private void calcSunset(int queryType) {
-        // Logic:
-        // Using SWEDate Library, get sunrise of the given day with the following inputs:
-        // { Longitude, Latitude, calendar Date}
-
         // Retrieve Sunset timings only once as it is performance-intensive to do this repeatedly.
         if (sunSetTotalMins == 0) {
-            StringBuilder serr = new StringBuilder();
-            double[] geoPos = new double[]{vcLongitude, vcLatitude, 0};
-            DblObj ddlObj = new DblObj();
-
-            int flags = SweConst.SE_CALC_SET | SweConst.SE_BIT_NO_REFRACTION |
-                    SweConst.SE_BIT_DISC_CENTER;
-
-            double tjd = SweDate.getJulDay(refYear, refMonth, refDate, 0, SweDate.SE_GREG_CAL);
-            double dt = geoPos[0] / 360.0;
-            tjd = tjd - dt;
-
-            //long startTime = System.nanoTime();
-            int retVal = swissEphInst.swe_rise_trans(tjd, SweConst.SE_SUN, null,
-                    SweConst.SEFLG_SWIEPH, flags, geoPos, 0, 0, ddlObj, serr);
-            //long endTime = System.nanoTime();
-            //System.out.println("VedicCalendar Sunset: swe_rise_trans()... Time Taken: " + getTimeTaken(startTime, endTime));
-            if (retVal == 0) {
-                SweDate sd = new SweDate();
-                sd.setJulDay(ddlObj.val);
-
-                // Calculate given day's Sunset timings (Hour & Mins)
-                String sunSetTimeStr = getSDTime(sd.getJulDay() + defTimezone / 24.);
-                if (!sunSetTimeStr.equals("")) {
-                    String[] sunSetTimeArr = sunSetTimeStr.split(":");
-                    if (sunSetTimeArr.length >= 2) {
-                        int hours = Integer.parseInt(sunSetTimeArr[0]);
-                        int mins = Integer.parseInt(sunSetTimeArr[1]);
-                        sunSetTotalMins = (hours * MAX_MINS_IN_HOUR) + mins;
-                    }
-                }
-            } else {
-                if (serr.length() > 0) {
-                    System.out.println("VedicCalendar, Warning: " + serr);
-                } else {
-                    System.out.println("VedicCalendar" +
-                            String.format("Warning, different flags used (0x%x)", retVal));
-                }
-                sunSetTotalMins = SUNSET_TOTAL_MINS;
-            }
+            sunSetTotalMins = calcPlanetRiseSet(SweConst.SE_SUN, SweConst.SE_CALC_SET);
         }
     }
 
@@ -4266,12 +5507,15 @@ public class VedicCalendar extends Calendar {
         double[] xp= new double[6];
         int flags = SweConst.SEFLG_SIDEREAL;
         SweDate sd = new SweDate(refYear, refMonth, refDate, 0);
-        swissEphInst.swe_houses(sd.getJulDay(),
-                vcLatitude,
-                vcLongitude,
-                flags,
-                cusps,
-                acsc);
+        synchronized (swissEphInst) {
+            applySwissEphContext();
+            swissEphInst.swe_houses(sd.getJulDay(),
+                    vcLatitude,
+                    vcLongitude,
+                    flags,
+                    cusps,
+                    acsc);
+        }
         int ayanamDeg = (int) (acsc[0]);
         double ayanamMin = (acsc[0]) - ayanamDeg;
         double refLagnamMins = (ayanamDeg * MAX_MINS_IN_HOUR);
@@ -4293,32 +5537,17 @@ public class VedicCalendar extends Calendar {
                 SweConst.SE_SATURN,
                 SweConst.SE_TRUE_NODE };	// Some systems prefer SE_MEAN_NODE
 
-        flags = SweConst.SEFLG_SWIEPH |		// fastest method, requires data files
-                SweConst.SEFLG_SIDEREAL |	// sidereal zodiac
-                SweConst.SEFLG_NONUT |		// will be set automatically for sidereal calculations, if not set here
-                SweConst.SEFLG_SPEED;		// to determine retrograde vs. direct motion
         int sign;
         int house;
         boolean retrograde = false;
-        StringBuilder serr = new StringBuilder();
 
         for(int p = 0; p < planets.length; p++) {
             int planet = planets[p];
-            String planetName = swissEphInst.swe_get_planet_name(planet);
-            int ret = swissEphInst.swe_calc_ut(sd.getJulDay(),
-                    planet,
-                    flags,
-                    xp,
-                    serr);
-
-            if (ret != flags) {
-                if (serr.length() > 0) {
-                    System.err.println("Warning: " + serr);
-                } else {
-                    System.err.println(
-                            String.format("Warning, different flags used (0x%x)", ret));
-                }
+            String planetName;
+            synchronized (swissEphInst) {
+                planetName = swissEphInst.swe_get_planet_name(planet);
             }
+            System.arraycopy(calcPlanetPosition(sd.getJulDay(), planet), 0, xp, 0, xp.length);
 
             sign = (int)(xp[0] / 30) + 1;
             house = (sign + 12 - ascSign) % 12 +1;
@@ -4369,6 +5598,21 @@ public class VedicCalendar extends Calendar {
      * @return Longitude as a double number
      */
     private double calcPlanetLongitude(Calendar refCalendar, int planet, boolean useHour) {
+        return calcPlanetLongitude(refCalendar, planet, useHour, null);
+    }
+
+    /**
+     * Utility function to get the longitude & speed of a given planet on a given Calendar day.
+     *
+     * @param refCalendar   A Calendar date as per Gregorian Calendar
+     * @param planet        planet definition as per SwissEph
+     * @param dailyMotion   Speed (in celestial minutes per day) is returned in dailyMotion[0]
+     *                      (if not null)
+     *
+     * @return Longitude as a double number
+     */
+    private double calcPlanetLongitude(Calendar refCalendar, int planet, boolean useHour,
+                                       double[] dailyMotion) {
         boolean isKethu = false;
         if (planet == KETHU) {
             isKethu = true;
@@ -4391,17 +5635,92 @@ public class VedicCalendar extends Calendar {
         // currently.
         SweDate sd = new SweDate(currYear, currMonth, currDate, currHour);
 
-        // Some required variables:
-        double[] xp = new double[6];
-        StringBuilder serr = new StringBuilder();
+        double[] xp = calcPlanetPosition(sd.getJulDay(), planet);
+        double longitude = xp[0];
+        if (isKethu) {
+            longitude = ((longitude + 180) % 360);
+        }
+        if (dailyMotion != null) {
+            dailyMotion[0] = getTrustedSpeed(planet, sd.getJulDay(), xp) * MAX_MINS_IN_HOUR;
+        }
+        int ayanamDeg = (int) (longitude);
+        double ayanamMin = (longitude) - ayanamDeg;
+        double refAyanamMins = (ayanamDeg * MAX_MINS_IN_HOUR);
+        refAyanamMins += ((ayanamMin) * MAX_MINS_IN_HOUR);
+        //System.out.println("VedicCalendar", "calcPlanetLongitude(): Ayanam Minutes: " +
+        //        refAyanamMins + " Deg: " + toDMS(longitude));
+        return refAyanamMins;
+    }
+
+    /**
+     * Utility function to get the speed of a given planet at a given instant that can be trusted.
+     * Some SwissEph builds are known to give incorrect speeds for sidereal Ravi. Hence, speeds
+     * of Ravi & Chandra are used only if they are within the possible range. Otherwise, the
+     * speed is derived from the longitudes at the given instant & a day later.
+     *
+     * @param planet    Planet definition as per SwissEph
+     * @param jd        Instant as a Julian Day (UT)
+     * @param xp        Position at the given instant as returned by swe_calc_ut()
+     *
+     * @return Speed in degrees per day
+     */
+    private double getTrustedSpeed(int planet, double jd, double[] xp) {
+        double minSpeed;
+        double maxSpeed;
+        if (planet == SweConst.SE_SUN) {
+            minSpeed = MIN_DAILY_RAVI_MOTION / MAX_MINS_IN_HOUR;
+            maxSpeed = MAX_DAILY_RAVI_MOTION / MAX_MINS_IN_HOUR;
+        } else if (planet == SweConst.SE_MOON) {
+            minSpeed = MIN_DAILY_CHANDRA_MOTION / MAX_MINS_IN_HOUR;
+            maxSpeed = MAX_DAILY_CHANDRA_MOTION / MAX_MINS_IN_HOUR;
+        } else {
+            return xp[3];
+        }
+
+        if ((xp[3] >= minSpeed) && (xp[3] <= maxSpeed)) {
+            return xp[3];
+        }
+        double speed = (calcPlanetPosition(jd + 1, planet)[0] - xp[0]) % 360;
+        if (speed < 0) {
+            speed += 360;
+        }
+        return speed;
+    }
 
+    /**
+     * Utility function to get the sidereal position of a given planet at a given instant.
+     *
+     * @param jd        Instant as a Julian Day (UT)
+     * @param planet    planet definition as per SwissEph
+     *
+     * @return Position as given by swe_calc_ut() (longitude, latitude, distance & their speeds).
+     *         Note: This is a copy of what is cached (& shared by all VedicCalendar instances).
+     *               Hence, callers are free to modify it.
+     */
+    private double[] calcPlanetPosition(double jd, int planet) {
         int flags = SweConst.SEFLG_SWIEPH |     // fastest method, requires data files
                     SweConst.SEFLG_SIDEREAL |   // sidereal zodiac
                     SweConst.SEFLG_NONUT |      // will be set automatically for sidereal calculations, if not set here
                     SweConst.SEFLG_SPEED;       // to determine retrograde vs. direct motion
 
+        // Same positions are looked up repeatedly (Widget, Panchangam, Month view, etc).
+        // Hence, look up the cache before taking the trouble of calculating.
+        LongitudeKey longitudeKey = new LongitudeKey(jd, planet, siderealMode, flags);
+        double[] xp = longitudeCache.get(longitudeKey);
+        if (xp != null) {
+            return xp.clone();
+        }
+
+        // Some required variables:
+        xp = new double[6];
+        StringBuilder serr = new StringBuilder();
+
         //long startTime = System.nanoTime();
-        int ret = swissEphInst.swe_calc_ut(sd.getJulDay(), planet, flags, xp, serr);
+        int ret;
+        synchronized (swissEphInst) {
+            applySwissEphContext();
+            ret = swissEphInst.swe_calc_ut(jd, planet, flags, xp, serr);
+        }
         //long endTime = System.nanoTime();
         //System.out.println("VedicCalendar swe_calc_ut()... Time Taken: " + getTimeTaken(startTime, endTime));
         if (ret != flags) {
@@ -4411,25 +5730,17 @@ public class VedicCalendar extends Calendar {
                 System.out.println("VedicCalendar" +
                         String.format("Warning, different flags used (0x%x)", ret));
             }
+        } else {
+            longitudeCache.put(longitudeKey, xp.clone());
         }
-
-        if (isKethu) {
-            xp[0] = ((xp[0] + 180) % 360);
-        }
-        int ayanamDeg = (int) (xp[0]);
-        double ayanamMin = (xp[0]) - ayanamDeg;
-        double refAyanamMins = (ayanamDeg * MAX_MINS_IN_HOUR);
-        refAyanamMins += ((ayanamMin) * MAX_MINS_IN_HOUR);
-        //System.out.println("VedicCalendar", "calcPlanetLongitude(): Ayanam Minutes: " +
-        //        refAyanamMins + " Deg: " + toDMS(xp[0]));
-        return refAyanamMins;
+        return xp;
     }
 
     /**
      * Get Tithi span on a given Calendar day.
      *
      * @param tithiIndex    Tithi Index
-     * @param calcLocal     Flag (false - use SwissEph, true - calculate manually)
+     * @param calcLocal     Flag (false - use SwissEph, true - use longitude model)
      *
      * @return Tithi span in Earth minutes.
      */
@@ -4437,41 +5748,11 @@ public class VedicCalendar extends Calendar {
         double tithiSpan = refTithiSpan;
 
         if (refTithiSpan == 0) {
-            // Calculate manually instead of SwissEph as it might be time/CPU intensive!
-            if (calcLocal) {
-                double chandraRaviDistance = refChandraAyanamAtDayStart - refRaviAyanamAtDayStart;
-                if (chandraRaviDistance < 0) {
-                    chandraRaviDistance += MAX_AYANAM_MINUTES;
-                }
-
-                double divMins = MAX_TITHI_MINUTES;
-                double tithiRef = Math.ceil(chandraRaviDistance / divMins);
-                tithiRef *= divMins;
-                tithiSpan = tithiRef - chandraRaviDistance;
-
-                // 2) Find the Earth Hours during the day based on daily motion of Ravi & Chandra.
-                tithiSpan /= (dailyChandraMotion - dailyRaviMotion);
-                tithiSpan *= MAX_24HOURS;
-                tithiSpan += defTimezone;
-                tithiSpan *= MAX_MINS_IN_HOUR;
-            } else {
-                SweDate sd = new SweDate(refYear, refMonth, refDate, 0);
-                int flags = SweConst.SEFLG_SWIEPH | SweConst.SEFLG_SIDEREAL |
-                        SweConst.SEFLG_TRANSIT_LONGITUDE;
-
-                TransitCalculator tcEnd = new TCPlanetPlanet(swissEphInst, SweConst.SE_MOON, SweConst.SE_SUN,
-                        flags, 0);
-                double tithiDeg = 0;
-                tithiDeg += (tithiIndex * TITHI_DEGREES);
-                tcEnd.setOffset(tithiDeg);
-
-                //long startTime = System.nanoTime();
-                tithiSpan = getSDTimeZone(sd.getJulDay(),
-                        TransitCalculator.getTransitUT(tcEnd, sd.getJulDay(), false));
-                //long endTime = System.nanoTime();
-                //System.out.println("VedicCalendar getDrikTithiSpan()... Time Taken: " +
-                //        getTimeTaken(startTime, endTime));
-            }
+            //long startTime = System.nanoTime();
+            tithiSpan = calcDrikSpan(VedicCalendarTransitIndex.FIELD_TITHI, tithiIndex, calcLocal);
+            //long endTime = System.nanoTime();
+            //System.out.println("VedicCalendar getDrikTithiSpan()... Time Taken: " +
+            //        getTimeTaken(startTime, endTime));
             refTithiSpan = tithiSpan;
         }
 
@@ -4482,151 +5763,44 @@ public class VedicCalendar extends Calendar {
      * Get Karanam span on a given Calendar day.
      *
      * @param karanamIndex  Karanam Index
-     * @param calcLocal     Flag (false - use SwissEph, true - calculate manually)
+     * @param calcLocal     Flag (false - use SwissEph, true - use longitude model)
      *
      * @return Karanam span in Earth minutes.
      */
     private double getDrikKaranamSpan(int karanamIndex, boolean calcLocal) {
-        double karanamSpan = refTithiSpan;
-
-        // Calculate manually instead of SwissEph as it might be time/CPU intensive!
-        if (calcLocal) {
-            double chandraRaviDistance = refChandraAyanamAtDayStart - refRaviAyanamAtDayStart;
-            if (chandraRaviDistance < 0) {
-                chandraRaviDistance += MAX_AYANAM_MINUTES;
-            }
-
-            double divMins = MAX_KARANAM_MINUTES;
-            double karanamRef = Math.ceil(chandraRaviDistance / divMins);
-            karanamRef *= divMins;
-            karanamSpan = karanamRef - chandraRaviDistance;
-
-            // 2) Find the Earth Hours during the day based on daily motion of Ravi & Chandra.
-            karanamSpan /= (dailyChandraMotion - dailyRaviMotion);
-            karanamSpan *= MAX_24HOURS;
-            karanamSpan += defTimezone;
-            karanamSpan *= MAX_MINS_IN_HOUR;
-        } else {
-            SweDate sd = new SweDate(refYear, refMonth, refDate, 0);
-            int flags = SweConst.SEFLG_SWIEPH | SweConst.SEFLG_SIDEREAL |
-                    SweConst.SEFLG_TRANSIT_LONGITUDE;
-
-            TransitCalculator tcEnd = new TCPlanetPlanet(swissEphInst, SweConst.SE_MOON, SweConst.SE_SUN,
-                    flags, 0);
-            double karanamDeg = 0;
-            karanamDeg += (karanamIndex * KARANAM_DEGREES);
-            tcEnd.setOffset(karanamDeg);
-
-            karanamSpan = getSDTimeZone(sd.getJulDay(),
-                    TransitCalculator.getTransitUT(tcEnd, sd.getJulDay(), false));
-        }
-
-        return karanamSpan;
+        return calcDrikSpan(VedicCalendarTransitIndex.FIELD_KARANAM, karanamIndex, calcLocal);
     }
 
     /**
      * Get Raasi span on a given Calendar day.
      *
-     * @param raasiIndex Tithi Index
+     * @param raasiIndex    Raasi Index
+     * @param calcLocal     Flag (false - use SwissEph, true - use longitude model)
      *
-     * @return Raasi in celestial minutes.
+     * @return Raasi span in Earth minutes.
      */
     private double getDrikRaasiSpan(int raasiIndex, boolean calcLocal) {
-        double raasiSpan;
-
-        // Calculate manually instead of SwissEph as it might be time/CPU intensive!
-        if (calcLocal) {
-            double raasiRef = Math.ceil(refChandraAyanamAtDayStart / MAX_RAASI_MINUTES);
-            raasiRef *= MAX_RAASI_MINUTES;
-            raasiSpan = raasiRef - refChandraAyanamAtDayStart;
-
-            // 3) Find the Earth Hours during the day based on daily motion of Ravi & Chandra.
-            raasiSpan /= dailyChandraMotion;
-            raasiSpan *= MAX_24HOURS;
-            raasiSpan += defTimezone;
-            if (raasiSpan < 0) {
-                raasiRef = (refChandraAyanamAtDayStart + dailyChandraMotion);
-                raasiIndex = (int) (raasiRef / MAX_RAASI_MINUTES);
-                raasiIndex %= MAX_RAASIS;
-                raasiRef = Math.ceil((refChandraAyanamAtDayStart + dailyChandraMotion) / MAX_RAASI_MINUTES);
-                raasiRef *= MAX_RAASI_MINUTES;
-                raasiSpan = raasiRef - (refChandraAyanamAtDayStart + dailyChandraMotion);
-                raasiSpan /= dailyChandraMotion;
-                raasiSpan *= MAX_24HOURS;
-                raasiSpan += defTimezone;
-
-                if (raasiSpan < 0) {
-                    raasiSpan += MAX_24HOURS;
-                }
-            }
-            raasiSpan *= MAX_MINS_IN_HOUR;
-        } else {
-            double raasiOffset = ((raasiIndex + 1) % MAX_RAASIS) * (360. / 12);
-
-            SweDate sd = new SweDate(refYear, refMonth, refDate, 0);
-            int flags = SweConst.SEFLG_SWIEPH | SweConst.SEFLG_SIDEREAL |
-                    SweConst.SEFLG_TRANSIT_LONGITUDE;
-            TransitCalculator tcEnd = new TCPlanet(swissEphInst, SweConst.SE_MOON, flags, raasiOffset);
-            raasiSpan = getSDTimeZone(sd.getJulDay(),
-                    TransitCalculator.getTransitUT(tcEnd, sd.getJulDay(), false));
-        }
-
-        return raasiSpan;
-    }
+        return calcDrikSpan(TRANSIT_FIELD_RAASI, ((raasiIndex + 1) % MAX_RAASIS), calcLocal);
+    }
 
     /**
      * Get Nakshatram span as per Drik Panchangam on a given Calendar day.
      *
      * @param nakshatramIndex   Nakshatram Index
+     * @param calcLocal         Flag (false - use SwissEph, true - use longitude model)
      *
-     * @return Nakshatram in celestial minutes.
+     * @return Nakshatram span in Earth minutes.
      */
     private double getDrikNakshatramSpan(int nakshatramIndex, boolean calcLocal) {
         double nakshatramSpan = refNakshatramSpan;
 
         if (nakshatramSpan == 0) {
-            int nakshatramVal = (int) (refChandraAyanamAtDayStart / MAX_NAKSHATHRAM_MINUTES);
-            nakshatramVal %= MAX_NAKSHATHRAMS;
-
-            // Calculate manually instead of SwissEph as it might be time/CPU intensive!
-            if (calcLocal) {
-                double nakshatramRef = Math.ceil(refChandraAyanamAtDayStart / MAX_NAKSHATHRAM_MINUTES);
-                nakshatramRef *= MAX_NAKSHATHRAM_MINUTES;
-                nakshatramSpan = nakshatramRef - refChandraAyanamAtDayStart;
-
-                // 2) Find the Earth Hours during the day based on daily motion of Ravi & Chandra.
-                nakshatramSpan /= dailyChandraMotion;
-                nakshatramSpan *= MAX_24HOURS;
-                nakshatramSpan += defTimezone;
-                nakshatramSpan *= MAX_MINS_IN_HOUR;
-
-                if (nakshatramVal != nakshatramIndex) {
-                    nakshatramRef = Math.ceil(refChandraAyanamAtDayStart / MAX_NAKSHATHRAM_MINUTES);
-                    nakshatramRef *= MAX_NAKSHATHRAM_MINUTES;
-                    nakshatramSpan = nakshatramRef - refChandraAyanamAtDayStart + MAX_NAKSHATHRAM_MINUTES;
-                    nakshatramSpan /= dailyChandraMotion;
-                    nakshatramSpan *= MAX_24HOURS;
-                    nakshatramSpan += defTimezone;
-                    nakshatramSpan *= MAX_MINS_IN_HOUR;
-                }
-            } else {
-
-                /*
-                 * SwissEph Native does not have support for getTransitUT(). Hence, commenting out
-                 * for future reference.
-                 */
-                double natOffset = ((nakshatramIndex + 1) % MAX_NAKSHATHRAMS) * (360. / 27.);
-                SweDate sd = new SweDate(refYear, refMonth, refDate, 0);
-                int flags = SweConst.SEFLG_SWIEPH | SweConst.SEFLG_SIDEREAL |
-                        SweConst.SEFLG_TRANSIT_LONGITUDE;
-                TransitCalculator tcEnd = new TCPlanet(swissEphInst, SweConst.SE_MOON, flags, natOffset);
-                //long startTime = System.nanoTime();
-                nakshatramSpan = getSDTimeZone(sd.getJulDay(),
-                        TransitCalculator.getTransitUT(tcEnd, sd.getJulDay(), false));
-                //long endTime = System.nanoTime();
-                //System.out.println("VedicCalendar getDrikNakshatramSpan()... Time Taken: " +
-                //        getTimeTaken(startTime, endTime));
-            }
+            //long startTime = System.nanoTime();
+            nakshatramSpan = calcDrikSpan(VedicCalendarTransitIndex.FIELD_NAKSHATRAM,
+                    ((nakshatramIndex + 1) % MAX_NAKSHATHRAMS), calcLocal);
+            //long endTime = System.nanoTime();
+            //System.out.println("VedicCalendar getDrikNakshatramSpan()... Time Taken: " +
+            //        getTimeTaken(startTime, endTime));
             refNakshatramSpan = nakshatramSpan;
         }
 
@@ -4636,44 +5810,521 @@ public class VedicCalendar extends Calendar {
     /**
      * Get Yogam span on a given Calendar day.
      *
-     * @param yogamIndex Yogam Index
+     * @param yogamIndex    Yogam Index
+     * @param calcLocal     Flag (false - use SwissEph, true - use longitude model)
+     *
+     * @return Yogam span in Earth minutes.
      */
     private double getDrikYogamSpan(int yogamIndex, boolean calcLocal) {
-        double yogamSpan;
+        //long startTime = System.nanoTime();
+        double yogamSpan = calcDrikSpan(VedicCalendarTransitIndex.FIELD_YOGAM,
+                ((yogamIndex + 1) % MAX_NAKSHATHRAMS), calcLocal);
+        //long endTime = System.nanoTime();
+        //System.out.println("VedicCalendar getYogamSpan()... Time Taken: " + getTimeTaken(startTime, endTime));
+        return yogamSpan;
+    }
 
-        // Calculate manually instead of SwissEph as it might be time/CPU intensive!
+    /**
+     * Utility function to get the span of a given field on a given Calendar day, i.e., time from
+     * the start of the day (local time) till the given field changes to the given index.
+     *
+     * Logic:
+     * - If calcLocal is set, then the transition is solved against the longitude model
+     *   (see getLongitudeModel()) which needs no SwissEph calls once fitted.
+     * - Otherwise, the transition index (if built) is used.
+     * - If neither works out, then the transition is calculated afresh.
+     *
+     * @param field     VedicCalendarTransitIndex.FIELD_TITHI / FIELD_NAKSHATRAM / FIELD_YOGAM /
+     *                  FIELD_KARANAM (or) TRANSIT_FIELD_RAASI
+     * @param toIndex   Field index after the transition
+     * @param calcLocal Flag (false - use SwissEph, true - use longitude model)
+     *
+     * @return Span in Earth minutes.
+     */
+    private double calcDrikSpan(int field, int toIndex, boolean calcLocal) {
+        SweDate sd = new SweDate(refYear, refMonth, refDate, 0);
+        double transitJd;
         if (calcLocal) {
-            double sumAyanam = (int) (refChandraAyanamAtDayStart + refRaviAyanamAtDayStart);
-            sumAyanam %= MAX_AYANAM_MINUTES;
+            transitJd = solveTransit(field, toIndex, sd.getJulDay());
+        } else {
+            transitJd = getIndexedTransit(field, toIndex, sd.getJulDay());
+        }
+        if (transitJd < 0) {
+            transitJd = calcTransit(field, toIndex, sd.getJulDay());
+        }
+        return getSDTimeZone(sd.getJulDay(), transitJd);
+    }
+
+    /**
+     * Utility function to find the exact instant at which the given field changes to the given
+     * index next.
+     *
+     * @param field     VedicCalendarTransitIndex.FIELD_TITHI / FIELD_NAKSHATRAM / FIELD_YOGAM /
+     *                  FIELD_KARANAM / FIELD_SANKRANTI (or) TRANSIT_FIELD_RAASI
+     * @param toIndex   Field index after the transition
+     * @param jd        Instant (as a Julian Day (UT)) after which the transition is needed
+     *
+     * @return Transition as a Julian Day (UT).
+     */
+    private double calcTransit(int field, int toIndex, double jd) {
+        double transitJd = solveTransit(field, toIndex, jd);
+        if (transitJd < 0) {
+            transitJd = searchTransit(field, toIndex, jd);
+        }
+        return transitJd;
+    }
+
+    /**
+     * Utility function to find the exact instant at which the given field changes to the given
+     * index next using Newton's method.
+     *
+     * Logic:
+     * Angle (Ravi's longitude (or) Chandra's longitude (or) distance between them (or) sum of
+     * them) that decides the given field & the rate at which it changes (as given by the
+     * longitude model (or) SwissEph) are used to guess the instant at which the angle reaches
+     * the field's boundary. Each guess is then corrected as per the angle & rate at that guess
+     * till the correction is within TRANSIT_SOLVER_PRECISION. As these angles change smoothly,
+     * 2 to 3 corrections are enough.
+     *
+     * @param field     VedicCalendarTransitIndex.FIELD_TITHI / FIELD_NAKSHATRAM / FIELD_YOGAM /
+     *                  FIELD_KARANAM / FIELD_SANKRANTI (or) TRANSIT_FIELD_RAASI
+     * @param toIndex   Field index after the transition
+     * @param jd        Instant (as a Julian Day (UT)) after which the transition is needed
+     *
+     * @return Transition as a Julian Day (UT) (or) -1 if the transition could not be found.
+     */
+    double solveTransit(int field, int toIndex, double jd) {
+        double targetDegrees;
+        switch (field) {
+            case VedicCalendarTransitIndex.FIELD_TITHI:
+            case VedicCalendarTransitIndex.FIELD_KARANAM:
+                targetDegrees = toIndex * ((field == VedicCalendarTransitIndex.FIELD_TITHI) ?
+                        TITHI_DEGREES : KARANAM_DEGREES);
+                break;
+            case VedicCalendarTransitIndex.FIELD_YOGAM:
+                targetDegrees = toIndex * (360. / 27.);
+                break;
+            case VedicCalendarTransitIndex.FIELD_SANKRANTI:
+            case TRANSIT_FIELD_RAASI:
+                targetDegrees = toIndex * (360. / 12);
+                break;
+            default:
+                targetDegrees = toIndex * (360. / 27.);
+                break;
+        }
+
+        // 1) First guess based on the angle & its rate of change at the given instant.
+        double[] angleInfo = new double[2];
+        if (!calcTransitAngle(field, jd, angleInfo) || (angleInfo[1] <= 0)) {
+            return -1;
+        }
+        double deltaDegrees = (targetDegrees - angleInfo[0]) % 360;
+        if (deltaDegrees <= 0) {
+            deltaDegrees += 360;
+        }
+        double transitJd = jd + (deltaDegrees / angleInfo[1]);
 
-            double yogamRef = Math.ceil(sumAyanam / MAX_NAKSHATHRAM_MINUTES);
-            yogamRef *= MAX_NAKSHATHRAM_MINUTES;
-            yogamSpan = yogamRef - sumAyanam;
+        // 2) Correct the guess till it is close enough to the boundary.
+        for (int iteration = 0; iteration < TRANSIT_SOLVER_MAX_ITERATIONS; iteration++) {
+            if (!calcTransitAngle(field, transitJd, angleInfo) || (angleInfo[1] <= 0)) {
+                return -1;
+            }
+            deltaDegrees = (targetDegrees - angleInfo[0]) % 360;
+            if (deltaDegrees > 180) {
+                deltaDegrees -= 360;
+            } else if (deltaDegrees <= -180) {
+                deltaDegrees += 360;
+            }
+
+            double deltaJd = deltaDegrees / angleInfo[1];
+            transitJd += deltaJd;
+            if (Math.abs(deltaJd) < TRANSIT_SOLVER_PRECISION) {
+                return (transitJd > jd) ? transitJd : -1;
+            }
+        }
 
-            // 3) Find the Earth Hours during the day based on daily motion of Ravi & Chandra.
-            yogamSpan /= (dailyChandraMotion + dailyRaviMotion);
-            yogamSpan *= MAX_24HOURS;
-            yogamSpan += defTimezone;
-            yogamSpan *= MAX_MINS_IN_HOUR;
+        System.out.println("VedicCalendar, Warning: solveTransit() did not converge for field " +
+                field + " at " + jd);
+        return -1;
+    }
+
+    /**
+     * Utility function to get the angle that decides the given field along with the rate at
+     * which it changes.
+     *
+     * @param field     VedicCalendarTransitIndex.FIELD_TITHI / FIELD_NAKSHATRAM / FIELD_YOGAM /
+     *                  FIELD_KARANAM / FIELD_SANKRANTI (or) TRANSIT_FIELD_RAASI
+     * @param jd        Instant as a Julian Day (UT)
+     * @param angleInfo Angle in degrees (0-360) & rate in degrees per day are returned in
+     *                  angleInfo[0] & angleInfo[1] respectively.
+     *
+     * @return true if the angle is found, false otherwise.
+     */
+    private boolean calcTransitAngle(int field, double jd, double[] angleInfo) {
+        boolean needRavi = (field != VedicCalendarTransitIndex.FIELD_NAKSHATRAM) &&
+                (field != TRANSIT_FIELD_RAASI);
+        boolean needChandra = (field != VedicCalendarTransitIndex.FIELD_SANKRANTI);
+        double raviLongitude = 0;
+        double raviRate = 0;
+        double chandraLongitude = 0;
+        double chandraRate = 0;
+
+        VedicCalendarLongitudeModel yearModel = getLongitudeModel(jd);
+        if (yearModel != null) {
+            if (needRavi) {
+                raviLongitude = yearModel.getLongitude(VedicCalendarLongitudeModel.BODY_RAVI, jd);
+                raviRate = yearModel.getRate(VedicCalendarLongitudeModel.BODY_RAVI, jd);
+            }
+            if (needChandra) {
+                chandraLongitude =
+                        yearModel.getLongitude(VedicCalendarLongitudeModel.BODY_CHANDRA, jd);
+                chandraRate = yearModel.getRate(VedicCalendarLongitudeModel.BODY_CHANDRA, jd);
+            }
         } else {
-            SweDate sd = new SweDate(refYear, refMonth, refDate, 0);
-            int flags = SweConst.SEFLG_SWIEPH | SweConst.SEFLG_SIDEREAL | SweConst.SEFLG_YOGA_TRANSIT |
-                    SweConst.SEFLG_TRANSIT_LONGITUDE;
+            double[] planetInfo = new double[6];
+            if (needRavi) {
+                if (!calcSiderealLongitude(SweConst.SE_SUN, jd, planetInfo)) {
+                    return false;
+                }
+                raviLongitude = planetInfo[0];
+                raviRate = getTrustedSpeed(SweConst.SE_SUN, jd, planetInfo);
+            }
+            if (needChandra) {
+                if (!calcSiderealLongitude(SweConst.SE_MOON, jd, planetInfo)) {
+                    return false;
+                }
+                chandraLongitude = planetInfo[0];
+                chandraRate = getTrustedSpeed(SweConst.SE_MOON, jd, planetInfo);
+            }
+        }
 
-            //long startTime = System.nanoTime();
-            TransitCalculator tcEnd = new TCPlanetPlanet(swissEphInst, SweConst.SE_MOON, SweConst.SE_SUN,
-                    flags, 0);
-            //long endTime = System.nanoTime();
-            //System.out.println("VedicCalendar getYogamSpan()... Time Taken: " + getTimeTaken(startTime, endTime));
-            double yogamDeg = 0;
-            yogamDeg += ((yogamIndex + 1) * (360. / 27.)); // 12 deg is one tithi (or) 6 deg for karanam
-            tcEnd.setOffset(yogamDeg);
+        switch (field) {
+            case VedicCalendarTransitIndex.FIELD_TITHI:
+            case VedicCalendarTransitIndex.FIELD_KARANAM:
+                angleInfo[0] = chandraLongitude - raviLongitude;
+                angleInfo[1] = chandraRate - raviRate;
+                break;
+            case VedicCalendarTransitIndex.FIELD_YOGAM:
+                angleInfo[0] = chandraLongitude + raviLongitude;
+                angleInfo[1] = chandraRate + raviRate;
+                break;
+            case VedicCalendarTransitIndex.FIELD_SANKRANTI:
+                angleInfo[0] = raviLongitude;
+                angleInfo[1] = raviRate;
+                break;
+            default:
+                angleInfo[0] = chandraLongitude;
+                angleInfo[1] = chandraRate;
+                break;
+        }
+        angleInfo[0] %= 360;
+        if (angleInfo[0] < 0) {
+            angleInfo[0] += 360;
+        }
+        return true;
+    }
+
+    /**
+     * Utility function to get the sidereal longitude of a given planet at a given instant
+     * (using SwissEph).
+     *
+     * @param planet        Planet definition as per SwissEph
+     * @param jd            Instant as a Julian Day (UT)
+     * @param planetInfo    Longitude (in degrees) & rate (in degrees per day) are returned in
+     *                      planetInfo[0] & planetInfo[3] respectively (as per swe_calc_ut()).
+     *
+     * @return true if the longitude is found, false otherwise.
+     */
+    boolean calcSiderealLongitude(int planet, double jd, double[] planetInfo) {
+        int flags = SweConst.SEFLG_SWIEPH | SweConst.SEFLG_SIDEREAL | SweConst.SEFLG_NONUT |
+                SweConst.SEFLG_SPEED;
+        StringBuilder serr = new StringBuilder();
+        int ret;
+        synchronized (swissEphInst) {
+            applySwissEphContext();
+            ret = swissEphInst.swe_calc_ut(jd, planet, flags, planetInfo, serr);
+        }
+        if (ret < 0) {
+            System.out.println("VedicCalendar, Warning: " + serr);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Utility function to get the longitude model (for the year of the given instant & this
+     * VedicCalendar's ayanamsa) fitted for the given instant.
+     * Models are shared by all VedicCalendar instances with the same ayanamsa & are fitted only
+     * SEGMENT_DAYS at a time as & when needed.
+     *
+     * @param jd    Instant as a Julian Day (UT)
+     *
+     * @return Longitude model (or) null if the model could not be fitted.
+     */
+    VedicCalendarLongitudeModel getLongitudeModel(double jd) {
+        if ((longitudeModel == null) || !longitudeModel.covers(jd)) {
+            int year = new SweDate(jd).getYear();
+            int longitudeModelKey = getTransitIndexKey(year, siderealMode);
+            synchronized (longitudeModelCache) {
+                longitudeModel = longitudeModelCache.get(longitudeModelKey);
+                if (longitudeModel == null) {
+                    double jdStart = new SweDate(year, 1, 1, 0).getJulDay() -
+                            TRANSIT_INDEX_MARGIN_DAYS;
+                    double jdEnd = new SweDate((year + 1), 1, 1, 0).getJulDay() +
+                            TRANSIT_INDEX_MARGIN_DAYS;
+                    longitudeModel = new VedicCalendarLongitudeModel(year, siderealMode,
+                            jdStart, jdEnd);
+                    longitudeModelCache.put(longitudeModelKey, longitudeModel);
+                }
+            }
+        }
 
-            yogamSpan = getSDTimeZone(sd.getJulDay(),
-                    TransitCalculator.getTransitUT(tcEnd, sd.getJulDay(), false));
+        // Fit the segment (if not done already) using SwissEph samples.
+        // Note: Even if 2 threads end up fitting the same segment, the outcome is the same.
+        if (!longitudeModel.isFitted(jd)) {
+            double[] sampleJds = new double[VedicCalendarLongitudeModel.NUM_COEFFS];
+            double[][] samples = new double[VedicCalendarLongitudeModel.MAX_BODIES]
+                    [VedicCalendarLongitudeModel.NUM_COEFFS];
+            double[] planetInfo = new double[6];
+            longitudeModel.getSampleJds(jd, sampleJds);
+            for (int node = 0; node < VedicCalendarLongitudeModel.NUM_COEFFS; node++) {
+                if (!calcSiderealLongitude(SweConst.SE_SUN, sampleJds[node], planetInfo)) {
+                    return null;
+                }
+                samples[VedicCalendarLongitudeModel.BODY_RAVI][node] = planetInfo[0];
+                if (!calcSiderealLongitude(SweConst.SE_MOON, sampleJds[node], planetInfo)) {
+                    return null;
+                }
+                samples[VedicCalendarLongitudeModel.BODY_CHANDRA][node] = planetInfo[0];
+            }
+            longitudeModel.fitSegment(jd, samples);
         }
+        return longitudeModel;
+    }
 
-        return yogamSpan;
+    /**
+     * Utility function to find the exact instant at which the given field changes to the given
+     * index next using SwissEph's TransitCalculator.
+     * Note: This is slower than solveTransit() and hence is used only if solveTransit() fails.
+     *
+     * @param field     VedicCalendarTransitIndex.FIELD_TITHI / FIELD_NAKSHATRAM / FIELD_YOGAM /
+     *                  FIELD_KARANAM / FIELD_SANKRANTI (or) TRANSIT_FIELD_RAASI
+     * @param toIndex   Field index after the transition
+     * @param jd        Instant (as a Julian Day (UT)) after which the transition is needed
+     *
+     * @return Transition as a Julian Day (UT).
+     */
+    double searchTransit(int field, int toIndex, double jd) {
+        int flags = SweConst.SEFLG_SWIEPH | SweConst.SEFLG_SIDEREAL |
+                SweConst.SEFLG_TRANSIT_LONGITUDE;
+        double transitJd;
+        synchronized (swissEphInst) {
+            applySwissEphContext();
+            TransitCalculator tcEnd;
+            switch (field) {
+                case VedicCalendarTransitIndex.FIELD_TITHI:
+                    tcEnd = new TCPlanetPlanet(swissEphInst, SweConst.SE_MOON, SweConst.SE_SUN,
+                            flags, 0);
+                    tcEnd.setOffset(toIndex * TITHI_DEGREES);
+                    break;
+                case VedicCalendarTransitIndex.FIELD_KARANAM:
+                    tcEnd = new TCPlanetPlanet(swissEphInst, SweConst.SE_MOON, SweConst.SE_SUN,
+                            flags, 0);
+                    tcEnd.setOffset(toIndex * KARANAM_DEGREES);
+                    break;
+                case VedicCalendarTransitIndex.FIELD_YOGAM:
+                    tcEnd = new TCPlanetPlanet(swissEphInst, SweConst.SE_MOON, SweConst.SE_SUN,
+                            (flags | SweConst.SEFLG_YOGA_TRANSIT), 0);
+                    tcEnd.setOffset(toIndex * (360. / 27.));
+                    break;
+                case VedicCalendarTransitIndex.FIELD_SANKRANTI:
+                    tcEnd = new TCPlanet(swissEphInst, SweConst.SE_SUN, flags,
+                            (toIndex * (360. / 12)));
+                    break;
+                case TRANSIT_FIELD_RAASI:
+                    tcEnd = new TCPlanet(swissEphInst, SweConst.SE_MOON, flags,
+                            (toIndex * (360. / 12)));
+                    break;
+                default:
+                    tcEnd = new TCPlanet(swissEphInst, SweConst.SE_MOON, flags,
+                            (toIndex * (360. / 27.)));
+                    break;
+            }
+            transitJd = TransitCalculator.getTransitUT(tcEnd, jd, false);
+        }
+        return transitJd;
+    }
+
+    /**
+     * Utility function to find all transitions of the given field within the given period.
+     *
+     * @param field         VedicCalendarTransitIndex.FIELD_TITHI / FIELD_NAKSHATRAM /
+     *                      FIELD_YOGAM / FIELD_KARANAM / FIELD_SANKRANTI
+     * @param fieldIndex    Field index at the start of the given period
+     * @param jdStart       Start of the period as a Julian Day (UT)
+     * @param jdEnd         End of the period as a Julian Day (UT)
+     *
+     * @return Sorted list of transitions as Julian Days (UT) including the first one after jdEnd.
+     */
+    private double[] calcTransits(int field, int fieldIndex, double jdStart, double jdEnd) {
+        int maxFieldValues;
+        switch (field) {
+            case VedicCalendarTransitIndex.FIELD_KARANAM:
+                maxFieldValues = MAX_KARANAMS;
+                break;
+            case VedicCalendarTransitIndex.FIELD_SANKRANTI:
+                maxFieldValues = MAX_RAASIS;
+                break;
+            case VedicCalendarTransitIndex.FIELD_TITHI:
+                maxFieldValues = MAX_TITHIS;
+                break;
+            default:
+                maxFieldValues = MAX_NAKSHATHRAMS;
+                break;
+        }
+
+        double[] transits = new double[MAX_TRANSITS_PER_YEAR];
+        int numTransits = 0;
+        double jd = jdStart;
+        while ((jd <= jdEnd) && (numTransits < MAX_TRANSITS_PER_YEAR)) {
+            fieldIndex = (fieldIndex + 1) % maxFieldValues;
+            jd = calcTransit(field, fieldIndex, jd);
+            transits[numTransits++] = jd;
+        }
+        return Arrays.copyOf(transits, numTransits);
+    }
+
+    /**
+     * Utility function to find the instant at which the given field changes to the given index
+     * next using the transition index (if already built for the given calendar year).
+     *
+     * @param field     VedicCalendarTransitIndex.FIELD_TITHI / FIELD_NAKSHATRAM / FIELD_YOGAM /
+     *                  FIELD_KARANAM / FIELD_SANKRANTI
+     * @param toIndex   Field index after the transition
+     * @param jd        Instant (as a Julian Day (UT)) after which the transition is needed
+     *
+     * @return Transition as a Julian Day (UT) (or) -1 if the transition index is not available.
+     */
+    private double getIndexedTransit(int field, int toIndex, double jd) {
+        if (field >= VedicCalendarTransitIndex.MAX_FIELDS) {
+            return -1;
+        }
+
+        if ((transitIndex == null) || (transitIndex.getYear() != refYear)) {
+            transitIndex = getCachedTransitIndex(refYear, siderealMode);
+        }
+
+        if (transitIndex != null) {
+            return transitIndex.getNextTransition(field, toIndex, jd);
+        }
+        return -1;
+    }
+
+    /**
+     * Utility function to retrieve transition index (if already built) for the given year &
+     * sidereal mode.
+     * Note: Local path is looked up at most once every TRANSIT_INDEX_MISS_EXPIRY_MILLIS per
+     *       year & sidereal mode. Index is read from the local path without holding the cache
+     *       lock so that lookups of other years are not held up in the meantime.
+     *
+     * @param year          Gregorian calendar year
+     * @param siderealMode  Sidereal mode as per SwissEph
+     *
+     * @return Transition index if available, null otherwise.
+     */
+    private static VedicCalendarTransitIndex getCachedTransitIndex(int year, int siderealMode) {
+        long curTimeMillis = System.currentTimeMillis();
+        TransitIndexEntry transitIndexEntry =
+                transitIndexCache.get(getTransitIndexKey(year, siderealMode));
+        if (transitIndexEntry != null) {
+            if ((transitIndexEntry.transitIndex != null) ||
+                ((curTimeMillis - transitIndexEntry.lookupTimeMillis) <
+                        TRANSIT_INDEX_MISS_EXPIRY_MILLIS)) {
+                return transitIndexEntry.transitIndex;
+            }
+        }
+
+        VedicCalendarTransitIndex yearIndex = null;
+        File transitIndexFile = getTransitIndexFile(year, siderealMode);
+        if (transitIndexFile != null) {
+            yearIndex = VedicCalendarTransitIndex.readFrom(transitIndexFile, year, siderealMode);
+        }
+        if (yearIndex == null) {
+            synchronized (transitIndexCache) {
+                transitIndexEntry = transitIndexCache.get(getTransitIndexKey(year, siderealMode));
+                if ((transitIndexEntry == null) || (transitIndexEntry.transitIndex == null)) {
+                    transitIndexCache.put(getTransitIndexKey(year, siderealMode),
+                            new TransitIndexEntry(null, curTimeMillis));
+                    return null;
+                }
+                return transitIndexEntry.transitIndex;
+            }
+        }
+        return putTransitIndex(year, siderealMode, yearIndex);
+    }
+
+    /**
+     * Utility function to add the given transition index to the cache unless an index for the
+     * same year & sidereal mode has been added (by another thread) in the meantime.
+     *
+     * @param year          Gregorian calendar year
+     * @param siderealMode  Sidereal mode as per SwissEph
+     * @param yearIndex     Transition index to add
+     *
+     * @return Transition index in the cache (either yearIndex (or) the one added earlier).
+     */
+    private static VedicCalendarTransitIndex putTransitIndex(int year, int siderealMode,
+                                                             VedicCalendarTransitIndex yearIndex) {
+        int transitIndexKey = getTransitIndexKey(year, siderealMode);
+        synchronized (transitIndexCache) {
+            TransitIndexEntry transitIndexEntry = transitIndexCache.get(transitIndexKey);
+            if ((transitIndexEntry != null) && (transitIndexEntry.transitIndex != null)) {
+                return transitIndexEntry.transitIndex;
+            }
+            transitIndexCache.put(transitIndexKey,
+                    new TransitIndexEntry(yearIndex, System.currentTimeMillis()));
+            return yearIndex;
+        }
+    }
+
+    /**
+     * Utility function to get the file in which transition index for the given year & sidereal
+     * mode is persisted.
+     *
+     * @param year          Gregorian calendar year
+     * @param siderealMode  Sidereal mode as per SwissEph
+     *
+     * @return File in the local path (or) null if local path is not known yet.
+     */
+    private static File getTransitIndexFile(int year, int siderealMode) {
+        if (swissEphLocalPath == null) {
+            return null;
+        }
+        return new File(swissEphLocalPath, TRANSIT_INDEX_FILE_PREFIX + year + "_" +
+                siderealMode + TRANSIT_INDEX_FILE_SUFFIX);
+    }
+
+    private static int getTransitIndexKey(int year, int siderealMode) {
+        return (year * 1000) + siderealMode;
+    }
+
+    /**
+     * Utility function to apply this instance's sidereal mode & location to the shared SwissEph
+     * instance. SwissEph keeps these as global state, hence this needs to be called with
+     * swissEphInst locked and right before every SwissEph call that depends on them.
+     * To avoid needless resets of SwissEph's internal state, these are applied only when they
+     * differ from what was last applied.
+     */
+    private void applySwissEphContext() {
+        if (swissEphSiderealMode != siderealMode) {
+            swissEphInst.swe_set_sid_mode(siderealMode, 0, 0);
+            swissEphSiderealMode = siderealMode;
+        }
+        if ((swissEphTopoLongitude != vcLongitude) || (swissEphTopoLatitude != vcLatitude)) {
+            swissEphInst.swe_set_topo(vcLongitude, vcLatitude, 0);
+            swissEphTopoLongitude = vcLongitude;
+            swissEphTopoLatitude = vcLatitude;
+        }
     }
 
     /**
@@ -4695,6 +6346,21 @@ public class VedicCalendar extends Calendar {
         return String.format("%02d:%02d", hour, min);
     }
 
+    /**
+     * Utility function to convert SweDate time to minutes since local midnight.
+     *
+     * @param jd Date & time (UT) as a number
+     *
+     * @return Minutes (including seconds as a fraction) since local midnight, rounded off to
+     *         the nearest second (as in getSDTime()).
+     */
+    private double getSDTimeMins(double jd) {
+        // Julian Day starts at noon (UT)
+        double localDay = jd + 0.5 + (defTimezone / MAX_24HOURS);
+        double secs = Math.floor(((localDay - Math.floor(localDay)) * MAX_SECS_IN_DAY) + 0.5);
+        return (secs % MAX_SECS_IN_DAY) / MAX_SECS_IN_MIN;
+    }
+
     /**
      * Utility function to format SweDate time in HH:MM format
      *
@@ -4703,7 +6369,7 @@ public class VedicCalendar extends Calendar {
      *
      * @return String in HH:MM format
      */
-    private static double getSDTimeZone(double jdFrom, double jdTo) {
+    private double getSDTimeZone(double jdFrom, double jdTo) {
         double diff = (jdTo - jdFrom) * MAX_24HOURS;
         diff += defTimezone;
         diff *= MAX_MINS_IN_HOUR;
@@ -4713,6 +6379,135 @@ public class VedicCalendar extends Calendar {
         return diff;
     }
 
+    /**
+     * Use this API to get the number of Sunrise/Sunset lookups that were served from the cache
+     * (shared by all VedicCalendar instances) without calling SwissEph.
+     *
+     * @return Number of cache hits.
+     */
+    public static long getRiseSetCacheHits() {
+        return riseSetCache.getNumHits();
+    }
+
+    /**
+     * Use this API to get the number of Sunrise/Sunset lookups that had to be calculated using
+     * SwissEph.
+     *
+     * @return Number of cache misses.
+     */
+    public static long getRiseSetCacheMisses() {
+        return riseSetCache.getNumMisses();
+    }
+
+    /**
+     * Utility function to empty Sunrise/Sunset cache & reset its counters.
+     */
+    static void clearRiseSetCache() {
+        riseSetCache.clear();
+    }
+
+    /**
+     * Use this API to get the number of planet longitude lookups that were served from the cache
+     * (shared by all VedicCalendar instances) without calling SwissEph.
+     *
+     * @return Number of cache hits.
+     */
+    public static long getLongitudeCacheHits() {
+        return longitudeCache.getNumHits();
+    }
+
+    /**
+     * Use this API to get the number of planet longitude lookups that had to be calculated using
+     * SwissEph.
+     *
+     * @return Number of cache misses.
+     */
+    public static long getLongitudeCacheMisses() {
+        return longitudeCache.getNumMisses();
+    }
+
+    /**
+     * Use this API to get the number of planet longitudes held in the cache.
+     *
+     * @return Number of cache entries (not more than LONGITUDE_CACHE_SIZE).
+     */
+    public static int getLongitudeCacheSize() {
+        return longitudeCache.size();
+    }
+
+    /**
+     * Use this API to get the approximate memory taken by the planet longitude cache.
+     *
+     * @return Memory in bytes.
+     */
+    public static long getLongitudeCacheMemoryUsage() {
+        return (long) longitudeCache.size() * LONGITUDE_CACHE_ENTRY_BYTES;
+    }
+
+    /**
+     * Utility function to empty planet longitude cache & reset its counters.
+     */
+    static void clearLongitudeCache() {
+        longitudeCache.clear();
+    }
+
+    /**
+     * Utility function to map (name to index) each table in the given locale list.
+     * Only the 1st occurrence of a name in a table is mapped (same as indexOf()).
+     *
+     * @param vcLocaleList  List of panchangam fields & values as per the locale of choice.
+     *
+     * @return Maps (that must not be modified) keyed by the table type.
+     */
+    private static HashMap<Integer, Map<String, Integer>> createLocaleIndexList(
+            HashMap<Integer, String[]> vcLocaleList) {
+        HashMap<Integer, Map<String, Integer>> localeIndexList = new HashMap<>();
+        for (Map.Entry<Integer, String[]> localeTable : vcLocaleList.entrySet()) {
+            String[] localeList = localeTable.getValue();
+            HashMap<String, Integer> nameIndexMap = new HashMap<>();
+            for (int index = 0; index < localeList.length; index++) {
+                if (!nameIndexMap.containsKey(localeList[index])) {
+                    nameIndexMap.put(localeList[index], index);
+                }
+            }
+            localeIndexList.put(localeTable.getKey(), Collections.unmodifiableMap(nameIndexMap));
+        }
+        return localeIndexList;
+    }
+
+    /**
+     * Utility function to get the given locale table.
+     *
+     * @param tableType     VEDIC_CALENDAR_TABLE_TYPE_*
+     *
+     * @return Locale table (that must not be modified) (or) null if not found.
+     */
+    String[] getLocaleTable(int tableType) {
+        return vedicCalendarLocaleList.get(tableType);
+    }
+
+    /**
+     * Utility function to get the index of the given name in the given locale table.
+     *
+     * @param tableType     VEDIC_CALENDAR_TABLE_TYPE_*
+     * @param name          Name to lookup
+     *
+     * @return Index of the 1st occurrence of the given name in the given locale table,
+     *         -1 if not found.
+     */
+    int getLocaleIndex(int tableType, String name) {
+        Map<String, Integer> localeIndex = localeIndexList.get(tableType);
+        if ((localeIndex == null) || (name == null)) {
+            return -1;
+        }
+
+        Integer index = localeIndex.get(name);
+        if (index == null) {
+            return -1;
+        }
+        return index;
+    }
+
     /**
      * Utility function to profile time taken in SS:MS:US format
      *
@@ -4752,23 +6547,110 @@ public class VedicCalendar extends Calendar {
      *
      * @return Time as a string in HH:MM or Na.Vi format
      */
-    private String formatTimeInTimeFormat(double time) {
+    String formatTimeInTimeFormat(double time) {
         if (time < 0) {
             time += MAX_MINS_IN_DAY;
         }
 
         if (timeFormatSettings == PANCHANGAM_TIME_FORMAT_HHMM) {
-            int hour = (int) (time / MAX_MINS_IN_HOUR);
-            int min = (int) time % MAX_MINS_IN_HOUR;
-            return String.format("%02d:%02d", hour, min);
+            return getTimeString(hhmmTimeStrings, time, MAX_MINS_IN_HOUR, "%02d:%02d");
         }
 
         time -= sunRiseTotalMins;
         if (time < 0) {
             time += MAX_MINS_IN_DAY;
         }
-        int nazhigai = (int) (time / MAX_MINS_IN_NAZHIGAI);
-        int vinaadi = (int) (time % MAX_MINS_IN_NAZHIGAI);
-        return String.format("%02d.%02d", nazhigai, vinaadi);
+        return getTimeString(nazhigaiTimeStrings, time, MAX_MINS_IN_NAZHIGAI, "%02d.%02d");
+    }
+
+    /**
+     * Use this API to append time in HH:MM format or Nazhigai:Vinaadi (as per the time format
+     * set via setTimeFormat()) to the given StringBuilder without creating any Strings.
+     *
+     * @param timeStr       StringBuilder to which formatted time is to be appended
+     * @param time          Time in minutes since the start(00:00 hours) of the given day
+     *
+     * @return Given StringBuilder (to allow chaining).
+     */
+    public StringBuilder appendTimeInTimeFormat(StringBuilder timeStr, double time) {
+        if (time < 0) {
+            time += MAX_MINS_IN_DAY;
+        }
+
+        char separator = ':';
+        int minsPerUnit = MAX_MINS_IN_HOUR;
+        if (timeFormatSettings != PANCHANGAM_TIME_FORMAT_HHMM) {
+            time -= sunRiseTotalMins;
+            if (time < 0) {
+                time += MAX_MINS_IN_DAY;
+            }
+            separator = '.';
+            minsPerUnit = MAX_MINS_IN_NAZHIGAI;
+        }
+
+        int major = (int) (time / minsPerUnit);
+        int minor = (int) (time % minsPerUnit);
+        appendTwoDigits(timeStr, major);
+        timeStr.append(separator);
+        return appendTwoDigits(timeStr, minor);
+    }
+
+    /**
+     * Utility function to get the given time in whole minutes (as shown in HH:MM format).
+     *
+     * @param time  Time in minutes (-ve implies previous day)
+     *
+     * @return Time in whole minutes since the start(00:00 hours) of the given day.
+     */
+    private static int getWholeMins(double time) {
+        if (time < 0) {
+            time += MAX_MINS_IN_DAY;
+        }
+        return (int) time;
+    }
+
+    /**
+     * Utility function to lookup (or create & add to) the given table of time strings.
+     * Time strings are created only once for each value & then the same instance is returned
+     * every time thereafter.
+     *
+     * @param timeStrings   Table of time strings indexed by (whole) minutes
+     * @param time          Time in minutes
+     * @param minsPerUnit   MAX_MINS_IN_HOUR (HH:MM) / MAX_MINS_IN_NAZHIGAI (Na.Vi)
+     * @param format        Format to use
+     *
+     * @return Time as a string in the given format
+     */
+    private static String getTimeString(String[] timeStrings, double time, int minsPerUnit,
+                                        String format) {
+        int major = (int) (time / minsPerUnit);
+        int minor = (int) (time % minsPerUnit);
+        int index = (major * minsPerUnit) + minor;
+        if ((time < 0) || (index >= timeStrings.length)) {
+            return String.format(format, major, minor);
+        }
+
+        // Strings are immutable. So, even if two threads race here, both get a valid string.
+        String timeStr = timeStrings[index];
+        if (timeStr == null) {
+            timeStr = String.format(format, major, minor).intern();
+            timeStrings[index] = timeStr;
+        }
+        return timeStr;
+    }
+
+    /**
+     * Utility function to append the given number with at least 2 digits (as in "%02d").
+     *
+     * @param timeStr   StringBuilder to append to
+     * @param value     Number to append
+     *
+     * @return Given StringBuilder (to allow chaining).
+     */
+    private static StringBuilder appendTwoDigits(StringBuilder timeStr, int value) {
+        if ((value >= 0) && (value < 10)) {
+            timeStr.append('0');
+        }
+        return timeStr.append(value);
     }
 }
\ No newline at end of file
@@ -0,0 +1,278 @@
+package com.gkmhc.utils;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * VedicCalendar Dina Vishesham Rule Book Registry.
+ * Keeps the rule engine of a set of rule books (one registry per set of named rule book files)
+ * up to date with the rule books & publishes it atomically so that the rule books can be changed
+ * without having to restart the process.
+ *
+ * Rule books are considered changed when size (or) last modified time of any of them changes.
+ * All rule books are reloaded together so that the published rule engine never has a mix of old
+ * & new rules. Changes are picked up either when asked for (see reloadIfChanged() &
+ * reloadIfChangedInBackground()) (or) by polling the rule books periodically (see
+ * startWatching()).
+ * Reloads in the background (of all registries) are run on a single (daemon) thread. Only the
+ * most recently used registries are kept around. Hence, a registry that is no longer in use is
+ * expected to be stopped from being watched (see stopWatching()).
+ * Note: Rule book is expected to be replaced in one go (i.e. written to a temporary file &
+ *       then renamed). Nevertheless, a rule book that changes while it is being loaded is not
+ *       published.
+ * Note: java.nio.file.WatchService is not used as it is not available on all Android versions
+ *       supported.
+ *
+ * Once published, a rule engine is never modified. Hence, readers get a consistent snapshot
+ * of rules (see getRuleEngine()) without ever having to wait for a reload to complete & can
+ * continue to use it even while newer rules are being published. A rule book that fails to
+ * load leaves the rule engine published last as is.
+ *
+ * @author GKM Heritage Creations, 2021
+ *
+ * This whole software project is distributed under GNU GPL:
+ * http://www.gnu.org/licenses/old-licenses/gpl-2.0.html
+ *
+ * Use of this software as a whole or in parts to copy, modify, redistribute shall be in
+ * accordance with terms & conditions in GNU GPL license.
+ */
+public class VedicCalendarDinaVisheshamRuleBookRegistry {
+    // Rule book names & file names (in order) --> Registry
+    private static final int REGISTRY_CACHE_SIZE = 8;
+    private static final VedicCalendarLRUCache<String, VedicCalendarDinaVisheshamRuleBookRegistry>
+            registryCache = new VedicCalendarLRUCache<>(REGISTRY_CACHE_SIZE);
+
+    // Reloads in the background (of all registries) are run on a single (daemon) thread
+    private static final ScheduledExecutorService reloadExecutor =
+            new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread reloadThread = new Thread(runnable,
+                        "VedicCalendarDinaVisheshamRuleBookRegistry");
+                reloadThread.setDaemon(true);
+                return reloadThread;
+            });
+
+    private final Map<String, String> ruleBookFileNames;
+    private final Map<String, Integer> dinaVisheshamCodes;
+    private final AtomicReference<VedicCalendarDinaVisheshamRuleEngine> ruleEngine;
+    private final AtomicBoolean isReloadPending;
+
+    // Size & last modified time of each rule book as of the last (attempted) load.
+    // Guarded by this registry's lock (held only by reloads & never by readers).
+    private final long[] ruleBookLengths;
+    private final long[] ruleBookLastModifieds;
+
+    // Guarded by watchLock
+    private final Object watchLock = new Object();
+    private ScheduledFuture<?> watchFuture = null;
+    private long watchPollIntervalMillis = 0;
+
+    private VedicCalendarDinaVisheshamRuleBookRegistry(Map<String, String> ruleBookFileNames,
+                                                       Map<String, Integer> dinaVisheshamCodes) {
+        this.ruleBookFileNames = Collections.unmodifiableMap(new LinkedHashMap<>(ruleBookFileNames));
+        this.dinaVisheshamCodes = dinaVisheshamCodes;
+        this.ruleBookLengths = new long[ruleBookFileNames.size()];
+        this.ruleBookLastModifieds = new long[ruleBookFileNames.size()];
+        Arrays.fill(ruleBookLengths, -1);
+        Arrays.fill(ruleBookLastModifieds, -1);
+        this.ruleEngine = new AtomicReference<>();
+        this.isReloadPending = new AtomicBoolean(false);
+    }
+
+    /**
+     * Use this API to get the registry of the given rule book.
+     * Rule book is loaded (in the calling thread) if it has not been loaded so far.
+     *
+     * @param ruleBookFileName      Full Path of the rule book.
+     * @param dinaVisheshamCodes    Map of Dina Vishesham titles to codes (see
+     *                              VedicCalendarDinaVisheshamRuleEngine.setDinaVisheshamCodes()).
+     *
+     * @return Registry of the rule book.
+     */
+    public static VedicCalendarDinaVisheshamRuleBookRegistry getInstance(
+            String ruleBookFileName, Map<String, Integer> dinaVisheshamCodes) {
+        Map<String, String> ruleBookFileNames = new LinkedHashMap<>();
+        ruleBookFileNames.put(VedicCalendarDinaVisheshamRuleEngine.DEFAULT_RULE_BOOK_NAME,
+                ruleBookFileName);
+        return getInstance(ruleBookFileNames, dinaVisheshamCodes);
+    }
+
+    /**
+     * Use this API to get the registry of the given set of rule books.
+     * Rule books are loaded (in the calling thread) if they have not been loaded so far.
+     *
+     * @param ruleBookFileNames     Map of rule book names to full path of rule books (see
+     *                              VedicCalendarDinaVisheshamRuleEngine.getInstance(Map)).
+     * @param dinaVisheshamCodes    Map of Dina Vishesham titles to codes (see
+     *                              VedicCalendarDinaVisheshamRuleEngine.setDinaVisheshamCodes()).
+     *
+     * @return Registry of the set of rule books.
+     */
+    public static VedicCalendarDinaVisheshamRuleBookRegistry getInstance(
+            Map<String, String> ruleBookFileNames, Map<String, Integer> dinaVisheshamCodes) {
+        String registryKey = getRegistryKey(ruleBookFileNames);
+        VedicCalendarDinaVisheshamRuleBookRegistry registry;
+        synchronized (registryCache) {
+            registry = registryCache.get(registryKey);
+            if (registry == null) {
+                registry = new VedicCalendarDinaVisheshamRuleBookRegistry(ruleBookFileNames,
+                        dinaVisheshamCodes);
+                registryCache.put(registryKey, registry);
+            }
+        }
+        if (registry.getRuleEngine() == null) {
+            registry.reloadIfChanged();
+        }
+        return registry;
+    }
+
+    /**
+     * Use this API to get the rule books of this registry.
+     *
+     * @return Map of rule book names to full path of rule books (in the order of rule books).
+     */
+    public Map<String, String> getRuleBookFileNames() {
+        return ruleBookFileNames;
+    }
+
+    /**
+     * Use this API to get the rule engine published last.
+     * Note: This never blocks & the rule engine returned is never modified. Hence, it is
+     *       recommended to get the rule engine once & use it for all of the related queries.
+     *
+     * @return Rule engine (or) null if the rule book could never be loaded.
+     */
+    public VedicCalendarDinaVisheshamRuleEngine getRuleEngine() {
+        return ruleEngine.get();
+    }
+
+    /**
+     * Use this API to reload the rule books (in the calling thread) if any of them has changed
+     * since they were last loaded & publish their rule engine.
+     *
+     * @return true if a new rule engine is published, false otherwise.
+     */
+    public synchronized boolean reloadIfChanged() {
+        isReloadPending.set(false);
+        long[] lengths = new long[ruleBookLengths.length];
+        long[] lastModifieds = new long[ruleBookLastModifieds.length];
+        getRuleBookStats(lengths, lastModifieds);
+        if (Arrays.equals(lengths, ruleBookLengths) &&
+            Arrays.equals(lastModifieds, ruleBookLastModifieds)) {
+            return false;
+        }
+
+        try {
+            VedicCalendarDinaVisheshamRuleEngine newRuleEngine =
+                    VedicCalendarDinaVisheshamRuleEngine.getInstance(ruleBookFileNames);
+
+            // Rule books that changed while they were being loaded may have been loaded only in
+            // parts. Hence, leave them to be loaded again next time around!
+            long[] newLengths = new long[lengths.length];
+            long[] newLastModifieds = new long[lastModifieds.length];
+            getRuleBookStats(newLengths, newLastModifieds);
+            if (!Arrays.equals(newLengths, lengths) ||
+                !Arrays.equals(newLastModifieds, lastModifieds)) {
+                return false;
+            }
+            if (dinaVisheshamCodes != null) {
+                newRuleEngine.setDinaVisheshamCodes(dinaVisheshamCodes);
+            }
+            setRuleBookStats(lengths, lastModifieds);
+            ruleEngine.set(newRuleEngine);
+            return true;
+        } catch (Exception e) {
+            // Do not retry rule books that failed to load until they change again!
+            setRuleBookStats(lengths, lastModifieds);
+            System.out.println("VedicCalendarDinaVisheshamRuleBookRegistry, Warning: " +
+                    "Unable to load rule books(" + ruleBookFileNames.values() + "): " + e);
+        }
+        return false;
+    }
+
+    /**
+     * Use this API to reload the rule book (in the background) if it has changed since it was
+     * last loaded & publish its rule engine.
+     * Note: Returns right away. Rule engine published last continues to be given by
+     *       getRuleEngine() till the new one is published.
+     */
+    public void reloadIfChangedInBackground() {
+        if (isReloadPending.compareAndSet(false, true)) {
+            reloadExecutor.execute(this::reloadIfChanged);
+        }
+    }
+
+    /**
+     * Use this API to start polling the rule book for changes (in the background) & to publish
+     * its rule engine when it changes.
+     *
+     * @param pollIntervalMillis    Interval (in milliseconds) at which the rule book is polled.
+     */
+    public void startWatching(long pollIntervalMillis) {
+        synchronized (watchLock) {
+            stopWatching();
+            watchFuture = reloadExecutor.scheduleWithFixedDelay(this::reloadIfChanged,
+                    pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+            watchPollIntervalMillis = pollIntervalMillis;
+        }
+    }
+
+    /**
+     * Use this API to stop polling the rule book for changes.
+     */
+    public void stopWatching() {
+        synchronized (watchLock) {
+            if (watchFuture != null) {
+                watchFuture.cancel(false);
+                watchFuture = null;
+            }
+            watchPollIntervalMillis = 0;
+        }
+    }
+
+    /**
+     * Use this API to get the interval at which the rule books are being polled for changes.
+     *
+     * @return Interval (in milliseconds) (or) 0 if the rule books are not being polled.
+     */
+    public long getWatchPollIntervalMillis() {
+        synchronized (watchLock) {
+            return watchPollIntervalMillis;
+        }
+    }
+
+    private void getRuleBookStats(long[] lengths, long[] lastModifieds) {
+        int ruleBookIndex = 0;
+        for (String ruleBookFileName : ruleBookFileNames.values()) {
+            File ruleBookFile = new File(ruleBookFileName);
+            lengths[ruleBookIndex] = ruleBookFile.length();
+            lastModifieds[ruleBookIndex] = ruleBookFile.lastModified();
+            ruleBookIndex++;
+        }
+    }
+
+    private void setRuleBookStats(long[] lengths, long[] lastModifieds) {
+        System.arraycopy(lengths, 0, ruleBookLengths, 0, lengths.length);
+        System.arraycopy(lastModifieds, 0, ruleBookLastModifieds, 0, lastModifieds.length);
+    }
+
+    /*
+     * Registry is looked up by names & file names of all rule books (in the given order).
+     */
+    private static String getRegistryKey(Map<String, String> ruleBookFileNames) {
+        StringBuilder registryKey = new StringBuilder();
+        for (Map.Entry<String, String> ruleBookEntry : ruleBookFileNames.entrySet()) {
+            registryKey.append(ruleBookEntry.getKey()).append('\0')
+                    .append(ruleBookEntry.getValue()).append('\0');
+        }
+        return registryKey.toString();
+    }
+}
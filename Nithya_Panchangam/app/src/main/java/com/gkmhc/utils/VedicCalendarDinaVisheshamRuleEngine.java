@@ -1,12 +1,26 @@
 package com.gkmhc.utils;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.security.spec.InvalidParameterSpecException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Map;
+import java.util.zip.CRC32;
 
 /*
  * VedicCalendar Dina Vishesham Rule Engine.
@@ -82,6 +96,9 @@ import java.util.Scanner;
  *
  */
 public class VedicCalendarDinaVisheshamRuleEngine {
+    // Name of the rule book when there is only one rule book (see getInstance(String))
+    public static final String DEFAULT_RULE_BOOK_NAME = "default";
+
     String panchangamTitle;
     String panchangamDescription;
     String panchangamDate;
@@ -91,17 +108,14 @@ public class VedicCalendarDinaVisheshamRuleEngine {
     String contributorCopyright;
     String emailContact;
 
-    // List of Dina Visheshams indexed by maasam
-    private final HashMap<Integer, ArrayList<DinaVishesham>> maasamDinaVisheshamsList;
+    // List of Dina Visheshams indexed by maasam (& then by tithi, nakshatram, etc)
+    private final HashMap<Integer, DinaVisheshamIndex> maasamDinaVisheshamsList;
+    private final ArrayList<DinaVishesham> dinaVisheshamsList;
+    private final ArrayList<String> ruleBookNames;
+    private int numDinaVisheshams = 0;
+    private boolean isCompiledRuleBookLoaded = false;
 
     private static final int ALL_MAASAMS = -2;
-    private static final String COMMENT_START_INDICATOR = "#";
-    private static final String FIELD_VALUE_SEPARATOR = "=";
-    private static final String TAG_SEPARATOR = "\\.";
-    private static final String HHMM_DELIMITER = ":";
-    private static final String TIME_SPAN_START_CHAR = "\\(";
-    private static final String TIME_SPAN_END_CHAR = ")";
-    private static final int FIELD_VALUE_MAX_TOKENS = 2;
     private static final int OUTER_TAG_MAX_TOKENS = 2;
     private static final int INNER_TAG_MAX_TOKENS = 3;
     private static final int KAALAM_UNKNOWN = -1;
@@ -109,6 +123,8 @@ public class VedicCalendarDinaVisheshamRuleEngine {
     private static final int FIELD_VALUE_UNKNOWN = -1;
     private static final int KAALAM_MIN_VAL = 0;
     private static final int KAALAM_MAX_VAL = 8;
+    private static final int MAX_KAALAMS = (KAALAM_MAX_VAL + 1);
+    private static final int KAALAM_FULL_DAY = Integer.MAX_VALUE;
     private static final int MAX_DINA_ANKHAMS = 33;
     private static final int SELECTION_CRITERIA_POORVAVIDDHA = 1;
     private static final int SELECTION_CRITERIA_PARAVIDDHA = 2;
@@ -117,11 +133,25 @@ public class VedicCalendarDinaVisheshamRuleEngine {
     private static final int TITHI_INDEX_SHUKLA_ASHTAMI = 7;
     private static final int TITHI_INDEX_SHUKLA_POURNAMI = 14;
 
+    // Compiled rule book (binary form of the rule book that is saved after it is parsed)
+    // Bump up COMPILED_RULE_BOOK_VERSION whenever compiled rule book format changes!
+    private static final String COMPILED_RULE_BOOK_SUFFIX = ".bin";
+    private static final int COMPILED_RULE_BOOK_MAGIC = 0x4E505242; // "NPRB"
+    private static final int COMPILED_RULE_BOOK_VERSION = 3;
+    private static final String COMPILED_RULE_BOOK_TEMP_SUFFIX = ".tmp";
+    private static final long MAX_COMPILED_RULE_BOOK_SIZE = 16 * 1024 * 1024;
+    private static final int RULE_BOOK_READ_BUFFER_SIZE = 8192;
+    private static final int MAX_RULE_BOOK_INFO_FIELDS = 8;
+
+    // Rules of each rule book are tagged with a bit (as per the order of rule books)
+    private static final int MAX_RULE_BOOKS = Long.SIZE;
+    private static final long ALL_RULE_BOOKS = -1L;
+
     // Tags
-    private static final String TAG_PANCHANGAM_INFO = "[panchangam_info]";
-    private static final String TAG_CONTRIBUTOR = "[contributor]";
-    private static final String TAG_DINA_VISESHAM = "[dina_vishesham]";
-    private static final String TAG_CONTACT = "[contact]";
+    private static final String TAG_PANCHANGAM_INFO = "panchangam_info";
+    private static final String TAG_CONTRIBUTOR = "contributor";
+    private static final String TAG_DINA_VISESHAM = "dina_vishesham";
+    private static final String TAG_CONTACT = "contact";
 
     // Panchangam Info - Fields
     private static final String PANCHANGAM_INFO_TITLE = "panchangam_title";
@@ -156,6 +186,23 @@ public class VedicCalendarDinaVisheshamRuleEngine {
     private static final String FIELD_TO_MATCH_DINA_ANKHAM = "dina_ankham";
     private static final String FIELD_TO_MATCH_VAASARAM = "vaasaram";
 
+    // Rule Details - Field IDs (rule entries are compiled to these when the rule book is loaded)
+    private static final int FIELD_ID_UNKNOWN = -1;
+    private static final int FIELD_ID_SAURAMAANAM_MAASAM = 0;
+    private static final int FIELD_ID_CHAANDRAMAANAM_MAASAM = 1;
+    private static final int FIELD_ID_PAKSHAM = 2;
+    private static final int FIELD_ID_TITHI = 3;
+    private static final int FIELD_ID_NAKSHATRAM = 4;
+    private static final int FIELD_ID_DINA_ANKHAM = 5;
+    private static final int FIELD_ID_VAASARAM = 6;
+    private static final int FIELD_ID_TITHI_LAST_OCCURRENCE = 7;
+    private static final int MAX_FIELD_IDS = 8;
+
+    // Field IDs that a Dina Vishesham can be indexed by (in the order of selectivity)
+    private static final int[] INDEXABLE_FIELD_IDS = {FIELD_ID_DINA_ANKHAM, FIELD_ID_TITHI,
+            FIELD_ID_NAKSHATRAM, FIELD_ID_VAASARAM};
+    private static final int RULE_INDEX_UNKNOWN = -1;
+
     private static class RuleEntry {
         private String fieldNameToMatch;
         private int fieldValueToMatch;
@@ -282,6 +329,21 @@ public class VedicCalendarDinaVisheshamRuleEngine {
         private String visheshamDescription;
         private final ArrayList<RuleEntry> ruleEntries;
 
+        // Rule entries compiled as packed vectors of field IDs, kaalams & values to match
+        private int[] ruleFieldIds;
+        private int[] ruleKaalams;
+        private int[] ruleFieldValues;
+
+        // Order in the rule book & the compiled rule entry that this Dina Vishesham is indexed by
+        private int sequenceNum;
+        private int indexRuleIndex = RULE_INDEX_UNKNOWN;
+
+        // Bit of the Dina Vishesham code (0 if this Dina Vishesham has no code)
+        private long dinaVisheshamMask = 0;
+
+        // Bit of the rule book that this Dina Vishesham is from
+        private long ruleBookMask = 0;
+
         DinaVishesham(String visheshamTitle, String visheshamDescription) {
             this.visheshamTitle = visheshamTitle;
             this.visheshamDescription = visheshamDescription;
@@ -299,13 +361,261 @@ public class VedicCalendarDinaVisheshamRuleEngine {
         public void addRuleEntry(RuleEntry ruleEntry) {
             ruleEntries.add(ruleEntry);
         }
+
+        /**
+         * Compile rule entries into packed vectors of field IDs, expected kaalams & expected
+         * field values so that matching a calendar day needs only integer comparisons.
+         * Rule entries with unrecognized field names are left out as they can never fail a match.
+         */
+        public void compileRuleEntries() {
+            int numRules = ruleEntries.size();
+            if (numRules == 0) {
+                return;
+            }
+
+            int[] fieldIds = new int[numRules];
+            int[] kaalams = new int[numRules];
+            int[] fieldValues = new int[numRules];
+            int numCompiledRules = 0;
+            for (int ruleIndex = 0;ruleIndex < numRules;ruleIndex++) {
+                RuleEntry ruleEntry = ruleEntries.get(ruleIndex);
+                int fieldId = getFieldId(ruleEntry.getFieldNameToMatch());
+                if (fieldId == FIELD_ID_UNKNOWN) {
+                    continue;
+                }
+
+                int fieldValue = ruleEntry.getFieldValueToMatch();
+
+                // For Varalakshmi Vratham, tithi needs to be last friday before
+                // pournami (8 < tithi < 15)
+                if ((fieldId == FIELD_ID_TITHI) &&
+                    (ruleEntry.getMatchType() == TITHI_MATCH_TYPE_LAST_OCCURRENCE)) {
+                    fieldId = FIELD_ID_TITHI_LAST_OCCURRENCE;
+                    fieldValue = TITHI_MATCH_TYPE_LAST_OCCURRENCE;
+                }
+                fieldIds[numCompiledRules] = fieldId;
+                kaalams[numCompiledRules] = getExpectedKaalam(ruleEntry.getKaalaSambhavaha());
+                fieldValues[numCompiledRules] = fieldValue;
+                numCompiledRules += 1;
+            }
+            ruleFieldIds = Arrays.copyOf(fieldIds, numCompiledRules);
+            ruleKaalams = Arrays.copyOf(kaalams, numCompiledRules);
+            ruleFieldValues = Arrays.copyOf(fieldValues, numCompiledRules);
+
+            // Pick the most selective field (if any) to index this Dina Vishesham by
+            for (int fieldId : INDEXABLE_FIELD_IDS) {
+                for (int ruleIndex = 0;ruleIndex < numCompiledRules;ruleIndex++) {
+                    if (ruleFieldIds[ruleIndex] == fieldId) {
+                        indexRuleIndex = ruleIndex;
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Match compiled rule entries against the given calendar day.
+         *
+         * @param dayFieldValues Field values of the calendar day.
+         *
+         * @return true if all the rule entries match, false otherwise.
+         */
+        public boolean matches(DayFieldValues dayFieldValues) {
+            if (ruleFieldIds == null) {
+                return false;
+            }
+            for (int ruleIndex = 0;ruleIndex < ruleFieldIds.length;ruleIndex++) {
+                if (dayFieldValues.get(ruleFieldIds[ruleIndex], ruleKaalams[ruleIndex]) !=
+                    ruleFieldValues[ruleIndex]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /*
+     * Dina Visheshams of a maasam indexed by the expected value of their most selective field
+     * (dina ankham, tithi, nakshatram or vaasaram) at the respective kaalam.
+     * For a calendar day, only those Dina Visheshams whose indexed field matches the day's value
+     * (along with the ones that cannot be indexed) are evaluated.
+     */
+    private static class DinaVisheshamIndex {
+        private final ArrayList<DinaVishesham> unindexedVisheshams;
+
+        // (Field ID, Kaalam) --> Expected field value --> List of Dina Visheshams
+        private final HashMap<Integer, HashMap<Integer, ArrayList<DinaVishesham>>> indexedVisheshams;
+
+        DinaVisheshamIndex() {
+            this.unindexedVisheshams = new ArrayList<>();
+            this.indexedVisheshams = new HashMap<>();
+        }
+
+        public void addDinaVishesham(DinaVishesham dinaVishesham) {
+            int ruleIndex = dinaVishesham.indexRuleIndex;
+            if (ruleIndex == RULE_INDEX_UNKNOWN) {
+                unindexedVisheshams.add(dinaVishesham);
+                return;
+            }
+
+            int indexKey = (dinaVishesham.ruleFieldIds[ruleIndex] * MAX_KAALAMS) +
+                    dinaVishesham.ruleKaalams[ruleIndex];
+            HashMap<Integer, ArrayList<DinaVishesham>> fieldValueVisheshams =
+                    indexedVisheshams.get(indexKey);
+            if (fieldValueVisheshams == null) {
+                fieldValueVisheshams = new HashMap<>();
+                indexedVisheshams.put(indexKey, fieldValueVisheshams);
+            }
+            int fieldValue = dinaVishesham.ruleFieldValues[ruleIndex];
+            ArrayList<DinaVishesham> dinaVisheshamList = fieldValueVisheshams.get(fieldValue);
+            if (dinaVisheshamList == null) {
+                dinaVisheshamList = new ArrayList<>();
+                fieldValueVisheshams.put(fieldValue, dinaVisheshamList);
+            }
+            dinaVisheshamList.add(dinaVishesham);
+        }
+
+        /**
+         * Get Dina Visheshams that match the given calendar day.
+         *
+         * @param dayFieldValues  Field values of the calendar day.
+         * @param ruleBooksMask   Bits of rule books whose Dina Visheshams are to be matched.
+         *
+         * @return List of matching Dina Visheshams (in the order of the rule book).
+         */
+        public ArrayList<DinaVishesham> getMatches(DayFieldValues dayFieldValues,
+                                                   long ruleBooksMask) {
+            ArrayList<DinaVishesham> matchingVisheshams = new ArrayList<>();
+            addMatches(unindexedVisheshams, dayFieldValues, ruleBooksMask, matchingVisheshams);
+            for (Map.Entry<Integer, HashMap<Integer, ArrayList<DinaVishesham>>> indexEntry :
+                    indexedVisheshams.entrySet()) {
+                int indexKey = indexEntry.getKey();
+                int fieldValue = dayFieldValues.get((indexKey / MAX_KAALAMS),
+                        (indexKey % MAX_KAALAMS));
+                addMatches(indexEntry.getValue().get(fieldValue), dayFieldValues, ruleBooksMask,
+                        matchingVisheshams);
+            }
+
+            if (matchingVisheshams.size() > 1) {
+                Collections.sort(matchingVisheshams,
+                        (lhs, rhs) -> Integer.compare(lhs.sequenceNum, rhs.sequenceNum));
+            }
+            return matchingVisheshams;
+        }
+
+        private static void addMatches(ArrayList<DinaVishesham> dinaVisheshams,
+                                       DayFieldValues dayFieldValues, long ruleBooksMask,
+                                       ArrayList<DinaVishesham> matchingVisheshams) {
+            if (dinaVisheshams != null) {
+                for (int visheshamIndex = 0;visheshamIndex < dinaVisheshams.size();visheshamIndex++) {
+                    DinaVishesham dinaVishesham = dinaVisheshams.get(visheshamIndex);
+                    if (((dinaVishesham.ruleBookMask & ruleBooksMask) != 0) &&
+                        dinaVishesham.matches(dayFieldValues)) {
+                        matchingVisheshams.add(dinaVishesham);
+                    }
+                }
+            }
+        }
     }
 
-    private VedicCalendarDinaVisheshamRuleEngine(String ruleBookFileName)
+    /*
+     * Field values of a calendar day indexed by field ID.
+     * Each field is worked out only once (from the calendar day's Panchangam as given by
+     * VedicCalendar.computeDay()) into its index at sunrise & the kaalam until which it prevails,
+     * so that its value at any of the kaalams is readily available to all the rules that are
+     * evaluated for the calendar day. Next value of any field is simply its next index.
+     * As no field is formatted as (or) parsed from a String, values do not depend on the locale.
+     */
+    private static class DayFieldValues {
+        private final int dinaAnkam;
+        private final boolean isAdhikaMaasam;
+        private final ArrayList<VedicCalendar.KaalamInfo> kaalamInfoList;
+        private final int[] fieldValueIndexes;
+        private final int[] fieldSpanKaalams;
+
+        DayFieldValues(VedicCalendar.PanchangamDay panchangamDay,
+                       ArrayList<VedicCalendar.KaalamInfo> kaalamInfoList) {
+            this.dinaAnkam = panchangamDay.dinaAnkam;
+            this.isAdhikaMaasam = panchangamDay.isAdhikaMaasam;
+            this.kaalamInfoList = kaalamInfoList;
+            this.fieldValueIndexes = new int[MAX_FIELD_IDS];
+            this.fieldSpanKaalams = new int[MAX_FIELD_IDS];
+
+            // Paksham changes (during the day) only when Pournami or Amavaasai ends
+            int tithiIndex = panchangamDay.tithiIndex;
+            int nextPakshamIndex =
+                    (((tithiIndex + 1) % VedicCalendar.MAX_TITHIS) > TITHI_INDEX_SHUKLA_POURNAMI) ? 1 : 0;
+            double pakshamSpan = VedicCalendar.MAX_MINS_IN_DAY_PLUS_MINS_TILL_SUNRISE;
+            if (panchangamDay.pakshamIndex != nextPakshamIndex) {
+                pakshamSpan = panchangamDay.tithiSpan;
+            }
+            setFieldValue(FIELD_ID_SAURAMAANAM_MAASAM,
+                    (panchangamDay.sauramaanamMaasamIndex % VedicCalendar.MAX_RAASIS),
+                    panchangamDay.sauramaanamMaasamSpan);
+            setFieldValue(FIELD_ID_CHAANDRAMAANAM_MAASAM,
+                    (panchangamDay.chaandramaanamMaasamIndex % VedicCalendar.MAX_RAASIS),
+                    panchangamDay.chaandramaanamMaasamSpan);
+            setFieldValue(FIELD_ID_PAKSHAM, panchangamDay.pakshamIndex, pakshamSpan);
+            setFieldValue(FIELD_ID_TITHI, tithiIndex, panchangamDay.tithiSpan);
+            setFieldValue(FIELD_ID_NAKSHATRAM, panchangamDay.nakshatramIndex,
+                    panchangamDay.nakshatramSpan);
+            setFieldValue(FIELD_ID_VAASARAM, panchangamDay.vaasaramIndex,
+                    VedicCalendar.MAX_MINS_IN_DAY_PLUS_MINS_TILL_SUNRISE);
+        }
+
+        public boolean isAdhikaMaasam() {
+            return isAdhikaMaasam;
+        }
+
+        public int get(int fieldId, int expectedKaalam) {
+            if (fieldId == FIELD_ID_DINA_ANKHAM) {
+                return dinaAnkam;
+            }
+
+            // For Varalakshmi Vratham, tithi needs to be last friday before
+            // pournami (8 < tithi < 15)
+            if (fieldId == FIELD_ID_TITHI_LAST_OCCURRENCE) {
+                int tithiIndex = get(FIELD_ID_TITHI, expectedKaalam);
+                if ((tithiIndex >= TITHI_INDEX_SHUKLA_ASHTAMI) &&
+                    (tithiIndex < TITHI_INDEX_SHUKLA_POURNAMI)) {
+                    return TITHI_MATCH_TYPE_LAST_OCCURRENCE;
+                }
+                return FIELD_VALUE_UNKNOWN;
+            }
+
+            int fieldValueIndex = fieldValueIndexes[fieldId];
+            if (fieldSpanKaalams[fieldId] >= expectedKaalam) {
+                return fieldValueIndex;
+            }
+            int fieldMaxValue = getMaxFieldValue(fieldId);
+            return ((fieldValueIndex + 1) % fieldMaxValue);
+        }
+
+        /*
+         * Set field's index & the kaalam until which it prevails from its span (in minutes).
+         * Like in Panchangam, only spans that end before next day's sunrise are considered.
+         */
+        private void setFieldValue(int fieldId, int fieldValueIndex, double fieldSpan) {
+            int fieldSpanAtKaalam = KAALAM_FULL_DAY;
+            if (fieldSpan < VedicCalendar.MAX_MINS_IN_DAY_PLUS_MINS_TILL_SUNRISE) {
+                fieldSpanAtKaalam = getKaalamFromFieldSpan((int) fieldSpan, true, kaalamInfoList);
+            }
+            fieldValueIndexes[fieldId] = fieldValueIndex;
+            fieldSpanKaalams[fieldId] = fieldSpanAtKaalam;
+        }
+    }
+
+    private VedicCalendarDinaVisheshamRuleEngine(Map<String, String> ruleBookFileNames)
             throws InvalidParameterSpecException, FileNotFoundException, NumberFormatException {
         long startTime = System.nanoTime();
 
+        if (ruleBookFileNames.isEmpty() || (ruleBookFileNames.size() > MAX_RULE_BOOKS)) {
+            throw new InvalidParameterSpecException("Invalid # of rule books(" +
+                    ruleBookFileNames.size() + ")!");
+        }
         maasamDinaVisheshamsList = new HashMap<>();
+        dinaVisheshamsList = new ArrayList<>();
+        ruleBookNames = new ArrayList<>(ruleBookFileNames.keySet());
         /*
          * Make a list of "Dina Visheshams" with each "Dina Vishesham" consisting of
          * list of "rules" with each rule consisting of list of matchable fields.
@@ -356,203 +666,280 @@ public class VedicCalendarDinaVisheshamRuleEngine {
          *             field value --> 30
          *             kaala sambhavaha --> 2
          *             match criteria --> "purva"
+         *
+         * Parsing the rule book is costly. Hence, once parsed, rules are saved in a compiled
+         * rule book (rule book file name + ".bin") which is loaded (in one go) instead of parsing
+         * the rule book as long as the rule book remains unchanged.
+         *
+         * When there are multiple rule books (one per sampradayam, for example), rules of all
+         * rule books are added to the same list (in the order of rule books) with each rule
+         * tagged with its rule book. Panchangam, Contributor & Contact Info is as per the first
+         * rule book.
          */
+        String[] firstRuleBookInfo = null;
+        isCompiledRuleBookLoaded = true;
+        for (int ruleBookId = 0;ruleBookId < ruleBookNames.size();ruleBookId++) {
+            setRuleBookInfo(new String[MAX_RULE_BOOK_INFO_FIELDS]);
+            isCompiledRuleBookLoaded &=
+                    loadRuleBook(ruleBookFileNames.get(ruleBookNames.get(ruleBookId)), ruleBookId);
+            if (firstRuleBookInfo == null) {
+                firstRuleBookInfo = getRuleBookInfo();
+            }
+        }
+        setRuleBookInfo(firstRuleBookInfo);
+        long endTime = System.nanoTime();
+        System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " Time Taken: " +
+                VedicCalendar.getTimeTaken(startTime, endTime));
+    }
+
+    /*
+     * Load rules of the given rule book from its compiled rule book (if it is up to date) or
+     * else parse the rule book & save it as a compiled rule book for next time around.
+     * Returns true if compiled rule book is loaded, false otherwise.
+     */
+    private boolean loadRuleBook(String ruleBookFileName, int ruleBookId)
+            throws InvalidParameterSpecException, FileNotFoundException, NumberFormatException {
+        File ruleBookFile = new File(ruleBookFileName);
+        File compiledRuleBookFile = new File(ruleBookFileName + COMPILED_RULE_BOOK_SUFFIX);
+        long ruleBookChecksum;
         try {
+            ruleBookChecksum = getRuleBookChecksum(ruleBookFile);
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (IOException e) {
+            // Without a checksum, compiled rule book can neither be trusted nor saved!
+            System.out.println("VedicCalendarDinaVisheshamRuleEngine, Warning: " +
+                    "Unable to get checksum of rule book(" + ruleBookFileName + "): " + e);
+            parseRuleBook(ruleBookFile, ruleBookId);
+            return false;
+        }
+        if (loadCompiledRuleBook(compiledRuleBookFile, ruleBookFile, ruleBookChecksum,
+                ruleBookId)) {
+            return true;
+        }
+
+        int firstVisheshamIndex = dinaVisheshamsList.size();
+        parseRuleBook(ruleBookFile, ruleBookId);
+        saveCompiledRuleBook(compiledRuleBookFile, ruleBookFile, ruleBookChecksum,
+                dinaVisheshamsList.subList(firstVisheshamIndex, dinaVisheshamsList.size()));
+        return false;
+    }
+
+    private void parseRuleBook(File ruleBookFile, int ruleBookId)
+            throws InvalidParameterSpecException, FileNotFoundException {
+        try (VedicCalendarRuleBookTokenizer tokenizer = new VedicCalendarRuleBookTokenizer(
+                new InputStreamReader(new FileInputStream(ruleBookFile), StandardCharsets.UTF_8))) {
             boolean dinaVisheshamTagProcInProgress = false;
             boolean panchangamInfoTagProcInProgress = false;
             boolean contributorInfoTagProcInProgress = false;
             boolean contactInfoTagProcInProgress = false;
-            File ruleBookFile = new File(ruleBookFileName);
-            Scanner myReader = new Scanner(ruleBookFile);
 
             /*
-             * 1) If parsed line has outer tag, then create dina vishesham entry
-             * 2) If parsed line has inner tag, then create rule entry for the given dina vishesham
-             * 3) If parsed line has field/value pair, then
+             * 1) If parsed section is an outer tag, then create dina vishesham entry
+             * 2) If parsed section is an inner tag, then create rule entry for the given
+             *    dina vishesham
+             * 3) If parsed token is a field/value pair, then
              *    3.1) if the field/value pair is parsed under an [outer]tag then parse
              *         field & value and populate dina vishesham DS
              *    3.2) if the field/value pair is parsed under an [outer]tag then parse
              *         field & value and populate rule DS
+             *
+             * Note: Rule book is tokenized in a single pass (one char at a time). Lines that are
+             *       invalid (as well as values that are invalid for their fields) are ignored
+             *       with a warning (along with the line #) so that rest of the rules can still be
+             *       used (see VedicCalendarRuleBookTokenizer). A Dina Vishesham with such a line
+             *       is left out as a part of its rules may be missing.
              */
             DinaVishesham dinaVishesham = null;
             RuleEntry ruleEntry = null;
-            while (myReader.hasNextLine()) {
-                String data = myReader.nextLine();
-                if (!data.isEmpty()) {
-                    String trimmedData = trimLine(data);
-
-                    String[] fieldValues = trimmedData.split(FIELD_VALUE_SEPARATOR);
-                    if (fieldValues.length == 1) {
-                        if (trimmedData.equalsIgnoreCase(TAG_PANCHANGAM_INFO)) {
-                            panchangamInfoTagProcInProgress = true;
-                            contributorInfoTagProcInProgress = false;
-                            dinaVisheshamTagProcInProgress = false;
-                            contactInfoTagProcInProgress = false;
-                        } else if (trimmedData.equalsIgnoreCase(TAG_CONTRIBUTOR)) {
-                            panchangamInfoTagProcInProgress = false;
-                            contributorInfoTagProcInProgress = true;
-                            dinaVisheshamTagProcInProgress = false;
-                            contactInfoTagProcInProgress = false;
-                        } else if (trimmedData.equalsIgnoreCase(TAG_DINA_VISESHAM)) {
-                            panchangamInfoTagProcInProgress = false;
-                            contributorInfoTagProcInProgress = false;
-                            dinaVisheshamTagProcInProgress = true;
-                            contactInfoTagProcInProgress = false;
-                        } else if (trimmedData.equalsIgnoreCase(TAG_CONTACT)) {
-                            panchangamInfoTagProcInProgress = false;
-                            contributorInfoTagProcInProgress = false;
-                            dinaVisheshamTagProcInProgress = false;
-                            contactInfoTagProcInProgress = true;
-                        } else {
-                            if (dinaVisheshamTagProcInProgress) {
-                                if (trimmedData.contains(DINA_VISHESHAM_PREFIX_TAG)) {
-                                    fieldValues = trimmedData.split(TAG_SEPARATOR);
-
-                                    /*
-                                     * 1) If parsed line has outer tag, then create dina vishesham entry
-                                     */
-                                    if (fieldValues.length == OUTER_TAG_MAX_TOKENS) {
-                                        if (dinaVishesham != null) {
-                                            if (ruleEntry != null) {
-                                                dinaVishesham.addRuleEntry(ruleEntry);
-                                                ruleEntry = null;
-                                            }
-                                            addDinaVisheshamToMaasamMap(dinaVishesham);
+            boolean isDinaVisheshamInvalid = false;
+            int tokenType = tokenizer.next();
+            while (tokenType != VedicCalendarRuleBookTokenizer.TOKEN_END_OF_RULE_BOOK) {
+                if (tokenType == VedicCalendarRuleBookTokenizer.TOKEN_INVALID) {
+                    System.out.println("VedicCalendarDinaVisheshamRuleEngine, Warning: " +
+                            "Ignoring invalid line(" + tokenizer.getError() + ")");
+                    if (dinaVisheshamTagProcInProgress) {
+                        isDinaVisheshamInvalid = (dinaVishesham != null);
+                    }
+                } else if (tokenType == VedicCalendarRuleBookTokenizer.TOKEN_SECTION) {
+                    String section = tokenizer.getSection();
+                    if (section.equalsIgnoreCase(TAG_PANCHANGAM_INFO)) {
+                        panchangamInfoTagProcInProgress = true;
+                        contributorInfoTagProcInProgress = false;
+                        dinaVisheshamTagProcInProgress = false;
+                        contactInfoTagProcInProgress = false;
+                    } else if (section.equalsIgnoreCase(TAG_CONTRIBUTOR)) {
+                        panchangamInfoTagProcInProgress = false;
+                        contributorInfoTagProcInProgress = true;
+                        dinaVisheshamTagProcInProgress = false;
+                        contactInfoTagProcInProgress = false;
+                    } else if (section.equalsIgnoreCase(TAG_DINA_VISESHAM)) {
+                        panchangamInfoTagProcInProgress = false;
+                        contributorInfoTagProcInProgress = false;
+                        dinaVisheshamTagProcInProgress = true;
+                        contactInfoTagProcInProgress = false;
+                    } else if (section.equalsIgnoreCase(TAG_CONTACT)) {
+                        panchangamInfoTagProcInProgress = false;
+                        contributorInfoTagProcInProgress = false;
+                        dinaVisheshamTagProcInProgress = false;
+                        contactInfoTagProcInProgress = true;
+                    } else {
+                        if (dinaVisheshamTagProcInProgress) {
+                            if (section.startsWith(DINA_VISHESHAM_PREFIX_TAG)) {
+                                /*
+                                 * 1) If parsed section is an outer tag, then create dina vishesham entry
+                                 */
+                                if (tokenizer.getSectionDepth() == OUTER_TAG_MAX_TOKENS) {
+                                    if (dinaVishesham != null) {
+                                        if (ruleEntry != null) {
+                                            dinaVishesham.addRuleEntry(ruleEntry);
+                                            ruleEntry = null;
                                         }
-                                        dinaVishesham = new DinaVishesham("", "");
+                                        addParsedDinaVishesham(dinaVishesham,
+                                                isDinaVisheshamInvalid, ruleBookId);
                                     }
-                                    /*
-                                     * 2) If parsed line has inner tag, then create rule entry for the
-                                     *    given dina vishesham
-                                     */
-                                    else if (fieldValues.length == INNER_TAG_MAX_TOKENS) {
-                                        if (dinaVishesham != null) {
-                                            if (ruleEntry != null) {
-                                                dinaVishesham.addRuleEntry(ruleEntry);
-                                            }
+                                    dinaVishesham = new DinaVishesham("", "");
+                                    isDinaVisheshamInvalid = false;
+                                }
+                                /*
+                                 * 2) If parsed section is an inner tag, then create rule entry for
+                                 *    the given dina vishesham
+                                 */
+                                else if (tokenizer.getSectionDepth() == INNER_TAG_MAX_TOKENS) {
+                                    if (dinaVishesham != null) {
+                                        if (ruleEntry != null) {
+                                            dinaVishesham.addRuleEntry(ruleEntry);
                                         }
-                                        ruleEntry = new RuleEntry("", FIELD_VALUE_UNKNOWN, KAALAM_UNKNOWN, FIELD_VALUE_UNKNOWN);
-                                    } else {
-                                        // Unrecognized tag!
-                                        // TODO - Need to find a way to handle this!
-                                        //System.out.println("VedicCalendarDinaVisheshamRuleEngine: " +
-                                        //        "Ignoring invalid # of tokens(" + fieldValues.length + ")!");
                                     }
+                                    ruleEntry = new RuleEntry("", FIELD_VALUE_UNKNOWN, KAALAM_UNKNOWN, FIELD_VALUE_UNKNOWN);
                                 } else {
                                     // Unrecognized tag!
                                     // TODO - Need to find a way to handle this!
                                     //System.out.println("VedicCalendarDinaVisheshamRuleEngine: " +
-                                    //        "Ignoring invalid parent/child tag combination(" + trimmedData + ")!");
+                                    //        "Ignoring invalid # of tokens(" + tokenizer.getSectionDepth() + ")!");
                                 }
                             } else {
                                 // Unrecognized tag!
                                 // TODO - Need to find a way to handle this!
                                 //System.out.println("VedicCalendarDinaVisheshamRuleEngine: " +
-                                //        "Ignoring unrecognized Tag(" + data + "), perhaps comments!");
+                                //        "Ignoring invalid parent/child tag combination(" + section + ")!");
                             }
+                        } else {
+                            // Unrecognized tag!
+                            // TODO - Need to find a way to handle this!
+                            //System.out.println("VedicCalendarDinaVisheshamRuleEngine: " +
+                            //        "Ignoring unrecognized Tag(" + section + ")!");
                         }
-                    } else {
-                        /*
-                         * 3) If parsed line has field/value pair, then
-                         *    3.1) if the field/value pair is parsed under an [outer]tag then parse
-                         *         field & value and populate dina vishesham DS
-                         *    3.2) if the field/value pair is parsed under an [outer]tag then parse
-                         *         field & value and populate rule DS
-                         */
+                    }
+                } else {
+                    /*
+                     * 3) If parsed token is a field/value pair, then
+                     *    3.1) if the field/value pair is parsed under an [outer]tag then parse
+                     *         field & value and populate dina vishesham DS
+                     *    3.2) if the field/value pair is parsed under an [outer]tag then parse
+                     *         field & value and populate rule DS
+                     */
+                    String field = tokenizer.getKey();
+                    String value = tokenizer.getValue();
+                    try {
                         if (panchangamInfoTagProcInProgress) {
-                            if (fieldValues[0].equalsIgnoreCase(PANCHANGAM_INFO_TITLE)) {
-                                panchangamTitle = fieldValues[1];
-                            } else if (fieldValues[0].equalsIgnoreCase(PANCHANGAM_INFO_DESCRIPTION)) {
-                                panchangamDescription = fieldValues[1];
-                            } else if (fieldValues[0].equalsIgnoreCase(PANCHANGAM_INFO_DATE)) {
-                                panchangamDate = fieldValues[1];
-                            } else if (fieldValues[0].equalsIgnoreCase(PANCHANGAM_INFO_TIME)) {
-                                panchangamTime = fieldValues[1];
-                            } else if (fieldValues[0].equalsIgnoreCase(PANCHANGAM_INFO_VERSION)) {
-                                panchangamVersion = fieldValues[1];
+                            if (field.equalsIgnoreCase(PANCHANGAM_INFO_TITLE)) {
+                                panchangamTitle = value;
+                            } else if (field.equalsIgnoreCase(PANCHANGAM_INFO_DESCRIPTION)) {
+                                panchangamDescription = value;
+                            } else if (field.equalsIgnoreCase(PANCHANGAM_INFO_DATE)) {
+                                panchangamDate = value;
+                            } else if (field.equalsIgnoreCase(PANCHANGAM_INFO_TIME)) {
+                                panchangamTime = value;
+                            } else if (field.equalsIgnoreCase(PANCHANGAM_INFO_VERSION)) {
+                                panchangamVersion = value;
                             } else {
                                 // Unrecognized field/value pair!
                                 // TODO - Need to find a way to handle this!
                                 System.out.println("VedicCalendarDinaVisheshamRuleEngine: " +
                                         "Ignoring unrecognized Panchangam Info Field/Value Pair(" +
-                                        trimmedData + ")!");
+                                        field + ") at line " + tokenizer.getLineNum() + "!");
                             }
                         } else if (contributorInfoTagProcInProgress) {
-                            if (fieldValues[0].equalsIgnoreCase(CONTRIBUTOR_NAME)) {
-                                contributorName = fieldValues[1];
-                            } else if (fieldValues[0].equalsIgnoreCase(CONTRIBUTOR_COPYRIGHT)) {
-                                contributorCopyright = fieldValues[1];
+                            if (field.equalsIgnoreCase(CONTRIBUTOR_NAME)) {
+                                contributorName = value;
+                            } else if (field.equalsIgnoreCase(CONTRIBUTOR_COPYRIGHT)) {
+                                contributorCopyright = value;
                             } else {
                                 // Unrecognized field/value pair!
                                 // TODO - Need to find a way to handle this!
                                 System.out.println("VedicCalendarDinaVisheshamRuleEngine: " +
                                         "Ignoring unrecognized Contributor Info Field/Value Pair(" +
-                                        trimmedData + ")!");
+                                        field + ") at line " + tokenizer.getLineNum() + "!");
 
                             }
                         } else if (dinaVisheshamTagProcInProgress) {
-                            if (fieldValues[0].equalsIgnoreCase(DINA_VISHESHAM_TITLE)) {
+                            if (field.equalsIgnoreCase(DINA_VISHESHAM_TITLE)) {
                                 if (dinaVishesham != null) {
-                                    String visheshamTitle = fieldValues[1];
-                                    visheshamTitle = visheshamTitle.replace("\"", "");
+                                    String visheshamTitle = value.replace("\"", "");
                                     visheshamTitle = visheshamTitle.trim();
                                     dinaVishesham.setVisheshamTitle(visheshamTitle);
                                 }
-                            } else if (fieldValues[0].equalsIgnoreCase(DINA_VISHESHAM_DESCRIPTION)) {
+                            } else if (field.equalsIgnoreCase(DINA_VISHESHAM_DESCRIPTION)) {
                                 if (dinaVishesham != null) {
-                                    String visheshamDescr = fieldValues[1];
-                                    visheshamDescr = visheshamDescr.replace("\"", "");
+                                    String visheshamDescr = value.replace("\"", "");
                                     visheshamDescr = visheshamDescr.trim();
                                     dinaVishesham.setVisheshamDescription(visheshamDescr);
                                 }
-                            } else if (fieldValues[0].equalsIgnoreCase(DINA_VISHESHAM_MATCH_CRITERIA)) {
+                            } else if (field.equalsIgnoreCase(DINA_VISHESHAM_MATCH_CRITERIA)) {
                                 if (ruleEntry != null) {
-                                    String fieldName = fieldValues[1];
-                                    fieldName = fieldName.replace("\"", "");
+                                    String fieldName = value.replace("\"", "");
                                     fieldName = fieldName.trim();
                                     ruleEntry.setFieldNameToMatch(fieldName);
                                 }
-                            } else if (fieldValues[0].equalsIgnoreCase(DINA_VISHESHAM_MATCH_VALUE)) {
+                            } else if (field.equalsIgnoreCase(DINA_VISHESHAM_MATCH_VALUE)) {
                                 if (ruleEntry != null) {
-                                    ruleEntry.setFieldValueToMatch(Integer.parseInt(fieldValues[1]));
+                                    ruleEntry.setFieldValueToMatch(Integer.parseInt(value));
                                 }
-                            } else if (fieldValues[0].equalsIgnoreCase(DINA_VISHESHAM_KAALA_SAMBHAVAHA)) {
+                            } else if (field.equalsIgnoreCase(DINA_VISHESHAM_KAALA_SAMBHAVAHA)) {
                                 if (ruleEntry != null) {
-                                    ruleEntry.setKaalaSambhavaha(Integer.parseInt(fieldValues[1]));
+                                    ruleEntry.setKaalaSambhavaha(Integer.parseInt(value));
                                 }
-                            } else if (fieldValues[0].equalsIgnoreCase(DINA_VISHESHAM_SELECTION_CRITERIA)) {
+                            } else if (field.equalsIgnoreCase(DINA_VISHESHAM_SELECTION_CRITERIA)) {
                                 if (ruleEntry != null) {
-                                    ruleEntry.setSelectionCriteria(Integer.parseInt(fieldValues[1]));
+                                    ruleEntry.setSelectionCriteria(Integer.parseInt(value));
                                 }
-                            } else if (fieldValues[0].equalsIgnoreCase(DINA_VISHESHAM_MATCH_TYPE)) {
+                            } else if (field.equalsIgnoreCase(DINA_VISHESHAM_MATCH_TYPE)) {
                                 if (ruleEntry != null) {
-                                    ruleEntry.setMatchType(Integer.parseInt(fieldValues[1]));
+                                    ruleEntry.setMatchType(Integer.parseInt(value));
                                 }
                             } else {
                                 // Unrecognized field/value pair!
                                 // TODO - Need to find a way to handle this!
                                 System.out.println("VedicCalendarDinaVisheshamRuleEngine: " +
                                         "Ignoring unrecognized Dina Vishesham (or) Rule Entry(" +
-                                        trimmedData + ")!");
+                                        field + ") at line " + tokenizer.getLineNum() + "!");
                             }
                         } else if (contactInfoTagProcInProgress) {
-                            if (fieldValues[0].equalsIgnoreCase(CONTACT_EMAIL_ID)) {
-                                emailContact = fieldValues[1];
+                            if (field.equalsIgnoreCase(CONTACT_EMAIL_ID)) {
+                                emailContact = value;
                             } else {
                                 // Unrecognized field/value pair!
                                 // TODO - Need to find a way to handle this!
                                 System.out.println("VedicCalendarDinaVisheshamRuleEngine: " +
                                         "Ignoring unrecognized Contact Info Field/Value Pair(" +
-                                        trimmedData + ")!");
+                                        field + ") at line " + tokenizer.getLineNum() + "!");
                             }
                         } else {
                             // Unrecognized field/value pair!
                             // TODO - Need to find a way to handle this!
                             System.out.println("VedicCalendarDinaVisheshamRuleEngine: " +
-                                    "Ignoring unrecognized Field/Value Pair(" + trimmedData + ")!");
+                                    "Ignoring unrecognized Field/Value Pair(" + field +
+                                    ") at line " + tokenizer.getLineNum() + "!");
                         }
+                    } catch (NumberFormatException | InvalidParameterSpecException e) {
+                        System.out.println("VedicCalendarDinaVisheshamRuleEngine, Warning: " +
+                                "Ignoring invalid value(" + field + "=" + value + ") at line " +
+                                tokenizer.getLineNum() + ": " + e.getMessage());
+                        isDinaVisheshamInvalid = (dinaVishesham != null);
                     }
                 }
+                tokenType = tokenizer.next();
             }
 
             // To handle a case where there are pending dina vishesham & rules!
@@ -560,67 +947,458 @@ public class VedicCalendarDinaVisheshamRuleEngine {
                 if (ruleEntry != null) {
                     dinaVishesham.addRuleEntry(ruleEntry);
                 }
-                addDinaVisheshamToMaasamMap(dinaVishesham);
+                addParsedDinaVishesham(dinaVishesham, isDinaVisheshamInvalid, ruleBookId);
             }
-
-            myReader.close();
-        } catch (Exception e) {
+        } catch (FileNotFoundException e) {
             e.printStackTrace();
             throw e;
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new InvalidParameterSpecException("Unable to read rule book (" + ruleBookFile +
+                    "): " + e);
+        }
+    }
+
+    private void addParsedDinaVishesham(DinaVishesham dinaVishesham,
+                                        boolean isDinaVisheshamInvalid, int ruleBookId) {
+        if (isDinaVisheshamInvalid) {
+            System.out.println("VedicCalendarDinaVisheshamRuleEngine, Warning: " +
+                    "Ignoring Dina Vishesham(" + dinaVishesham.visheshamTitle +
+                    ") with invalid lines!");
+            return;
+        }
+        addDinaVisheshamToMaasamMap(dinaVishesham, ruleBookId);
+    }
+
+    /*
+     * Compiled rule book is laid out as below:
+     * Header: Magic, Version, Rule book's size, last modified time & CRC32 checksum
+     * Panchangam, Contributor & Contact Info
+     * # of Dina Visheshams followed by each Dina Vishesham's title, description,
+     * # of rule entries & each rule entry's field name, field value, kaala sambhavaha,
+     * match type & selection criteria (all as parsed from the rule book).
+     */
+    private void saveCompiledRuleBook(File compiledRuleBookFile, File ruleBookFile,
+                                      long ruleBookChecksum, List<DinaVishesham> dinaVisheshams) {
+        // Temporary file is unique to each writer as the same rule book may be compiled by more
+        // than one rule engine at the same time.
+        File tempRuleBookFile = null;
+        try {
+            tempRuleBookFile = File.createTempFile(compiledRuleBookFile.getName(),
+                    COMPILED_RULE_BOOK_TEMP_SUFFIX,
+                    compiledRuleBookFile.getAbsoluteFile().getParentFile());
+            try (DataOutputStream outputStream = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tempRuleBookFile)))) {
+                outputStream.writeInt(COMPILED_RULE_BOOK_MAGIC);
+                outputStream.writeInt(COMPILED_RULE_BOOK_VERSION);
+                outputStream.writeLong(ruleBookFile.length());
+                outputStream.writeLong(ruleBookFile.lastModified());
+                outputStream.writeLong(ruleBookChecksum);
+                for (String ruleBookInfoField : getRuleBookInfo()) {
+                    writeString(outputStream, ruleBookInfoField);
+                }
+                outputStream.writeInt(dinaVisheshams.size());
+                for (int visheshamIndex = 0;visheshamIndex < dinaVisheshams.size();visheshamIndex++) {
+                    DinaVishesham dinaVishesham = dinaVisheshams.get(visheshamIndex);
+                    writeString(outputStream, dinaVishesham.visheshamTitle);
+                    writeString(outputStream, dinaVishesham.visheshamDescription);
+                    outputStream.writeInt(dinaVishesham.ruleEntries.size());
+                    for (int ruleIndex = 0;ruleIndex < dinaVishesham.ruleEntries.size();ruleIndex++) {
+                        RuleEntry ruleEntry = dinaVishesham.ruleEntries.get(ruleIndex);
+                        writeString(outputStream, ruleEntry.fieldNameToMatch);
+                        outputStream.writeInt(ruleEntry.fieldValueToMatch);
+                        outputStream.writeInt(ruleEntry.kaalaSambhavaha);
+                        outputStream.writeInt(ruleEntry.matchType);
+                        outputStream.writeInt(ruleEntry.selectionCriteria);
+                    }
+                }
+            }
+            if (!tempRuleBookFile.renameTo(compiledRuleBookFile)) {
+                throw new IOException("Unable to rename " + tempRuleBookFile.getPath());
+            }
+        } catch (Exception e) {
+            // Not fatal as the rule book can still be parsed next time around!
+            System.out.println("VedicCalendarDinaVisheshamRuleEngine, Warning: " +
+                    "Unable to save compiled rule book(" + compiledRuleBookFile.getPath() +
+                    "): " + e.getMessage());
+            if (tempRuleBookFile != null) {
+                //noinspection ResultOfMethodCallIgnored
+                tempRuleBookFile.delete();
+            }
         }
-        long endTime = System.nanoTime();
-        System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " Time Taken: " +
-                VedicCalendar.getTimeTaken(startTime, endTime));
+    }
+
+    private boolean loadCompiledRuleBook(File compiledRuleBookFile, File ruleBookFile,
+                                         long ruleBookChecksum, int ruleBookId) {
+        if (!compiledRuleBookFile.isFile()) {
+            return false;
+        }
+
+        try {
+            // Read the whole of compiled rule book in one go & then decode it from memory
+            long compiledRuleBookSize = compiledRuleBookFile.length();
+            if (compiledRuleBookSize > MAX_COMPILED_RULE_BOOK_SIZE) {
+                throw new IOException("Size (" + compiledRuleBookSize + ") exceeds " +
+                        MAX_COMPILED_RULE_BOOK_SIZE);
+            }
+            byte[] compiledRuleBook = new byte[(int) compiledRuleBookSize];
+            try (DataInputStream fileInputStream =
+                         new DataInputStream(new FileInputStream(compiledRuleBookFile))) {
+                fileInputStream.readFully(compiledRuleBook);
+            }
+            DataInputStream inputStream =
+                    new DataInputStream(new ByteArrayInputStream(compiledRuleBook));
+
+            // Compiled rule book is stale if rule book has changed since it was saved
+            if ((inputStream.readInt() != COMPILED_RULE_BOOK_MAGIC) ||
+                (inputStream.readInt() != COMPILED_RULE_BOOK_VERSION) ||
+                (inputStream.readLong() != ruleBookFile.length()) ||
+                (inputStream.readLong() != ruleBookFile.lastModified()) ||
+                (inputStream.readLong() != ruleBookChecksum)) {
+                return false;
+            }
+            String[] ruleBookInfo = new String[MAX_RULE_BOOK_INFO_FIELDS];
+            for (int infoIndex = 0;infoIndex < ruleBookInfo.length;infoIndex++) {
+                ruleBookInfo[infoIndex] = readString(inputStream);
+            }
+
+            // Decode all of the rules first so that nothing is added if any of it is invalid
+            int numVisheshams = inputStream.readInt();
+            ArrayList<DinaVishesham> dinaVisheshams = new ArrayList<>();
+            for (int visheshamIndex = 0;visheshamIndex < numVisheshams;visheshamIndex++) {
+                DinaVishesham dinaVishesham =
+                        new DinaVishesham(readString(inputStream), readString(inputStream));
+                int numRuleEntries = inputStream.readInt();
+                for (int ruleIndex = 0;ruleIndex < numRuleEntries;ruleIndex++) {
+                    RuleEntry ruleEntry = new RuleEntry(readString(inputStream),
+                            inputStream.readInt(), inputStream.readInt(), FIELD_VALUE_UNKNOWN);
+                    ruleEntry.matchType = inputStream.readInt();
+                    ruleEntry.selectionCriteria = inputStream.readInt();
+                    dinaVishesham.addRuleEntry(ruleEntry);
+                }
+                dinaVisheshams.add(dinaVishesham);
+            }
+
+            setRuleBookInfo(ruleBookInfo);
+            for (int visheshamIndex = 0;visheshamIndex < dinaVisheshams.size();visheshamIndex++) {
+                addDinaVisheshamToMaasamMap(dinaVisheshams.get(visheshamIndex), ruleBookId);
+            }
+            return true;
+        } catch (Exception e) {
+            System.out.println("VedicCalendarDinaVisheshamRuleEngine, Warning: " +
+                    "Ignoring invalid compiled rule book(" + compiledRuleBookFile.getPath() +
+                    "): " + e);
+        }
+        return false;
+    }
+
+    private String[] getRuleBookInfo() {
+        return new String[] {panchangamTitle, panchangamDescription, panchangamDate,
+                panchangamTime, panchangamVersion, contributorName, contributorCopyright,
+                emailContact};
+    }
+
+    private void setRuleBookInfo(String[] ruleBookInfo) {
+        panchangamTitle = ruleBookInfo[0];
+        panchangamDescription = ruleBookInfo[1];
+        panchangamDate = ruleBookInfo[2];
+        panchangamTime = ruleBookInfo[3];
+        panchangamVersion = ruleBookInfo[4];
+        contributorName = ruleBookInfo[5];
+        contributorCopyright = ruleBookInfo[6];
+        emailContact = ruleBookInfo[7];
+    }
+
+    private static long getRuleBookChecksum(File ruleBookFile) throws IOException {
+        CRC32 ruleBookCRC = new CRC32();
+        try (FileInputStream ruleBookInputStream = new FileInputStream(ruleBookFile)) {
+            byte[] buffer = new byte[RULE_BOOK_READ_BUFFER_SIZE];
+            int numBytes;
+            while ((numBytes = ruleBookInputStream.read(buffer)) > 0) {
+                ruleBookCRC.update(buffer, 0, numBytes);
+            }
+        }
+        return ruleBookCRC.getValue();
+    }
+
+    private static void writeString(DataOutputStream outputStream, String str)
+            throws IOException {
+        outputStream.writeBoolean(str != null);
+        if (str != null) {
+            outputStream.writeUTF(str);
+        }
+    }
+
+    private static String readString(DataInputStream inputStream) throws IOException {
+        if (inputStream.readBoolean()) {
+            return inputStream.readUTF();
+        }
+        return null;
     }
 
     public static VedicCalendarDinaVisheshamRuleEngine getInstance(String ruleBookFileName)
             throws InvalidParameterSpecException, FileNotFoundException, NumberFormatException {
-        return new VedicCalendarDinaVisheshamRuleEngine(ruleBookFileName);
+        Map<String, String> ruleBookFileNames = new LinkedHashMap<>();
+        ruleBookFileNames.put(DEFAULT_RULE_BOOK_NAME, ruleBookFileName);
+        return new VedicCalendarDinaVisheshamRuleEngine(ruleBookFileNames);
+    }
+
+    /**
+     * Use this API to get a rule engine with rules of all of the given rule books (one per
+     * sampradayam, region, etc) so that Dina Visheshams as per any set of these rule books can
+     * be got in one go (see getDinaVisheshams(VedicCalendar, Collection)).
+     *
+     * @param ruleBookFileNames Map of rule book names to full path of rule books (in the order
+     *                          in which Dina Visheshams are to be given).
+     *
+     * @return Rule engine with rules of all rule books.
+     */
+    public static VedicCalendarDinaVisheshamRuleEngine getInstance(
+            Map<String, String> ruleBookFileNames)
+            throws InvalidParameterSpecException, FileNotFoundException, NumberFormatException {
+        return new VedicCalendarDinaVisheshamRuleEngine(ruleBookFileNames);
+    }
+
+    /**
+     * Use this API to get the names of rule books whose rules are in this rule engine.
+     *
+     * @return List of rule book names (in the order of rule books).
+     */
+    public List<String> getRuleBookNames() {
+        return Collections.unmodifiableList(ruleBookNames);
+    }
+
+    /**
+     * Use this API to map Dina Vishesham titles (as given in the rule book) to their respective
+     * codes (see VedicCalendar.PANCHANGAM_DINA_VISHESHAM_*) so that Dina Visheshams can be
+     * given as a bitmask of codes (see getDinaVisheshamsMask()).
+     * Titles without a code (or) with a code that does not fit in a long are left out of the
+     * bitmask.
+     * Note: Rule engine is not to be modified once it is shared with other threads. Hence, this
+     *       needs to be called (if at all) before the rule engine is shared.
+     *
+     * @param dinaVisheshamCodes    Map of Dina Vishesham titles to codes.
+     */
+    public void setDinaVisheshamCodes(Map<String, Integer> dinaVisheshamCodes) {
+        for (int visheshamIndex = 0;visheshamIndex < dinaVisheshamsList.size();visheshamIndex++) {
+            DinaVishesham dinaVishesham = dinaVisheshamsList.get(visheshamIndex);
+            Integer dinaVisheshamCode = dinaVisheshamCodes.get(dinaVishesham.visheshamTitle);
+            dinaVishesham.dinaVisheshamMask = 0;
+            if (dinaVisheshamCode != null) {
+                if ((dinaVisheshamCode >= 0) && (dinaVisheshamCode < Long.SIZE)) {
+                    dinaVishesham.dinaVisheshamMask = (1L << dinaVisheshamCode);
+                } else {
+                    System.out.println("VedicCalendarDinaVisheshamRuleEngine, Warning: Code (" +
+                            dinaVisheshamCode + ") of " + dinaVishesham.visheshamTitle +
+                            " does not fit in a bitmask!");
+                }
+            }
+        }
+    }
+
+    /**
+     * Use this API to check if rules were loaded from the compiled rule book (saved when the
+     * rule book was last parsed) instead of parsing the rule book.
+     *
+     * @return true if compiled rule book was loaded, false if the rule book was parsed.
+     */
+    boolean isCompiledRuleBookLoaded() {
+        return isCompiledRuleBookLoaded;
     }
 
     public List<String> getDinaVisheshams(VedicCalendar vedicCalendar) {
         //long startTime1 = System.nanoTime();
-        int dinaAnkam = vedicCalendar.getDinaAnkam();
-        //long endTime3 = System.nanoTime();
-        //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " getDinaAnkam() Time Taken: " +
-        //        VedicCalendar.getTimeTaken(startTime1, endTime3));
-        String tithiStr = vedicCalendar.getTithi(VedicCalendar.MATCH_PANCHANGAM_FULLDAY);
-        //long startTime3 = endTime3;
-        //endTime3 = System.nanoTime();
-        //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " getTithi() Time Taken: " +
-        //        VedicCalendar.getTimeTaken(startTime3, endTime3));
-        String sauramaanaMaasam = vedicCalendar.getSauramaanamMaasam(VedicCalendar.MATCH_PANCHANGAM_FULLDAY);
-        //startTime3 = endTime3;
-        //endTime3 = System.nanoTime();
-        //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " getSauramaanamMaasam() Time Taken: " +
-        //        VedicCalendar.getTimeTaken(startTime3, endTime3));
-        String chaandramanaMaasam = vedicCalendar.getChaandramaanamMaasam(VedicCalendar.MATCH_PANCHANGAM_FULLDAY);
-        //startTime3 = endTime3;
-        //endTime3 = System.nanoTime();
-        //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " getChaandramaanamMaasam() Time Taken: " +
-        //        VedicCalendar.getTimeTaken(startTime3, endTime3));
-        String paksham = vedicCalendar.getPaksham(VedicCalendar.MATCH_PANCHANGAM_FULLDAY);
-        //startTime3 = endTime3;
-        //endTime3 = System.nanoTime();
-        //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " getPaksham() Time Taken: " +
-        //        VedicCalendar.getTimeTaken(startTime3, endTime3));
-        String nakshatram = vedicCalendar.getNakshatram(VedicCalendar.MATCH_PANCHANGAM_FULLDAY);
-        //startTime3 = endTime3;
-        //endTime3 = System.nanoTime();
-        //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " getNakshatram() Time Taken: " +
-        //        VedicCalendar.getTimeTaken(startTime3, endTime3));
-        String vaasaram = vedicCalendar.getVaasaram(VedicCalendar.MATCH_PANCHANGAM_FULLDAY);
-        //startTime3 = endTime3;
-        //endTime3 = System.nanoTime();
-        //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " getVaasaram() Time Taken: " +
-        //        VedicCalendar.getTimeTaken(startTime3, endTime3));
+        DayFieldValues dayFieldValues = getDayFieldValues(vedicCalendar);
+        List<String> dinaVisheshamList = getDinaVisheshams(dayFieldValues, ALL_RULE_BOOKS);
+        //long endTime = System.nanoTime();
+        //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " getDinaVishesham() Time Taken: " +
+        //        VedicCalendar.getTimeTaken(startTime1, endTime));
+        return dinaVisheshamList;
+    }
+
+    /**
+     * Use this API to get Dina Visheshams for the given calendar day as a bitmask of codes
+     * (as set via setDinaVisheshamCodes()).
+     *
+     * @param vedicCalendar VedicCalendar set to the calendar day.
+     *
+     * @return Bitmask with bit N set for each Dina Vishesham with code N.
+     */
+    public long getDinaVisheshamsMask(VedicCalendar vedicCalendar) {
+        DayFieldValues dayFieldValues = getDayFieldValues(vedicCalendar);
+        return getDinaVisheshamsMask(dayFieldValues, ALL_RULE_BOOKS);
+    }
+
+    /**
+     * Use this API to get a list of Dina Visheshams for the given calendar day as per the given
+     * rule books only.
+     * Note: Panchangam fields of the calendar day are calculated only once & rules of all of
+     *       the given rule books are evaluated in one pass (irrespective of # of rule books).
+     *
+     * @param vedicCalendar VedicCalendar set to the calendar day.
+     * @param ruleBookNames Names of rule books (as given to getInstance()).
+     *
+     * @return List of Dina Vishesham titles (in the order of rule books).
+     */
+    public List<String> getDinaVisheshams(VedicCalendar vedicCalendar,
+                                          Collection<String> ruleBookNames) {
+        long ruleBooksMask = getRuleBooksMask(ruleBookNames);
+        if (ruleBooksMask == 0) {
+            return new ArrayList<>();
+        }
+        DayFieldValues dayFieldValues = getDayFieldValues(vedicCalendar);
+        return getDinaVisheshams(dayFieldValues, ruleBooksMask);
+    }
+
+    /**
+     * Use this API to get Dina Visheshams for the given calendar day as per the given rule books
+     * only as a bitmask of codes (as set via setDinaVisheshamCodes()).
+     *
+     * @param vedicCalendar VedicCalendar set to the calendar day.
+     * @param ruleBookNames Names of rule books (as given to getInstance()).
+     *
+     * @return Bitmask with bit N set for each Dina Vishesham with code N.
+     */
+    public long getDinaVisheshamsMask(VedicCalendar vedicCalendar,
+                                      Collection<String> ruleBookNames) {
+        long ruleBooksMask = getRuleBooksMask(ruleBookNames);
+        if (ruleBooksMask == 0) {
+            return 0;
+        }
+        DayFieldValues dayFieldValues = getDayFieldValues(vedicCalendar);
+        return getDinaVisheshamsMask(dayFieldValues, ruleBooksMask);
+    }
+
+    /*
+     * Get bits of the given rule books. Rule books that are not known are left out.
+     */
+    private long getRuleBooksMask(Collection<String> ruleBookNames) {
+        long ruleBooksMask = 0;
+        for (String ruleBookName : ruleBookNames) {
+            int ruleBookId = this.ruleBookNames.indexOf(ruleBookName);
+            if (ruleBookId != -1) {
+                ruleBooksMask |= (1L << ruleBookId);
+            } else {
+                System.out.println("VedicCalendarDinaVisheshamRuleEngine, Warning: " +
+                        "Unknown rule book(" + ruleBookName + ")!");
+            }
+        }
+        return ruleBooksMask;
+    }
+
+    /*
+     * Field values of the calendar day (that the given VedicCalendar is set to) are worked out
+     * from its Panchangam as per computeDay() without formatting (or) parsing any of them as
+     * Strings.
+     */
+    private static DayFieldValues getDayFieldValues(VedicCalendar vedicCalendar) {
+        VedicCalendar.PanchangamDay panchangamDay = vedicCalendar.computeDay();
         ArrayList<VedicCalendar.KaalamInfo> kaalamInfoList =
                 vedicCalendar.getKaalaVibhaagam(VedicCalendar.MATCH_PANCHANGAM_FULLDAY);
-        //startTime3 = endTime3;
-        //endTime3 = System.nanoTime();
-        //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " getKaalaVibhaagam() Time Taken: " +
-        //        VedicCalendar.getTimeTaken(startTime3, endTime3));
+        return new DayFieldValues(panchangamDay, kaalamInfoList);
+    }
+
+    /**
+     * Use this API to get a list of Dina Visheshams for the given calendar day from its
+     * Panchangam as given by VedicCalendar.computeDay() (or) VedicCalendar.computeRange().
+     * This is well suited for evaluating rules for a range of days as the Panchangam of all the
+     * days can be worked out in one go.
+     *
+     * @param panchangamDay     Panchangam details of the calendar day.
+     * @param kaalamInfoList    Kaala Vibhaagam (MATCH_PANCHANGAM_FULLDAY) of the calendar day.
+     *
+     * @return List of Dina Vishesham titles.
+     */
+    public List<String> getDinaVisheshams(VedicCalendar.PanchangamDay panchangamDay,
+                                          ArrayList<VedicCalendar.KaalamInfo> kaalamInfoList) {
+        DayFieldValues dayFieldValues = new DayFieldValues(panchangamDay, kaalamInfoList);
+        return getDinaVisheshams(dayFieldValues, ALL_RULE_BOOKS);
+    }
+
+    /**
+     * Use this API to get Dina Visheshams for the given calendar day as a bitmask of codes
+     * (as set via setDinaVisheshamCodes()) from its Panchangam as given by
+     * VedicCalendar.computeDay() (or) VedicCalendar.computeRange().
+     *
+     * @param panchangamDay     Panchangam details of the calendar day.
+     * @param kaalamInfoList    Kaala Vibhaagam (MATCH_PANCHANGAM_FULLDAY) of the calendar day.
+     *
+     * @return Bitmask with bit N set for each Dina Vishesham with code N.
+     */
+    public long getDinaVisheshamsMask(VedicCalendar.PanchangamDay panchangamDay,
+                                      ArrayList<VedicCalendar.KaalamInfo> kaalamInfoList) {
+        DayFieldValues dayFieldValues = new DayFieldValues(panchangamDay, kaalamInfoList);
+        return getDinaVisheshamsMask(dayFieldValues, ALL_RULE_BOOKS);
+    }
+
+    private List<String> getDinaVisheshams(DayFieldValues dayFieldValues, long ruleBooksMask) {
+        return getDinaVisheshamTitles(getMatchingDinaVisheshams(dayFieldValues, ruleBooksMask));
+    }
+
+    /**
+     * Utility function to get Dina Visheshams for the given calendar day by evaluating every
+     * rule in the rule book(s) in turn (i.e, without DinaVisheshamIndex).
+     * This is meant only to validate the Dina Visheshams given by getDinaVisheshams().
+     *
+     * @param vedicCalendar     VedicCalendar instance set to the calendar day.
+     *
+     * @return List of Dina Visheshams (in the same order as getDinaVisheshams()).
+     */
+    List<String> scanDinaVisheshams(VedicCalendar vedicCalendar) {
+        DayFieldValues dayFieldValues = getDayFieldValues(vedicCalendar);
+        ArrayList<DinaVishesham> dinaVisheshams = new ArrayList<>();
+        scanDinaVisheshamsForMaasam(dinaVisheshams, ALL_MAASAMS, dayFieldValues);
+        if (!dayFieldValues.isAdhikaMaasam()) {
+            scanDinaVisheshamsForMaasam(dinaVisheshams,
+                    dayFieldValues.get(FIELD_ID_SAURAMAANAM_MAASAM,
+                            getExpectedKaalam(DEFAULT_KAALAM_PRADOSHAM)), dayFieldValues);
+            scanDinaVisheshamsForMaasam(dinaVisheshams,
+                    dayFieldValues.get(FIELD_ID_CHAANDRAMAANAM_MAASAM,
+                            getExpectedKaalam(DEFAULT_KAALAM_PRADOSHAM)), dayFieldValues);
+        }
+        return getDinaVisheshamTitles(dinaVisheshams);
+    }
+
+    private void scanDinaVisheshamsForMaasam(ArrayList<DinaVishesham> dinaVisheshams,
+                                             int maasamIndex, DayFieldValues dayFieldValues) {
+        for (int visheshamIndex = 0;visheshamIndex < dinaVisheshamsList.size();visheshamIndex++) {
+            DinaVishesham dinaVishesham = dinaVisheshamsList.get(visheshamIndex);
+            int dinaVisheshamMaasam = getMaasamFromRulesList(dinaVishesham.ruleEntries);
+            if (dinaVisheshamMaasam == FIELD_VALUE_UNKNOWN) {
+                dinaVisheshamMaasam = ALL_MAASAMS;
+            }
+            if ((dinaVisheshamMaasam == maasamIndex) && dinaVishesham.matches(dayFieldValues)) {
+                dinaVisheshams.add(dinaVishesham);
+            }
+        }
+    }
+
+    private static List<String> getDinaVisheshamTitles(ArrayList<DinaVishesham> dinaVisheshams) {
         List<String> dinaVisheshamList = new ArrayList<>();
+        for (int visheshamIndex = 0;visheshamIndex < dinaVisheshams.size();visheshamIndex++) {
+            DinaVishesham dinaVishesham = dinaVisheshams.get(visheshamIndex);
+            if (!dinaVisheshamList.contains(dinaVishesham.visheshamTitle)) {
+                dinaVisheshamList.add(dinaVishesham.visheshamTitle);
+                //System.out.println("Match: " + dinaVishesham.visheshamTitle);
+            }
+        }
+        //System.out.println("Matches: " + dinaVisheshamList.toString());
+        return dinaVisheshamList;
+    }
+
+    private long getDinaVisheshamsMask(DayFieldValues dayFieldValues, long ruleBooksMask) {
+        long dinaVisheshamsMask = 0;
+        ArrayList<DinaVishesham> dinaVisheshams =
+                getMatchingDinaVisheshams(dayFieldValues, ruleBooksMask);
+        for (int visheshamIndex = 0;visheshamIndex < dinaVisheshams.size();visheshamIndex++) {
+            dinaVisheshamsMask |= dinaVisheshams.get(visheshamIndex).dinaVisheshamMask;
+        }
+        return dinaVisheshamsMask;
+    }
+
+    private ArrayList<DinaVishesham> getMatchingDinaVisheshams(DayFieldValues dayFieldValues,
+                                                               long ruleBooksMask) {
+        ArrayList<DinaVishesham> dinaVisheshams = new ArrayList<>();
 
         //long startTime2 = System.nanoTime();
 
@@ -636,26 +1414,23 @@ public class VedicCalendarDinaVisheshamRuleEngine {
          */
         //System.out.println("ALL MAASAMS");
         //long startTime3 = System.nanoTime();
-        dinaVisheshamList = getDinaVisheshamListForMaasam(dinaVisheshamList, ALL_MAASAMS,
-                vedicCalendar, sauramaanaMaasam, chaandramanaMaasam, tithiStr, nakshatram, paksham,
-                vaasaram, dinaAnkam, kaalamInfoList);
+        addDinaVisheshamsForMaasam(dinaVisheshams, ALL_MAASAMS,
+                dayFieldValues, ruleBooksMask);
         //long endTime = System.nanoTime();
         //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " ALL_MAASAMS() Time Taken: " +
         //        VedicCalendar.getTimeTaken(startTime3, endTime));
 
-        if (!chaandramanaMaasam.contains("(Adhik)")) {
+        if (!dayFieldValues.isAdhikaMaasam()) {
             /*
              * Step 2> Get dina vishesham based on sauramaanam maasam
              */
             //System.out.println(FIELD_TO_MATCH_SAURAMAANAM_MAASAM);
             int fieldValueIndex;
-            fieldValueIndex = getFieldValueBasedOnKaalam(vedicCalendar,
-                    FIELD_TO_MATCH_SAURAMAANAM_MAASAM, sauramaanaMaasam,
-                    DEFAULT_KAALAM_PRADOSHAM, kaalamInfoList);
+            fieldValueIndex = dayFieldValues.get(FIELD_ID_SAURAMAANAM_MAASAM,
+                    getExpectedKaalam(DEFAULT_KAALAM_PRADOSHAM));
             //startTime3 = System.nanoTime();
-            dinaVisheshamList = getDinaVisheshamListForMaasam(dinaVisheshamList, fieldValueIndex,
-                    vedicCalendar, sauramaanaMaasam, chaandramanaMaasam, tithiStr, nakshatram, paksham,
-                    vaasaram, dinaAnkam, kaalamInfoList);
+            addDinaVisheshamsForMaasam(dinaVisheshams, fieldValueIndex,
+                    dayFieldValues, ruleBooksMask);
             //endTime = System.nanoTime();
             //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " sauramaanaMaasam() Time Taken: " +
             //        VedicCalendar.getTimeTaken(startTime3, endTime));
@@ -664,13 +1439,11 @@ public class VedicCalendarDinaVisheshamRuleEngine {
              * Step 3> Get dina vishesham based on chaandramaanam maasam
              */
             //System.out.println(FIELD_TO_MATCH_CHAANDRAMAANAM_MAASAM);
-            fieldValueIndex = getFieldValueBasedOnKaalam(vedicCalendar,
-                    FIELD_TO_MATCH_CHAANDRAMAANAM_MAASAM, chaandramanaMaasam,
-                    DEFAULT_KAALAM_PRADOSHAM, kaalamInfoList);
+            fieldValueIndex = dayFieldValues.get(FIELD_ID_CHAANDRAMAANAM_MAASAM,
+                    getExpectedKaalam(DEFAULT_KAALAM_PRADOSHAM));
             //startTime3 = System.nanoTime();
-            dinaVisheshamList = getDinaVisheshamListForMaasam(dinaVisheshamList, fieldValueIndex,
-                    vedicCalendar, sauramaanaMaasam, chaandramanaMaasam, tithiStr, nakshatram, paksham,
-                    vaasaram, dinaAnkam, kaalamInfoList);
+            addDinaVisheshamsForMaasam(dinaVisheshams, fieldValueIndex,
+                    dayFieldValues, ruleBooksMask);
             //endTime = System.nanoTime();
             //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " chaandramanaMaasam() Time Taken: " +
             //        VedicCalendar.getTimeTaken(startTime3, endTime));
@@ -679,25 +1452,15 @@ public class VedicCalendarDinaVisheshamRuleEngine {
         //endTime = System.nanoTime();
         //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " getDinaVisheshams() Time Taken: " +
         //        VedicCalendar.getTimeTaken(startTime2, endTime));
-        //System.out.println("VedicCalendarDinaVisheshamRuleEngine" + " getDinaVishesham() Time Taken: " +
-        //        VedicCalendar.getTimeTaken(startTime1, endTime));
-        return dinaVisheshamList;
+        return dinaVisheshams;
     }
 
-    private List<String> getDinaVisheshamListForMaasam(List<String> dinaVisheshamList,
-                                                       int maasamIndex,
-                                                       VedicCalendar vedicCalendar,
-                                                       String sauramaanaMaasam,
-                                                       String chaandramanaMaasam,
-                                                       String tithiStr,
-                                                       String nakshatram,
-                                                       String paksham,
-                                                       String vaasaram,
-                                                       int dinaAnkam,
-                                                       ArrayList<VedicCalendar.KaalamInfo> kaalamInfoList) {
-        int fieldValueIndex;
-        ArrayList<DinaVishesham> dinaVisheshams = maasamDinaVisheshamsList.get(maasamIndex);
-        if ((dinaVisheshams != null) && (dinaVisheshams.size() > 0)) {
+    private void addDinaVisheshamsForMaasam(ArrayList<DinaVishesham> dinaVisheshams,
+                                            int maasamIndex,
+                                            DayFieldValues dayFieldValues,
+                                            long ruleBooksMask) {
+        DinaVisheshamIndex dinaVisheshamIndex = maasamDinaVisheshamsList.get(maasamIndex);
+        if (dinaVisheshamIndex != null) {
 
             /*
              * Step 1> Use the current maasam & retrieve the list of "vishesham(s)"
@@ -709,95 +1472,23 @@ public class VedicCalendarDinaVisheshamRuleEngine {
              *         Step 2.1> "Kaala Sambhavaha" --> Which is the Kaala where this vishesham is expected to occur?
              *         Step 2.2> Parse nakshatram to get the nakshatram at the "Kaala Sambhavaha" and
              *                   retrieve the list of list of "vishesham(s) that matches the tithi
+             *
+             * Note: Rules are compiled to field IDs & values when the rule book is loaded and
+             *       field values at a given kaalam are calculated only once for the calendar day.
+             *       Only those rules whose indexed field (tithi, nakshatram, etc) matches the
+             *       calendar day are evaluated.
              */
             //System.out.println("VedicCalendarDinaVisheshamRuleEngine" +
             //        " Checking Dina Visheshams for maasam(" + strIndex + "): " + sauramaanaMaasam);
-            for (int visheshamIndex = 0;visheshamIndex < dinaVisheshams.size();visheshamIndex++) {
-                StringBuilder actualVisheshamTuple = new StringBuilder();
-                StringBuilder ruleVisheshamTuple = new StringBuilder();
-                DinaVishesham dinaVishesham = dinaVisheshams.get(visheshamIndex);
-                //System.out.println("VedicCalendarDinaVisheshamRuleEngine" +
-                //        " Checking Dina Vishesham(" + dinaVishesham.visheshamTitle + ")...");
-                ArrayList<RuleEntry> rulesList = dinaVishesham.ruleEntries;
-                int numRules = rulesList.size();
-                if (numRules > 0) {
-                    //long startTime = System.nanoTime();
-                    for (int ruleIndex = 0;ruleIndex < numRules;ruleIndex++) {
-                        RuleEntry ruleEntry = rulesList.get(ruleIndex);
-                        if (ruleEntry.fieldNameToMatch.equalsIgnoreCase(FIELD_TO_MATCH_SAURAMAANAM_MAASAM)) {
-                            ruleVisheshamTuple.append(ruleEntry.fieldValueToMatch);
-                            fieldValueIndex = getFieldValueBasedOnKaalam(vedicCalendar,
-                                    FIELD_TO_MATCH_SAURAMAANAM_MAASAM, sauramaanaMaasam,
-                                    ruleEntry.getKaalaSambhavaha(), kaalamInfoList);
-                            actualVisheshamTuple.append(fieldValueIndex);
-                        } else if (ruleEntry.fieldNameToMatch.equalsIgnoreCase(FIELD_TO_MATCH_CHAANDRAMAANAM_MAASAM)) {
-                            ruleVisheshamTuple.append(ruleEntry.fieldValueToMatch);
-                            fieldValueIndex = getFieldValueBasedOnKaalam(vedicCalendar,
-                                    FIELD_TO_MATCH_CHAANDRAMAANAM_MAASAM, chaandramanaMaasam,
-                                    ruleEntry.getKaalaSambhavaha(), kaalamInfoList);
-                            actualVisheshamTuple.append(fieldValueIndex);
-                        } else if (ruleEntry.fieldNameToMatch.equalsIgnoreCase(FIELD_TO_MATCH_PAKSHAM)) {
-                            ruleVisheshamTuple.append(ruleEntry.fieldValueToMatch);
-                            fieldValueIndex = getFieldValueBasedOnKaalam(vedicCalendar,
-                                    FIELD_TO_MATCH_PAKSHAM, paksham, ruleEntry.getKaalaSambhavaha(),
-                                    kaalamInfoList);
-                            actualVisheshamTuple.append(fieldValueIndex);
-                        } else if (ruleEntry.fieldNameToMatch.equalsIgnoreCase(FIELD_TO_MATCH_TITHI)) {
-                            fieldValueIndex = getFieldValueBasedOnKaalam(vedicCalendar,
-                                    FIELD_TO_MATCH_TITHI, tithiStr, ruleEntry.getKaalaSambhavaha(),
-                                    kaalamInfoList);
-
-                            // For Varalakshmi Vratham, tithi needs to be last friday before
-                            // pournami (8 < tithi < 15)
-                            int matchType = ruleEntry.getMatchType();
-                            if (matchType == TITHI_MATCH_TYPE_LAST_OCCURRENCE) {
-                                ruleVisheshamTuple.append(ruleEntry.matchType);
-                                if ((fieldValueIndex >= TITHI_INDEX_SHUKLA_ASHTAMI) &&
-                                    (fieldValueIndex < TITHI_INDEX_SHUKLA_POURNAMI)) {
-                                    actualVisheshamTuple.append(matchType);
-                                }
-                            } else {
-                                ruleVisheshamTuple.append(ruleEntry.fieldValueToMatch);
-                                actualVisheshamTuple.append(fieldValueIndex);
-                            }
-                        } else if (ruleEntry.fieldNameToMatch.equalsIgnoreCase(FIELD_TO_MATCH_NAKSHATRAM)) {
-                            ruleVisheshamTuple.append(ruleEntry.fieldValueToMatch);
-                            fieldValueIndex = getFieldValueBasedOnKaalam(vedicCalendar,
-                                    FIELD_TO_MATCH_NAKSHATRAM, nakshatram, ruleEntry.getKaalaSambhavaha(),
-                                    kaalamInfoList);
-                            actualVisheshamTuple.append(fieldValueIndex);
-                        } else if (ruleEntry.fieldNameToMatch.equalsIgnoreCase(FIELD_TO_MATCH_DINA_ANKHAM)) {
-                            ruleVisheshamTuple.append(ruleEntry.fieldValueToMatch);
-                            actualVisheshamTuple.append(dinaAnkam);
-                        } else if (ruleEntry.fieldNameToMatch.equalsIgnoreCase(FIELD_TO_MATCH_VAASARAM)) {
-                            ruleVisheshamTuple.append(ruleEntry.fieldValueToMatch);
-                            fieldValueIndex = getFieldValueBasedOnKaalam(vedicCalendar,
-                                    FIELD_TO_MATCH_VAASARAM, vaasaram, ruleEntry.getKaalaSambhavaha(),
-                                    kaalamInfoList);
-                            actualVisheshamTuple.append(fieldValueIndex);
-                        }
-                    }
-                    //long endTime = System.nanoTime();
-                    //System.out.println("VedicCalendarRuleEngine" + " getDinaVisheshamListForMaasam() Time Taken: " +
-                    //        VedicCalendar.getTimeTaken(startTime, endTime));
-
-                    /*System.out.println("VedicCalendarDinaVisheshamRuleEngine" +
-                            " Rule Match: " + ruleVisheshamTuple.toString() +
-                            " Actual Match: " + actualVisheshamTuple.toString());*/
-                    if (ruleVisheshamTuple.toString().equals(actualVisheshamTuple.toString())) {
-                        if (!dinaVisheshamList.contains(dinaVishesham.visheshamTitle)) {
-                            dinaVisheshamList.add(dinaVishesham.visheshamTitle);
-                            //System.out.println("Match: " + dinaVishesham.visheshamTitle);
-                        }
-                    }
-                }
-            }
-            //System.out.println("Matches: " + dinaVisheshamList.toString());
+            dinaVisheshams.addAll(dinaVisheshamIndex.getMatches(dayFieldValues, ruleBooksMask));
         }
-        return dinaVisheshamList;
     }
 
-    private void addDinaVisheshamToMaasamMap(DinaVishesham dinaVishesham) {
+    private void addDinaVisheshamToMaasamMap(DinaVishesham dinaVishesham, int ruleBookId) {
+        dinaVishesham.sequenceNum = numDinaVisheshams++;
+        dinaVishesham.ruleBookMask = (1L << ruleBookId);
+        dinaVisheshamsList.add(dinaVishesham);
+        dinaVishesham.compileRuleEntries();
         int dinaVisheshamMaasam = getMaasamFromRulesList(dinaVishesham.ruleEntries);
 
         // Add Dina Vishesham to "All" maasams
@@ -805,12 +1496,12 @@ public class VedicCalendarDinaVisheshamRuleEngine {
             dinaVisheshamMaasam = ALL_MAASAMS;
         }
 
-        ArrayList<DinaVishesham> dinaVisheshamList = maasamDinaVisheshamsList.get(dinaVisheshamMaasam);
-        if (dinaVisheshamList == null) {
-            dinaVisheshamList = new ArrayList<>();
-            maasamDinaVisheshamsList.put(dinaVisheshamMaasam, dinaVisheshamList);
+        DinaVisheshamIndex dinaVisheshamIndex = maasamDinaVisheshamsList.get(dinaVisheshamMaasam);
+        if (dinaVisheshamIndex == null) {
+            dinaVisheshamIndex = new DinaVisheshamIndex();
+            maasamDinaVisheshamsList.put(dinaVisheshamMaasam, dinaVisheshamIndex);
         }
-        dinaVisheshamList.add(dinaVishesham);
+        dinaVisheshamIndex.addDinaVishesham(dinaVishesham);
     }
 
     private int getMaasamFromRulesList(ArrayList<RuleEntry> rulesList) {
@@ -836,12 +1527,27 @@ public class VedicCalendarDinaVisheshamRuleEngine {
         return maasamIndex;
     }
 
-    private int getFieldValueBasedOnKaalam(VedicCalendar vedicCalendar, String fieldType,
-                                           String fieldValue, int kaalamInRule,
-                                           ArrayList<VedicCalendar.KaalamInfo> kaalamInfoList) {
-        int expectedKaalam = DEFAULT_KAALAM_PRADOSHAM;
-        int fieldValueIndex = getFieldValueIndex(vedicCalendar, fieldType, fieldValue);
+    private static int getFieldId(String fieldName) {
+        if (fieldName.equalsIgnoreCase(FIELD_TO_MATCH_SAURAMAANAM_MAASAM)) {
+            return FIELD_ID_SAURAMAANAM_MAASAM;
+        } else if (fieldName.equalsIgnoreCase(FIELD_TO_MATCH_CHAANDRAMAANAM_MAASAM)) {
+            return FIELD_ID_CHAANDRAMAANAM_MAASAM;
+        } else if (fieldName.equalsIgnoreCase(FIELD_TO_MATCH_PAKSHAM)) {
+            return FIELD_ID_PAKSHAM;
+        } else if (fieldName.equalsIgnoreCase(FIELD_TO_MATCH_TITHI)) {
+            return FIELD_ID_TITHI;
+        } else if (fieldName.equalsIgnoreCase(FIELD_TO_MATCH_NAKSHATRAM)) {
+            return FIELD_ID_NAKSHATRAM;
+        } else if (fieldName.equalsIgnoreCase(FIELD_TO_MATCH_DINA_ANKHAM)) {
+            return FIELD_ID_DINA_ANKHAM;
+        } else if (fieldName.equalsIgnoreCase(FIELD_TO_MATCH_VAASARAM)) {
+            return FIELD_ID_VAASARAM;
+        }
+        return FIELD_ID_UNKNOWN;
+    }
 
+    private static int getExpectedKaalam(int kaalamInRule) {
+        int expectedKaalam = DEFAULT_KAALAM_PRADOSHAM;
         if (kaalamInRule != KAALAM_UNKNOWN) {
             expectedKaalam = kaalamInRule;
             expectedKaalam -= 1;
@@ -852,175 +1558,52 @@ public class VedicCalendarDinaVisheshamRuleEngine {
                 expectedKaalam = KAALAM_MAX_VAL;
             }
         }
-
-        /*
-         * For Example:
-         * Tithi can be represented only in the following combinations:
-         * a) Saptami
-         * b) Sasthi (21:04) > Saptami
-         * c) Sasthi (29:34)
-         */
-        if (fieldValueIndex == FIELD_VALUE_UNKNOWN) {
-            /*
-             * Below conditions will be handled in this block:
-             * b) Sasthi (21:04) > Saptami
-             * c) Sasthi (29:34)
-             */
-            String[] fieldTokens = fieldValue.split(VedicCalendar.ARROW_SYMBOL);
-            String fieldSpanStr = fieldValue;
-            if (fieldTokens.length > 1) {
-                fieldSpanStr = fieldTokens[0];
-            }
-            String[] fieldSpanTokens = fieldSpanStr.split(TIME_SPAN_START_CHAR);
-            if (fieldSpanTokens.length == FIELD_VALUE_MAX_TOKENS) {
-                fieldValue = fieldSpanTokens[0];
-                fieldValue = fieldValue.trim();
-                fieldSpanStr = fieldSpanTokens[1].replace(TIME_SPAN_END_CHAR, "");
-                fieldSpanStr = fieldSpanStr.trim();
-            }
-
-            fieldValueIndex = getFieldValueIndex(vedicCalendar, fieldType, fieldValue);
-            int fieldSpanAtKaalam = getKaalamFromFieldSpan(fieldSpanStr, kaalamInfoList);
-            if (fieldSpanAtKaalam >= expectedKaalam) {
-                return fieldValueIndex;
-            }
-            int fieldMaxValue = getMaxFieldValue(fieldType);
-            return ((fieldValueIndex + 1) % fieldMaxValue);
-        }
-
-        return fieldValueIndex;
+        return expectedKaalam;
     }
 
-    private int getKaalamFromFieldSpan(String fieldSpan,
-                                       ArrayList<VedicCalendar.KaalamInfo> kaalamInfoList) {
+    private static int getKaalamFromFieldSpan(double fieldSpan, boolean isFieldSpanValid,
+                                              ArrayList<VedicCalendar.KaalamInfo> kaalamInfoList) {
         if (kaalamInfoList != null) {
             for (int index = 0; index < kaalamInfoList.size(); index++) {
                 VedicCalendar.KaalamInfo kaalamInfo = kaalamInfoList.get(index);
-                if (isTimeSpanWithinKaalam(fieldSpan, kaalamInfo)) {
+                if (kaalamInfo.isTimeSpanWithinKaalam(fieldSpan, false)) {
                     return index;
                 }
             }
         }
 
-        double timeSpan;
-        String[] tokens = fieldSpan.split(HHMM_DELIMITER);
-        if (tokens.length == FIELD_VALUE_MAX_TOKENS) {
-            timeSpan = Integer.parseInt(tokens[0]) * VedicCalendar.MAX_MINS_IN_HOUR;
-            timeSpan += Integer.parseInt(tokens[1]);
-            if (timeSpan > VedicCalendar.MAX_MINS_IN_DAY) {
-                return KAALAM_MAX_VAL;
-            }
+        if (isFieldSpanValid && (fieldSpan > VedicCalendar.MAX_MINS_IN_DAY)) {
+            return KAALAM_MAX_VAL;
         }
         return KAALAM_UNKNOWN;
     }
 
-    private boolean isTimeSpanWithinKaalam(String fieldSpanStr, VedicCalendar.KaalamInfo kaalamInfo) {
-        double startTime = 0;
-        double endTime = 0;
-        double fieldSpan = 0;
-        String[] tokens = kaalamInfo.startTime.split(HHMM_DELIMITER);
-        if (tokens.length == FIELD_VALUE_MAX_TOKENS) {
-            startTime = Integer.parseInt(tokens[0]) * VedicCalendar.MAX_MINS_IN_HOUR;
-            startTime += Integer.parseInt(tokens[1]);
-
-            /*
-             * Brahma Muhurtam is calculated as follows:
-             * StartTime: Sunrise - 2 Muhurtams (96 mins)
-             * Duration: 1 muhurtam (48 mins)
-             *
-             * Hence, there is a gap of 1 muhurtam between Brahma Muhurtam end time &
-             * Pratah kaalam start time. To fill this gap, we are accomodating 1 muhurtam
-             * into pratah kaalam for "Dina Vishesham" calculations purposes ONLY.
-             */
-            if (kaalamInfo.index == 1) {
-                startTime -= VedicCalendar.BRAHMA_MUHURTHAM_DURATION;
-            }
-        }
-
-        tokens = kaalamInfo.endTime.split(HHMM_DELIMITER);
-        if (tokens.length == FIELD_VALUE_MAX_TOKENS) {
-            endTime = Integer.parseInt(tokens[0]) * VedicCalendar.MAX_MINS_IN_HOUR;
-            endTime += Integer.parseInt(tokens[1]);
-        }
-
-        if (endTime < startTime) {
-            endTime += VedicCalendar.MAX_MINS_IN_DAY;
-        }
-
-        tokens = fieldSpanStr.split(HHMM_DELIMITER);
-        if (tokens.length == FIELD_VALUE_MAX_TOKENS) {
-            fieldSpan = Integer.parseInt(tokens[0]) * VedicCalendar.MAX_MINS_IN_HOUR;
-            fieldSpan += Integer.parseInt(tokens[1]);
-        }
-
-        return (fieldSpan >= startTime) && (fieldSpan < endTime);
-    }
-
-    private int getFieldValueIndex(VedicCalendar vedicCalendar, String fieldType, String fieldValue) {
-        int fieldValueIndex = FIELD_VALUE_UNKNOWN;
-        switch (fieldType) {
-            case FIELD_TO_MATCH_SAURAMAANAM_MAASAM:
-                fieldValueIndex = vedicCalendar.getSauramanaMaasamIndex(fieldValue);
-                break;
-            case FIELD_TO_MATCH_CHAANDRAMAANAM_MAASAM:
-                fieldValueIndex = vedicCalendar.getChaandramaanamMaasamIndex(fieldValue);
-                break;
-            case FIELD_TO_MATCH_PAKSHAM:
-                fieldValueIndex = vedicCalendar.getPakshamIndex(fieldValue);
-                break;
-            case FIELD_TO_MATCH_TITHI:
-                fieldValueIndex = vedicCalendar.getTithiIndex(fieldValue);
-                break;
-            case FIELD_TO_MATCH_NAKSHATRAM:
-                fieldValueIndex = vedicCalendar.getNakshatramIndex(fieldValue);
-                break;
-            case FIELD_TO_MATCH_DINA_ANKHAM:
-                fieldValueIndex = vedicCalendar.getDinaAnkam();
-                break;
-            case FIELD_TO_MATCH_VAASARAM:
-                fieldValueIndex = vedicCalendar.getVaasaramIndex();
-                break;
-        }
-
-        return fieldValueIndex;
-    }
-
-    private int getMaxFieldValue(String fieldType) {
+    private static int getMaxFieldValue(int fieldId) {
         int maxFieldValue = 0;
-        switch (fieldType) {
-            case FIELD_TO_MATCH_SAURAMAANAM_MAASAM:
+        switch (fieldId) {
+            case FIELD_ID_SAURAMAANAM_MAASAM:
                 maxFieldValue = VedicCalendar.MAX_RAASIS;
                 break;
-            case FIELD_TO_MATCH_CHAANDRAMAANAM_MAASAM:
+            case FIELD_ID_CHAANDRAMAANAM_MAASAM:
                 maxFieldValue = VedicCalendar.MAX_RAASIS;
                 break;
-            case FIELD_TO_MATCH_PAKSHAM:
+            case FIELD_ID_PAKSHAM:
                 maxFieldValue = VedicCalendar.MAX_PAKSHAMS;
                 break;
-            case FIELD_TO_MATCH_TITHI:
+            case FIELD_ID_TITHI:
                 maxFieldValue = VedicCalendar.MAX_TITHIS;
                 break;
-            case FIELD_TO_MATCH_NAKSHATRAM:
+            case FIELD_ID_NAKSHATRAM:
                 maxFieldValue = VedicCalendar.MAX_NAKSHATHRAMS;
                 break;
-            case FIELD_TO_MATCH_DINA_ANKHAM:
+            case FIELD_ID_DINA_ANKHAM:
                 maxFieldValue = MAX_DINA_ANKHAMS;
                 break;
-            case FIELD_TO_MATCH_VAASARAM:
+            case FIELD_ID_VAASARAM:
                 maxFieldValue = VedicCalendar.MAX_VAASARAMS;
                 break;
         }
 
         return maxFieldValue;
     }
-
-    private String trimLine(String line) {
-        String trimmedLine = line;
-        String[] tokens = line.split(COMMENT_START_INDICATOR);
-        if (tokens.length == FIELD_VALUE_MAX_TOKENS) {
-            trimmedLine = tokens[0];
-        }
-        trimmedLine = trimmedLine.trim();
-        return trimmedLine;
-    }
 }
@@ -0,0 +1,156 @@
+package com.gkmhc.utils;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * VedicCalendar LRU Cache.
+ * A bounded cache that holds upto maxEntries results & evicts one of the least recently used
+ * ones when full. Safe to be shared by all VedicCalendar instances across threads.
+ *
+ * Lookups do not take any lock, so that any number of threads can be served from the cache at
+ * the same time. Only additions (along with evictions) & clearing the cache are synchronized on
+ * the cache itself (so callers can also synchronize on the cache to check & add atomically).
+ * As lookups do not reorder entries, least recently used ones are approximated (CLOCK) by
+ * marking entries as referenced on lookup & giving such entries a second chance before
+ * evicting them.
+ *
+ * Number of lookups that were served from the cache (hits) & the ones that were not (misses)
+ * are counted so that effectiveness of the cache can be checked for a given usage pattern.
+ *
+ * @author GKM Heritage Creations, 2021
+ *
+ * This whole software project is distributed under GNU GPL:
+ * http://www.gnu.org/licenses/old-licenses/gpl-2.0.html
+ *
+ * Use of this software as a whole or in parts to copy, modify, redistribute shall be in
+ * accordance with terms & conditions in GNU GPL license.
+ */
+public class VedicCalendarLRUCache<K, V> {
+    private final int maxEntries;
+    private final ConcurrentHashMap<K, CacheEntry<V>> entries;
+    // Keys in the order in which they are to be considered for eviction.
+    // Accessed only while synchronized on the cache.
+    private final ArrayDeque<K> evictionQueue;
+    private final AtomicLong numHits = new AtomicLong();
+    private final AtomicLong numMisses = new AtomicLong();
+
+    private static final class CacheEntry<V> {
+        private final V value;
+        private volatile boolean referenced = false;
+
+        private CacheEntry(V value) {
+            this.value = value;
+        }
+    }
+
+    public VedicCalendarLRUCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new ConcurrentHashMap<>();
+        this.evictionQueue = new ArrayDeque<>();
+    }
+
+    /**
+     * Use this API to lookup the cache.
+     *
+     * @param key   Key to lookup
+     *
+     * @return Cached value if found, null otherwise.
+     */
+    public V get(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry != null) {
+            // Avoid writing to the entry (shared across threads) if already marked
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            numHits.incrementAndGet();
+            return entry.value;
+        }
+        numMisses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Use this API to add (or) replace a value in the cache.
+     *
+     * @param key   Key to add
+     * @param value Value to add (non-null)
+     */
+    public synchronized void put(K key, V value) {
+        if (entries.put(key, new CacheEntry<>(value)) == null) {
+            evictionQueue.add(key);
+            while (entries.size() > maxEntries) {
+                evictEntry();
+            }
+        }
+    }
+
+    /**
+     * Use this API to remove all values from the cache & to reset the hit/miss counters.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        evictionQueue.clear();
+        numHits.set(0);
+        numMisses.set(0);
+    }
+
+    /**
+     * Use this API to get the number of values in the cache.
+     *
+     * @return Number of values (not more than maxEntries).
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Use this API to get the maximum number of values that can be held in the cache.
+     *
+     * @return Maximum number of values.
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Use this API to get the number of lookups that were served from the cache.
+     *
+     * @return Number of hits.
+     */
+    public long getNumHits() {
+        return numHits.get();
+    }
+
+    /**
+     * Use this API to get the number of lookups that were not served from the cache.
+     *
+     * @return Number of misses.
+     */
+    public long getNumMisses() {
+        return numMisses.get();
+    }
+
+    /**
+     * Utility function to evict one value from the cache.
+     * Entries that were looked up since they were last considered are given a second chance
+     * (unless every entry has been given one already as lookups keep marking them).
+     */
+    private void evictEntry() {
+        int numChances = evictionQueue.size();
+        while (true) {
+            K key = evictionQueue.poll();
+            CacheEntry<V> entry = entries.get(key);
+            if ((entry != null) && entry.referenced && (numChances > 0)) {
+                entry.referenced = false;
+                evictionQueue.add(key);
+                numChances--;
+            } else {
+                entries.remove(key);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.gkmhc.utils;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * VedicCalendar Longitude Model.
+ * Models sidereal longitudes of Ravi & Chandra over a given Gregorian calendar year as a series
+ * of Chebyshev polynomials, each one fitted over a segment of SEGMENT_DAYS days from SwissEph
+ * samples.
+ *
+ * Longitudes of both Ravi & Chandra change very smoothly. Hence, a polynomial of degree
+ * (NUM_COEFFS - 1) fitted over a few days is within MAX_ERROR_DEGREES of SwissEph (as validated
+ * by VedicCalendarLongitudeModelTest) and can be evaluated with just a few multiplications &
+ * without any memory allocations.
+ *
+ * Note: Segments are fitted only when needed (see VedicCalendar.getLongitudeModel()) as most
+ *       queries only need a day or two of the year. Coefficients of each segment are stored
+ *       in primitive arrays & published atomically so that a model can be shared by all
+ *       VedicCalendar instances with the same ayanamsa.
+ *
+ * @author GKM Heritage Creations, 2021
+ *
+ * This whole software project is distributed under GNU GPL:
+ * http://www.gnu.org/licenses/old-licenses/gpl-2.0.html
+ *
+ * Use of this software as a whole or in parts to copy, modify, redistribute shall be in
+ * accordance with terms & conditions in GNU GPL license.
+ */
+public class VedicCalendarLongitudeModel {
+    public static final int BODY_RAVI = 0;
+    public static final int BODY_CHANDRA = 1;
+    public static final int MAX_BODIES = 2;
+    public static final double SEGMENT_DAYS = 8;
+    public static final int NUM_COEFFS = 16;
+
+    // Maximum deviation of modelled longitudes from SwissEph (~0.002 arc-seconds), most of
+    // which is SwissEph's own interpolation noise. For Chandra, this is well within 0.01 second
+    // of time.
+    public static final double MAX_ERROR_DEGREES = 5e-7;
+
+    private final int year;
+    private final int siderealMode;
+    private final double jdStart;
+    private final double jdEnd;
+
+    // Coefficients (per body) of each segment (null till the segment is fitted)
+    private final AtomicReferenceArray<double[]> segmentCoeffs;
+
+    VedicCalendarLongitudeModel(int year, int siderealMode, double jdStart, double jdEnd) {
+        this.year = year;
+        this.siderealMode = siderealMode;
+        this.jdStart = jdStart;
+        this.jdEnd = jdEnd;
+        this.segmentCoeffs =
+                new AtomicReferenceArray<>((int) Math.ceil((jdEnd - jdStart) / SEGMENT_DAYS));
+    }
+
+    /**
+     * Use this API to get the Gregorian calendar year covered by this model.
+     *
+     * @return Year as a number.
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Use this API to get the sidereal mode (ayanamsa as per SwissEph) used for this model.
+     *
+     * @return Sidereal mode as a number.
+     */
+    public int getSiderealMode() {
+        return siderealMode;
+    }
+
+    /**
+     * Use this API to check if the given instant is covered by this model.
+     *
+     * @param jd    Instant as a Julian Day (UT)
+     *
+     * @return true if covered, false otherwise.
+     */
+    public boolean covers(double jd) {
+        return (jd >= jdStart) && (jd < jdEnd);
+    }
+
+    /**
+     * Use this API to check if the segment covering the given instant is fitted already.
+     *
+     * @param jd    Instant as a Julian Day (UT) (covered by this model)
+     *
+     * @return true if fitted, false otherwise.
+     */
+    public boolean isFitted(double jd) {
+        return (segmentCoeffs.get(getSegment(jd)) != null);
+    }
+
+    /**
+     * Use this API to get the instants at which longitudes need to be sampled to fit the segment
+     * covering the given instant.
+     *
+     * @param jd        Instant as a Julian Day (UT) (covered by this model)
+     * @param sampleJds Instants (as Julian Days (UT)) are returned here (NUM_COEFFS)
+     */
+    public void getSampleJds(double jd, double[] sampleJds) {
+        double segmentStart = jdStart + (getSegment(jd) * SEGMENT_DAYS);
+        for (int node = 0; node < NUM_COEFFS; node++) {
+            double x = Math.cos(Math.PI * (node + 0.5) / NUM_COEFFS);
+            sampleJds[node] = segmentStart + ((x + 1) * (SEGMENT_DAYS / 2));
+        }
+    }
+
+    /**
+     * Use this API to fit the segment covering the given instant.
+     *
+     * @param jd        Instant as a Julian Day (UT) (covered by this model)
+     * @param samples   Longitudes (in degrees) of each body at each of the instants given by
+     *                  getSampleJds() in [body][node] order.
+     */
+    public void fitSegment(double jd, double[][] samples) {
+        double[] coeffs = new double[MAX_BODIES * NUM_COEFFS];
+        double[] unwrappedSamples = new double[NUM_COEFFS];
+        for (int body = 0; body < MAX_BODIES; body++) {
+            // Longitudes wrap around at 360 degrees. Unwrap them so that they are continuous.
+            unwrappedSamples[0] = samples[body][0];
+            for (int node = 1; node < NUM_COEFFS; node++) {
+                double delta = samples[body][node] - samples[body][node - 1];
+                if (delta > 180) {
+                    delta -= 360;
+                } else if (delta < -180) {
+                    delta += 360;
+                }
+                unwrappedSamples[node] = unwrappedSamples[node - 1] + delta;
+            }
+
+            for (int coeff = 0; coeff < NUM_COEFFS; coeff++) {
+                double sum = 0;
+                for (int node = 0; node < NUM_COEFFS; node++) {
+                    sum += unwrappedSamples[node] *
+                            Math.cos(Math.PI * coeff * (node + 0.5) / NUM_COEFFS);
+                }
+                coeffs[(body * NUM_COEFFS) + coeff] = (2.0 / NUM_COEFFS) * sum;
+            }
+            coeffs[body * NUM_COEFFS] /= 2;
+        }
+        segmentCoeffs.set(getSegment(jd), coeffs);
+    }
+
+    /**
+     * Use this API to get the longitude of the given body at the given instant.
+     *
+     * @param body  BODY_RAVI / BODY_CHANDRA
+     * @param jd    Instant as a Julian Day (UT) (covered by this model & fitted already)
+     *
+     * @return Longitude in degrees (0 - 360).
+     */
+    public double getLongitude(int body, double jd) {
+        int segment = getSegment(jd);
+        double[] coeffs = segmentCoeffs.get(segment);
+        int offset = body * NUM_COEFFS;
+        double x = getSegmentX(segment, jd);
+
+        // Clenshaw's recurrence
+        double b1 = 0;
+        double b2 = 0;
+        for (int coeff = (NUM_COEFFS - 1); coeff > 0; coeff--) {
+            double b0 = (2 * x * b1) - b2 + coeffs[offset + coeff];
+            b2 = b1;
+            b1 = b0;
+        }
+        double longitude = ((x * b1) - b2 + coeffs[offset]) % 360;
+        if (longitude < 0) {
+            longitude += 360;
+        }
+        return longitude;
+    }
+
+    /**
+     * Use this API to get the rate at which longitude of the given body changes at the given
+     * instant.
+     *
+     * @param body  BODY_RAVI / BODY_CHANDRA
+     * @param jd    Instant as a Julian Day (UT) (covered by this model & fitted already)
+     *
+     * @return Rate in degrees per day.
+     */
+    public double getRate(int body, double jd) {
+        int segment = getSegment(jd);
+        double[] coeffs = segmentCoeffs.get(segment);
+        int offset = body * NUM_COEFFS;
+        double x = getSegmentX(segment, jd);
+
+        // d(Tn(x))/dx = n * Un-1(x), where Un is Chebyshev polynomial of the 2nd kind
+        double prevU = 0;
+        double currU = 1;
+        double rate = 0;
+        for (int coeff = 1; coeff < NUM_COEFFS; coeff++) {
+            rate += coeff * coeffs[offset + coeff] * currU;
+            double nextU = (2 * x * currU) - prevU;
+            prevU = currU;
+            currU = nextU;
+        }
+        return rate * (2 / SEGMENT_DAYS);
+    }
+
+    private int getSegment(double jd) {
+        return (int) ((jd - jdStart) / SEGMENT_DAYS);
+    }
+
+    private double getSegmentX(int segment, double jd) {
+        double segmentStart = jdStart + (segment * SEGMENT_DAYS);
+        return ((2 * (jd - segmentStart)) / SEGMENT_DAYS) - 1;
+    }
+}
@@ -0,0 +1,415 @@
+package com.gkmhc.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.security.spec.InvalidParameterSpecException;
+
+/*
+ * VedicCalendar Rule Book Tokenizer.
+ * Tokenizes a rule book (TOML) in a single pass, one char at a time, & gives one token (section
+ * (or) key/value pair) at a time (see next()). No regular expressions, line Strings (or) arrays of
+ * tokens are created along the way. Only the section name, key & value of each token are created
+ * as Strings.
+ *
+ * Subset of TOML that is supported:
+ * 1) [section], [section.sub_section], etc (see getSectionDepth())
+ * 2) key=value where key is a bare key & value is either a "basic string" (with \" \\ \b \f \n
+ *    \r \t \\uXXXX escapes), a 'literal string' (or) a bare value (number, date, etc) that is
+ *    given as is (without the trailing spaces)
+ * 3) # comments (either on a line of their own (or) after a section (or) key/value pair)
+ * Anything else (including a line that is neither of the above) is given as an invalid token
+ * along with the reason & its line number (see getError()) & the rest of that line is skipped.
+ * Hence, a typo in one line does not stop the rest of the rule book from being tokenized.
+ * Note: As in rule books written before this tokenizer, quotes within a "basic string" need not
+ *       be escaped. For Example, "Sri "Rama" Navami" is given as Sri "Rama" Navami.
+ *
+ * @author GKM Heritage Creations, 2021
+ *
+ * This whole software project is distributed under GNU GPL:
+ * http://www.gnu.org/licenses/old-licenses/gpl-2.0.html
+ *
+ * Use of this software as a whole or in parts to copy, modify, redistribute shall be in
+ * accordance with terms & conditions in GNU GPL license.
+ */
+public class VedicCalendarRuleBookTokenizer implements Closeable {
+    public static final int TOKEN_END_OF_RULE_BOOK = 0;
+    public static final int TOKEN_SECTION = 1;
+    public static final int TOKEN_KEY_VALUE = 2;
+    public static final int TOKEN_INVALID = 3;
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final int END_OF_RULE_BOOK = -1;
+    private static final char NEW_LINE_CHAR = '\n';
+    private static final char COMMENT_START_CHAR = '#';
+    private static final char SECTION_START_CHAR = '[';
+    private static final char SECTION_END_CHAR = ']';
+    private static final char SECTION_SEPARATOR_CHAR = '.';
+    private static final char KEY_VALUE_SEPARATOR_CHAR = '=';
+    private static final char BASIC_STRING_QUOTE_CHAR = '"';
+    private static final char LITERAL_STRING_QUOTE_CHAR = '\'';
+    private static final char ESCAPE_CHAR = '\\';
+    private static final char BYTE_ORDER_MARK_CHAR = '\uFEFF';
+    private static final int UNICODE_ESCAPE_NUM_DIGITS = 4;
+    private static final int HEX_RADIX = 16;
+
+    private final Reader reader;
+    private final char[] readBuffer;
+    private int readBufferLength = 0;
+    private int readBufferPos = 0;
+    private int lineNum = 1;
+
+    // Details of the token given last by next()
+    private final StringBuilder tokenBuilder;
+    private int tokenLineNum = 0;
+    private String section = null;
+    private int sectionDepth = 0;
+    private String key = null;
+    private String value = null;
+    private String error = null;
+
+    public VedicCalendarRuleBookTokenizer(Reader reader) {
+        this.reader = reader;
+        this.readBuffer = new char[READ_BUFFER_SIZE];
+        this.tokenBuilder = new StringBuilder();
+    }
+
+    /**
+     * Use this API to get the next token from the rule book.
+     *
+     * @return TOKEN_SECTION (see getSection()), TOKEN_KEY_VALUE (see getKey() & getValue()),
+     *         TOKEN_INVALID if the line is not as per the supported syntax (see getError())
+     *         (or) TOKEN_END_OF_RULE_BOOK once the whole rule book is tokenized.
+     *
+     * @throws IOException if the rule book could not be read.
+     */
+    public int next() throws IOException {
+        key = null;
+        value = null;
+        error = null;
+        while (true) {
+            int nextChar = readChar();
+            if (nextChar == END_OF_RULE_BOOK) {
+                tokenLineNum = lineNum;
+                return TOKEN_END_OF_RULE_BOOK;
+            }
+            if ((nextChar == NEW_LINE_CHAR) || isWhiteSpace(nextChar)) {
+                continue;
+            }
+
+            tokenLineNum = lineNum;
+            try {
+                if (nextChar == COMMENT_START_CHAR) {
+                    skipComment();
+                } else if (nextChar == SECTION_START_CHAR) {
+                    readSection();
+                    return TOKEN_SECTION;
+                } else {
+                    readKeyValue(nextChar);
+                    return TOKEN_KEY_VALUE;
+                }
+            } catch (InvalidParameterSpecException e) {
+                key = null;
+                value = null;
+                error = e.getMessage();
+
+                // Skip rest of the line (unless the error was found at the end of the line)
+                if (lineNum == tokenLineNum) {
+                    skipComment();
+                }
+                return TOKEN_INVALID;
+            }
+        }
+    }
+
+    /**
+     * Use this API to get the name of the section given last by next() (or the section of the
+     * key/value pair given last by next()).
+     *
+     * @return Section name (without [ & ]) (or) null if no section is given so far.
+     */
+    public String getSection() {
+        return section;
+    }
+
+    /**
+     * Use this API to get the # of names in the section given last by next().
+     * For Example, 1 for [dina_vishesham], 2 for [dina_vishesham.amavaasai], etc.
+     *
+     * @return # of names in the section.
+     */
+    public int getSectionDepth() {
+        return sectionDepth;
+    }
+
+    /**
+     * Use this API to get the key of the key/value pair given last by next().
+     *
+     * @return Key (or) null if the last token is not a key/value pair.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Use this API to get the value of the key/value pair given last by next().
+     *
+     * @return Value (without quotes & with escapes resolved for strings) (or) null if the last
+     *         token is not a key/value pair.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Use this API to get the reason why the line given last by next() is invalid.
+     *
+     * @return Reason along with the line # (or) null if the last token is not TOKEN_INVALID.
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Use this API to get the line # (starting from 1) of the token given last by next().
+     *
+     * @return Line #.
+     */
+    public int getLineNum() {
+        return tokenLineNum;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readSection() throws InvalidParameterSpecException, IOException {
+        tokenBuilder.setLength(0);
+        int numSeparators = 0;
+        int nextChar = readChar();
+        while (nextChar != SECTION_END_CHAR) {
+            if ((nextChar == END_OF_RULE_BOOK) || (nextChar == NEW_LINE_CHAR)) {
+                throw getSyntaxError("Section is not closed with " + SECTION_END_CHAR);
+            }
+            if (nextChar == SECTION_SEPARATOR_CHAR) {
+                numSeparators += 1;
+            }
+            tokenBuilder.append((char) nextChar);
+            nextChar = readChar();
+        }
+
+        String sectionName = tokenBuilder.toString().trim();
+        if (sectionName.isEmpty() || (sectionName.charAt(0) == SECTION_START_CHAR)) {
+            throw getSyntaxError("Invalid section (" + sectionName + ")");
+        }
+        section = sectionName;
+        sectionDepth = numSeparators + 1;
+        skipToEndOfLine();
+    }
+
+    private void readKeyValue(int firstChar) throws InvalidParameterSpecException, IOException {
+        tokenBuilder.setLength(0);
+        int nextChar = firstChar;
+        while (isKeyChar(nextChar)) {
+            tokenBuilder.append((char) nextChar);
+            nextChar = readChar();
+        }
+        if (tokenBuilder.length() == 0) {
+            throw getSyntaxError("Unexpected character (" + (char) nextChar + ")");
+        }
+        key = tokenBuilder.toString();
+
+        while (isWhiteSpace(nextChar)) {
+            nextChar = readChar();
+        }
+        if (nextChar != KEY_VALUE_SEPARATOR_CHAR) {
+            throw getSyntaxError("Missing " + KEY_VALUE_SEPARATOR_CHAR + " after key (" + key + ")");
+        }
+        nextChar = readChar();
+        while (isWhiteSpace(nextChar)) {
+            nextChar = readChar();
+        }
+
+        tokenBuilder.setLength(0);
+        if (nextChar == BASIC_STRING_QUOTE_CHAR) {
+            readBasicString();
+            readUnescapedQuotes();
+        } else if (nextChar == LITERAL_STRING_QUOTE_CHAR) {
+            readLiteralString();
+            skipToEndOfLine();
+        } else {
+            // Bare value runs till a comment (or) end of line
+            while ((nextChar != END_OF_RULE_BOOK) && (nextChar != NEW_LINE_CHAR) &&
+                   (nextChar != COMMENT_START_CHAR)) {
+                tokenBuilder.append((char) nextChar);
+                nextChar = readChar();
+            }
+            int valueLength = tokenBuilder.length();
+            while ((valueLength > 0) && isWhiteSpace(tokenBuilder.charAt(valueLength - 1))) {
+                valueLength -= 1;
+            }
+            if (valueLength == 0) {
+                throw getSyntaxError("Missing value for key (" + key + ")");
+            }
+            tokenBuilder.setLength(valueLength);
+            if (nextChar == COMMENT_START_CHAR) {
+                skipComment();
+            }
+        }
+        value = tokenBuilder.toString();
+    }
+
+    private void readBasicString() throws InvalidParameterSpecException, IOException {
+        int nextChar = readChar();
+        while (nextChar != BASIC_STRING_QUOTE_CHAR) {
+            if ((nextChar == END_OF_RULE_BOOK) || (nextChar == NEW_LINE_CHAR)) {
+                throw getSyntaxError("String is not closed with " + BASIC_STRING_QUOTE_CHAR);
+            }
+            if (nextChar == ESCAPE_CHAR) {
+                nextChar = readEscapedChar();
+            }
+            tokenBuilder.append((char) nextChar);
+            nextChar = readChar();
+        }
+    }
+
+    /*
+     * Text after the closing quote of a "basic string" (if any) is taken to be a part of the
+     * string (i.e. the string has quotes that are not escaped) as long as it ends with a quote.
+     */
+    private void readUnescapedQuotes() throws InvalidParameterSpecException, IOException {
+        int stringLength = tokenBuilder.length();
+        int nextChar = readChar();
+        while ((nextChar != END_OF_RULE_BOOK) && (nextChar != NEW_LINE_CHAR) &&
+               (nextChar != COMMENT_START_CHAR)) {
+            if (tokenBuilder.length() == stringLength) {
+                // Closing quote of the string read so far is a part of the string after all
+                tokenBuilder.append(BASIC_STRING_QUOTE_CHAR);
+            }
+            tokenBuilder.append((char) nextChar);
+            nextChar = readChar();
+        }
+
+        int valueLength = tokenBuilder.length();
+        while ((valueLength > stringLength) && isWhiteSpace(tokenBuilder.charAt(valueLength - 1))) {
+            valueLength -= 1;
+        }
+        if (valueLength <= (stringLength + 1)) {
+            // Nothing but spaces after the closing quote
+            valueLength = stringLength;
+        } else if (tokenBuilder.charAt(valueLength - 1) == BASIC_STRING_QUOTE_CHAR) {
+            // Leave out the closing quote
+            valueLength -= 1;
+        } else {
+            int charIndex = stringLength + 1;
+            while (isWhiteSpace(tokenBuilder.charAt(charIndex))) {
+                charIndex += 1;
+            }
+            throw getSyntaxError("Unexpected character (" + tokenBuilder.charAt(charIndex) + ")");
+        }
+        tokenBuilder.setLength(valueLength);
+        if (nextChar == COMMENT_START_CHAR) {
+            skipComment();
+        }
+    }
+
+    private int readEscapedChar() throws InvalidParameterSpecException, IOException {
+        int escapedChar = readChar();
+        switch (escapedChar) {
+            case BASIC_STRING_QUOTE_CHAR:
+            case ESCAPE_CHAR:
+                return escapedChar;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int unicodeChar = 0;
+                for (int digitIndex = 0;digitIndex < UNICODE_ESCAPE_NUM_DIGITS;digitIndex++) {
+                    int digit = Character.digit(readChar(), HEX_RADIX);
+                    if (digit == -1) {
+                        throw getSyntaxError("Invalid unicode escape in string");
+                    }
+                    unicodeChar = (unicodeChar * HEX_RADIX) + digit;
+                }
+                return unicodeChar;
+            default:
+                throw getSyntaxError("Invalid escape in string");
+        }
+    }
+
+    private void readLiteralString() throws InvalidParameterSpecException, IOException {
+        int nextChar = readChar();
+        while (nextChar != LITERAL_STRING_QUOTE_CHAR) {
+            if ((nextChar == END_OF_RULE_BOOK) || (nextChar == NEW_LINE_CHAR)) {
+                throw getSyntaxError("String is not closed with " + LITERAL_STRING_QUOTE_CHAR);
+            }
+            tokenBuilder.append((char) nextChar);
+            nextChar = readChar();
+        }
+    }
+
+    /*
+     * Only spaces (or) a comment are allowed after a section (or) a key/value pair.
+     */
+    private void skipToEndOfLine() throws InvalidParameterSpecException, IOException {
+        int nextChar = readChar();
+        while (isWhiteSpace(nextChar)) {
+            nextChar = readChar();
+        }
+        if (nextChar == COMMENT_START_CHAR) {
+            skipComment();
+        } else if ((nextChar != END_OF_RULE_BOOK) && (nextChar != NEW_LINE_CHAR)) {
+            throw getSyntaxError("Unexpected character (" + (char) nextChar + ")");
+        }
+    }
+
+    private void skipComment() throws IOException {
+        int nextChar = readChar();
+        while ((nextChar != END_OF_RULE_BOOK) && (nextChar != NEW_LINE_CHAR)) {
+            nextChar = readChar();
+        }
+    }
+
+    private int readChar() throws IOException {
+        if (readBufferPos == readBufferLength) {
+            readBufferLength = reader.read(readBuffer, 0, readBuffer.length);
+            readBufferPos = 0;
+            if (readBufferLength <= 0) {
+                readBufferLength = 0;
+                return END_OF_RULE_BOOK;
+            }
+        }
+
+        char nextChar = readBuffer[readBufferPos++];
+        if (nextChar == NEW_LINE_CHAR) {
+            lineNum += 1;
+        }
+        return nextChar;
+    }
+
+    private InvalidParameterSpecException getSyntaxError(String reason) {
+        return new InvalidParameterSpecException(reason + " at line " + tokenLineNum + "!");
+    }
+
+    private static boolean isWhiteSpace(int nextChar) {
+        // '\r' & byte order mark are treated as spaces so that rule books saved with "\r\n"
+        // line endings (or) with a byte order mark work as is
+        return ((nextChar == ' ') || (nextChar == '\t') || (nextChar == '\r') ||
+                (nextChar == BYTE_ORDER_MARK_CHAR));
+    }
+
+    private static boolean isKeyChar(int nextChar) {
+        return (((nextChar >= 'a') && (nextChar <= 'z')) ||
+                ((nextChar >= 'A') && (nextChar <= 'Z')) ||
+                ((nextChar >= '0') && (nextChar <= '9')) ||
+                (nextChar == '_') || (nextChar == '-'));
+    }
+}
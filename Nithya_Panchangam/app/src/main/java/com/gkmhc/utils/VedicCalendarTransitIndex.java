@@ -0,0 +1,314 @@
+package com.gkmhc.utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/*
+ * VedicCalendar Transition Index.
+ * Holds the exact instants (Julian Day in UT) at which each of the following Panchangam fields
+ * changes over a given Gregorian calendar year:
+ * 1) Tithi
+ * 2) Nakshatram
+ * 3) Yogam
+ * 4) Karanam
+ * 5) Sankranti (Ravi's entry into a Raasi)
+ *
+ * Transitions for each field are stored as a sorted double[] along with the index of the field
+ * that was in effect just before the first transition. So, the index at any given instant is
+ * simply (firstIndex + number of transitions till then) and the next transition after any given
+ * instant is the one right after it. Both are worked out using a binary search.
+ *
+ * Note: Transitions only depend on the year & the ayanamsa (sidereal mode) as these are all
+ *       geo-centric. Hence, one index can be shared by all VedicCalendar instances irrespective
+ *       of their location (or) timezone.
+ *       Transitions are captured from a couple of days before the year starts till a couple of
+ *       days after the year ends so that spans of all calendar days within the year are covered.
+ *
+ * An index can also be persisted to a compact binary file & mapped back into memory so that it
+ * need not be rebuilt every time the App (or Widget) starts afresh. File format is as follows:
+ *  Header  - Magic(int), Version(int), Year(int), Sidereal Mode(int), JD Start(double),
+ *            JD End(double), Number of fields(int)
+ *  Fields  - For each field: First Index(int), Number of transitions(int)
+ *  Data    - For each field: Transitions(double * Number of transitions)
+ * Files with a different magic (or) version (or) year (or) sidereal mode are simply ignored,
+ * so that the index gets rebuilt as per the latest format.
+ *
+ * @author GKM Heritage Creations, 2021
+ *
+ * This whole software project is distributed under GNU GPL:
+ * http://www.gnu.org/licenses/old-licenses/gpl-2.0.html
+ *
+ * Use of this software as a whole or in parts to copy, modify, redistribute shall be in
+ * accordance with terms & conditions in GNU GPL license.
+ */
+public class VedicCalendarTransitIndex {
+    public static final int FIELD_TITHI = 0;
+    public static final int FIELD_NAKSHATRAM = 1;
+    public static final int FIELD_YOGAM = 2;
+    public static final int FIELD_KARANAM = 3;
+    public static final int FIELD_SANKRANTI = 4;
+    public static final int MAX_FIELDS = 5;
+
+    // Number of distinct values per field (in the same order as FIELD_* above)
+    private static final int[] maxFieldValues = {30, 27, 27, 60, 12};
+
+    // Bump up FILE_VERSION whenever file format (or) the way transitions are calculated changes!
+    private static final int FILE_MAGIC = 0x56435449; // "VCTI"
+    private static final int FILE_VERSION = 3;
+    private static final int FILE_HEADER_SIZE = (5 * Integer.SIZE + 2 * Double.SIZE) / Byte.SIZE;
+    private static final int FILE_FIELD_HEADER_SIZE = (2 * Integer.SIZE) / Byte.SIZE;
+
+    private final int year;
+    private final int siderealMode;
+    private final double jdStart;
+    private final double jdEnd;
+    private final double[][] transitions;
+    private final int[] firstIndex;
+
+    VedicCalendarTransitIndex(int year, int siderealMode, double jdStart, double jdEnd,
+                              double[][] transitions, int[] firstIndex) {
+        this.year = year;
+        this.siderealMode = siderealMode;
+        this.jdStart = jdStart;
+        this.jdEnd = jdEnd;
+        this.transitions = transitions;
+        this.firstIndex = firstIndex;
+    }
+
+    /**
+     * Use this API to get the Gregorian calendar year covered by this index.
+     *
+     * @return Year as a number.
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Use this API to get the sidereal mode (ayanamsa as per SwissEph) used for this index.
+     *
+     * @return Sidereal mode as a number.
+     */
+    public int getSiderealMode() {
+        return siderealMode;
+    }
+
+    /**
+     * Use this API to check if the given instant is covered by this index.
+     *
+     * @param jd    Instant as a Julian Day (UT)
+     *
+     * @return true if covered, false otherwise.
+     */
+    public boolean covers(double jd) {
+        return (jd >= jdStart) && (jd <= jdEnd);
+    }
+
+    /**
+     * Use this API to get all the transitions of a given field.
+     *
+     * @param field FIELD_TITHI / FIELD_NAKSHATRAM / FIELD_YOGAM / FIELD_KARANAM / FIELD_SANKRANTI
+     *
+     * @return Sorted list of transitions as Julian Days (UT).
+     *         Note: This is NOT a copy and hence should NOT be modified.
+     */
+    public double[] getTransitions(int field) {
+        return transitions[field];
+    }
+
+    /**
+     * Use this API to get the index of the given field in effect right after the n-th transition.
+     *
+     * @param field             FIELD_TITHI / FIELD_NAKSHATRAM / FIELD_YOGAM / FIELD_KARANAM /
+     *                          FIELD_SANKRANTI
+     * @param transitionIndex   Position of the transition in getTransitions(field)
+     *                          (-1 for the index in effect before the first transition)
+     *
+     * @return Field index (Tithi: 0-29, Nakshatram: 0-26, Yogam: 0-26, Karanam: 0-59,
+     *         Sankranti: 0-11 (Raasi that Ravi is in)).
+     */
+    public int getIndexAfterTransition(int field, int transitionIndex) {
+        return (firstIndex[field] + transitionIndex + 1) % maxFieldValues[field];
+    }
+
+    /**
+     * Use this API to get the index of the given field at a given instant.
+     *
+     * @param field FIELD_TITHI / FIELD_NAKSHATRAM / FIELD_YOGAM / FIELD_KARANAM / FIELD_SANKRANTI
+     * @param jd    Instant as a Julian Day (UT)
+     *
+     * @return Field index (as per getIndexAfterTransition()) (or) -1 if jd is not covered.
+     */
+    public int getIndexAt(int field, double jd) {
+        if (!covers(jd)) {
+            return -1;
+        }
+        return getIndexAfterTransition(field, (getFirstTransitionAfter(field, jd) - 1));
+    }
+
+    /**
+     * Use this API to get the instant at which the given field next changes to the given index.
+     *
+     * @param field     FIELD_TITHI / FIELD_NAKSHATRAM / FIELD_YOGAM / FIELD_KARANAM /
+     *                  FIELD_SANKRANTI
+     * @param toIndex   Field index after the transition
+     * @param jd        Instant (as a Julian Day (UT)) after which the transition is needed
+     *
+     * @return Transition as a Julian Day (UT) (or) -1 if jd is not covered.
+     */
+    public double getNextTransition(int field, int toIndex, double jd) {
+        if (!covers(jd)) {
+            return -1;
+        }
+
+        double[] fieldTransitions = transitions[field];
+        for (int transitionIndex = getFirstTransitionAfter(field, jd);
+             transitionIndex < fieldTransitions.length; transitionIndex++) {
+            if (getIndexAfterTransition(field, transitionIndex) == toIndex) {
+                return fieldTransitions[transitionIndex];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Use this API to persist this index to the given file.
+     * Note: File is first written to a temporary file & then renamed so that readers (possibly
+     *       from other processes) never see a partially written file.
+     *
+     * @param file  File to be written
+     *
+     * @return true if written successfully, false otherwise.
+     */
+    public boolean writeTo(File file) {
+        int fileSize = FILE_HEADER_SIZE;
+        for (double[] fieldTransitions : transitions) {
+            fileSize += FILE_FIELD_HEADER_SIZE + (fieldTransitions.length * (Double.SIZE / Byte.SIZE));
+        }
+
+        ByteBuffer byteBuffer = ByteBuffer.allocate(fileSize);
+        byteBuffer.putInt(FILE_MAGIC);
+        byteBuffer.putInt(FILE_VERSION);
+        byteBuffer.putInt(year);
+        byteBuffer.putInt(siderealMode);
+        byteBuffer.putDouble(jdStart);
+        byteBuffer.putDouble(jdEnd);
+        byteBuffer.putInt(MAX_FIELDS);
+        for (int field = 0; field < MAX_FIELDS; field++) {
+            byteBuffer.putInt(firstIndex[field]);
+            byteBuffer.putInt(transitions[field].length);
+        }
+        for (double[] fieldTransitions : transitions) {
+            byteBuffer.asDoubleBuffer().put(fieldTransitions);
+            byteBuffer.position(byteBuffer.position() +
+                    (fieldTransitions.length * (Double.SIZE / Byte.SIZE)));
+        }
+        byteBuffer.flip();
+
+        File tmpFile = new File(file.getPath() + ".tmp");
+        try (FileOutputStream outputStream = new FileOutputStream(tmpFile)) {
+            FileChannel fileChannel = outputStream.getChannel();
+            while (byteBuffer.hasRemaining()) {
+                fileChannel.write(byteBuffer);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            tmpFile.delete();
+            return false;
+        }
+        return tmpFile.renameTo(file);
+    }
+
+    /**
+     * Use this API to read back an index persisted earlier using writeTo().
+     *
+     * @param file          File to be read
+     * @param year          Gregorian calendar year expected in the file
+     * @param siderealMode  Sidereal mode expected in the file
+     *
+     * @return  Transition index upon success, null if the file does not exist (or) is stale (or)
+     *          is corrupt.
+     */
+    public static VedicCalendarTransitIndex readFrom(File file, int year, int siderealMode) {
+        if (!file.isFile()) {
+            return null;
+        }
+
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            FileChannel fileChannel = randomAccessFile.getChannel();
+            long fileSize = fileChannel.size();
+            if (fileSize < FILE_HEADER_SIZE) {
+                return null;
+            }
+            MappedByteBuffer byteBuffer =
+                    fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if ((byteBuffer.getInt() != FILE_MAGIC) || (byteBuffer.getInt() != FILE_VERSION) ||
+                (byteBuffer.getInt() != year) || (byteBuffer.getInt() != siderealMode)) {
+                return null;
+            }
+            double jdStart = byteBuffer.getDouble();
+            double jdEnd = byteBuffer.getDouble();
+            if ((byteBuffer.getInt() != MAX_FIELDS) ||
+                (byteBuffer.remaining() < (MAX_FIELDS * FILE_FIELD_HEADER_SIZE))) {
+                return null;
+            }
+
+            int[] firstIndex = new int[MAX_FIELDS];
+            int[] numTransitions = new int[MAX_FIELDS];
+            long expectedFileSize = FILE_HEADER_SIZE;
+            for (int field = 0; field < MAX_FIELDS; field++) {
+                firstIndex[field] = byteBuffer.getInt();
+                numTransitions[field] = byteBuffer.getInt();
+                if ((firstIndex[field] < 0) || (firstIndex[field] >= maxFieldValues[field]) ||
+                    (numTransitions[field] < 0)) {
+                    return null;
+                }
+                expectedFileSize += FILE_FIELD_HEADER_SIZE +
+                        ((long) numTransitions[field] * (Double.SIZE / Byte.SIZE));
+            }
+            if (expectedFileSize != fileSize) {
+                return null;
+            }
+
+            double[][] transitions = new double[MAX_FIELDS][];
+            for (int field = 0; field < MAX_FIELDS; field++) {
+                transitions[field] = new double[numTransitions[field]];
+                byteBuffer.asDoubleBuffer().get(transitions[field]);
+                byteBuffer.position(byteBuffer.position() +
+                        (numTransitions[field] * (Double.SIZE / Byte.SIZE)));
+            }
+            return new VedicCalendarTransitIndex(year, siderealMode, jdStart, jdEnd, transitions,
+                    firstIndex);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Utility function to find the position of the first transition strictly after the given
+     * instant.
+     *
+     * @param field FIELD_TITHI / FIELD_NAKSHATRAM / FIELD_YOGAM / FIELD_KARANAM / FIELD_SANKRANTI
+     * @param jd    Instant as a Julian Day (UT)
+     *
+     * @return Position of the transition in getTransitions(field)
+     *         (or) length of the array if there is none.
+     */
+    private int getFirstTransitionAfter(int field, double jd) {
+        double[] fieldTransitions = transitions[field];
+        int pos = Arrays.binarySearch(fieldTransitions, jd);
+        if (pos >= 0) {
+            pos += 1;
+        } else {
+            pos = -(pos + 1);
+        }
+        return pos;
+    }
+}
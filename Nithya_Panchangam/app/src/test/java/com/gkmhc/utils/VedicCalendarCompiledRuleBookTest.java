@@ -0,0 +1,254 @@
+package com.gkmhc.utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/*
+ * Test to validate that rules loaded from compiled rule book match the ones parsed from the
+ * rule book (nithya_panchangam.toml), that compiled rule book is not used once the rule book
+ * changes (or) when it is corrupted, that rule engines compiling the same rule book at the same
+ * time do not get in each other's way & to report time taken to parse vs load the rules.
+ */
+public class VedicCalendarCompiledRuleBookTest {
+    private static final String DINA_VISHESHAM_RULES_FILE = "./nithya_panchangam.toml";
+    private static final String COMPILED_RULE_BOOK_SUFFIX = ".bin";
+    private static final int YEAR = 2022;
+    private static final int NUM_ITERATIONS = 10;
+    private static final int NUM_WRITERS = 4;
+    private static final long OVERSIZED_COMPILED_RULE_BOOK_SIZE = 1L << 32;
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarCompiledRuleBookTest vcCRBT = new VedicCalendarCompiledRuleBookTest();
+        File ruleBookFile = null;
+        try {
+            ruleBookFile = File.createTempFile("nithya_panchangam", ".toml");
+            Files.copy(new File(DINA_VISHESHAM_RULES_FILE).toPath(), ruleBookFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+            vcCRBT.testParseVsLoad(ruleBookFile);
+            vcCRBT.testRuleBookChanges(ruleBookFile);
+            vcCRBT.testCorruptedCompiledRuleBook(ruleBookFile);
+            vcCRBT.testConcurrentCompiles(ruleBookFile);
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        } finally {
+            if (ruleBookFile != null) {
+                //noinspection ResultOfMethodCallIgnored
+                getCompiledRuleBookFile(ruleBookFile).delete();
+                //noinspection ResultOfMethodCallIgnored
+                ruleBookFile.delete();
+            }
+        }
+
+        System.out.println("Summary Report: " + vcCRBT.numPassedTCs + "/" + vcCRBT.totalTCs +
+                " = " + String.format("%2.2f",
+                (((double)vcCRBT.numPassedTCs / vcCRBT.totalTCs) * 100)) + "%");
+        if (vcCRBT.numPassedTCs != vcCRBT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testParseVsLoad(File ruleBookFile) throws Exception {
+        String ruleBookFileName = ruleBookFile.getPath();
+
+        // 1) Parse rule book (with no compiled rule book around)
+        long parseTime = 0;
+        VedicCalendarDinaVisheshamRuleEngine parsedRuleEngine = null;
+        for (int iteration = 0; iteration < NUM_ITERATIONS; iteration++) {
+            //noinspection ResultOfMethodCallIgnored
+            getCompiledRuleBookFile(ruleBookFile).delete();
+            long startTime = System.nanoTime();
+            parsedRuleEngine = VedicCalendarDinaVisheshamRuleEngine.getInstance(ruleBookFileName);
+            parseTime += (System.nanoTime() - startTime);
+        }
+        totalTCs++;
+        if (!parsedRuleEngine.isCompiledRuleBookLoaded() &&
+            getCompiledRuleBookFile(ruleBookFile).isFile()) {
+            numPassedTCs++;
+        } else {
+            System.out.println("parseVsLoad: Compiled rule book is not saved...FAILED");
+        }
+
+        // 2) Load compiled rule book
+        long loadTime = 0;
+        VedicCalendarDinaVisheshamRuleEngine loadedRuleEngine = null;
+        for (int iteration = 0; iteration < NUM_ITERATIONS; iteration++) {
+            long startTime = System.nanoTime();
+            loadedRuleEngine = VedicCalendarDinaVisheshamRuleEngine.getInstance(ruleBookFileName);
+            loadTime += (System.nanoTime() - startTime);
+        }
+        totalTCs++;
+        if (loadedRuleEngine.isCompiledRuleBookLoaded()) {
+            numPassedTCs++;
+        } else {
+            System.out.println("parseVsLoad: Compiled rule book is not loaded...FAILED");
+        }
+
+        // 3) Validate that both give same Panchangam Info & Dina Visheshams
+        totalTCs++;
+        if (isSame(parsedRuleEngine.panchangamTitle, loadedRuleEngine.panchangamTitle) &&
+            isSame(parsedRuleEngine.panchangamDescription, loadedRuleEngine.panchangamDescription) &&
+            isSame(parsedRuleEngine.panchangamDate, loadedRuleEngine.panchangamDate) &&
+            isSame(parsedRuleEngine.panchangamTime, loadedRuleEngine.panchangamTime) &&
+            isSame(parsedRuleEngine.panchangamVersion, loadedRuleEngine.panchangamVersion) &&
+            isSame(parsedRuleEngine.contributorName, loadedRuleEngine.contributorName) &&
+            isSame(parsedRuleEngine.contributorCopyright, loadedRuleEngine.contributorCopyright) &&
+            isSame(parsedRuleEngine.emailContact, loadedRuleEngine.emailContact)) {
+            numPassedTCs++;
+        } else {
+            System.out.println("parseVsLoad: Panchangam Info...FAILED");
+        }
+
+        Calendar dayCalendar = Calendar.getInstance();
+        dayCalendar.set(YEAR, 0, 1, 6, 0, 0);
+        VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(dayCalendar);
+        while (dayCalendar.get(Calendar.YEAR) == YEAR) {
+            vedicCalendar.setDate(dayCalendar.get(Calendar.DATE),
+                    dayCalendar.get(Calendar.MONTH), YEAR, 6, 0);
+            totalTCs++;
+            if (parsedRuleEngine.getDinaVisheshams(vedicCalendar).equals(
+                    loadedRuleEngine.getDinaVisheshams(vedicCalendar))) {
+                numPassedTCs++;
+            } else {
+                System.out.println("parseVsLoad: " + dayCalendar.get(Calendar.DATE) + "/" +
+                        (dayCalendar.get(Calendar.MONTH) + 1) + "/" + YEAR + "...FAILED");
+            }
+            dayCalendar.add(Calendar.DATE, 1);
+        }
+
+        System.out.println("parseVsLoad: Time Taken (Parse/Load): " +
+                VedicCalendar.getTimeTaken(0, (parseTime / NUM_ITERATIONS)) + "/" +
+                VedicCalendar.getTimeTaken(0, (loadTime / NUM_ITERATIONS)));
+    }
+
+    public void testRuleBookChanges(File ruleBookFile) throws Exception {
+        String ruleBookFileName = ruleBookFile.getPath();
+        byte[] ruleBook = Files.readAllBytes(ruleBookFile.toPath());
+
+        // 1) Rule book with a different size
+        writeRuleBook(ruleBookFile, ruleBook, "\n# Comment\n".getBytes());
+        validateLoad(ruleBookFileName, false, "size");
+        validateLoad(ruleBookFileName, true, "size (again)");
+
+        // 2) Rule book with same size & contents but a different last modified time
+        //noinspection ResultOfMethodCallIgnored
+        ruleBookFile.setLastModified(ruleBookFile.lastModified() - 60000);
+        validateLoad(ruleBookFileName, false, "last modified time");
+
+        // 3) Rule book with same size & last modified time but different contents
+        long lastModified = ruleBookFile.lastModified();
+        writeRuleBook(ruleBookFile, ruleBook, "\n# Commen!\n".getBytes());
+        //noinspection ResultOfMethodCallIgnored
+        ruleBookFile.setLastModified(lastModified);
+        validateLoad(ruleBookFileName, false, "contents");
+
+        writeRuleBook(ruleBookFile, ruleBook, new byte[0]);
+        validateLoad(ruleBookFileName, false, "restored");
+    }
+
+    public void testCorruptedCompiledRuleBook(File ruleBookFile) throws Exception {
+        String ruleBookFileName = ruleBookFile.getPath();
+        File compiledRuleBookFile = getCompiledRuleBookFile(ruleBookFile);
+        validateLoad(ruleBookFileName, true, "before truncation");
+
+        RandomAccessFile randomAccessFile = new RandomAccessFile(compiledRuleBookFile, "rw");
+        randomAccessFile.setLength(compiledRuleBookFile.length() / 2);
+        randomAccessFile.close();
+        validateLoad(ruleBookFileName, false, "truncated");
+        validateLoad(ruleBookFileName, true, "after truncation");
+
+        // Compiled rule book that is too big to be valid (sparse file) is not read at all
+        randomAccessFile = new RandomAccessFile(compiledRuleBookFile, "rw");
+        randomAccessFile.setLength(OVERSIZED_COMPILED_RULE_BOOK_SIZE);
+        randomAccessFile.close();
+        validateLoad(ruleBookFileName, false, "oversized");
+        validateLoad(ruleBookFileName, true, "after oversized");
+    }
+
+    public void testConcurrentCompiles(File ruleBookFile) throws Exception {
+        String ruleBookFileName = ruleBookFile.getPath();
+        File compiledRuleBookFile = getCompiledRuleBookFile(ruleBookFile);
+        File ruleBookDir = compiledRuleBookFile.getAbsoluteFile().getParentFile();
+        VedicCalendarDinaVisheshamRuleEngine expectedRuleEngine =
+                VedicCalendarDinaVisheshamRuleEngine.getInstance(ruleBookFileName);
+
+        // All writers parse & save the compiled rule book at the same time
+        //noinspection ResultOfMethodCallIgnored
+        compiledRuleBookFile.delete();
+        ExecutorService executorService = Executors.newFixedThreadPool(NUM_WRITERS);
+        List<Future<VedicCalendarDinaVisheshamRuleEngine>> writerResults = new ArrayList<>();
+        for (int writer = 0; writer < NUM_WRITERS; writer++) {
+            writerResults.add(executorService.submit(
+                    new Callable<VedicCalendarDinaVisheshamRuleEngine>() {
+                @Override
+                public VedicCalendarDinaVisheshamRuleEngine call() throws Exception {
+                    return VedicCalendarDinaVisheshamRuleEngine.getInstance(ruleBookFileName);
+                }
+            }));
+        }
+        Calendar dayCalendar = Calendar.getInstance();
+        dayCalendar.set(YEAR, 0, 1, 6, 0, 0);
+        VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(dayCalendar);
+        boolean isSameRules = true;
+        for (Future<VedicCalendarDinaVisheshamRuleEngine> writerResult : writerResults) {
+            VedicCalendarDinaVisheshamRuleEngine ruleEngine = writerResult.get();
+            for (int date = 1; date <= 31; date++) {
+                vedicCalendar.setDate(date, 0, YEAR, 6, 0);
+                isSameRules &= ruleEngine.getDinaVisheshams(vedicCalendar).equals(
+                        expectedRuleEngine.getDinaVisheshams(vedicCalendar));
+            }
+        }
+        executorService.shutdown();
+
+        String[] tempFileNames = ruleBookDir.list((dir, name) ->
+                name.startsWith(compiledRuleBookFile.getName()) && name.endsWith(".tmp"));
+        totalTCs++;
+        if (isSameRules && (tempFileNames != null) && (tempFileNames.length == 0)) {
+            numPassedTCs++;
+        } else {
+            System.out.println("compiledRuleBook: concurrent compiles...FAILED");
+        }
+        validateLoad(ruleBookFileName, true, "after concurrent compiles");
+    }
+
+    private void validateLoad(String ruleBookFileName, boolean isLoadExpected, String testCase)
+            throws Exception {
+        VedicCalendarDinaVisheshamRuleEngine ruleEngine =
+                VedicCalendarDinaVisheshamRuleEngine.getInstance(ruleBookFileName);
+        totalTCs++;
+        if (ruleEngine.isCompiledRuleBookLoaded() == isLoadExpected) {
+            numPassedTCs++;
+        } else {
+            System.out.println("compiledRuleBook: " + testCase + "...FAILED");
+        }
+    }
+
+    private static void writeRuleBook(File ruleBookFile, byte[] ruleBook, byte[] suffix)
+            throws Exception {
+        FileOutputStream outputStream = new FileOutputStream(ruleBookFile);
+        outputStream.write(ruleBook);
+        outputStream.write(suffix);
+        outputStream.close();
+    }
+
+    private static File getCompiledRuleBookFile(File ruleBookFile) {
+        return new File(ruleBookFile.getPath() + COMPILED_RULE_BOOK_SUFFIX);
+    }
+
+    private static boolean isSame(String lhs, String rhs) {
+        return (lhs == null) ? (rhs == null) : lhs.equals(rhs);
+    }
+}
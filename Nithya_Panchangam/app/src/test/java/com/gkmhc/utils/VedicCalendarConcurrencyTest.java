@@ -0,0 +1,145 @@
+package com.gkmhc.utils;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/*
+ * Stress test to ensure VedicCalendar instances for different locations, timezones & ayanamsas
+ * can be used in parallel without corrupting each other.
+ *
+ * Panchangam for each city is first computed serially and then again for all cities in parallel
+ * (multiple rounds). Results from both runs are expected to match exactly.
+ */
+public class VedicCalendarConcurrencyTest {
+    private static final int NUM_DAYS = 30;
+    private static final int NUM_ROUNDS = 4;
+
+    private static class CityInfo {
+        private final String name;
+        private final double longitude;
+        private final double latitude;
+        private final String timeZoneID;
+        private final int ayanamsa;
+
+        CityInfo(String name, double longitude, double latitude, String timeZoneID, int ayanamsa) {
+            this.name = name;
+            this.longitude = longitude;
+            this.latitude = latitude;
+            this.timeZoneID = timeZoneID;
+            this.ayanamsa = ayanamsa;
+        }
+    }
+
+    private static final CityInfo[] cityList = {
+            new CityInfo("Chennai, India", 80.2707, 13.0827, "Asia/Kolkata",
+                    VedicCalendar.AYANAMSA_CHITRAPAKSHA),
+            new CityInfo("Varanasi, India", 82.9739, 25.3176, "Asia/Kolkata",
+                    VedicCalendar.AYANAMSA_LAHIRI),
+            new CityInfo("New York, USA", -74.0060, 40.7128, "America/New_York",
+                    VedicCalendar.AYANAMSA_CHITRAPAKSHA),
+            new CityInfo("London, UK", -0.1276, 51.5072, "Europe/London",
+                    VedicCalendar.AYANAMSA_KRISHNAMURTI),
+            new CityInfo("Sydney, Australia", 151.2093, -33.8688, "Australia/Sydney",
+                    VedicCalendar.AYANAMSA_LAHIRI),
+            new CityInfo("Singapore", 103.8198, 1.3521, "Asia/Singapore",
+                    VedicCalendar.AYANAMSA_CHITRAPAKSHA),
+            new CityInfo("San Francisco, USA", -122.4194, 37.7749, "America/Los_Angeles",
+                    VedicCalendar.AYANAMSA_KRISHNAMURTI),
+            new CityInfo("Dubai, UAE", 55.2708, 25.2048, "Asia/Dubai",
+                    VedicCalendar.AYANAMSA_CHITRAPAKSHA)
+    };
+
+    public static void main(String args[]) {
+        VedicCalendarConcurrencyTest vcCT = new VedicCalendarConcurrencyTest();
+        vcCT.testParallelMatchesSerial();
+    }
+
+    public void testParallelMatchesSerial() {
+        try {
+            long startTime = System.nanoTime();
+            List<String> serialResults = new ArrayList<>();
+            for (CityInfo cityInfo : cityList) {
+                serialResults.add(computePanchangam(cityInfo));
+            }
+            long endTime = System.nanoTime();
+            System.out.println("Serial run (" + cityList.length + " cities) Time Taken: " +
+                    VedicCalendar.getTimeTaken(startTime, endTime));
+
+            // Use at least one thread per city so that all cities interleave.
+            int numThreads = Math.max(Runtime.getRuntime().availableProcessors(), cityList.length);
+            ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+            int numPassedTCs = 0;
+            int totalTCs = 0;
+            for (int round = 0; round < NUM_ROUNDS; round++) {
+                startTime = System.nanoTime();
+                List<Future<String>> parallelResults = new ArrayList<>();
+                for (final CityInfo cityInfo : cityList) {
+                    parallelResults.add(executor.submit(new Callable<String>() {
+                        @Override
+                        public String call() throws Exception {
+                            return computePanchangam(cityInfo);
+                        }
+                    }));
+                }
+
+                for (int index = 0; index < cityList.length; index++) {
+                    String parallelResult = parallelResults.get(index).get();
+                    System.out.print("Round " + (round + 1) + ": Checking " +
+                            cityList[index].name + "...");
+                    if (serialResults.get(index).equals(parallelResult)) {
+                        System.out.println("PASSED");
+                        numPassedTCs++;
+                    } else {
+                        System.out.println("FAILED");
+                    }
+                    totalTCs++;
+                }
+                endTime = System.nanoTime();
+                System.out.println("Parallel run (" + numThreads + " threads) Time Taken: " +
+                        VedicCalendar.getTimeTaken(startTime, endTime));
+            }
+            executor.shutdown();
+
+            System.out.println("Summary Report: " + numPassedTCs + "/" + totalTCs + " = " +
+                    String.format("%2.2f", (((double)numPassedTCs / totalTCs) * 100)) + "%");
+            if (numPassedTCs != totalTCs) {
+                System.exit(-1);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    private String computePanchangam(CityInfo cityInfo) throws Exception {
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(cityInfo.timeZoneID));
+        calendar.set(2022, 0, 1, 6, 0, 0);
+        VedicCalendar vedicCalendar = VedicCalendar.getInstance(".",
+                VedicCalendar.PANCHANGAM_TYPE_DRIK_GANITHAM_LUNI_SOLAR, calendar,
+                cityInfo.longitude, cityInfo.latitude, cityInfo.timeZoneID,
+                cityInfo.ayanamsa, VedicCalendar.CHAANDRAMAANAM_TYPE_AMANTA, null);
+
+        StringBuilder result = new StringBuilder();
+        for (int day = 0; day < NUM_DAYS; day++) {
+            result.append(vedicCalendar.get(Calendar.DATE)).append("/")
+                    .append(vedicCalendar.get(Calendar.MONTH) + 1).append(": ")
+                    .append(vedicCalendar.getSunrise()).append(" ")
+                    .append(vedicCalendar.getSunset()).append(" ")
+                    .append(vedicCalendar.getTithi(VedicCalendar.MATCH_PANCHANGAM_FULLDAY)).append(" ")
+                    .append(vedicCalendar.getNakshatram(VedicCalendar.MATCH_PANCHANGAM_FULLDAY)).append(" ")
+                    .append(vedicCalendar.getYogam(VedicCalendar.MATCH_PANCHANGAM_FULLDAY)).append(" ")
+                    .append(vedicCalendar.getKaranam(VedicCalendar.MATCH_PANCHANGAM_FULLDAY)).append(" ")
+                    .append(vedicCalendar.getRaasi(VedicCalendar.MATCH_PANCHANGAM_FULLDAY)).append(" ")
+                    .append(vedicCalendar.getSauramaanamMaasam(VedicCalendar.MATCH_PANCHANGAM_FULLDAY))
+                    .append(" ").append(vedicCalendar.getDinaAnkam()).append("\n");
+            vedicCalendar.add(Calendar.DATE, 1);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,109 @@
+package com.gkmhc.utils;
+
+import java.util.Calendar;
+
+/*
+ * Comparison report of daily motion of Ravi (DRM) & Chandra (DCM) calculated using SwissEph
+ * speeds (DAILY_MOTION_SPEED) against the ones calculated using longitudes of 2 consecutive
+ * days (DAILY_MOTION_TWO_SAMPLES) over several decades.
+ */
+public class VedicCalendarDailyMotionTest {
+    private static final int START_YEAR = 1950;
+    private static final int END_YEAR = 2050;
+    private static final int NUM_DAYS_BETWEEN_SAMPLES = 30;
+
+    // Speed is instantaneous whereas the difference in longitudes is the average over the day.
+    // So, they differ by half of the change in speed over the day.
+    private static final double MAX_DRM_DEVIATION = 0.05; // In celestial minutes
+    private static final double MAX_DCM_DEVIATION = 20; // In celestial minutes
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarDailyMotionTest vcDMT = new VedicCalendarDailyMotionTest();
+        vcDMT.testDailyMotion();
+
+        System.out.println("Summary Report: " + vcDMT.numPassedTCs + "/" + vcDMT.totalTCs + " = " +
+                String.format("%2.2f", (((double)vcDMT.numPassedTCs / vcDMT.totalTCs) * 100)) + "%");
+        if (vcDMT.numPassedTCs != vcDMT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testDailyMotion() {
+        try {
+            Calendar currCalendar = Calendar.getInstance();
+            currCalendar.set(START_YEAR, 0, 1, 6, 0, 0);
+            VedicCalendar twoSamplesCalendar =
+                    VedicCalendarTestUtils.createVedicCalendar(currCalendar);
+            VedicCalendar speedCalendar = VedicCalendarTestUtils.createVedicCalendar(currCalendar);
+            speedCalendar.setDailyMotionMode(VedicCalendar.DAILY_MOTION_SPEED);
+
+            for (int decade = START_YEAR; decade < END_YEAR; decade += 10) {
+                double maxDRMDeviation = 0;
+                double maxDCMDeviation = 0;
+                double sumDRMDeviation = 0;
+                double sumDCMDeviation = 0;
+                int numSameDRMs = 0;
+                int numDinaAnkamMismatches = 0;
+                int numSamples = 0;
+                long twoSamplesTime = 0;
+                long speedTime = 0;
+                while (currCalendar.get(Calendar.YEAR) < (decade + 10)) {
+                    int date = currCalendar.get(Calendar.DATE);
+                    int month = currCalendar.get(Calendar.MONTH);
+                    int year = currCalendar.get(Calendar.YEAR);
+                    long startTime = System.nanoTime();
+                    twoSamplesCalendar.setDate(date, month, year, 6, 0);
+                    long endTime = System.nanoTime();
+                    twoSamplesTime += (endTime - startTime);
+                    startTime = System.nanoTime();
+                    speedCalendar.setDate(date, month, year, 6, 0);
+                    endTime = System.nanoTime();
+                    speedTime += (endTime - startTime);
+
+                    double drmDeviation = Math.abs(twoSamplesCalendar.getDailyRaviMotion() -
+                            speedCalendar.getDailyRaviMotion());
+                    double dcmDeviation = Math.abs(twoSamplesCalendar.getDailyChandraMotion() -
+                            speedCalendar.getDailyChandraMotion());
+                    maxDRMDeviation = Math.max(maxDRMDeviation, drmDeviation);
+                    maxDCMDeviation = Math.max(maxDCMDeviation, dcmDeviation);
+                    sumDRMDeviation += drmDeviation;
+                    sumDCMDeviation += dcmDeviation;
+                    if (drmDeviation == 0) {
+                        numSameDRMs++;
+                    }
+                    if (twoSamplesCalendar.getDinaAnkam() != speedCalendar.getDinaAnkam()) {
+                        numDinaAnkamMismatches++;
+                    }
+
+                    totalTCs++;
+                    if ((drmDeviation < MAX_DRM_DEVIATION) && (dcmDeviation < MAX_DCM_DEVIATION)) {
+                        numPassedTCs++;
+                    } else {
+                        System.out.println("dailyMotion: " + date + "/" + (month + 1) + "/" +
+                                year + "...FAILED (DRM: " + drmDeviation + ", DCM: " +
+                                dcmDeviation + ")");
+                    }
+                    numSamples++;
+                    currCalendar.add(Calendar.DATE, NUM_DAYS_BETWEEN_SAMPLES);
+                }
+
+                System.out.println(decade + "-" + (decade + 9) + ": " + numSamples + " days, " +
+                        "DRM Deviation (Max/Mean): " + String.format("%.5f/%.5f",
+                        maxDRMDeviation, (sumDRMDeviation / numSamples)) + "', " +
+                        "DCM Deviation (Max/Mean): " + String.format("%.3f/%.3f",
+                        maxDCMDeviation, (sumDCMDeviation / numSamples)) + "', " +
+                        "Same DRMs: " + numSameDRMs + ", " +
+                        "Dina Ankam Mismatches: " + numDinaAnkamMismatches + ", " +
+                        "setDate() Time Taken (Two Samples/Speed): " +
+                        VedicCalendar.getTimeTaken(0, twoSamplesTime) + "/" +
+                        VedicCalendar.getTimeTaken(0, speedTime));
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+}
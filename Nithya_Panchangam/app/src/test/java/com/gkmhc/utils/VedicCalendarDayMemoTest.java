@@ -0,0 +1,91 @@
+package com.gkmhc.utils;
+
+import java.util.Calendar;
+
+/*
+ * Test to ensure that fields memoized for a calendar day are discarded whenever the calendar
+ * day changes (via setDate(), set() & add()) by comparing the full Panchangam of a reused
+ * VedicCalendar instance against the one of a newly created instance.
+ */
+public class VedicCalendarDayMemoTest {
+    private static final int YEAR = 2022;
+    private static final int NUM_DAYS = 120;
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarDayMemoTest vcDMT = new VedicCalendarDayMemoTest();
+        vcDMT.testDayMemo();
+
+        System.out.println("Summary Report: " + vcDMT.numPassedTCs + "/" + vcDMT.totalTCs + " = " +
+                String.format("%2.2f", (((double)vcDMT.numPassedTCs / vcDMT.totalTCs) * 100)) + "%");
+        if (vcDMT.numPassedTCs != vcDMT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testDayMemo() {
+        try {
+            Calendar dayCalendar = Calendar.getInstance();
+            dayCalendar.set(YEAR, 0, 1, 6, 0, 0);
+            VedicCalendar reusedCalendar =
+                    VedicCalendarTestUtils.createVedicCalendar(dayCalendar);
+            long reusedTime = 0;
+            for (int day = 0; day < NUM_DAYS; day++) {
+                VedicCalendar newCalendar =
+                        VedicCalendarTestUtils.createVedicCalendar(dayCalendar);
+                String expected = getPanchangam(newCalendar);
+
+                long startTime = System.nanoTime();
+                String actual = getPanchangam(reusedCalendar);
+                long endTime = System.nanoTime();
+                reusedTime += (endTime - startTime);
+
+                totalTCs++;
+                if (expected.equals(actual)) {
+                    numPassedTCs++;
+                } else {
+                    System.out.println("dayMemo: " + dayCalendar.get(Calendar.DATE) + "/" +
+                            (dayCalendar.get(Calendar.MONTH) + 1) + "/" + YEAR + "...FAILED\n" +
+                            expected + "\n" + actual);
+                }
+
+                // Move to the next day using each of the APIs in turn
+                dayCalendar.add(Calendar.DATE, 1);
+                switch (day % 3) {
+                    case 0:
+                        reusedCalendar.add(Calendar.DATE, 1);
+                        break;
+                    case 1:
+                        reusedCalendar.set(Calendar.DATE, dayCalendar.get(Calendar.DATE));
+                        reusedCalendar.set(Calendar.MONTH, dayCalendar.get(Calendar.MONTH));
+                        break;
+                    default:
+                        reusedCalendar.setDate(dayCalendar.get(Calendar.DATE),
+                                dayCalendar.get(Calendar.MONTH), dayCalendar.get(Calendar.YEAR),
+                                6, 0);
+                        break;
+                }
+            }
+            System.out.println("dayMemo: Full Panchangam for " + NUM_DAYS + " days Time Taken: " +
+                    VedicCalendar.getTimeTaken(0, reusedTime));
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    private static String getPanchangam(VedicCalendar vedicCalendar) {
+        int queryType = VedicCalendar.MATCH_PANCHANGAM_FULLDAY;
+        return vedicCalendar.getSamvatsaram(queryType) + "|" + vedicCalendar.getAyanam(queryType) +
+                "|" + vedicCalendar.getRithu(queryType) + "|" +
+                vedicCalendar.getSauramaanamMaasam(queryType) + "|" +
+                vedicCalendar.getChaandramaanamMaasam(queryType) + "|" +
+                vedicCalendar.getPaksham(queryType) + "|" + vedicCalendar.getTithi(queryType) +
+                "|" + vedicCalendar.getNakshatram(queryType) + "|" +
+                vedicCalendar.getRaasi(queryType) + "|" + vedicCalendar.getYogam(queryType) + "|" +
+                vedicCalendar.getKaranam(queryType) + "|" + vedicCalendar.getDinaAnkam() + "|" +
+                vedicCalendar.getDinaDrishti() + "|" + vedicCalendar.getDinaVisheshams();
+    }
+}
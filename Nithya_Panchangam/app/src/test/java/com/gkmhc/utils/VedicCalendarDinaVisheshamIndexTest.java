@@ -0,0 +1,164 @@
+package com.gkmhc.utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/*
+ * Test to validate that Dina Visheshams given (via the index of rules) by the rule engine match
+ * the ones given by evaluating every rule in turn (including order) for every day of a whole
+ * year at different locations.
+ * Rule book used is the default one along with rules that cannot be indexed (paksham (or)
+ * maasam alone), rules that are indexed by one of many fields & rules with the same title that
+ * are indexed by different fields.
+ */
+public class VedicCalendarDinaVisheshamIndexTest {
+    private static final String DINA_VISHESHAM_RULES_FILE = "./nithya_panchangam.toml";
+    private static final String COMPILED_RULE_BOOK_SUFFIX = ".bin";
+    private static final String DINA_VISHESHAM_SECTION = "[dina_vishesham]\n";
+    private static final String CONTACT_SECTION = "[contact]";
+    private static final int YEAR = 2022;
+
+    // Placed before all the other rules
+    private static final String LEADING_RULES =
+            "    [dina_vishesham.shukla_paksham]\n" +
+            "        dina_vishesham_title=\"Shukla Paksham\"\n" +
+            "        [dina_vishesham.shukla_paksham.rule]\n" +
+            "            dina_vishesham_match_criteria=\"paksham\"\n" +
+            "            dina_vishesham_match_value=1\n" +
+            "            dina_vishesham_kaala_sambhavaha=2\n" +
+            "\n" +
+            "    [dina_vishesham.ekadashi_or_sunday]\n" +
+            "        dina_vishesham_title=\"Ekadashi or Sunday\"\n" +
+            "        [dina_vishesham.ekadashi_or_sunday.rule]\n" +
+            "            dina_vishesham_match_criteria=\"tithi\"\n" +
+            "            dina_vishesham_match_value=11\n" +
+            "            dina_vishesham_kaala_sambhavaha=2\n" +
+            "\n";
+
+    // Placed after all the other rules
+    private static final String TRAILING_RULES =
+            "    [dina_vishesham.mesha_maasam]\n" +
+            "        dina_vishesham_title=\"Mesha Maasam\"\n" +
+            "        [dina_vishesham.mesha_maasam.rule]\n" +
+            "            dina_vishesham_match_criteria=\"sauramaana_maasam\"\n" +
+            "            dina_vishesham_match_value=1\n" +
+            "\n" +
+            "    [dina_vishesham.krishna_paksham_in_pausha]\n" +
+            "        dina_vishesham_title=\"Krishna Paksham in Pausha\"\n" +
+            "        [dina_vishesham.krishna_paksham_in_pausha.rule]\n" +
+            "            dina_vishesham_match_criteria=\"chaandramaana_maasam\"\n" +
+            "            dina_vishesham_match_value=10\n" +
+            "        [dina_vishesham.krishna_paksham_in_pausha.rule]\n" +
+            "            dina_vishesham_match_criteria=\"paksham\"\n" +
+            "            dina_vishesham_match_value=2\n" +
+            "            dina_vishesham_kaala_sambhavaha=2\n" +
+            "\n" +
+            "    [dina_vishesham.shukla_paksham_sunday]\n" +
+            "        dina_vishesham_title=\"Shukla Paksham Sunday\"\n" +
+            "        [dina_vishesham.shukla_paksham_sunday.rule]\n" +
+            "            dina_vishesham_match_criteria=\"paksham\"\n" +
+            "            dina_vishesham_match_value=1\n" +
+            "            dina_vishesham_kaala_sambhavaha=2\n" +
+            "        [dina_vishesham.shukla_paksham_sunday.rule]\n" +
+            "            dina_vishesham_match_criteria=\"vaasaram\"\n" +
+            "            dina_vishesham_match_value=1\n" +
+            "\n" +
+            "    [dina_vishesham.monday_in_rohini]\n" +
+            "        dina_vishesham_title=\"Monday in Rohini\"\n" +
+            "        [dina_vishesham.monday_in_rohini.rule]\n" +
+            "            dina_vishesham_match_criteria=\"vaasaram\"\n" +
+            "            dina_vishesham_match_value=2\n" +
+            "        [dina_vishesham.monday_in_rohini.rule]\n" +
+            "            dina_vishesham_match_criteria=\"nakshatram\"\n" +
+            "            dina_vishesham_match_value=4\n" +
+            "            dina_vishesham_kaala_sambhavaha=2\n" +
+            "\n" +
+            "    [dina_vishesham.ekadashi_or_sunday]\n" +
+            "        dina_vishesham_title=\"Ekadashi or Sunday\"\n" +
+            "        [dina_vishesham.ekadashi_or_sunday.rule]\n" +
+            "            dina_vishesham_match_criteria=\"vaasaram\"\n" +
+            "            dina_vishesham_match_value=1\n" +
+            "\n";
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarDinaVisheshamIndexTest vcDVIT = new VedicCalendarDinaVisheshamIndexTest();
+        File ruleBookFile = null;
+        try {
+            ruleBookFile = File.createTempFile("nithya_panchangam_index", ".toml");
+            String ruleBook = new String(
+                    Files.readAllBytes(new File(DINA_VISHESHAM_RULES_FILE).toPath()),
+                    StandardCharsets.UTF_8);
+            int rulesStart = ruleBook.indexOf(DINA_VISHESHAM_SECTION) +
+                    DINA_VISHESHAM_SECTION.length();
+            int rulesEnd = ruleBook.indexOf(CONTACT_SECTION);
+            FileOutputStream outputStream = new FileOutputStream(ruleBookFile);
+            outputStream.write((ruleBook.substring(0, rulesStart) + "\n" + LEADING_RULES +
+                    ruleBook.substring(rulesStart, rulesEnd) + "\n" + TRAILING_RULES +
+                    ruleBook.substring(rulesEnd)).getBytes(StandardCharsets.UTF_8));
+            outputStream.close();
+
+            VedicCalendarDinaVisheshamRuleEngine ruleEngine =
+                    VedicCalendarDinaVisheshamRuleEngine.getInstance(ruleBookFile.getPath());
+            vcDVIT.testDinaVisheshamIndex(ruleEngine, VedicCalendarTestUtils.CHENNAI_LONGITUDE,
+                    VedicCalendarTestUtils.CHENNAI_LATITUDE,
+                    VedicCalendarTestUtils.CHENNAI_TIMEZONE);
+            vcDVIT.testDinaVisheshamIndex(ruleEngine, -74.0060, 40.7128, "America/New_York");
+            vcDVIT.testDinaVisheshamIndex(ruleEngine, 151.2093, -33.8688, "Australia/Sydney");
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        } finally {
+            if (ruleBookFile != null) {
+                //noinspection ResultOfMethodCallIgnored
+                new File(ruleBookFile.getPath() + COMPILED_RULE_BOOK_SUFFIX).delete();
+                //noinspection ResultOfMethodCallIgnored
+                ruleBookFile.delete();
+            }
+        }
+
+        System.out.println("Summary Report: " + vcDVIT.numPassedTCs + "/" + vcDVIT.totalTCs +
+                " = " + String.format("%2.2f",
+                (((double)vcDVIT.numPassedTCs / vcDVIT.totalTCs) * 100)) + "%");
+        if (vcDVIT.numPassedTCs != vcDVIT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testDinaVisheshamIndex(VedicCalendarDinaVisheshamRuleEngine ruleEngine,
+                                       double longitude, double latitude, String timeZoneID)
+            throws Exception {
+        Calendar dayCalendar = Calendar.getInstance(TimeZone.getTimeZone(timeZoneID));
+        dayCalendar.set(YEAR, 0, 1, 6, 0, 0);
+        VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(dayCalendar,
+                longitude, latitude, timeZoneID);
+        int numVisheshams = 0;
+        while (dayCalendar.get(Calendar.YEAR) == YEAR) {
+            int date = dayCalendar.get(Calendar.DATE);
+            int month = dayCalendar.get(Calendar.MONTH);
+            vedicCalendar.setDate(date, month, YEAR, 6, 0);
+            List<String> dinaVisheshams = ruleEngine.getDinaVisheshams(vedicCalendar);
+            List<String> scannedDinaVisheshams = ruleEngine.scanDinaVisheshams(vedicCalendar);
+            numVisheshams += dinaVisheshams.size();
+
+            totalTCs++;
+            if (dinaVisheshams.equals(scannedDinaVisheshams)) {
+                numPassedTCs++;
+            } else {
+                System.out.println("dinaVisheshamIndex(" + timeZoneID + "): " + date + "/" +
+                        (month + 1) + "/" + YEAR + " " + dinaVisheshams + " vs " +
+                        scannedDinaVisheshams + "...FAILED");
+            }
+            dayCalendar.add(Calendar.DATE, 1);
+        }
+        System.out.println("dinaVisheshamIndex(" + timeZoneID + "): " + numVisheshams +
+                " Dina Visheshams");
+    }
+}
@@ -0,0 +1,118 @@
+package com.gkmhc.utils;
+
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+
+/*
+ * Test to validate that Dina Visheshams for every day of a whole year are the same irrespective
+ * of the locale that VedicCalendar is set to (as rules are evaluated from the numeric Panchangam
+ * of each day & not from its formatted fields) & to report time taken per day.
+ */
+public class VedicCalendarDinaVisheshamLocaleTest {
+    private static final String DINA_VISHESHAM_RULES_FILE = "./nithya_panchangam.toml";
+    private static final int YEAR = 2022;
+
+    // # of values in each of the locale tables (as per VEDIC_CALENDAR_TABLE_TYPE_*)
+    private static final int[] LOCALE_TABLE_SIZES = {
+            60, 2, 6, VedicCalendar.MAX_RAASIS, VedicCalendar.MAX_RAASIS,
+            VedicCalendar.MAX_PAKSHAMS, VedicCalendar.MAX_TITHIS, VedicCalendar.MAX_TITHIS,
+            VedicCalendar.MAX_RAASIS, VedicCalendar.MAX_NAKSHATHRAMS,
+            VedicCalendar.MAX_NAKSHATHRAMS, VedicCalendar.MAX_NAKSHATHRAMS, 60,
+            VedicCalendar.MAX_VAASARAMS, VedicCalendar.MAX_VAASARAMS, VedicCalendar.MAX_VAASARAMS,
+            3, 8, VedicCalendar.MAX_VAASARAMS, VedicCalendar.MAX_DINA_DRISHTIS};
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarDinaVisheshamLocaleTest vcDVLT = new VedicCalendarDinaVisheshamLocaleTest();
+        vcDVLT.testLocales();
+
+        System.out.println("Summary Report: " + vcDVLT.numPassedTCs + "/" + vcDVLT.totalTCs +
+                " = " + String.format("%2.2f",
+                (((double)vcDVLT.numPassedTCs / vcDVLT.totalTCs) * 100)) + "%");
+        if (vcDVLT.numPassedTCs != vcDVLT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testLocales() {
+        try {
+            Calendar dayCalendar = Calendar.getInstance();
+            dayCalendar.set(YEAR, 0, 1, 6, 0, 0);
+            VedicCalendar defaultVedicCalendar = createVedicCalendar(dayCalendar, null);
+            VedicCalendar localeVedicCalendar =
+                    createVedicCalendar(dayCalendar, createLocaleList());
+
+            int numDays = 0;
+            int numVisheshams = 0;
+            long totalTime = 0;
+            while (dayCalendar.get(Calendar.YEAR) == YEAR) {
+                int date = dayCalendar.get(Calendar.DATE);
+                int month = dayCalendar.get(Calendar.MONTH);
+                defaultVedicCalendar.setDate(date, month, YEAR, 6, 0);
+                localeVedicCalendar.setDate(date, month, YEAR, 6, 0);
+
+                long startTime = System.nanoTime();
+                List<Integer> dinaVisheshams = defaultVedicCalendar.getDinaVisheshams();
+                totalTime += (System.nanoTime() - startTime);
+                List<Integer> localeDinaVisheshams = localeVedicCalendar.getDinaVisheshams();
+                numVisheshams += dinaVisheshams.size();
+
+                totalTCs++;
+                if (dinaVisheshams.equals(localeDinaVisheshams)) {
+                    numPassedTCs++;
+                } else {
+                    System.out.println("dinaVisheshamLocale: " + date + "/" + (month + 1) + "/" +
+                            YEAR + " " + dinaVisheshams + " vs " + localeDinaVisheshams +
+                            "...FAILED");
+                }
+                numDays++;
+                dayCalendar.add(Calendar.DATE, 1);
+            }
+
+            // Validate that locale is indeed in effect
+            totalTCs++;
+            if ((numVisheshams > 0) &&
+                localeVedicCalendar.getTithi(VedicCalendar.MATCH_PANCHANGAM_FULLDAY).contains("(L)")) {
+                numPassedTCs++;
+            } else {
+                System.out.println("dinaVisheshamLocale: " +
+                        localeVedicCalendar.getTithi(VedicCalendar.MATCH_PANCHANGAM_FULLDAY) +
+                        "...FAILED");
+            }
+
+            System.out.println("dinaVisheshamLocale: Per Day (getDinaVisheshams()): " +
+                    String.format("%.2f", ((double) totalTime / numDays / 1000)) + " us");
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    /*
+     * Locale with all values in the form "<Table>-<Index> (L)" so that none of them match the
+     * default locale & all of them have a "(" just like the spans of formatted fields do.
+     */
+    private static HashMap<Integer, String[]> createLocaleList() {
+        HashMap<Integer, String[]> localeList = new HashMap<>();
+        for (int tableType = 0; tableType < LOCALE_TABLE_SIZES.length; tableType++) {
+            String[] values = new String[LOCALE_TABLE_SIZES[tableType]];
+            for (int index = 0; index < values.length; index++) {
+                values[index] = tableType + "-" + index + " (L)";
+            }
+            localeList.put(tableType, values);
+        }
+        return localeList;
+    }
+
+    private static VedicCalendar createVedicCalendar(Calendar dayCalendar,
+                                                     HashMap<Integer, String[]> localeList)
+            throws Exception {
+        VedicCalendar vedicCalendar =
+                VedicCalendarTestUtils.createVedicCalendar(dayCalendar, localeList);
+        vedicCalendar.configureDinaVisheshamRules(DINA_VISHESHAM_RULES_FILE);
+        return vedicCalendar;
+    }
+}
@@ -0,0 +1,299 @@
+package com.gkmhc.utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * Test to validate that changes to the dina vishesham rules file are picked up (in the
+ * background as well as by polling) without restarting & that queries running in parallel
+ * (while rules are being reloaded) always get Dina Visheshams as per either old (or) new rules
+ * but never a mix of both.
+ */
+public class VedicCalendarDinaVisheshamRuleBookRegistryTest {
+    private static final String DINA_VISHESHAM_RULES_FILE = "./nithya_panchangam.toml";
+    private static final String COMPILED_RULE_BOOK_SUFFIX = ".bin";
+    private static final int YEAR = 2022;
+    private static final int NUM_DAYS = 31;
+    private static final int NUM_READERS = 4;
+    private static final int NUM_RELOADS = 10;
+    private static final long POLL_INTERVAL_MILLIS = 20;
+    private static final long WAIT_TIMEOUT_MILLIS = 10000;
+
+    // Old & new rules differ in titles of Amavaasai & Pournami (and hence their codes)
+    private static final String[] OLD_TITLES = {
+            "dina_vishesham_title=\"Amavaasai\"", "dina_vishesham_title=\"Pournami\""};
+    private static final String[] NEW_TITLES = {
+            "dina_vishesham_title=\"Amavaasai (New)\"", "dina_vishesham_title=\"Pournami (New)\""};
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarDinaVisheshamRuleBookRegistryTest vcDVRBRT =
+                new VedicCalendarDinaVisheshamRuleBookRegistryTest();
+        File ruleBookFile = null;
+        File otherRuleBookFile = null;
+        try {
+            ruleBookFile = File.createTempFile("nithya_panchangam", ".toml");
+            otherRuleBookFile = File.createTempFile("nithya_panchangam_other", ".toml");
+            vcDVRBRT.testReloads(ruleBookFile);
+            vcDVRBRT.testSwitchOver(ruleBookFile, otherRuleBookFile);
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        } finally {
+            deleteRuleBook(ruleBookFile);
+            deleteRuleBook(otherRuleBookFile);
+        }
+
+        System.out.println("Summary Report: " + vcDVRBRT.numPassedTCs + "/" + vcDVRBRT.totalTCs +
+                " = " + String.format("%2.2f",
+                (((double)vcDVRBRT.numPassedTCs / vcDVRBRT.totalTCs) * 100)) + "%");
+        if (vcDVRBRT.numPassedTCs != vcDVRBRT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testReloads(File ruleBookFile) throws Exception {
+        String oldRuleBook = new String(
+                Files.readAllBytes(new File(DINA_VISHESHAM_RULES_FILE).toPath()),
+                StandardCharsets.UTF_8);
+        String newRuleBook = oldRuleBook;
+        for (int index = 0; index < OLD_TITLES.length; index++) {
+            newRuleBook = newRuleBook.replace(OLD_TITLES[index], NEW_TITLES[index]);
+        }
+        String ruleBookFileName = ruleBookFile.getPath();
+        VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(YEAR);
+
+        // 1) Dina Visheshams as per old & new rules (reloaded in the calling thread)
+        writeRuleBook(ruleBookFile, oldRuleBook);
+        vedicCalendar.configureDinaVisheshamRules(ruleBookFileName);
+        VedicCalendarDinaVisheshamRuleBookRegistry registry =
+                VedicCalendarDinaVisheshamRuleBookRegistry.getInstance(ruleBookFileName, null);
+        List<List<Integer>> oldDinaVisheshams = getDinaVisheshams(vedicCalendar);
+        writeRuleBook(ruleBookFile, newRuleBook);
+        totalTCs++;
+        if (registry.reloadIfChanged() && !registry.reloadIfChanged()) {
+            numPassedTCs++;
+        } else {
+            System.out.println("ruleBookReloads: reloadIfChanged()...FAILED");
+        }
+        List<List<Integer>> newDinaVisheshams = getDinaVisheshams(vedicCalendar);
+        totalTCs++;
+        if (!oldDinaVisheshams.equals(newDinaVisheshams)) {
+            numPassedTCs++;
+        } else {
+            System.out.println("ruleBookReloads: Old & new rules give same Dina Visheshams...FAILED");
+        }
+
+        // 2) Readers (in parallel) while rules are reloaded in the background by
+        //    configureDinaVisheshamRules() & then by polling
+        AtomicBoolean isDone = new AtomicBoolean(false);
+        ExecutorService executorService = Executors.newFixedThreadPool(NUM_READERS);
+        List<Future<int[]>> readerResults = new ArrayList<>();
+        for (int reader = 0; reader < NUM_READERS; reader++) {
+            readerResults.add(executorService.submit(new Callable<int[]>() {
+                @Override
+                public int[] call() {
+                    return readDinaVisheshams(isDone, oldDinaVisheshams, newDinaVisheshams);
+                }
+            }));
+        }
+
+        long maxConfigureTime = 0;
+        for (int reload = 0; reload < NUM_RELOADS; reload++) {
+            boolean isOldRules = ((reload % 2) == 0);
+            writeRuleBook(ruleBookFile, isOldRules ? oldRuleBook : newRuleBook);
+            long startTime = System.nanoTime();
+            vedicCalendar.configureDinaVisheshamRules(ruleBookFileName);
+            maxConfigureTime = Math.max(maxConfigureTime, (System.nanoTime() - startTime));
+            validateReload(vedicCalendar, isOldRules ? oldDinaVisheshams : newDinaVisheshams,
+                    "background reload " + reload);
+        }
+
+        VedicCalendar.watchDinaVisheshamRules(POLL_INTERVAL_MILLIS);
+        for (int reload = 0; reload < NUM_RELOADS; reload++) {
+            boolean isNewRules = ((reload % 2) == 0);
+            writeRuleBook(ruleBookFile, isNewRules ? newRuleBook : oldRuleBook);
+            validateReload(vedicCalendar, isNewRules ? newDinaVisheshams : oldDinaVisheshams,
+                    "polled reload " + reload);
+        }
+        VedicCalendar.watchDinaVisheshamRules(0);
+
+        isDone.set(true);
+        int numReads = 0;
+        for (Future<int[]> readerResult : readerResults) {
+            int[] result = readerResult.get();
+            totalTCs++;
+            if (result[1] == 0) {
+                numPassedTCs++;
+            } else {
+                System.out.println("ruleBookReloads: " + result[1] + " of " + result[0] +
+                        " reads with a mix of old & new rules...FAILED");
+            }
+            numReads += result[0];
+        }
+        executorService.shutdown();
+
+        // 3) Rule book that fails to load leaves the rules loaded last as is
+        writeRuleBook(ruleBookFile, oldRuleBook);
+        registry.reloadIfChanged();
+        //noinspection ResultOfMethodCallIgnored
+        ruleBookFile.delete();
+        totalTCs++;
+        if (!registry.reloadIfChanged() &&
+            oldDinaVisheshams.equals(getDinaVisheshams(vedicCalendar))) {
+            numPassedTCs++;
+        } else {
+            System.out.println("ruleBookReloads: Missing rule book...FAILED");
+        }
+
+        System.out.println("ruleBookReloads: " + numReads + " reads by " + NUM_READERS +
+                " readers during " + (2 * NUM_RELOADS) + " reloads, " +
+                "Max Time Taken by configureDinaVisheshamRules(): " +
+                VedicCalendar.getTimeTaken(0, maxConfigureTime));
+    }
+
+    /*
+     * Configuring a different rules file (while rules are being polled) is expected to stop
+     * polling the rules file configured earlier & to poll the new one instead.
+     */
+    public void testSwitchOver(File ruleBookFile, File otherRuleBookFile) throws Exception {
+        String oldRuleBook = new String(
+                Files.readAllBytes(new File(DINA_VISHESHAM_RULES_FILE).toPath()),
+                StandardCharsets.UTF_8);
+        String newRuleBook = oldRuleBook;
+        for (int index = 0; index < OLD_TITLES.length; index++) {
+            newRuleBook = newRuleBook.replace(OLD_TITLES[index], NEW_TITLES[index]);
+        }
+        VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(YEAR);
+        writeRuleBook(ruleBookFile, oldRuleBook);
+        writeRuleBook(otherRuleBookFile, oldRuleBook);
+        vedicCalendar.configureDinaVisheshamRules(ruleBookFile.getPath());
+        List<List<Integer>> oldDinaVisheshams = getDinaVisheshams(vedicCalendar);
+        VedicCalendar.watchDinaVisheshamRules(POLL_INTERVAL_MILLIS);
+
+        vedicCalendar.configureDinaVisheshamRules(otherRuleBookFile.getPath());
+        VedicCalendarDinaVisheshamRuleBookRegistry registry =
+                VedicCalendarDinaVisheshamRuleBookRegistry.getInstance(ruleBookFile.getPath(), null);
+        VedicCalendarDinaVisheshamRuleBookRegistry otherRegistry =
+                VedicCalendarDinaVisheshamRuleBookRegistry.getInstance(
+                        otherRuleBookFile.getPath(), null);
+        totalTCs++;
+        if ((registry.getWatchPollIntervalMillis() == 0) &&
+            (otherRegistry.getWatchPollIntervalMillis() == POLL_INTERVAL_MILLIS)) {
+            numPassedTCs++;
+        } else {
+            System.out.println("ruleBookSwitchOver: Poll intervals " +
+                    registry.getWatchPollIntervalMillis() + "/" +
+                    otherRegistry.getWatchPollIntervalMillis() + "...FAILED");
+        }
+
+        // Changes to the rules file configured now are picked up by polling
+        writeRuleBook(otherRuleBookFile, newRuleBook);
+        long startTime = System.currentTimeMillis();
+        while ((getDinaVisheshams(vedicCalendar).equals(oldDinaVisheshams)) &&
+               ((System.currentTimeMillis() - startTime) < WAIT_TIMEOUT_MILLIS)) {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        totalTCs++;
+        if (!getDinaVisheshams(vedicCalendar).equals(oldDinaVisheshams)) {
+            numPassedTCs++;
+        } else {
+            System.out.println("ruleBookSwitchOver: Polled reload...FAILED");
+        }
+        VedicCalendar.watchDinaVisheshamRules(0);
+    }
+
+    /*
+     * Keep reading Dina Visheshams till asked to stop.
+     * Returns {# of reads, # of reads that match neither old nor new rules}.
+     */
+    private static int[] readDinaVisheshams(AtomicBoolean isDone,
+                                            List<List<Integer>> oldDinaVisheshams,
+                                            List<List<Integer>> newDinaVisheshams) {
+        int numReads = 0;
+        int numMismatches = 0;
+        try {
+            VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(YEAR);
+            while (!isDone.get()) {
+                int dayIndex = (numReads % NUM_DAYS);
+                vedicCalendar.setDate((dayIndex + 1), 0, YEAR, 6, 0);
+                List<Integer> dinaVisheshams = vedicCalendar.getDinaVisheshams();
+                if (!dinaVisheshams.equals(oldDinaVisheshams.get(dayIndex)) &&
+                    !dinaVisheshams.equals(newDinaVisheshams.get(dayIndex))) {
+                    numMismatches++;
+                }
+                numReads++;
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            numMismatches++;
+        }
+        return new int[] {numReads, numMismatches};
+    }
+
+    private void validateReload(VedicCalendar vedicCalendar,
+                                List<List<Integer>> expectedDinaVisheshams, String testCase)
+            throws Exception {
+        long startTime = System.currentTimeMillis();
+        List<List<Integer>> dinaVisheshams = getDinaVisheshams(vedicCalendar);
+        while (!dinaVisheshams.equals(expectedDinaVisheshams) &&
+               ((System.currentTimeMillis() - startTime) < WAIT_TIMEOUT_MILLIS)) {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+            dinaVisheshams = getDinaVisheshams(vedicCalendar);
+        }
+        totalTCs++;
+        if (dinaVisheshams.equals(expectedDinaVisheshams)) {
+            numPassedTCs++;
+        } else {
+            System.out.println("ruleBookReloads: " + testCase + "...FAILED");
+        }
+    }
+
+    private static List<List<Integer>> getDinaVisheshams(VedicCalendar vedicCalendar)
+            throws Exception {
+        List<List<Integer>> dinaVisheshams = new ArrayList<>();
+        for (int dayIndex = 0; dayIndex < NUM_DAYS; dayIndex++) {
+            vedicCalendar.setDate((dayIndex + 1), 0, YEAR, 6, 0);
+            dinaVisheshams.add(vedicCalendar.getDinaVisheshams());
+        }
+        return dinaVisheshams;
+    }
+
+    private static void deleteRuleBook(File ruleBookFile) {
+        if (ruleBookFile != null) {
+            //noinspection ResultOfMethodCallIgnored
+            new File(ruleBookFile.getPath() + COMPILED_RULE_BOOK_SUFFIX).delete();
+            //noinspection ResultOfMethodCallIgnored
+            ruleBookFile.delete();
+        }
+    }
+
+    /*
+     * Replace rule book in one go (write to a temporary file & rename) with its last modified
+     * time moved forward so that the change is noticed even when the file system keeps time
+     * only in seconds.
+     */
+    private static void writeRuleBook(File ruleBookFile, String ruleBook) throws Exception {
+        long lastModified = ruleBookFile.lastModified();
+        File tempRuleBookFile = new File(ruleBookFile.getPath() + ".tmp");
+        FileOutputStream outputStream = new FileOutputStream(tempRuleBookFile);
+        outputStream.write(ruleBook.getBytes(StandardCharsets.UTF_8));
+        outputStream.close();
+        //noinspection ResultOfMethodCallIgnored
+        tempRuleBookFile.setLastModified(Math.max(System.currentTimeMillis(), lastModified + 1000));
+        Files.move(tempRuleBookFile.toPath(), ruleBookFile.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,94 @@
+package com.gkmhc.utils;
+
+import java.util.Calendar;
+import java.util.List;
+
+/*
+ * Test to validate Dina Visheshams given by the rule engine (as per full nithya_panchangam.toml)
+ * for every day of a whole year & a benchmark to report the per-day evaluation cost.
+ */
+public class VedicCalendarDinaVisheshamRuleEngineTest {
+    private static final String DINA_VISHESHAM_RULES_FILE = "./nithya_panchangam.toml";
+    private static final int YEAR = 2022;
+    private static final int NUM_ITERATIONS = 20;
+    private static final String TAMIL_PUTHANDU = "Tamil Puthandu";
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarDinaVisheshamRuleEngineTest vcDVRET =
+                new VedicCalendarDinaVisheshamRuleEngineTest();
+        vcDVRET.testDinaVisheshams();
+
+        System.out.println("Summary Report: " + vcDVRET.numPassedTCs + "/" + vcDVRET.totalTCs +
+                " = " + String.format("%2.2f",
+                (((double)vcDVRET.numPassedTCs / vcDVRET.totalTCs) * 100)) + "%");
+        if (vcDVRET.numPassedTCs != vcDVRET.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testDinaVisheshams() {
+        try {
+            VedicCalendarDinaVisheshamRuleEngine ruleEngine =
+                    VedicCalendarDinaVisheshamRuleEngine.getInstance(DINA_VISHESHAM_RULES_FILE);
+            VedicCalendarDinaVisheshamRuleEngine otherRuleEngine =
+                    VedicCalendarDinaVisheshamRuleEngine.getInstance(DINA_VISHESHAM_RULES_FILE);
+            Calendar dayCalendar = Calendar.getInstance();
+            dayCalendar.set(YEAR, 0, 1, 6, 0, 0);
+            VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(dayCalendar);
+
+            int numDays = 0;
+            int numVisheshams = 0;
+            int numTamilPuthandus = 0;
+            long evalTime = 0;
+            while (dayCalendar.get(Calendar.YEAR) == YEAR) {
+                vedicCalendar.setDate(dayCalendar.get(Calendar.DATE),
+                        dayCalendar.get(Calendar.MONTH), YEAR, 6, 0);
+
+                // 1) Validate that repeated evaluations (by same & other rule engines) match
+                List<String> dinaVisheshams = ruleEngine.getDinaVisheshams(vedicCalendar);
+                totalTCs++;
+                if (dinaVisheshams.equals(ruleEngine.getDinaVisheshams(vedicCalendar)) &&
+                    dinaVisheshams.equals(otherRuleEngine.getDinaVisheshams(vedicCalendar))) {
+                    numPassedTCs++;
+                } else {
+                    System.out.println("dinaVisheshams: " + dayCalendar.get(Calendar.DATE) + "/" +
+                            (dayCalendar.get(Calendar.MONTH) + 1) + "/" + YEAR + "...FAILED");
+                }
+                numVisheshams += dinaVisheshams.size();
+                if (dinaVisheshams.contains(TAMIL_PUTHANDU)) {
+                    numTamilPuthandus++;
+                }
+
+                // 2) Benchmark
+                long startTime = System.nanoTime();
+                for (int iteration = 0; iteration < NUM_ITERATIONS; iteration++) {
+                    ruleEngine.getDinaVisheshams(vedicCalendar);
+                }
+                evalTime += (System.nanoTime() - startTime);
+
+                numDays++;
+                dayCalendar.add(Calendar.DATE, 1);
+            }
+
+            totalTCs++;
+            if (numTamilPuthandus == 1) {
+                numPassedTCs++;
+            } else {
+                System.out.println("dinaVisheshams: " + TAMIL_PUTHANDU + "(s) in " + YEAR + ": " +
+                        numTamilPuthandus + "...FAILED");
+            }
+
+            System.out.println("dinaVisheshams: " + numVisheshams + " visheshams in " + numDays +
+                    " days, Time Taken (" + (numDays * NUM_ITERATIONS) + " evaluations): " +
+                    VedicCalendar.getTimeTaken(0, evalTime) + ", Per Day: " +
+                    String.format("%.2f", ((double) evalTime / (numDays * NUM_ITERATIONS) / 1000)) +
+                    " us");
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+}
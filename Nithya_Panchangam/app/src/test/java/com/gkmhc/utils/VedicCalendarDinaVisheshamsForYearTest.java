@@ -0,0 +1,100 @@
+package com.gkmhc.utils;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/*
+ * Test to validate Dina Visheshams given by getDinaVisheshamsForYear() against the ones given by
+ * setDate() & getDinaVisheshams() for every day of a whole year & to report the time taken by
+ * each (with shared caches cleared before each of them).
+ */
+public class VedicCalendarDinaVisheshamsForYearTest {
+    private static final String DINA_VISHESHAM_RULES_FILE = "./nithya_panchangam.toml";
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarDinaVisheshamsForYearTest vcDVFYT = new VedicCalendarDinaVisheshamsForYearTest();
+        vcDVFYT.testDinaVisheshamsForYear(VedicCalendarTestUtils.CHENNAI_LONGITUDE,
+                VedicCalendarTestUtils.CHENNAI_LATITUDE, VedicCalendarTestUtils.CHENNAI_TIMEZONE,
+                VedicCalendar.PANCHANGAM_TYPE_DRIK_GANITHAM_LUNI_SOLAR, 2022);
+        vcDVFYT.testDinaVisheshamsForYear(-74.0060, 40.7128, "America/New_York",
+                VedicCalendar.PANCHANGAM_TYPE_DRIK_GANITHAM_LUNAR, 2024);
+
+        System.out.println("Summary Report: " + vcDVFYT.numPassedTCs + "/" + vcDVFYT.totalTCs +
+                " = " + String.format("%2.2f",
+                (((double)vcDVFYT.numPassedTCs / vcDVFYT.totalTCs) * 100)) + "%");
+        if (vcDVFYT.numPassedTCs != vcDVFYT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testDinaVisheshamsForYear(double longitude, double latitude, String timeZoneID,
+                                          int panchangamType, int year) {
+        try {
+            Calendar dayCalendar = Calendar.getInstance(TimeZone.getTimeZone(timeZoneID));
+            dayCalendar.set(year, 0, 1, 6, 0, 0);
+            VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(dayCalendar,
+                    panchangamType, longitude, latitude, timeZoneID);
+            vedicCalendar.configureDinaVisheshamRules(DINA_VISHESHAM_RULES_FILE);
+            vedicCalendar.buildTransitIndex(year);
+
+            // 1) Dina Visheshams as per setDate() & getDinaVisheshams() for each day
+            VedicCalendar.clearLongitudeCache();
+            VedicCalendar.clearRiseSetCache();
+            long startTime = System.nanoTime();
+            int numDays = 0;
+            int[][] expectedCodes = new int[dayCalendar.getActualMaximum(Calendar.DAY_OF_YEAR)][];
+            while (dayCalendar.get(Calendar.YEAR) == year) {
+                vedicCalendar.setDate(dayCalendar.get(Calendar.DATE),
+                        dayCalendar.get(Calendar.MONTH), year, 6, 0);
+                List<Integer> dinaVisheshams = vedicCalendar.getDinaVisheshams();
+                int[] dayCodes = new int[dinaVisheshams.size()];
+                for (int index = 0; index < dayCodes.length; index++) {
+                    dayCodes[index] = dinaVisheshams.get(index);
+                }
+                expectedCodes[numDays++] = dayCodes;
+                dayCalendar.add(Calendar.DATE, 1);
+            }
+            long dailyTime = System.nanoTime() - startTime;
+
+            // 2) Dina Visheshams as per getDinaVisheshamsForYear()
+            VedicCalendar.clearLongitudeCache();
+            VedicCalendar.clearRiseSetCache();
+            startTime = System.nanoTime();
+            int[][] actualCodes = vedicCalendar.getDinaVisheshamsForYear(year);
+            long yearTime = System.nanoTime() - startTime;
+
+            totalTCs++;
+            if (actualCodes.length == numDays) {
+                numPassedTCs++;
+            } else {
+                System.out.println("dinaVisheshamsForYear: " + timeZoneID + " " + year +
+                        " # of days: " + actualCodes.length + "...FAILED");
+                return;
+            }
+            for (int dayIndex = 0; dayIndex < numDays; dayIndex++) {
+                totalTCs++;
+                if (Arrays.equals(expectedCodes[dayIndex], actualCodes[dayIndex])) {
+                    numPassedTCs++;
+                } else {
+                    System.out.println("dinaVisheshamsForYear: " + timeZoneID + " " + year +
+                            " Day " + (dayIndex + 1) + "...FAILED (" +
+                            Arrays.toString(expectedCodes[dayIndex]) + " vs " +
+                            Arrays.toString(actualCodes[dayIndex]) + ")");
+                }
+            }
+
+            System.out.println("dinaVisheshamsForYear: " + timeZoneID + " " + year +
+                    " Time Taken (setDate() + getDinaVisheshams() per day/getDinaVisheshamsForYear()): " +
+                    VedicCalendar.getTimeTaken(0, dailyTime) + "/" +
+                    VedicCalendar.getTimeTaken(0, yearTime));
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+}
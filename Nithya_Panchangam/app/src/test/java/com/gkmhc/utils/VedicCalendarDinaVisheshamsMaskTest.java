@@ -0,0 +1,141 @@
+package com.gkmhc.utils;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+
+/*
+ * Test to validate Dina Vishesham bitmasks given by getDinaVisheshamsMask() &
+ * getDinaVisheshamsMaskForYear() against the codes given by getDinaVisheshams() for every day of
+ * a whole year & to validate bitmask utilities.
+ */
+public class VedicCalendarDinaVisheshamsMaskTest {
+    private static final String DINA_VISHESHAM_RULES_FILE = "./nithya_panchangam.toml";
+    private static final int YEAR = 2022;
+    private static final int NUM_ITERATIONS = 20;
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarDinaVisheshamsMaskTest vcDVMT = new VedicCalendarDinaVisheshamsMaskTest();
+        vcDVMT.testDinaVisheshamsMask();
+        vcDVMT.testDinaVisheshamCodes();
+
+        System.out.println("Summary Report: " + vcDVMT.numPassedTCs + "/" + vcDVMT.totalTCs +
+                " = " + String.format("%2.2f",
+                (((double)vcDVMT.numPassedTCs / vcDVMT.totalTCs) * 100)) + "%");
+        if (vcDVMT.numPassedTCs != vcDVMT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testDinaVisheshamsMask() {
+        try {
+            Calendar dayCalendar = Calendar.getInstance();
+            dayCalendar.set(YEAR, 0, 1, 6, 0, 0);
+            VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(dayCalendar);
+            vedicCalendar.configureDinaVisheshamRules(DINA_VISHESHAM_RULES_FILE);
+            long[] yearMasks = vedicCalendar.getDinaVisheshamsMaskForYear(YEAR);
+
+            int dayIndex = 0;
+            int numVisheshams = 0;
+            long listTime = 0;
+            long maskTime = 0;
+            while (dayCalendar.get(Calendar.YEAR) == YEAR) {
+                vedicCalendar.setDate(dayCalendar.get(Calendar.DATE),
+                        dayCalendar.get(Calendar.MONTH), YEAR, 6, 0);
+                List<Integer> dinaVisheshams = vedicCalendar.getDinaVisheshams();
+                long expectedMask = 0;
+                for (int dinaVisheshamCode : dinaVisheshams) {
+                    expectedMask |= (1L << dinaVisheshamCode);
+                }
+                numVisheshams += dinaVisheshams.size();
+
+                // 1) Validate bitmask for the day & for the day as part of the year
+                totalTCs++;
+                long dayMask = vedicCalendar.getDinaVisheshamsMask();
+                if ((dayMask == expectedMask) && (dayIndex < yearMasks.length) &&
+                    (yearMasks[dayIndex] == expectedMask)) {
+                    numPassedTCs++;
+                } else {
+                    System.out.println("dinaVisheshamsMask: " + dayCalendar.get(Calendar.DATE) +
+                            "/" + (dayCalendar.get(Calendar.MONTH) + 1) + "/" + YEAR + " " +
+                            Long.toHexString(dayMask) + " vs " + Long.toHexString(expectedMask) +
+                            "...FAILED");
+                }
+
+                // 2) Benchmark list vs bitmask
+                long startTime = System.nanoTime();
+                for (int iteration = 0; iteration < NUM_ITERATIONS; iteration++) {
+                    vedicCalendar.getDinaVisheshams();
+                }
+                listTime += (System.nanoTime() - startTime);
+                startTime = System.nanoTime();
+                for (int iteration = 0; iteration < NUM_ITERATIONS; iteration++) {
+                    vedicCalendar.getDinaVisheshamsMask();
+                }
+                maskTime += (System.nanoTime() - startTime);
+
+                dayIndex++;
+                dayCalendar.add(Calendar.DATE, 1);
+            }
+
+            totalTCs++;
+            if ((yearMasks.length == dayIndex) && (numVisheshams > 0)) {
+                numPassedTCs++;
+            } else {
+                System.out.println("dinaVisheshamsMask: # of days: " + yearMasks.length + "/" +
+                        dayIndex + ", # of visheshams: " + numVisheshams + "...FAILED");
+            }
+
+            System.out.println("dinaVisheshamsMask: Per Day (getDinaVisheshams()/getDinaVisheshamsMask()): " +
+                    String.format("%.2f", ((double) listTime / (dayIndex * NUM_ITERATIONS) / 1000)) +
+                    "/" +
+                    String.format("%.2f", ((double) maskTime / (dayIndex * NUM_ITERATIONS) / 1000)) +
+                    " us");
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    public void testDinaVisheshamCodes() {
+        int[][] codesList = {
+                {},
+                {VedicCalendar.PANCHANGAM_DINA_VISHESHAM_AMAVAASAI},
+                {VedicCalendar.PANCHANGAM_DINA_VISHESHAM_EKADASHI,
+                        VedicCalendar.PANCHANGAM_DINA_VISHESHAM_VAIKUNTA_EKADASHI},
+                {VedicCalendar.PANCHANGAM_DINA_VISHESHAM_POURNAMI,
+                        VedicCalendar.PANCHANGAM_DINA_VISHESHAM_PRADOSHAM,
+                        VedicCalendar.PANCHANGAM_DINA_VISHESHAM_BODHAYANA_AMAVAASAI}
+        };
+        for (int[] codes : codesList) {
+            long dinaVisheshamsMask = 0;
+            for (int code : codes) {
+                dinaVisheshamsMask |= (1L << code);
+            }
+
+            totalTCs++;
+            boolean isSetMatches = true;
+            for (int code = VedicCalendar.PANCHANGAM_DINA_VISHESHAM_RANGE_START;
+                 code < VedicCalendar.PANCHANGAM_DINA_VISHESHAM_RANGE_END; code++) {
+                boolean isExpected = false;
+                for (int expectedCode : codes) {
+                    isExpected |= (expectedCode == code);
+                }
+                isSetMatches &=
+                        (VedicCalendar.isDinaVisheshamSet(dinaVisheshamsMask, code) == isExpected);
+            }
+            isSetMatches &= !VedicCalendar.isDinaVisheshamSet(dinaVisheshamsMask, -1);
+            isSetMatches &= !VedicCalendar.isDinaVisheshamSet(dinaVisheshamsMask,
+                    VedicCalendar.PANCHANGAM_DINA_VISHESHAM_RANGE_END);
+            if (isSetMatches &&
+                Arrays.equals(VedicCalendar.getDinaVisheshamCodes(dinaVisheshamsMask), codes)) {
+                numPassedTCs++;
+            } else {
+                System.out.println("dinaVisheshamCodes: " + Arrays.toString(codes) + "...FAILED");
+            }
+        }
+    }
+}
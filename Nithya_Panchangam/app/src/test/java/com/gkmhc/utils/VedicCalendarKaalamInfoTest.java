@@ -0,0 +1,127 @@
+package com.gkmhc.utils;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+
+/*
+ * Test to validate numeric start & end times of Horai, Lagnam & Kaala Vibhaagam against their
+ * respective HH:MM strings over a whole year & to validate KaalamInfo.contains() &
+ * KaalamInfo.isTimeSpanWithinKaalam().
+ */
+public class VedicCalendarKaalamInfoTest {
+    private static final int YEAR = 2022;
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarKaalamInfoTest vcKIT = new VedicCalendarKaalamInfoTest();
+        vcKIT.testKaalamInfoMins();
+        vcKIT.testContains();
+        vcKIT.testIsTimeSpanWithinKaalam();
+
+        System.out.println("Summary Report: " + vcKIT.numPassedTCs + "/" + vcKIT.totalTCs + " = " +
+                String.format("%2.2f", (((double)vcKIT.numPassedTCs / vcKIT.totalTCs) * 100)) + "%");
+        if (vcKIT.numPassedTCs != vcKIT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testKaalamInfoMins() {
+        try {
+            Calendar dayCalendar = Calendar.getInstance();
+            dayCalendar.set(YEAR, 0, 1, 6, 0, 0);
+            VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(dayCalendar);
+            while (dayCalendar.get(Calendar.YEAR) == YEAR) {
+                vedicCalendar.setDate(dayCalendar.get(Calendar.DATE),
+                        dayCalendar.get(Calendar.MONTH), YEAR, 6, 0);
+                int queryType = VedicCalendar.MATCH_PANCHANGAM_FULLDAY;
+                totalTCs++;
+                if (isSameMins(vedicCalendar.getHorai(queryType)) &&
+                    isSameMins(vedicCalendar.getLagnam(queryType)) &&
+                    isSameMins(vedicCalendar.getKaalaVibhaagam(queryType))) {
+                    numPassedTCs++;
+                } else {
+                    System.out.println("kaalamInfoMins: " + dayCalendar.get(Calendar.DATE) + "/" +
+                            (dayCalendar.get(Calendar.MONTH) + 1) + "/" + YEAR + "...FAILED");
+                }
+                dayCalendar.add(Calendar.DATE, 1);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    public void testContains() {
+        VedicCalendar.KaalamInfo dayKaalam =
+                new VedicCalendar.KaalamInfo(0, "Day", "06:00", "07:30", 360, 450, false);
+        VedicCalendar.KaalamInfo nightKaalam =
+                new VedicCalendar.KaalamInfo(1, "Night", "23:00", "01:00", 1380, 60, false);
+        double[] times = {359.9, 360, 449.9, 450, 1379, 1380, 1439.5, 1440, 1499.9, 1500, 30};
+        boolean[] inDayKaalam = {false, true, true, false, false, false, false, false, false,
+                false, false};
+        boolean[] inNightKaalam = {false, false, false, false, false, true, true, true, true,
+                false, false};
+        for (int index = 0; index < times.length; index++) {
+            totalTCs++;
+            if ((dayKaalam.contains(times[index]) == inDayKaalam[index]) &&
+                (nightKaalam.contains(times[index]) == inNightKaalam[index])) {
+                numPassedTCs++;
+            } else {
+                System.out.println("contains: " + times[index] + "...FAILED");
+            }
+        }
+    }
+
+    public void testIsTimeSpanWithinKaalam() {
+        // Pratah kaalam (index 1) starts 1 muhurtam earlier for "Dina Vishesham" calculations.
+        VedicCalendar.KaalamInfo pratahKaalam =
+                new VedicCalendar.KaalamInfo(1, "Pratah", "06:00", "08:24", 360, 504, false);
+        VedicCalendar.KaalamInfo nightKaalam =
+                new VedicCalendar.KaalamInfo(4, "Night", "23:00", "01:00", 1380, 60, false);
+        double[] times = {300, 312, 408, 503.9, 504, 1380, 1439, 1440, 1499.9, 1500};
+        boolean[] endsInPratahKaalam = {false, true, true, true, false, false, false, false,
+                false, false};
+        boolean[] prevailsInPratahKaalam = {false, false, true, true, true, true, true, true,
+                true, true};
+        boolean[] endsInNightKaalam = {false, false, false, false, false, true, true, true, true,
+                false};
+        boolean[] prevailsInNightKaalam = {false, false, false, false, false, false, false, true,
+                true, true};
+        for (int index = 0; index < times.length; index++) {
+            totalTCs++;
+            if ((pratahKaalam.isTimeSpanWithinKaalam(times[index], false) ==
+                    endsInPratahKaalam[index]) &&
+                (pratahKaalam.isTimeSpanWithinKaalam(times[index], true) ==
+                    prevailsInPratahKaalam[index]) &&
+                (nightKaalam.isTimeSpanWithinKaalam(times[index], false) ==
+                    endsInNightKaalam[index]) &&
+                (nightKaalam.isTimeSpanWithinKaalam(times[index], true) ==
+                    prevailsInNightKaalam[index])) {
+                numPassedTCs++;
+            } else {
+                System.out.println("isTimeSpanWithinKaalam: " + times[index] + "...FAILED");
+            }
+        }
+    }
+
+    private static boolean isSameMins(ArrayList<VedicCalendar.KaalamInfo> kaalamInfoList) {
+        for (VedicCalendar.KaalamInfo kaalamInfo : kaalamInfoList) {
+            if ((getTotalMins(kaalamInfo.startTime) != kaalamInfo.startMins) ||
+                (getTotalMins(kaalamInfo.endTime) != kaalamInfo.endMins)) {
+                System.out.println(kaalamInfo.name + ": " + kaalamInfo.startTime + " - " +
+                        kaalamInfo.endTime + " vs " + kaalamInfo.startMins + " - " +
+                        kaalamInfo.endMins);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int getTotalMins(String hhmm) {
+        String[] hhmmArr = hhmm.split(":");
+        return (Integer.parseInt(hhmmArr[0]) * VedicCalendar.MAX_MINS_IN_HOUR) +
+                Integer.parseInt(hhmmArr[1]);
+    }
+}
@@ -0,0 +1,172 @@
+package com.gkmhc.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/*
+ * Test to validate that the LRU cache stays within its bounds, evicts values that were not
+ * looked up recently ahead of the ones that were, counts hits/misses & serves the right values
+ * when looked up & added by many threads in parallel.
+ */
+public class VedicCalendarLRUCacheTest {
+    private static final int MAX_ENTRIES = 64;
+    private static final int NUM_KEYS = 256;
+    private static final int NUM_THREADS = 8;
+    private static final int NUM_LOOKUPS = 200000;
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarLRUCacheTest vcLRUCT = new VedicCalendarLRUCacheTest();
+        vcLRUCT.testBounds();
+        vcLRUCT.testEviction();
+        vcLRUCT.testHitsMisses();
+        vcLRUCT.testParallelLookups();
+
+        System.out.println("Summary Report: " + vcLRUCT.numPassedTCs + "/" + vcLRUCT.totalTCs +
+                " = " + String.format("%2.2f",
+                (((double)vcLRUCT.numPassedTCs / vcLRUCT.totalTCs) * 100)) + "%");
+        if (vcLRUCT.numPassedTCs != vcLRUCT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testBounds() {
+        VedicCalendarLRUCache<Integer, Integer> cache = new VedicCalendarLRUCache<>(MAX_ENTRIES);
+        for (int key = 0; key < NUM_KEYS; key++) {
+            cache.put(key, getValue(key));
+            check("bounds: Size after " + (key + 1) + " values",
+                    cache.size() == Math.min(key + 1, MAX_ENTRIES));
+        }
+
+        // Replacing a value does not add another one
+        cache.put(NUM_KEYS - 1, getValue(NUM_KEYS));
+        check("bounds: Size after replacing", cache.size() == MAX_ENTRIES);
+        Integer value = cache.get(NUM_KEYS - 1);
+        check("bounds: Replaced value", (value != null) && (value == getValue(NUM_KEYS)));
+
+        cache.clear();
+        check("bounds: Size after clearing", cache.size() == 0);
+    }
+
+    public void testEviction() {
+        VedicCalendarLRUCache<Integer, Integer> cache = new VedicCalendarLRUCache<>(MAX_ENTRIES);
+        for (int key = 0; key < MAX_ENTRIES; key++) {
+            cache.put(key, getValue(key));
+        }
+
+        // Look up every even key so that only odd keys get evicted
+        for (int key = 0; key < MAX_ENTRIES; key += 2) {
+            cache.get(key);
+        }
+        for (int key = MAX_ENTRIES; key < (MAX_ENTRIES + (MAX_ENTRIES / 2)); key++) {
+            cache.put(key, getValue(key));
+        }
+        for (int key = 0; key < MAX_ENTRIES; key++) {
+            Integer value = cache.get(key);
+            if ((key % 2) == 0) {
+                check("eviction: Recently used key " + key,
+                        (value != null) && (value == getValue(key)));
+            } else {
+                check("eviction: Unused key " + key, (value == null));
+            }
+        }
+
+        // Every value is eventually evicted if nothing is looked up
+        for (int key = NUM_KEYS; key < (NUM_KEYS + (2 * MAX_ENTRIES)); key++) {
+            cache.put(key, getValue(key));
+        }
+        int numOldValues = 0;
+        for (int key = 0; key < NUM_KEYS; key++) {
+            if (cache.get(key) != null) {
+                numOldValues++;
+            }
+        }
+        check("eviction: Old values", (numOldValues == 0));
+    }
+
+    public void testHitsMisses() {
+        VedicCalendarLRUCache<Integer, Integer> cache = new VedicCalendarLRUCache<>(MAX_ENTRIES);
+        for (int key = 0; key < MAX_ENTRIES; key++) {
+            cache.put(key, getValue(key));
+        }
+        for (int key = 0; key < (2 * MAX_ENTRIES); key++) {
+            cache.get(key);
+        }
+        check("hitsMisses: Hits", cache.getNumHits() == MAX_ENTRIES);
+        check("hitsMisses: Misses", cache.getNumMisses() == MAX_ENTRIES);
+
+        cache.clear();
+        check("hitsMisses: Hits after clearing", cache.getNumHits() == 0);
+        check("hitsMisses: Misses after clearing", cache.getNumMisses() == 0);
+    }
+
+    public void testParallelLookups() {
+        try {
+            final VedicCalendarLRUCache<Integer, Integer> cache =
+                    new VedicCalendarLRUCache<>(MAX_ENTRIES);
+            ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+            List<Future<Integer>> futureList = new ArrayList<>();
+            long startTime = System.nanoTime();
+            for (int thread = 0; thread < NUM_THREADS; thread++) {
+                final int seed = thread;
+                futureList.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        // Returns number of wrong values looked up
+                        int numWrongValues = 0;
+                        int key = seed;
+                        for (int lookup = 0; lookup < NUM_LOOKUPS; lookup++) {
+                            // Mostly a small set of keys (as in Month view) & a few others
+                            key = ((key * 31) + lookup) % NUM_KEYS;
+                            int lookupKey = ((lookup % 8) == 0) ? key : (key % (MAX_ENTRIES / 2));
+                            Integer value = cache.get(lookupKey);
+                            if (value == null) {
+                                cache.put(lookupKey, getValue(lookupKey));
+                            } else if (value != getValue(lookupKey)) {
+                                numWrongValues++;
+                            }
+                        }
+                        return numWrongValues;
+                    }
+                }));
+            }
+            int numWrongValues = 0;
+            for (Future<Integer> future : futureList) {
+                numWrongValues += future.get();
+            }
+            long endTime = System.nanoTime();
+            executor.shutdown();
+            System.out.println("parallelLookups: Hits: " + cache.getNumHits() + ", Misses: " +
+                    cache.getNumMisses() + ", Time Taken: " +
+                    VedicCalendar.getTimeTaken(startTime, endTime));
+
+            check("parallelLookups: Values", (numWrongValues == 0));
+            check("parallelLookups: Size", (cache.size() <= MAX_ENTRIES));
+            check("parallelLookups: Lookups",
+                    (cache.getNumHits() + cache.getNumMisses()) ==
+                            ((long) NUM_THREADS * NUM_LOOKUPS));
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    private static int getValue(int key) {
+        return (key * 2) + 1;
+    }
+
+    private void check(String testCase, boolean passed) {
+        totalTCs++;
+        if (passed) {
+            numPassedTCs++;
+        } else {
+            System.out.println(testCase + "...FAILED");
+        }
+    }
+}
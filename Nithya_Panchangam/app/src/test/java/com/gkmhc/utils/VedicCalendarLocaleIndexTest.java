@@ -0,0 +1,111 @@
+package com.gkmhc.utils;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+
+/*
+ * Test to validate that reverse lookups (name to index) give the same index as indexOf() for
+ * every entry of every locale table (including duplicate names) & -1 for unknown (or) null
+ * names, both with the default locale & with a locale that has more duplicate names.
+ */
+public class VedicCalendarLocaleIndexTest {
+    private static final int YEAR = 2022;
+    private static final String UNKNOWN_NAME = "Unknown";
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarLocaleIndexTest vcLIT = new VedicCalendarLocaleIndexTest();
+        vcLIT.testLocaleIndex();
+
+        System.out.println("Summary Report: " + vcLIT.numPassedTCs + "/" + vcLIT.totalTCs + " = " +
+                String.format("%2.2f", (((double)vcLIT.numPassedTCs / vcLIT.totalTCs) * 100)) + "%");
+        if (vcLIT.numPassedTCs != vcLIT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testLocaleIndex() {
+        try {
+            VedicCalendar defaultCalendar = VedicCalendarTestUtils.createVedicCalendar(YEAR);
+            testLocaleIndex("default", defaultCalendar);
+
+            // Duplicate the 1st name of each table at its end
+            HashMap<Integer, String[]> localeList = new HashMap<>();
+            for (int tableType = 0;
+                 tableType <= VedicCalendar.VEDIC_CALENDAR_TABLE_TYPE_DINA_DRISHTI; tableType++) {
+                String[] localeTable = defaultCalendar.getLocaleTable(tableType).clone();
+                if (localeTable.length > 1) {
+                    localeTable[localeTable.length - 1] = localeTable[0];
+                }
+                localeList.put(tableType, localeTable);
+            }
+            Calendar currCalendar = Calendar.getInstance();
+            currCalendar.set(YEAR, 0, 1, 6, 0, 0);
+            testLocaleIndex("duplicates",
+                    VedicCalendarTestUtils.createVedicCalendar(currCalendar, localeList));
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    private void testLocaleIndex(String locale, VedicCalendar vedicCalendar) {
+        for (int tableType = 0;
+             tableType <= VedicCalendar.VEDIC_CALENDAR_TABLE_TYPE_DINA_DRISHTI; tableType++) {
+            String[] localeTable = vedicCalendar.getLocaleTable(tableType);
+            List<String> localeNames = Arrays.asList(localeTable);
+            for (String name : localeTable) {
+                checkIndex(locale, tableType, name, localeNames.indexOf(name),
+                        vedicCalendar.getLocaleIndex(tableType, name));
+            }
+            checkIndex(locale, tableType, UNKNOWN_NAME, -1,
+                    vedicCalendar.getLocaleIndex(tableType, UNKNOWN_NAME));
+            checkIndex(locale, tableType, null, -1, vedicCalendar.getLocaleIndex(tableType, null));
+        }
+
+        // Public APIs that lookup the same
+        List<String> smNames = Arrays.asList(vedicCalendar.getLocaleTable(
+                VedicCalendar.VEDIC_CALENDAR_TABLE_TYPE_SAURAMANA_MAASAM));
+        for (String name : smNames) {
+            checkIndex(locale, VedicCalendar.VEDIC_CALENDAR_TABLE_TYPE_SAURAMANA_MAASAM, name,
+                    smNames.indexOf(name), vedicCalendar.getSauramanaMaasamIndex(name));
+        }
+        List<String> cmNames = Arrays.asList(vedicCalendar.getLocaleTable(
+                VedicCalendar.VEDIC_CALENDAR_TABLE_TYPE_CHAANDRAMANA_MAASAM));
+        for (String name : cmNames) {
+            checkIndex(locale, VedicCalendar.VEDIC_CALENDAR_TABLE_TYPE_CHAANDRAMANA_MAASAM, name,
+                    cmNames.indexOf(name), vedicCalendar.getChaandramaanamMaasamIndex(name));
+        }
+        List<String> pakshamNames = Arrays.asList(vedicCalendar.getLocaleTable(
+                VedicCalendar.VEDIC_CALENDAR_TABLE_TYPE_PAKSHAM));
+        for (String name : pakshamNames) {
+            checkIndex(locale, VedicCalendar.VEDIC_CALENDAR_TABLE_TYPE_PAKSHAM, name,
+                    pakshamNames.indexOf(name), vedicCalendar.getPakshamIndex(name));
+        }
+        List<String> nakshatramNames = Arrays.asList(vedicCalendar.getLocaleTable(
+                VedicCalendar.VEDIC_CALENDAR_TABLE_TYPE_NAKSHATHRAM));
+        for (String name : nakshatramNames) {
+            checkIndex(locale, VedicCalendar.VEDIC_CALENDAR_TABLE_TYPE_NAKSHATHRAM, name,
+                    nakshatramNames.indexOf(name), vedicCalendar.getNakshatramIndex(name));
+        }
+        checkIndex(locale, VedicCalendar.VEDIC_CALENDAR_TABLE_TYPE_SAURAMANA_MAASAM, null, -1,
+                vedicCalendar.getSauramanaMaasamIndex(null));
+        checkIndex(locale, VedicCalendar.VEDIC_CALENDAR_TABLE_TYPE_NAKSHATHRAM, UNKNOWN_NAME, -1,
+                vedicCalendar.getNakshatramIndex(UNKNOWN_NAME));
+    }
+
+    private void checkIndex(String locale, int tableType, String name, int expectedIndex,
+                            int index) {
+        totalTCs++;
+        if (index == expectedIndex) {
+            numPassedTCs++;
+        } else {
+            System.out.println("localeIndex(" + locale + "): Table " + tableType + " " + name +
+                    " => " + index + " vs " + expectedIndex + "...FAILED");
+        }
+    }
+}
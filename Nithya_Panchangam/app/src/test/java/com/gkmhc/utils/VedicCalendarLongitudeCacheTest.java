@@ -0,0 +1,83 @@
+package com.gkmhc.utils;
+
+import java.util.Calendar;
+import java.util.HashMap;
+
+/*
+ * Test to validate planet longitudes served from the longitude cache against the ones
+ * calculated afresh & to report hits/misses, memory taken & time taken when the same days are
+ * looked up by multiple VedicCalendar instances (as in Widget & Panchangam).
+ */
+public class VedicCalendarLongitudeCacheTest {
+    private static final int YEAR = 2022;
+    private static final int NUM_DAYS = 366;
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarLongitudeCacheTest vcLCT = new VedicCalendarLongitudeCacheTest();
+        vcLCT.testLongitudeCache();
+
+        System.out.println("Summary Report: " + vcLCT.numPassedTCs + "/" + vcLCT.totalTCs + " = " +
+                String.format("%2.2f", (((double)vcLCT.numPassedTCs / vcLCT.totalTCs) * 100)) + "%");
+        if (vcLCT.numPassedTCs != vcLCT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testLongitudeCache() {
+        try {
+            VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(YEAR);
+            VedicCalendar otherCalendar = VedicCalendarTestUtils.createVedicCalendar(YEAR);
+
+            VedicCalendar.clearLongitudeCache();
+            long firstTime = 0;
+            long secondTime = 0;
+            for (int day = 0; day < NUM_DAYS; day++) {
+                long startTime = System.nanoTime();
+                setDay(vedicCalendar, day);
+                HashMap<Integer, Double> planetsRise = vedicCalendar.getPlanetsRise();
+                long endTime = System.nanoTime();
+                firstTime += (endTime - startTime);
+
+                long numMisses = VedicCalendar.getLongitudeCacheMisses();
+                startTime = System.nanoTime();
+                setDay(otherCalendar, day);
+                HashMap<Integer, Double> otherPlanetsRise = otherCalendar.getPlanetsRise();
+                endTime = System.nanoTime();
+                secondTime += (endTime - startTime);
+
+                totalTCs++;
+                if (planetsRise.equals(otherPlanetsRise) &&
+                    (VedicCalendar.getLongitudeCacheMisses() == numMisses)) {
+                    numPassedTCs++;
+                } else {
+                    System.out.println("longitudeCache: Day " + day + "...FAILED");
+                }
+            }
+
+            long numHits = VedicCalendar.getLongitudeCacheHits();
+            long numMisses = VedicCalendar.getLongitudeCacheMisses();
+            System.out.println("longitudeCache: Hits: " + numHits + ", Misses: " + numMisses +
+                    ", Hit Rate: " + String.format("%.2f",
+                    ((double) numHits * 100 / (numHits + numMisses))) + "%, Entries: " +
+                    VedicCalendar.getLongitudeCacheSize() + ", Memory: " +
+                    VedicCalendar.getLongitudeCacheMemoryUsage() + " bytes");
+            System.out.println("setDate() + getPlanetsRise() Time Taken (First/Other): " +
+                    VedicCalendar.getTimeTaken(0, firstTime) + "/" +
+                    VedicCalendar.getTimeTaken(0, secondTime));
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    private static void setDay(VedicCalendar vedicCalendar, int day) {
+        Calendar dayCalendar = Calendar.getInstance();
+        dayCalendar.set(YEAR, 0, 1, 6, 0, 0);
+        dayCalendar.add(Calendar.DATE, day);
+        vedicCalendar.setDate(dayCalendar.get(Calendar.DATE), dayCalendar.get(Calendar.MONTH),
+                dayCalendar.get(Calendar.YEAR), 6, 0);
+    }
+}
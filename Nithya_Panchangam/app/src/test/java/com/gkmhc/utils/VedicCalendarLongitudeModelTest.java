@@ -0,0 +1,134 @@
+package com.gkmhc.utils;
+
+import java.util.Calendar;
+
+import swisseph.SweConst;
+import swisseph.SweDate;
+
+/*
+ * Test to validate longitudes (& rates) given by the longitude model against SwissEph over a
+ * whole year (& a couple of months of the years before & after it) & to ensure Panchangam calculated locally (against the model) matches the
+ * Panchangam calculated using SwissEph.
+ */
+public class VedicCalendarLongitudeModelTest {
+    private static final int YEAR = 2022;
+    private static final int NUM_SAMPLES = 2000;
+    private static final double MAX_RATE_ERROR = 2e-4; // In degrees per day
+    private static final double RATE_DELTA_JD = 0.001;
+
+    // Instants outside of the VedicCalendar's year are expected to be covered by the model of
+    // their own year.
+    private static final double OUTSIDE_YEAR_DAYS = 60;
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarLongitudeModelTest vcLMT = new VedicCalendarLongitudeModelTest();
+        vcLMT.testLongitudeModel();
+        vcLMT.testCalcLocal();
+
+        System.out.println("Summary Report: " + vcLMT.numPassedTCs + "/" + vcLMT.totalTCs + " = " +
+                String.format("%2.2f", (((double)vcLMT.numPassedTCs / vcLMT.totalTCs) * 100)) + "%");
+        if (vcLMT.numPassedTCs != vcLMT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testLongitudeModel() {
+        try {
+            VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(YEAR);
+            int[] planets = {SweConst.SE_SUN, SweConst.SE_MOON};
+            int[] bodies = {VedicCalendarLongitudeModel.BODY_RAVI,
+                    VedicCalendarLongitudeModel.BODY_CHANDRA};
+            double jdStart = new SweDate(YEAR, 1, 1, 0).getJulDay() - OUTSIDE_YEAR_DAYS;
+            double jdEnd = new SweDate((YEAR + 1), 1, 1, 0).getJulDay() + OUTSIDE_YEAR_DAYS;
+            double[] planetInfo = new double[6];
+            double[] prevPlanetInfo = new double[6];
+            double[] nextPlanetInfo = new double[6];
+
+            double maxLongitudeError = 0;
+            double maxRateError = 0;
+            for (int sample = 0; sample < NUM_SAMPLES; sample++) {
+                double jd = jdStart + ((jdEnd - jdStart) * sample / NUM_SAMPLES) + 0.123;
+                VedicCalendarLongitudeModel longitudeModel = vedicCalendar.getLongitudeModel(jd);
+                for (int index = 0; index < planets.length; index++) {
+                    totalTCs++;
+                    if ((longitudeModel == null) || !longitudeModel.covers(jd) ||
+                        !vedicCalendar.calcSiderealLongitude(planets[index], jd, planetInfo) ||
+                        !vedicCalendar.calcSiderealLongitude(planets[index],
+                                (jd - RATE_DELTA_JD), prevPlanetInfo) ||
+                        !vedicCalendar.calcSiderealLongitude(planets[index],
+                                (jd + RATE_DELTA_JD), nextPlanetInfo)) {
+                        System.out.println("longitudeModel: " + jd + "...FAILED");
+                        continue;
+                    }
+
+                    double longitudeError = getAngleDifference(planetInfo[0],
+                            longitudeModel.getLongitude(bodies[index], jd));
+                    double rate = getAngleDifference(nextPlanetInfo[0], prevPlanetInfo[0]) /
+                            (2 * RATE_DELTA_JD);
+                    double rateError = Math.abs(rate - longitudeModel.getRate(bodies[index], jd));
+                    maxLongitudeError = Math.max(maxLongitudeError, Math.abs(longitudeError));
+                    maxRateError = Math.max(maxRateError, rateError);
+                    if ((Math.abs(longitudeError) < VedicCalendarLongitudeModel.MAX_ERROR_DEGREES) &&
+                        (rateError < MAX_RATE_ERROR)) {
+                        numPassedTCs++;
+                    } else {
+                        System.out.println("longitudeModel: " + jd + " (" + planets[index] +
+                                ")...FAILED (" + longitudeError + ", " + rateError + ")");
+                    }
+                }
+            }
+            System.out.println("longitudeModel: Max Longitude Error: " + maxLongitudeError +
+                    " deg, Max Rate Error: " + maxRateError + " deg/day");
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    public void testCalcLocal() {
+        try {
+            VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(YEAR);
+            Calendar dayCalendar = Calendar.getInstance();
+            dayCalendar.set(YEAR, 0, 1, 6, 0, 0);
+            while (dayCalendar.get(Calendar.YEAR) == YEAR) {
+                int date = dayCalendar.get(Calendar.DATE);
+                int month = dayCalendar.get(Calendar.MONTH);
+                vedicCalendar.setDate(date, month, YEAR, 6, 0);
+                String localTithi =
+                        vedicCalendar.getTithi(VedicCalendar.MATCH_PANCHANGAM_FULLDAY_CALC_LOCAL);
+                String localNakshatram = vedicCalendar.getNakshatram(
+                        VedicCalendar.MATCH_PANCHANGAM_FULLDAY_CALC_LOCAL);
+                vedicCalendar.setDate(date, month, YEAR, 6, 0);
+                String tithi = vedicCalendar.getTithi(VedicCalendar.MATCH_PANCHANGAM_FULLDAY);
+                String nakshatram =
+                        vedicCalendar.getNakshatram(VedicCalendar.MATCH_PANCHANGAM_FULLDAY);
+
+                totalTCs++;
+                if (tithi.equals(localTithi) && nakshatram.equals(localNakshatram)) {
+                    numPassedTCs++;
+                } else {
+                    System.out.println("calcLocal: " + date + "/" + (month + 1) + "/" + YEAR +
+                            "...FAILED (" + localTithi + " vs " + tithi + ", " +
+                            localNakshatram + " vs " + nakshatram + ")");
+                }
+                dayCalendar.add(Calendar.DATE, 1);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    private static double getAngleDifference(double angle1, double angle2) {
+        double difference = (angle1 - angle2) % 360;
+        if (difference > 180) {
+            difference -= 360;
+        } else if (difference < -180) {
+            difference += 360;
+        }
+        return difference;
+    }
+}
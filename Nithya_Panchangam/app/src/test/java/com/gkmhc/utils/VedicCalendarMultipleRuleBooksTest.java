@@ -0,0 +1,181 @@
+package com.gkmhc.utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Test to validate that Dina Visheshams given (in one pass) by a rule engine with multiple rule
+ * books match the ones given by a rule engine per rule book for every day of a whole year, for
+ * each subset of rule books & to report time taken by both.
+ */
+public class VedicCalendarMultipleRuleBooksTest {
+    private static final String DINA_VISHESHAM_RULES_FILE = "./nithya_panchangam.toml";
+    private static final String COMPILED_RULE_BOOK_SUFFIX = ".bin";
+    private static final String FULL_RULE_BOOK = "full";
+    private static final String PARTIAL_RULE_BOOK = "partial";
+    private static final int YEAR = 2022;
+
+    // Partial rule book has only those Dina Visheshams that are before the first Pradosham
+    private static final String PARTIAL_RULE_BOOK_END = "    [dina_vishesham.pradosham]";
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarMultipleRuleBooksTest vcMRBT = new VedicCalendarMultipleRuleBooksTest();
+        File partialRuleBookFile = null;
+        try {
+            partialRuleBookFile = File.createTempFile("nithya_panchangam_partial", ".toml");
+            String ruleBook = new String(
+                    Files.readAllBytes(new File(DINA_VISHESHAM_RULES_FILE).toPath()),
+                    StandardCharsets.UTF_8);
+            FileOutputStream outputStream = new FileOutputStream(partialRuleBookFile);
+            outputStream.write(ruleBook.substring(0, ruleBook.indexOf(PARTIAL_RULE_BOOK_END))
+                    .getBytes(StandardCharsets.UTF_8));
+            outputStream.close();
+
+            Map<String, String> ruleBookFileNames = new LinkedHashMap<>();
+            ruleBookFileNames.put(FULL_RULE_BOOK, DINA_VISHESHAM_RULES_FILE);
+            ruleBookFileNames.put(PARTIAL_RULE_BOOK, partialRuleBookFile.getPath());
+            vcMRBT.testRuleEngine(ruleBookFileNames);
+            vcMRBT.testVedicCalendar(ruleBookFileNames);
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        } finally {
+            if (partialRuleBookFile != null) {
+                //noinspection ResultOfMethodCallIgnored
+                new File(partialRuleBookFile.getPath() + COMPILED_RULE_BOOK_SUFFIX).delete();
+                //noinspection ResultOfMethodCallIgnored
+                partialRuleBookFile.delete();
+            }
+        }
+
+        System.out.println("Summary Report: " + vcMRBT.numPassedTCs + "/" + vcMRBT.totalTCs +
+                " = " + String.format("%2.2f",
+                (((double)vcMRBT.numPassedTCs / vcMRBT.totalTCs) * 100)) + "%");
+        if (vcMRBT.numPassedTCs != vcMRBT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testRuleEngine(Map<String, String> ruleBookFileNames) throws Exception {
+        VedicCalendarDinaVisheshamRuleEngine ruleEngine =
+                VedicCalendarDinaVisheshamRuleEngine.getInstance(ruleBookFileNames);
+        VedicCalendarDinaVisheshamRuleEngine fullRuleEngine =
+                VedicCalendarDinaVisheshamRuleEngine.getInstance(
+                        ruleBookFileNames.get(FULL_RULE_BOOK));
+        VedicCalendarDinaVisheshamRuleEngine partialRuleEngine =
+                VedicCalendarDinaVisheshamRuleEngine.getInstance(
+                        ruleBookFileNames.get(PARTIAL_RULE_BOOK));
+        List<String> fullRuleBook = Collections.singletonList(FULL_RULE_BOOK);
+        List<String> partialRuleBook = Collections.singletonList(PARTIAL_RULE_BOOK);
+        List<String> allRuleBooks = Arrays.asList(FULL_RULE_BOOK, PARTIAL_RULE_BOOK);
+
+        totalTCs++;
+        if (ruleEngine.getRuleBookNames().equals(allRuleBooks)) {
+            numPassedTCs++;
+        } else {
+            System.out.println("multipleRuleBooks: Rule book names " +
+                    ruleEngine.getRuleBookNames() + "...FAILED");
+        }
+
+        Calendar dayCalendar = Calendar.getInstance();
+        dayCalendar.set(YEAR, 0, 1, 6, 0, 0);
+        VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(dayCalendar);
+        int numPartialVisheshams = 0;
+        long mergedTime = 0;
+        long perRuleBookTime = 0;
+        while (dayCalendar.get(Calendar.YEAR) == YEAR) {
+            vedicCalendar.setDate(dayCalendar.get(Calendar.DATE),
+                    dayCalendar.get(Calendar.MONTH), YEAR, 6, 0);
+
+            // Panchangam of the day is calculated (& cached) by the first query. Hence, leave it
+            // out of the comparison.
+            ruleEngine.getDinaVisheshams(vedicCalendar);
+            long startTime = System.nanoTime();
+            List<String> allDinaVisheshams = ruleEngine.getDinaVisheshams(vedicCalendar,
+                    allRuleBooks);
+            mergedTime += (System.nanoTime() - startTime);
+            startTime = System.nanoTime();
+            List<String> fullDinaVisheshams = fullRuleEngine.getDinaVisheshams(vedicCalendar);
+            List<String> partialDinaVisheshams = partialRuleEngine.getDinaVisheshams(vedicCalendar);
+            perRuleBookTime += (System.nanoTime() - startTime);
+            numPartialVisheshams += partialDinaVisheshams.size();
+
+            // 1) Each rule book by itself, all rule books together & no rule books
+            HashSet<String> expectedDinaVisheshams = new HashSet<>(fullDinaVisheshams);
+            expectedDinaVisheshams.addAll(partialDinaVisheshams);
+            totalTCs++;
+            if (ruleEngine.getDinaVisheshams(vedicCalendar, fullRuleBook).equals(fullDinaVisheshams) &&
+                ruleEngine.getDinaVisheshams(vedicCalendar, partialRuleBook).equals(partialDinaVisheshams) &&
+                ruleEngine.getDinaVisheshams(vedicCalendar).equals(allDinaVisheshams) &&
+                (allDinaVisheshams.size() == expectedDinaVisheshams.size()) &&
+                expectedDinaVisheshams.containsAll(allDinaVisheshams) &&
+                ruleEngine.getDinaVisheshams(vedicCalendar, new ArrayList<>()).isEmpty()) {
+                numPassedTCs++;
+            } else {
+                System.out.println("multipleRuleBooks: " + dayCalendar.get(Calendar.DATE) + "/" +
+                        (dayCalendar.get(Calendar.MONTH) + 1) + "/" + YEAR + " " +
+                        allDinaVisheshams + " vs " + fullDinaVisheshams + " + " +
+                        partialDinaVisheshams + "...FAILED");
+            }
+            dayCalendar.add(Calendar.DATE, 1);
+        }
+
+        totalTCs++;
+        if (numPartialVisheshams > 0) {
+            numPassedTCs++;
+        } else {
+            System.out.println("multipleRuleBooks: No Dina Visheshams in partial rule book...FAILED");
+        }
+
+        System.out.println("multipleRuleBooks: Time Taken (All rule books in one pass/" +
+                "One rule engine per rule book): " + VedicCalendar.getTimeTaken(0, mergedTime) +
+                "/" + VedicCalendar.getTimeTaken(0, perRuleBookTime));
+    }
+
+    public void testVedicCalendar(Map<String, String> ruleBookFileNames) throws Exception {
+        Calendar dayCalendar = Calendar.getInstance();
+        dayCalendar.set(YEAR, 0, 1, 6, 0, 0);
+        VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(dayCalendar);
+
+        // 1) Dina Visheshams as per the full rule book (configured by itself)
+        vedicCalendar.configureDinaVisheshamRules(ruleBookFileNames.get(FULL_RULE_BOOK));
+        List<List<Integer>> expectedDinaVisheshams = new ArrayList<>();
+        for (int month = 0; month < 12; month++) {
+            vedicCalendar.setDate(1, month, YEAR, 6, 0);
+            expectedDinaVisheshams.add(vedicCalendar.getDinaVisheshams());
+        }
+
+        // 2) Dina Visheshams as per the full rule book (configured along with other rule books)
+        vedicCalendar.configureDinaVisheshamRules(ruleBookFileNames);
+        List<String> fullRuleBook = Collections.singletonList(FULL_RULE_BOOK);
+        for (int month = 0; month < 12; month++) {
+            vedicCalendar.setDate(1, month, YEAR, 6, 0);
+            List<Integer> dinaVisheshams = vedicCalendar.getDinaVisheshams(fullRuleBook);
+            long expectedMask = 0;
+            for (int dinaVisheshamCode : dinaVisheshams) {
+                expectedMask |= (1L << dinaVisheshamCode);
+            }
+            totalTCs++;
+            if (dinaVisheshams.equals(expectedDinaVisheshams.get(month)) &&
+                (vedicCalendar.getDinaVisheshamsMask(fullRuleBook) == expectedMask)) {
+                numPassedTCs++;
+            } else {
+                System.out.println("multipleRuleBooks: 1/" + (month + 1) + "/" + YEAR + " " +
+                        dinaVisheshams + " vs " + expectedDinaVisheshams.get(month) + "...FAILED");
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.gkmhc.utils;
+
+import java.util.Calendar;
+import java.util.List;
+
+/*
+ * Test to ensure Panchangam computed for a range of calendar days (with longitudes carried
+ * over from one day to the next) matches the Panchangam computed afresh for each of those days.
+ */
+public class VedicCalendarRangeTest {
+    private static final int NUM_DAYS = 400;
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarRangeTest vcRT = new VedicCalendarRangeTest();
+        vcRT.testComputeRange(VedicCalendar.PANCHANGAM_TYPE_DRIK_GANITHAM_LUNI_SOLAR);
+        vcRT.testComputeRange(VedicCalendar.PANCHANGAM_TYPE_DRIK_GANITHAM_LUNAR);
+
+        System.out.println("Summary Report: " + vcRT.numPassedTCs + "/" + vcRT.totalTCs + " = " +
+                String.format("%2.2f", (((double)vcRT.numPassedTCs / vcRT.totalTCs) * 100)) + "%");
+        if (vcRT.numPassedTCs != vcRT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testComputeRange(int panchangamType) {
+        try {
+            Calendar currCalendar = Calendar.getInstance();
+            currCalendar.set(2021, 11, 15, 6, 0, 0);
+            VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(
+                    currCalendar, panchangamType, VedicCalendarTestUtils.CHENNAI_LONGITUDE,
+                    VedicCalendarTestUtils.CHENNAI_LATITUDE,
+                    VedicCalendarTestUtils.CHENNAI_TIMEZONE);
+
+            Calendar endCalendar = (Calendar) currCalendar.clone();
+            endCalendar.add(Calendar.DATE, (NUM_DAYS - 1));
+            long startTime = System.nanoTime();
+            List<VedicCalendar.PanchangamDay> panchangamDays =
+                    vedicCalendar.computeRange(currCalendar, endCalendar);
+            long endTime = System.nanoTime();
+            System.out.println("computeRange(" + NUM_DAYS + " days) Time Taken: " +
+                    VedicCalendar.getTimeTaken(startTime, endTime));
+
+            // VedicCalendar is expected to be left at the date it was set to.
+            totalTCs++;
+            if ((panchangamDays.size() == NUM_DAYS) &&
+                (vedicCalendar.get(Calendar.DATE) == 15) &&
+                (vedicCalendar.get(Calendar.MONTH) == 11) &&
+                (vedicCalendar.get(Calendar.YEAR) == 2021)) {
+                numPassedTCs++;
+            } else {
+                System.out.println("computeRange: Range/Restore...FAILED");
+            }
+
+            Calendar dayCalendar = (Calendar) currCalendar.clone();
+            for (VedicCalendar.PanchangamDay panchangamDay : panchangamDays) {
+                VedicCalendar.PanchangamDay expectedDay =
+                        vedicCalendar.computeRange(dayCalendar, dayCalendar).get(0);
+                totalTCs++;
+                if (isSameDay(expectedDay, panchangamDay)) {
+                    numPassedTCs++;
+                } else {
+                    System.out.println("computeRange: " + panchangamDay.date + "/" +
+                            (panchangamDay.month + 1) + "/" + panchangamDay.year + "...FAILED");
+                }
+                dayCalendar.add(Calendar.DATE, 1);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    private static boolean isSameDay(VedicCalendar.PanchangamDay expectedDay,
+                                     VedicCalendar.PanchangamDay actualDay) {
+        return (expectedDay.date == actualDay.date) &&
+                (expectedDay.month == actualDay.month) &&
+                (expectedDay.year == actualDay.year) &&
+                (expectedDay.vaasaramIndex == actualDay.vaasaramIndex) &&
+                (expectedDay.samvatsaramIndex == actualDay.samvatsaramIndex) &&
+                (expectedDay.ayanamIndex == actualDay.ayanamIndex) &&
+                (expectedDay.rithuIndex == actualDay.rithuIndex) &&
+                (expectedDay.sauramaanamMaasamIndex == actualDay.sauramaanamMaasamIndex) &&
+                (expectedDay.sauramaanamMaasamSpan == actualDay.sauramaanamMaasamSpan) &&
+                (expectedDay.chaandramaanamMaasamIndex == actualDay.chaandramaanamMaasamIndex) &&
+                (expectedDay.chaandramaanamMaasamSpan == actualDay.chaandramaanamMaasamSpan) &&
+                (expectedDay.isAdhikaMaasam == actualDay.isAdhikaMaasam) &&
+                (expectedDay.pakshamIndex == actualDay.pakshamIndex) &&
+                (expectedDay.tithiIndex == actualDay.tithiIndex) &&
+                (expectedDay.tithiSpan == actualDay.tithiSpan) &&
+                (expectedDay.nakshatramIndex == actualDay.nakshatramIndex) &&
+                (expectedDay.nakshatramSpan == actualDay.nakshatramSpan) &&
+                (expectedDay.raasiIndex == actualDay.raasiIndex) &&
+                (expectedDay.raasiSpan == actualDay.raasiSpan) &&
+                (expectedDay.yogamIndex == actualDay.yogamIndex) &&
+                (expectedDay.yogamSpan == actualDay.yogamSpan) &&
+                (expectedDay.karanamIndex == actualDay.karanamIndex) &&
+                (expectedDay.karanamSpan == actualDay.karanamSpan) &&
+                (expectedDay.sunRiseTotalMins == actualDay.sunRiseTotalMins) &&
+                (expectedDay.sunSetTotalMins == actualDay.sunSetTotalMins) &&
+                (expectedDay.dinaAnkam == actualDay.dinaAnkam);
+    }
+}
@@ -0,0 +1,156 @@
+package com.gkmhc.utils;
+
+import java.util.Calendar;
+
+/*
+ * Test to validate Sunrise/Sunset timings served from the rise/set cache against the ones
+ * calculated afresh & to report hits/misses & time taken while moving around a few months of
+ * calendar days repeatedly (as in Month view).
+ * Also validates that nearby places get the same timings irrespective of the order in which
+ * they are looked up.
+ */
+public class VedicCalendarRiseSetCacheTest {
+    private static final int YEAR = 2022;
+    private static final int NUM_DAYS = 42; // Month view
+    private static final int NUM_PASSES = 5;
+    private static final double NEARBY_LONGITUDE = 80.2712;
+    private static final double NEARBY_LATITUDE = 13.0831;
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarRiseSetCacheTest vcRSCT = new VedicCalendarRiseSetCacheTest();
+        vcRSCT.testRiseSetCache();
+        vcRSCT.testRiseSetOrder();
+
+        System.out.println("Summary Report: " + vcRSCT.numPassedTCs + "/" + vcRSCT.totalTCs + " = " +
+                String.format("%2.2f", (((double)vcRSCT.numPassedTCs / vcRSCT.totalTCs) * 100)) + "%");
+        if (vcRSCT.numPassedTCs != vcRSCT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testRiseSetCache() {
+        try {
+            VedicCalendar vedicCalendar = createVedicCalendar(
+                    VedicCalendarTestUtils.CHENNAI_LONGITUDE,
+                    VedicCalendarTestUtils.CHENNAI_LATITUDE);
+            String[] sunRises = new String[NUM_DAYS];
+            String[] sunSets = new String[NUM_DAYS];
+
+            // 1st pass - everything is calculated afresh
+            VedicCalendar.clearRiseSetCache();
+            long startTime = System.nanoTime();
+            for (int day = 0; day < NUM_DAYS; day++) {
+                setDay(vedicCalendar, day);
+                sunRises[day] = vedicCalendar.getSunrise();
+                sunSets[day] = vedicCalendar.getSunset();
+            }
+            long endTime = System.nanoTime();
+            long numMisses = VedicCalendar.getRiseSetCacheMisses();
+            System.out.println("Pass 1: Hits: " + VedicCalendar.getRiseSetCacheHits() +
+                    ", Misses: " + numMisses + ", Time Taken: " +
+                    VedicCalendar.getTimeTaken(startTime, endTime));
+
+            // Subsequent passes - everything is served from the cache
+            startTime = System.nanoTime();
+            for (int pass = 1; pass < NUM_PASSES; pass++) {
+                for (int day = 0; day < NUM_DAYS; day++) {
+                    setDay(vedicCalendar, day);
+                    totalTCs++;
+                    if (sunRises[day].equals(vedicCalendar.getSunrise()) &&
+                        sunSets[day].equals(vedicCalendar.getSunset())) {
+                        numPassedTCs++;
+                    } else {
+                        System.out.println("riseSetCache: Day " + day + "...FAILED");
+                    }
+                }
+            }
+            endTime = System.nanoTime();
+            System.out.println("Pass 2-" + NUM_PASSES + ": Hits: " +
+                    VedicCalendar.getRiseSetCacheHits() + ", Misses: " +
+                    VedicCalendar.getRiseSetCacheMisses() + ", Time Taken: " +
+                    VedicCalendar.getTimeTaken(startTime, endTime));
+            totalTCs++;
+            if (VedicCalendar.getRiseSetCacheMisses() == numMisses) {
+                numPassedTCs++;
+            } else {
+                System.out.println("riseSetCache: Unexpected misses...FAILED");
+            }
+
+            // A nearby place needs its own entries
+            VedicCalendar nearbyCalendar = createVedicCalendar(NEARBY_LONGITUDE, NEARBY_LATITUDE);
+            setDay(nearbyCalendar, 0);
+            nearbyCalendar.getSunrise();
+            totalTCs++;
+            if (VedicCalendar.getRiseSetCacheMisses() > numMisses) {
+                numPassedTCs++;
+            } else {
+                System.out.println("riseSetCache: Nearby place...FAILED");
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    public void testRiseSetOrder() {
+        try {
+            VedicCalendar vedicCalendar = createVedicCalendar(
+                    VedicCalendarTestUtils.CHENNAI_LONGITUDE,
+                    VedicCalendarTestUtils.CHENNAI_LATITUDE);
+            VedicCalendar nearbyCalendar = createVedicCalendar(NEARBY_LONGITUDE, NEARBY_LATITUDE);
+
+            // Chennai 1st & then the nearby place
+            VedicCalendar.clearRiseSetCache();
+            String[] riseSets = getRiseSets(vedicCalendar);
+            String[] nearbyRiseSets = getRiseSets(nearbyCalendar);
+
+            // The nearby place 1st & then Chennai
+            VedicCalendar.clearRiseSetCache();
+            String[] nearbyRiseSetsFirst = getRiseSets(nearbyCalendar);
+            String[] riseSetsLater = getRiseSets(vedicCalendar);
+
+            for (int day = 0; day < NUM_DAYS; day++) {
+                totalTCs++;
+                if (riseSets[day].equals(riseSetsLater[day]) &&
+                    nearbyRiseSets[day].equals(nearbyRiseSetsFirst[day])) {
+                    numPassedTCs++;
+                } else {
+                    System.out.println("riseSetOrder: Day " + day + " " + riseSets[day] + " vs " +
+                            riseSetsLater[day] + ", " + nearbyRiseSets[day] + " vs " +
+                            nearbyRiseSetsFirst[day] + "...FAILED");
+                }
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    private static String[] getRiseSets(VedicCalendar vedicCalendar) {
+        String[] riseSets = new String[NUM_DAYS];
+        for (int day = 0; day < NUM_DAYS; day++) {
+            setDay(vedicCalendar, day);
+            riseSets[day] = vedicCalendar.getSunrise() + " " + vedicCalendar.getSunset();
+        }
+        return riseSets;
+    }
+
+    private static void setDay(VedicCalendar vedicCalendar, int day) {
+        Calendar dayCalendar = Calendar.getInstance();
+        dayCalendar.set(YEAR, 0, 1, 6, 0, 0);
+        dayCalendar.add(Calendar.DATE, day);
+        vedicCalendar.setDate(dayCalendar.get(Calendar.DATE), dayCalendar.get(Calendar.MONTH),
+                dayCalendar.get(Calendar.YEAR), 6, 0);
+    }
+
+    private static VedicCalendar createVedicCalendar(double longitude, double latitude)
+            throws Exception {
+        Calendar currCalendar = Calendar.getInstance();
+        currCalendar.set(YEAR, 0, 1, 6, 0, 0);
+        return VedicCalendarTestUtils.createVedicCalendar(currCalendar, longitude, latitude,
+                VedicCalendarTestUtils.CHENNAI_TIMEZONE);
+    }
+}
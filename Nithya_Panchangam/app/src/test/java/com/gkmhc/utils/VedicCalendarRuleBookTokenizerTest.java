@@ -0,0 +1,347 @@
+package com.gkmhc.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Scanner;
+
+/*
+ * Test to validate tokens (& errors along with their line #s) given by the rule book tokenizer,
+ * that the rule engine skips invalid lines (but not the rest of the rule book) & normalizes
+ * quotes in titles the way it always has & to report time taken to tokenize & parse a synthetic rule book with 10,000 rules against
+ * the time taken to split the same rule book line by line (as done by Scanner & String.split()).
+ */
+public class VedicCalendarRuleBookTokenizerTest {
+    private static final String COMPILED_RULE_BOOK_SUFFIX = ".bin";
+    private static final int NUM_SYNTHETIC_RULES = 10000;
+    private static final int NUM_ITERATIONS = 10;
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarRuleBookTokenizerTest vcRBTT = new VedicCalendarRuleBookTokenizerTest();
+        File ruleBookFile = null;
+        try {
+            vcRBTT.testTokens();
+            vcRBTT.testErrors();
+            vcRBTT.testRuleEngineErrors();
+
+            ruleBookFile = File.createTempFile("nithya_panchangam_synthetic", ".toml");
+            vcRBTT.testSyntheticRuleBook(ruleBookFile);
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        } finally {
+            if (ruleBookFile != null) {
+                //noinspection ResultOfMethodCallIgnored
+                new File(ruleBookFile.getPath() + COMPILED_RULE_BOOK_SUFFIX).delete();
+                //noinspection ResultOfMethodCallIgnored
+                ruleBookFile.delete();
+            }
+        }
+
+        System.out.println("Summary Report: " + vcRBTT.numPassedTCs + "/" + vcRBTT.totalTCs +
+                " = " + String.format("%2.2f",
+                (((double)vcRBTT.numPassedTCs / vcRBTT.totalTCs) * 100)) + "%");
+        if (vcRBTT.numPassedTCs != vcRBTT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testTokens() throws Exception {
+        String[][] testCases = {
+                // Rule book, Tokens (as section, [key=value]@line)
+                {"", ""},
+                {"# Only a comment\n\n   \n", ""},
+                {"[panchangam_info]\ntitle=\"Nithya Panchangam\"\n",
+                        "[panchangam_info:1]@1 title=Nithya Panchangam@2"},
+                {"  [ dina_vishesham.amavaasai.rule ]  # Rule\r\n" +
+                 "\tdina_vishesham_match_value = 30   # 30 - Amavaasai\r\n",
+                        "[dina_vishesham.amavaasai.rule:3]@1 dina_vishesham_match_value=30@2"},
+                {"[a]\nkey=\"# not a comment\" # comment\nkey2='C:\\path'\n",
+                        "[a:1]@1 key=# not a comment@2 key2=C:\\path@3"},
+                {"key=\"\\\"quoted\\\" \\u00a9 \\\\\"", "key=\"quoted\" \u00a9 \\@1"},
+                {"\uFEFF[a.b]\n\n\ndate=7-Nov-2021\nempty=\"\"", "[a.b:2]@1 date=7-Nov-2021@4 empty=@5"},
+                {"title=\"Sri \"Rama\" Navami\"  # Unescaped quotes\nkey=\"\"\"\n",
+                        "title=Sri \"Rama\" Navami@1 key=\"@2"},
+        };
+
+        for (String[] testCase : testCases) {
+            StringBuilder tokens = new StringBuilder();
+            VedicCalendarRuleBookTokenizer tokenizer =
+                    new VedicCalendarRuleBookTokenizer(new StringReader(testCase[0]));
+            int tokenType = tokenizer.next();
+            while (tokenType != VedicCalendarRuleBookTokenizer.TOKEN_END_OF_RULE_BOOK) {
+                if (tokens.length() > 0) {
+                    tokens.append(' ');
+                }
+                if (tokenType == VedicCalendarRuleBookTokenizer.TOKEN_SECTION) {
+                    tokens.append('[').append(tokenizer.getSection()).append(':')
+                            .append(tokenizer.getSectionDepth()).append(']');
+                } else {
+                    tokens.append(tokenizer.getKey()).append('=').append(tokenizer.getValue());
+                }
+                tokens.append('@').append(tokenizer.getLineNum());
+                tokenType = tokenizer.next();
+            }
+            tokenizer.close();
+
+            totalTCs++;
+            if (tokens.toString().equals(testCase[1])) {
+                numPassedTCs++;
+            } else {
+                System.out.println("ruleBookTokens: " + tokens + " vs " + testCase[1] +
+                        "...FAILED");
+            }
+        }
+    }
+
+    public void testErrors() throws Exception {
+        String[][] testCases = {
+                // Rule book (each followed by a valid line), Line # of the error
+                {"[panchangam_info\ntitle=\"x\"", "1"},
+                {"[a]\n\nkey \"value\"\n", "3"},
+                {"[a]\nkey=\"value\n", "2"},
+                {"[a]\nkey=\n", "2"},
+                {"[a] junk\n", "1"},
+                {"[a]\nkey=\"value\" junk\n", "2"},
+                {"[a]\nkey=\"value\" \"junk\n", "2"},
+                {"[a]\n\n\n= value\n", "4"},
+                {"[a]\nkey=\"bad \\q escape\" # \"\n", "2"},
+                {"[[a]]\n", "1"},
+        };
+
+        for (String[] testCase : testCases) {
+            String error = null;
+            int errorLineNum = 0;
+            String validKey = null;
+            try (VedicCalendarRuleBookTokenizer tokenizer = new VedicCalendarRuleBookTokenizer(
+                    new StringReader(testCase[0] + "\nvalid=1\n"))) {
+                int tokenType = tokenizer.next();
+                while (tokenType != VedicCalendarRuleBookTokenizer.TOKEN_END_OF_RULE_BOOK) {
+                    if ((tokenType == VedicCalendarRuleBookTokenizer.TOKEN_INVALID) &&
+                        (error == null)) {
+                        error = tokenizer.getError();
+                        errorLineNum = tokenizer.getLineNum();
+                    } else if (tokenType == VedicCalendarRuleBookTokenizer.TOKEN_KEY_VALUE) {
+                        validKey = tokenizer.getKey();
+                    }
+                    tokenType = tokenizer.next();
+                }
+            }
+
+            totalTCs++;
+            if ((error != null) && error.endsWith(" at line " + testCase[1] + "!") &&
+                (errorLineNum == Integer.parseInt(testCase[1])) && "valid".equals(validKey)) {
+                numPassedTCs++;
+            } else {
+                System.out.println("ruleBookErrors: " + Arrays.toString(testCase) + " " + error +
+                        " (" + validKey + ")...FAILED");
+            }
+        }
+    }
+
+    /*
+     * Rule book with an invalid line, an invalid number & quotes within titles is expected to
+     * be loaded with all but the Dina Visheshams that have the invalid line & number.
+     * Quotes within titles are dropped (as always) so that they match the titles known to
+     * VedicCalendar.
+     */
+    public void testRuleEngineErrors() throws Exception {
+        File ruleBookFile = File.createTempFile("nithya_panchangam_invalid", ".toml");
+        List<String> dinaVisheshams = new ArrayList<>();
+        try {
+            writeRuleBook(ruleBookFile, "[panchangam_info]\npanchangam_title=\"Invalid Rules\"\n" +
+                    "[dina_vishesham]\n" +
+                    "    [dina_vishesham.amavaasai]\n" +
+                    "        dina_vishesham_title=\"\\\"Amavaasai\\\"\"\n" +
+                    "        [dina_vishesham.amavaasai.rule]\n" +
+                    "            dina_vishesham_match_criteria=\"tithi\"\n" +
+                    "            dina_vishesham_match_value=30\n" +
+                    "            dina_vishesham_kaala_sambhavaha=2\n" +
+                    "    [dina_vishesham.pournami]\n" +
+                    "        dina_vishesham_title=\"Pournami\"\n" +
+                    "        [dina_vishesham.pournami.rule]\n" +
+                    "            dina_vishesham_match_criteria \"tithi\"\n" +
+                    "            dina_vishesham_match_value=15\n" +
+                    "    [dina_vishesham.ekadasi]\n" +
+                    "        dina_vishesham_title=\"Ekadasi\"\n" +
+                    "        [dina_vishesham.ekadasi.rule]\n" +
+                    "            dina_vishesham_match_criteria=\"tithi\"\n" +
+                    "            dina_vishesham_match_value=eleven\n" +
+                    "    [dina_vishesham.pradosham]\n" +
+                    "        dina_vishesham_title=\"Sani \"Maha\" Pradosham\"\n" +
+                    "        [dina_vishesham.pradosham.rule]\n" +
+                    "            dina_vishesham_match_criteria=\"tithi\"\n" +
+                    "            dina_vishesham_match_value=13\n" +
+                    "            dina_vishesham_kaala_sambhavaha=6\n");
+            VedicCalendarDinaVisheshamRuleEngine ruleEngine =
+                    VedicCalendarDinaVisheshamRuleEngine.getInstance(ruleBookFile.getPath());
+
+            Calendar dayCalendar = Calendar.getInstance();
+            dayCalendar.set(2022, 0, 1, 6, 0, 0);
+            VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(dayCalendar);
+            for (int date = 1; date <= 31; date++) {
+                vedicCalendar.setDate(date, 0, 2022, 6, 0);
+                for (String dinaVishesham : ruleEngine.getDinaVisheshams(vedicCalendar)) {
+                    if (!dinaVisheshams.contains(dinaVishesham)) {
+                        dinaVisheshams.add(dinaVishesham);
+                    }
+                }
+            }
+            totalTCs++;
+            if ("Invalid Rules".equals(ruleEngine.panchangamTitle)) {
+                numPassedTCs++;
+            } else {
+                System.out.println("ruleEngineErrors: Panchangam Info...FAILED");
+            }
+        } finally {
+            //noinspection ResultOfMethodCallIgnored
+            new File(ruleBookFile.getPath() + COMPILED_RULE_BOOK_SUFFIX).delete();
+            //noinspection ResultOfMethodCallIgnored
+            ruleBookFile.delete();
+        }
+
+        totalTCs++;
+        if (dinaVisheshams.equals(Arrays.asList("Amavaasai", "Sani Maha Pradosham")) ||
+            dinaVisheshams.equals(Arrays.asList("Sani Maha Pradosham", "Amavaasai"))) {
+            numPassedTCs++;
+        } else {
+            System.out.println("ruleEngineErrors: " + dinaVisheshams + "...FAILED");
+        }
+    }
+
+    public void testSyntheticRuleBook(File ruleBookFile) throws Exception {
+        writeRuleBook(ruleBookFile, getSyntheticRuleBook());
+
+        // 1) Tokenize (& count key/value pairs) one char at a time
+        long tokenizeTime = 0;
+        int numKeyValues = 0;
+        for (int iteration = 0; iteration < NUM_ITERATIONS; iteration++) {
+            long startTime = System.nanoTime();
+            numKeyValues = 0;
+            try (VedicCalendarRuleBookTokenizer tokenizer = new VedicCalendarRuleBookTokenizer(
+                    new InputStreamReader(new FileInputStream(ruleBookFile),
+                            StandardCharsets.UTF_8))) {
+                int tokenType = tokenizer.next();
+                while (tokenType != VedicCalendarRuleBookTokenizer.TOKEN_END_OF_RULE_BOOK) {
+                    if (tokenType == VedicCalendarRuleBookTokenizer.TOKEN_KEY_VALUE) {
+                        numKeyValues++;
+                    }
+                    tokenType = tokenizer.next();
+                }
+            }
+            tokenizeTime += (System.nanoTime() - startTime);
+        }
+
+        // 2) Split (& count key/value pairs) line by line
+        long splitTime = 0;
+        int numSplitKeyValues = 0;
+        for (int iteration = 0; iteration < NUM_ITERATIONS; iteration++) {
+            long startTime = System.nanoTime();
+            numSplitKeyValues = splitRuleBook(ruleBookFile);
+            splitTime += (System.nanoTime() - startTime);
+        }
+
+        totalTCs++;
+        int expectedKeyValues = 2 + (NUM_SYNTHETIC_RULES * 6);
+        if ((numKeyValues == expectedKeyValues) && (numSplitKeyValues == expectedKeyValues)) {
+            numPassedTCs++;
+        } else {
+            System.out.println("syntheticRuleBook: # of Key/Values: " + numKeyValues + "/" +
+                    numSplitKeyValues + " vs " + expectedKeyValues + "...FAILED");
+        }
+
+        // 3) Parse (& compile) all rules
+        long parseTime = 0;
+        VedicCalendarDinaVisheshamRuleEngine ruleEngine = null;
+        for (int iteration = 0; iteration < NUM_ITERATIONS; iteration++) {
+            //noinspection ResultOfMethodCallIgnored
+            new File(ruleBookFile.getPath() + COMPILED_RULE_BOOK_SUFFIX).delete();
+            long startTime = System.nanoTime();
+            ruleEngine = VedicCalendarDinaVisheshamRuleEngine.getInstance(ruleBookFile.getPath());
+            parseTime += (System.nanoTime() - startTime);
+        }
+        totalTCs++;
+        if (!ruleEngine.isCompiledRuleBookLoaded() &&
+            "Synthetic Rules".equals(ruleEngine.panchangamTitle)) {
+            numPassedTCs++;
+        } else {
+            System.out.println("syntheticRuleBook: Parse...FAILED");
+        }
+
+        System.out.println("syntheticRuleBook: " + NUM_SYNTHETIC_RULES + " rules, " +
+                "Time Taken (Tokenize/Scanner & String.split()/Parse): " +
+                VedicCalendar.getTimeTaken(0, (tokenizeTime / NUM_ITERATIONS)) + "/" +
+                VedicCalendar.getTimeTaken(0, (splitTime / NUM_ITERATIONS)) + "/" +
+                VedicCalendar.getTimeTaken(0, (parseTime / NUM_ITERATIONS)));
+    }
+
+    /*
+     * Rule book with NUM_SYNTHETIC_RULES Dina Visheshams (each on a tithi, in a sauramaana maasam).
+     */
+    private static String getSyntheticRuleBook() {
+        StringBuilder ruleBook = new StringBuilder();
+        ruleBook.append("# Synthetic Dina Vishesham Rules File\n\n");
+        ruleBook.append("[panchangam_info]\npanchangam_title=\"Synthetic Rules\"\n");
+        ruleBook.append("version=\"1.0\"\n\n[dina_vishesham]\n\n");
+        for (int ruleIndex = 0; ruleIndex < NUM_SYNTHETIC_RULES; ruleIndex++) {
+            ruleBook.append("    [dina_vishesham.rule_").append(ruleIndex).append("]\n");
+            ruleBook.append("        dina_vishesham_title=\"Rule ").append(ruleIndex).append("\"\n");
+            ruleBook.append("        dina_vishesham_description=\"Synthetic rule # ")
+                    .append(ruleIndex).append(" observed on tithi ").append((ruleIndex % 30) + 1)
+                    .append(".\"\n");
+            ruleBook.append("        [dina_vishesham.rule_").append(ruleIndex).append(".rule]\n");
+            ruleBook.append("            dina_vishesham_match_criteria=\"sauramaana_maasam\"\n");
+            ruleBook.append("            dina_vishesham_match_value=").append((ruleIndex % 12) + 1)
+                    .append("      # Maasam\n");
+            ruleBook.append("        [dina_vishesham.rule_").append(ruleIndex).append(".rule]\n");
+            ruleBook.append("            dina_vishesham_match_criteria=\"tithi\"\n");
+            ruleBook.append("            dina_vishesham_match_value=").append((ruleIndex % 30) + 1)
+                    .append("\n");
+        }
+        return ruleBook.toString();
+    }
+
+    /*
+     * Split rule book line by line the way it was done before the tokenizer.
+     */
+    private static int splitRuleBook(File ruleBookFile) throws Exception {
+        int numKeyValues = 0;
+        List<String[]> sections = new ArrayList<>();
+        Scanner scanner = new Scanner(ruleBookFile);
+        while (scanner.hasNextLine()) {
+            String line = scanner.nextLine();
+            String[] tokens = line.split("#");
+            if (tokens.length == 2) {
+                line = tokens[0];
+            }
+            line = line.trim();
+            String[] fieldValues = line.split("=");
+            if (fieldValues.length == 1) {
+                sections.add(line.split("\\."));
+            } else {
+                numKeyValues++;
+            }
+        }
+        scanner.close();
+        return numKeyValues;
+    }
+
+    private static void writeRuleBook(File ruleBookFile, String ruleBook) throws Exception {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(ruleBookFile),
+                StandardCharsets.UTF_8)) {
+            writer.write(ruleBook);
+        }
+    }
+}
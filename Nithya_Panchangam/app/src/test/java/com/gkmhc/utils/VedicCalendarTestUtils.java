@@ -0,0 +1,97 @@
+package com.gkmhc.utils;
+
+import java.util.Calendar;
+import java.util.HashMap;
+
+/*
+ * Fixtures shared by VedicCalendar tests.
+ * Unless specified otherwise, VedicCalendar instances are created for Chennai as per Drik
+ * Ganitham (Luni-Solar), Chitrapaksha ayanamsa & Amanta Chaandramaanam.
+ */
+final class VedicCalendarTestUtils {
+    static final double CHENNAI_LONGITUDE = 80.2707;
+    static final double CHENNAI_LATITUDE = 13.0827;
+    static final String CHENNAI_TIMEZONE = "Asia/Kolkata";
+
+    private VedicCalendarTestUtils() {
+    }
+
+    /**
+     * Create a VedicCalendar for 1st January (06:00 hours) of the given year.
+     *
+     * @param year  Year as per Gregorian Calendar
+     *
+     * @return A VedicCalendar instance
+     */
+    static VedicCalendar createVedicCalendar(int year) throws Exception {
+        Calendar currCalendar = Calendar.getInstance();
+        currCalendar.set(year, 0, 1, 6, 0, 0);
+        return createVedicCalendar(currCalendar);
+    }
+
+    /**
+     * Create a VedicCalendar for the given Calendar.
+     *
+     * @param currCalendar  A Calendar date as per Gregorian Calendar
+     *
+     * @return A VedicCalendar instance
+     */
+    static VedicCalendar createVedicCalendar(Calendar currCalendar) throws Exception {
+        return createVedicCalendar(currCalendar, null);
+    }
+
+    /**
+     * Create a VedicCalendar for the given Calendar with the given locale strings.
+     *
+     * @param currCalendar  A Calendar date as per Gregorian Calendar
+     * @param localeList    Locale strings (or) null to use the default strings
+     *
+     * @return A VedicCalendar instance
+     */
+    static VedicCalendar createVedicCalendar(Calendar currCalendar,
+                                             HashMap<Integer, String[]> localeList)
+            throws Exception {
+        return VedicCalendar.getInstance(".",
+                VedicCalendar.PANCHANGAM_TYPE_DRIK_GANITHAM_LUNI_SOLAR, currCalendar,
+                CHENNAI_LONGITUDE, CHENNAI_LATITUDE, CHENNAI_TIMEZONE,
+                VedicCalendar.AYANAMSA_CHITRAPAKSHA, VedicCalendar.CHAANDRAMAANAM_TYPE_AMANTA,
+                localeList);
+    }
+
+    /**
+     * Create a VedicCalendar for the given Calendar & location.
+     *
+     * @param currCalendar  A Calendar date as per Gregorian Calendar
+     * @param longitude     Longitude of the location
+     * @param latitude      Latitude of the location
+     * @param timeZoneID    Timezone of the location
+     *
+     * @return A VedicCalendar instance
+     */
+    static VedicCalendar createVedicCalendar(Calendar currCalendar, double longitude,
+                                             double latitude, String timeZoneID)
+            throws Exception {
+        return createVedicCalendar(currCalendar,
+                VedicCalendar.PANCHANGAM_TYPE_DRIK_GANITHAM_LUNI_SOLAR, longitude, latitude,
+                timeZoneID);
+    }
+
+    /**
+     * Create a VedicCalendar of the given type for the given Calendar & location.
+     *
+     * @param currCalendar      A Calendar date as per Gregorian Calendar
+     * @param panchangamType    VedicCalendar.PANCHANGAM_TYPE_*
+     * @param longitude         Longitude of the location
+     * @param latitude          Latitude of the location
+     * @param timeZoneID        Timezone of the location
+     *
+     * @return A VedicCalendar instance
+     */
+    static VedicCalendar createVedicCalendar(Calendar currCalendar, int panchangamType,
+                                             double longitude, double latitude,
+                                             String timeZoneID) throws Exception {
+        return VedicCalendar.getInstance(".", panchangamType, currCalendar, longitude, latitude,
+                timeZoneID, VedicCalendar.AYANAMSA_CHITRAPAKSHA,
+                VedicCalendar.CHAANDRAMAANAM_TYPE_AMANTA, null);
+    }
+}
@@ -0,0 +1,111 @@
+package com.gkmhc.utils;
+
+import java.util.Calendar;
+
+/*
+ * Test to validate time strings given by formatTimeInTimeFormat() & appendTimeInTimeFormat()
+ * against String.format() for every minute of 2 whole days (in both HH:MM & Na.Vi formats) &
+ * a micro-benchmark comparing the time taken by each.
+ */
+public class VedicCalendarTimeFormatTest {
+    private static final int MAX_MINS = 2 * VedicCalendar.MAX_MINS_IN_DAY;
+    private static final int MAX_MINS_IN_NAZHIGAI = 24;
+    private static final int NUM_ITERATIONS = 50;
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarTimeFormatTest vcTFT = new VedicCalendarTimeFormatTest();
+        vcTFT.testTimeFormat(VedicCalendar.PANCHANGAM_TIME_FORMAT_HHMM);
+        vcTFT.testTimeFormat(VedicCalendar.PANCHANGAM_TIME_FORMAT_NAZHIGAI);
+
+        System.out.println("Summary Report: " + vcTFT.numPassedTCs + "/" + vcTFT.totalTCs + " = " +
+                String.format("%2.2f", (((double)vcTFT.numPassedTCs / vcTFT.totalTCs) * 100)) + "%");
+        if (vcTFT.numPassedTCs != vcTFT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testTimeFormat(int timeFormat) {
+        try {
+            Calendar currCalendar = Calendar.getInstance();
+            currCalendar.set(2022, 0, 1, 6, 0, 0);
+            VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(currCalendar);
+            vedicCalendar.setTimeFormat(timeFormat);
+            double sunRiseTotalMins = vedicCalendar.computeDay().sunRiseTotalMins;
+            boolean isHHMM = (timeFormat == VedicCalendar.PANCHANGAM_TIME_FORMAT_HHMM);
+
+            // 1) Validate
+            StringBuilder timeStr = new StringBuilder();
+            for (int mins = 0; mins < MAX_MINS; mins++) {
+                double time = mins + 0.5;
+                String expected = formatTime(time, isHHMM, sunRiseTotalMins);
+                timeStr.setLength(0);
+                vedicCalendar.appendTimeInTimeFormat(timeStr, time);
+                totalTCs++;
+                if (expected.equals(vedicCalendar.formatTimeInTimeFormat(time)) &&
+                    expected.contentEquals(timeStr)) {
+                    numPassedTCs++;
+                } else {
+                    System.out.println("timeFormat: " + time + "...FAILED (" + expected + " vs " +
+                            vedicCalendar.formatTimeInTimeFormat(time) + " vs " + timeStr + ")");
+                }
+            }
+
+            // 2) Benchmark
+            long startTime = System.nanoTime();
+            int length = 0;
+            for (int iteration = 0; iteration < NUM_ITERATIONS; iteration++) {
+                for (int mins = 0; mins < MAX_MINS; mins++) {
+                    length += formatTime(mins, isHHMM, sunRiseTotalMins).length();
+                }
+            }
+            long formatTime = System.nanoTime() - startTime;
+
+            startTime = System.nanoTime();
+            for (int iteration = 0; iteration < NUM_ITERATIONS; iteration++) {
+                for (int mins = 0; mins < MAX_MINS; mins++) {
+                    length += vedicCalendar.formatTimeInTimeFormat(mins).length();
+                }
+            }
+            long tableTime = System.nanoTime() - startTime;
+
+            startTime = System.nanoTime();
+            for (int iteration = 0; iteration < NUM_ITERATIONS; iteration++) {
+                for (int mins = 0; mins < MAX_MINS; mins++) {
+                    timeStr.setLength(0);
+                    length += vedicCalendar.appendTimeInTimeFormat(timeStr, mins).length();
+                }
+            }
+            long appendTime = System.nanoTime() - startTime;
+
+            System.out.println("timeFormat(" + (isHHMM ? "HH:MM" : "Na.Vi") + "): " +
+                    (NUM_ITERATIONS * MAX_MINS) + " times (" + length + " chars), Time Taken " +
+                    "(String.format/formatTimeInTimeFormat/appendTimeInTimeFormat): " +
+                    VedicCalendar.getTimeTaken(0, formatTime) + "/" +
+                    VedicCalendar.getTimeTaken(0, tableTime) + "/" +
+                    VedicCalendar.getTimeTaken(0, appendTime));
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    // Reference implementation (as it was prior to time string tables)
+    private static String formatTime(double time, boolean isHHMM, double sunRiseTotalMins) {
+        if (isHHMM) {
+            int hour = (int) (time / VedicCalendar.MAX_MINS_IN_HOUR);
+            int min = (int) time % VedicCalendar.MAX_MINS_IN_HOUR;
+            return String.format("%02d:%02d", hour, min);
+        }
+
+        time -= sunRiseTotalMins;
+        if (time < 0) {
+            time += VedicCalendar.MAX_MINS_IN_DAY;
+        }
+        int nazhigai = (int) (time / MAX_MINS_IN_NAZHIGAI);
+        int vinaadi = (int) (time % MAX_MINS_IN_NAZHIGAI);
+        return String.format("%02d.%02d", nazhigai, vinaadi);
+    }
+}
@@ -0,0 +1,106 @@
+package com.gkmhc.utils;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/*
+ * Test to ensure that time-only updates (via setTimeOfDay(), set() & add()) give the same
+ * time-specific details (Sankalpam, Horai, etc) as a full setDate() throughout a calendar day,
+ * including a day with DST switch-over, & to report time taken by each.
+ */
+public class VedicCalendarTimeOfDayTest {
+    private static final int NUM_MINS_BETWEEN_SAMPLES = 17;
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarTimeOfDayTest vcTODT = new VedicCalendarTimeOfDayTest();
+        vcTODT.testTimeOfDay(VedicCalendarTestUtils.CHENNAI_LONGITUDE,
+                VedicCalendarTestUtils.CHENNAI_LATITUDE, VedicCalendarTestUtils.CHENNAI_TIMEZONE,
+                2022, 0, 14);
+        vcTODT.testTimeOfDay(-74.0060, 40.7128, "America/New_York", 2022, 2, 13);
+
+        System.out.println("Summary Report: " + vcTODT.numPassedTCs + "/" + vcTODT.totalTCs + " = " +
+                String.format("%2.2f", (((double)vcTODT.numPassedTCs / vcTODT.totalTCs) * 100)) + "%");
+        if (vcTODT.numPassedTCs != vcTODT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testTimeOfDay(double longitude, double latitude, String timeZoneID, int year,
+                              int month, int date) {
+        try {
+            VedicCalendar fullCalendar = createVedicCalendar(longitude, latitude, timeZoneID,
+                    year, month, date);
+            VedicCalendar timeOfDayCalendar = createVedicCalendar(longitude, latitude,
+                    timeZoneID, year, month, date);
+            VedicCalendar setAddCalendar = createVedicCalendar(longitude, latitude, timeZoneID,
+                    year, month, date);
+            setAddCalendar.set(Calendar.HOUR_OF_DAY, 0);
+            setAddCalendar.set(Calendar.MINUTE, 0);
+
+            long fullTime = 0;
+            long timeOfDayTime = 0;
+            for (int mins = 0; mins < VedicCalendar.MAX_MINS_IN_DAY;
+                 mins += NUM_MINS_BETWEEN_SAMPLES) {
+                int hourOfDay = mins / VedicCalendar.MAX_MINS_IN_HOUR;
+                int minute = mins % VedicCalendar.MAX_MINS_IN_HOUR;
+
+                long startTime = System.nanoTime();
+                fullCalendar.setDate(date, month, year, hourOfDay, minute);
+                long endTime = System.nanoTime();
+                fullTime += (endTime - startTime);
+
+                startTime = System.nanoTime();
+                timeOfDayCalendar.setTimeOfDay(hourOfDay, minute);
+                endTime = System.nanoTime();
+                timeOfDayTime += (endTime - startTime);
+
+                String expected = getTimeSpecificDetails(fullCalendar);
+                totalTCs++;
+                if (expected.equals(getTimeSpecificDetails(timeOfDayCalendar)) &&
+                    expected.equals(getTimeSpecificDetails(setAddCalendar))) {
+                    numPassedTCs++;
+                } else {
+                    System.out.println("timeOfDay: " + timeZoneID + " " + hourOfDay + ":" +
+                            minute + "...FAILED");
+                }
+                setAddCalendar.add(Calendar.MINUTE, NUM_MINS_BETWEEN_SAMPLES);
+            }
+
+            System.out.println("timeOfDay: " + timeZoneID + " " + date + "/" + (month + 1) + "/" +
+                    year + " setDate()/setTimeOfDay() Time Taken: " +
+                    VedicCalendar.getTimeTaken(0, fullTime) + "/" +
+                    VedicCalendar.getTimeTaken(0, timeOfDayTime));
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    private static String getTimeSpecificDetails(VedicCalendar vedicCalendar) {
+        int queryType = VedicCalendar.MATCH_SANKALPAM_EXACT;
+        StringBuilder details = new StringBuilder();
+        details.append(vedicCalendar.getSunrise()).append("|")
+                .append(vedicCalendar.getSunset()).append("|")
+                .append(vedicCalendar.getTithi(queryType)).append("|")
+                .append(vedicCalendar.getNakshatram(queryType)).append("|")
+                .append(vedicCalendar.getYogam(queryType)).append("|")
+                .append(vedicCalendar.getKaranam(queryType)).append("|")
+                .append(vedicCalendar.getVaasaram(queryType)).append("|");
+        for (VedicCalendar.KaalamInfo kaalamInfo : vedicCalendar.getHorai(queryType)) {
+            details.append(kaalamInfo.name).append(kaalamInfo.isCurrent).append(",");
+        }
+        return details.toString();
+    }
+
+    private static VedicCalendar createVedicCalendar(double longitude, double latitude,
+                                                     String timeZoneID, int year, int month,
+                                                     int date) throws Exception {
+        Calendar currCalendar = Calendar.getInstance(TimeZone.getTimeZone(timeZoneID));
+        currCalendar.set(year, month, date, 0, 0, 0);
+        return VedicCalendarTestUtils.createVedicCalendar(currCalendar, longitude, latitude,
+                timeZoneID);
+    }
+}
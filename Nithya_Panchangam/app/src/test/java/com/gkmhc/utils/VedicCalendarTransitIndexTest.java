@@ -0,0 +1,251 @@
+package com.gkmhc.utils;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/*
+ * Test to ensure Panchangam computed using the yearly transition index matches the Panchangam
+ * computed using SwissEph transit calculations for every calendar day of the year.
+ */
+public class VedicCalendarTransitIndexTest {
+    private static final int YEAR = 2022;
+
+    // Transitions found via binary search & via SwissEph may differ ever so slightly as the
+    // SwissEph transit search starts from different instants.
+    private static final double MAX_SPAN_DEVIATION = 0.01; // In minutes
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarTransitIndexTest vcTIT = new VedicCalendarTransitIndexTest();
+
+        // Transition indices persisted by earlier runs would otherwise be used for the
+        // SwissEph based Panchangam as well.
+        deleteTransitIndexFiles();
+        vcTIT.testTransitIndex();
+        vcTIT.testTransitIndexFile();
+        deleteTransitIndexFiles();
+
+        System.out.println("Summary Report: " + vcTIT.numPassedTCs + "/" + vcTIT.totalTCs + " = " +
+                String.format("%2.2f", (((double)vcTIT.numPassedTCs / vcTIT.totalTCs) * 100)) + "%");
+        if (vcTIT.numPassedTCs != vcTIT.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testTransitIndex() {
+        try {
+            VedicCalendar[] vedicCalendars = {
+                    createVedicCalendar(VedicCalendarTestUtils.CHENNAI_LONGITUDE,
+                            VedicCalendarTestUtils.CHENNAI_LATITUDE,
+                            VedicCalendarTestUtils.CHENNAI_TIMEZONE),
+                    createVedicCalendar(-74.0060, 40.7128, "America/New_York")
+            };
+
+            // 1) Panchangam for the whole year using SwissEph transit calculations
+            List<List<VedicCalendar.PanchangamDay>> expectedDays = new ArrayList<>();
+            long startTime = System.nanoTime();
+            for (VedicCalendar vedicCalendar : vedicCalendars) {
+                expectedDays.add(computeYear(vedicCalendar));
+            }
+            long endTime = System.nanoTime();
+            System.out.println("computeRange() without transition index Time Taken: " +
+                    VedicCalendar.getTimeTaken(startTime, endTime));
+
+            // 2) Build index once (shared by both the locations as ayanamsa is the same)
+            startTime = System.nanoTime();
+            VedicCalendarTransitIndex transitIndex = vedicCalendars[0].buildTransitIndex(YEAR);
+            endTime = System.nanoTime();
+            System.out.println("buildTransitIndex(" + YEAR + ") Time Taken: " +
+                    VedicCalendar.getTimeTaken(startTime, endTime));
+            totalTCs++;
+            if (vedicCalendars[1].buildTransitIndex(YEAR) == transitIndex) {
+                numPassedTCs++;
+            } else {
+                System.out.println("buildTransitIndex: Shared Index...FAILED");
+            }
+
+            // 3) Panchangam for the whole year using transition index
+            startTime = System.nanoTime();
+            List<List<VedicCalendar.PanchangamDay>> actualDays = new ArrayList<>();
+            for (VedicCalendar vedicCalendar : vedicCalendars) {
+                actualDays.add(computeYear(vedicCalendar));
+            }
+            endTime = System.nanoTime();
+            System.out.println("computeRange() with transition index Time Taken: " +
+                    VedicCalendar.getTimeTaken(startTime, endTime));
+
+            for (int index = 0; index < vedicCalendars.length; index++) {
+                for (int dayIndex = 0; dayIndex < expectedDays.get(index).size(); dayIndex++) {
+                    VedicCalendar.PanchangamDay expectedDay = expectedDays.get(index).get(dayIndex);
+                    VedicCalendar.PanchangamDay actualDay = actualDays.get(index).get(dayIndex);
+                    totalTCs++;
+                    if (isSameDay(expectedDay, actualDay)) {
+                        numPassedTCs++;
+                    } else {
+                        System.out.println("transitIndex: " + expectedDay.date + "/" +
+                                (expectedDay.month + 1) + "/" + expectedDay.year + "...FAILED");
+                    }
+                }
+            }
+
+            // 4) Tithi at each transition should be the next tithi
+            double[] tithiTransitions =
+                    transitIndex.getTransitions(VedicCalendarTransitIndex.FIELD_TITHI);
+            for (int index = 1; index < tithiTransitions.length; index++) {
+                totalTCs++;
+                int prevTithi = transitIndex.getIndexAt(VedicCalendarTransitIndex.FIELD_TITHI,
+                        (tithiTransitions[index] - 0.001));
+                int tithi = transitIndex.getIndexAt(VedicCalendarTransitIndex.FIELD_TITHI,
+                        tithiTransitions[index]);
+                if ((prevTithi == -1) || (tithi == -1) ||
+                    (tithi == ((prevTithi + 1) % VedicCalendar.MAX_TITHIS))) {
+                    numPassedTCs++;
+                } else {
+                    System.out.println("transitIndex: Tithi Transition(" + index + ")...FAILED");
+                }
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+
+    public void testTransitIndexFile() {
+        File transitIndexFile = new File("vc_transit_index_test.bin");
+        try {
+            VedicCalendar vedicCalendar = createVedicCalendar(
+                    VedicCalendarTestUtils.CHENNAI_LONGITUDE,
+                    VedicCalendarTestUtils.CHENNAI_LATITUDE,
+                    VedicCalendarTestUtils.CHENNAI_TIMEZONE);
+            VedicCalendarTransitIndex transitIndex = vedicCalendar.buildTransitIndex(YEAR);
+
+            // 1) Index read back from file should match the index built
+            totalTCs++;
+            long startTime = System.nanoTime();
+            VedicCalendarTransitIndex readIndex = null;
+            if (transitIndex.writeTo(transitIndexFile)) {
+                readIndex = VedicCalendarTransitIndex.readFrom(transitIndexFile, YEAR,
+                        transitIndex.getSiderealMode());
+            }
+            long endTime = System.nanoTime();
+            System.out.println("writeTo() + readFrom() Time Taken: " +
+                    VedicCalendar.getTimeTaken(startTime, endTime));
+            if (isSameIndex(transitIndex, readIndex)) {
+                numPassedTCs++;
+            } else {
+                System.out.println("transitIndexFile: Read back...FAILED");
+            }
+
+            // 2) File for a different year (or) sidereal mode should be ignored
+            totalTCs++;
+            if ((VedicCalendarTransitIndex.readFrom(transitIndexFile, (YEAR + 1),
+                    transitIndex.getSiderealMode()) == null) &&
+                (VedicCalendarTransitIndex.readFrom(transitIndexFile, YEAR,
+                    (transitIndex.getSiderealMode() + 1)) == null)) {
+                numPassedTCs++;
+            } else {
+                System.out.println("transitIndexFile: Mismatched Year/Mode...FAILED");
+            }
+
+            // 3) File with a different version should be ignored
+            totalTCs++;
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(transitIndexFile, "rw")) {
+                randomAccessFile.seek(Integer.SIZE / Byte.SIZE);
+                randomAccessFile.writeInt(Integer.MAX_VALUE);
+            }
+            if (VedicCalendarTransitIndex.readFrom(transitIndexFile, YEAR,
+                    transitIndex.getSiderealMode()) == null) {
+                numPassedTCs++;
+            } else {
+                System.out.println("transitIndexFile: Stale Version...FAILED");
+            }
+
+            // 4) Truncated file should be ignored
+            totalTCs++;
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(transitIndexFile, "rw")) {
+                randomAccessFile.setLength(randomAccessFile.length() / 2);
+            }
+            if (VedicCalendarTransitIndex.readFrom(transitIndexFile, YEAR,
+                    transitIndex.getSiderealMode()) == null) {
+                numPassedTCs++;
+            } else {
+                System.out.println("transitIndexFile: Truncated File...FAILED");
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        } finally {
+            transitIndexFile.delete();
+        }
+    }
+
+    private static boolean isSameIndex(VedicCalendarTransitIndex expectedIndex,
+                                       VedicCalendarTransitIndex actualIndex) {
+        if ((actualIndex == null) || (expectedIndex.getYear() != actualIndex.getYear()) ||
+            (expectedIndex.getSiderealMode() != actualIndex.getSiderealMode())) {
+            return false;
+        }
+
+        for (int field = 0; field < VedicCalendarTransitIndex.MAX_FIELDS; field++) {
+            if (!Arrays.equals(expectedIndex.getTransitions(field),
+                    actualIndex.getTransitions(field)) ||
+                (expectedIndex.getIndexAfterTransition(field, -1) !=
+                    actualIndex.getIndexAfterTransition(field, -1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void deleteTransitIndexFiles() {
+        File[] transitIndexFiles = new File(".").listFiles();
+        if (transitIndexFiles != null) {
+            for (File transitIndexFile : transitIndexFiles) {
+                if (transitIndexFile.getName().startsWith("vc_transit_index_")) {
+                    transitIndexFile.delete();
+                }
+            }
+        }
+    }
+
+    private static VedicCalendar createVedicCalendar(double longitude, double latitude,
+                                                     String timeZoneID) throws Exception {
+        Calendar currCalendar = Calendar.getInstance(TimeZone.getTimeZone(timeZoneID));
+        currCalendar.set(YEAR, 0, 1, 6, 0, 0);
+        return VedicCalendarTestUtils.createVedicCalendar(currCalendar, longitude, latitude,
+                timeZoneID);
+    }
+
+    private static List<VedicCalendar.PanchangamDay> computeYear(VedicCalendar vedicCalendar)
+            throws Exception {
+        Calendar startCalendar = Calendar.getInstance();
+        startCalendar.set(YEAR, 0, 1, 6, 0, 0);
+        Calendar endCalendar = Calendar.getInstance();
+        endCalendar.set(YEAR, 11, 31, 6, 0, 0);
+        return vedicCalendar.computeRange(startCalendar, endCalendar);
+    }
+
+    private static boolean isSameSpan(double expectedSpan, double actualSpan) {
+        return (Math.abs(expectedSpan - actualSpan) < MAX_SPAN_DEVIATION);
+    }
+
+    private static boolean isSameDay(VedicCalendar.PanchangamDay expectedDay,
+                                     VedicCalendar.PanchangamDay actualDay) {
+        return (expectedDay.tithiIndex == actualDay.tithiIndex) &&
+                isSameSpan(expectedDay.tithiSpan, actualDay.tithiSpan) &&
+                (expectedDay.nakshatramIndex == actualDay.nakshatramIndex) &&
+                isSameSpan(expectedDay.nakshatramSpan, actualDay.nakshatramSpan) &&
+                (expectedDay.yogamIndex == actualDay.yogamIndex) &&
+                isSameSpan(expectedDay.yogamSpan, actualDay.yogamSpan) &&
+                (expectedDay.karanamIndex == actualDay.karanamIndex) &&
+                isSameSpan(expectedDay.karanamSpan, actualDay.karanamSpan) &&
+                (expectedDay.dinaAnkam == actualDay.dinaAnkam);
+    }
+}
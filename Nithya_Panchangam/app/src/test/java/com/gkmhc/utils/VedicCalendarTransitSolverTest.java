@@ -0,0 +1,84 @@
+package com.gkmhc.utils;
+
+import java.util.Calendar;
+
+import swisseph.SweDate;
+
+/*
+ * Benchmark to compare transitions found using Newton's method (solveTransit) against the ones
+ * found using SwissEph's TransitCalculator (searchTransit) for a whole year, both in terms of
+ * time taken & accuracy.
+ */
+public class VedicCalendarTransitSolverTest {
+    private static final int YEAR = 2022;
+    private static final double MAX_DEVIATION = 1; // In seconds
+    private static final String[] fieldNames = {"Tithi", "Nakshatram", "Yogam", "Karanam",
+            "Sankranti"};
+    private static final int[] maxFieldValues = {30, 27, 27, 60, 12};
+
+    private int numPassedTCs = 0;
+    private int totalTCs = 0;
+
+    public static void main(String args[]) {
+        VedicCalendarTransitSolverTest vcTST = new VedicCalendarTransitSolverTest();
+        vcTST.testTransitSolver();
+
+        System.out.println("Summary Report: " + vcTST.numPassedTCs + "/" + vcTST.totalTCs + " = " +
+                String.format("%2.2f", (((double)vcTST.numPassedTCs / vcTST.totalTCs) * 100)) + "%");
+        if (vcTST.numPassedTCs != vcTST.totalTCs) {
+            System.exit(-1);
+        }
+    }
+
+    public void testTransitSolver() {
+        try {
+            Calendar currCalendar = Calendar.getInstance();
+            currCalendar.set(YEAR, 0, 1, 6, 0, 0);
+            VedicCalendar vedicCalendar = VedicCalendarTestUtils.createVedicCalendar(currCalendar);
+            double jdStart = new SweDate(YEAR, 1, 1, 0).getJulDay();
+            double jdEnd = new SweDate((YEAR + 1), 1, 1, 0).getJulDay();
+
+            for (int field = 0; field < VedicCalendarTransitIndex.MAX_FIELDS; field++) {
+                long searchTime = 0;
+                long solveTime = 0;
+                double maxDeviation = 0;
+                int numTransits = 0;
+                int toIndex = 0;
+                double jd = jdStart;
+                while (jd <= jdEnd) {
+                    long startTime = System.nanoTime();
+                    double searchJd = vedicCalendar.searchTransit(field, toIndex, jd);
+                    long endTime = System.nanoTime();
+                    searchTime += (endTime - startTime);
+
+                    startTime = System.nanoTime();
+                    double solveJd = vedicCalendar.solveTransit(field, toIndex, jd);
+                    endTime = System.nanoTime();
+                    solveTime += (endTime - startTime);
+
+                    double deviation = Math.abs(searchJd - solveJd) * 24 * 60 * 60;
+                    maxDeviation = Math.max(maxDeviation, deviation);
+                    totalTCs++;
+                    if (deviation < MAX_DEVIATION) {
+                        numPassedTCs++;
+                    } else {
+                        System.out.println(fieldNames[field] + ": Transition to " + toIndex +
+                                " after " + jd + "...FAILED (" + deviation + "s)");
+                    }
+
+                    numTransits++;
+                    toIndex = (toIndex + 1) % maxFieldValues[field];
+                    jd = searchJd;
+                }
+
+                System.out.println(fieldNames[field] + ": " + numTransits + " transitions, " +
+                        "searchTransit() Time Taken: " + VedicCalendar.getTimeTaken(0, searchTime) +
+                        ", solveTransit() Time Taken: " + VedicCalendar.getTimeTaken(0, solveTime) +
+                        ", Max Deviation: " + String.format("%.4f", maxDeviation) + "s");
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(-1);
+        }
+    }
+}